@@ -51,4 +51,23 @@ public final class FilterMvel {
     public static final String AND_OPERATOR = " && ";
 
     private FilterMvel() { }
+
+    /**
+     * <pre>
+     * <b>Name</b>: getNodeTypeFilter            <i>[public]</i>
+     * <b>Description</b>: This method returns the filter that selects the nodes of the
+     * specified types (i.e. nodeType == 'EPG' || nodeType == 'VEPG').
+     * </pre>
+     *
+     * @param nodeTypes node types to select
+     * @return - mVEL filter
+     */
+    public static String getNodeTypeFilter(final String... nodeTypes) {
+        final StringBuilder mvalStringBuilder = new StringBuilder();
+        for (final String singleNodeType : nodeTypes) {
+            mvalStringBuilder.append(mvalStringBuilder.length() == 0 ? "" : OR_OPERATOR);
+            mvalStringBuilder.append(String.format("%s == '%s'", "nodeType", singleNodeType));
+        }
+        return mvalStringBuilder.toString();
+    }
 }
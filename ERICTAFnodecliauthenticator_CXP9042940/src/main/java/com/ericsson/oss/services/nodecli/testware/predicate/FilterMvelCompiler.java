@@ -0,0 +1,402 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.testware.predicate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ericsson.cifwk.taf.datasource.DataRecord;
+import com.google.common.base.Joiner;
+import com.google.common.base.Predicate;
+
+/**
+ * <pre>
+ * <b>Name</b>: FilterMvelCompiler      <i>[public (Class)]</i>
+ * <b>Description</b>: This class compiles the <i>mVEL</i> filters used by this testware
+ * (see {@link FilterMvel}) into Java predicates: supported syntax is field names,
+ * string literals ('...' or "..."), <i>true</i>, <i>false</i>, <i>null</i>, operators
+ * ==, !=, &amp;&amp;, || and parenthesis. OR-chains of equalities on the same field
+ * (i.e. nodeType == 'A' || nodeType == 'B') become a hash table lookup.
+ * Compiled predicates are cached by expression. Expressions with other syntax
+ * (i.e. references to fields of other DataSources) are not compiled: the caller
+ * should use the mVEL filter.
+ * </pre>
+ */
+public final class FilterMvelCompiler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FilterMvelCompiler.class);
+    private static final Map<String, Predicate<DataRecord>> COMPILED = new ConcurrentHashMap<>();
+
+    private final List<String> tokens;
+    private int position;
+
+    private FilterMvelCompiler(final List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: compile            <i>[public]</i>
+     * <b>Description</b>: This method compiles the <i>mVEL</i> expression.
+     * </pre>
+     *
+     * @param expression mVEL expression
+     * @return - Predicate for Data Evaluation
+     * @throws IllegalArgumentException if the expression is not supported
+     */
+    public static Predicate<DataRecord> compile(final String expression) {
+        final Predicate<DataRecord> predicate = tryCompile(expression);
+        if (predicate == null) {
+            throw new IllegalArgumentException("Unsupported mVEL filter: " + expression);
+        }
+        return predicate;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: tryCompile            <i>[public]</i>
+     * <b>Description</b>: This method compiles the <i>mVEL</i> expression, if supported.
+     * </pre>
+     *
+     * @param expression mVEL expression
+     * @return - Predicate for Data Evaluation (null if the expression is not supported)
+     */
+    public static Predicate<DataRecord> tryCompile(final String expression) {
+        if (expression == null || expression.trim().isEmpty()) {
+            return null;
+        }
+        final Predicate<DataRecord> cached = COMPILED.get(expression);
+        if (cached != null) {
+            return cached;
+        }
+        final List<String> tokens = tokenize(expression);
+        Predicate<DataRecord> predicate = null;
+        if (tokens != null) {
+            final FilterMvelCompiler compiler = new FilterMvelCompiler(tokens);
+            predicate = compiler.parseOr();
+            if (compiler.position != tokens.size()) {
+                predicate = null;
+            }
+        }
+        LOGGER.debug("mVEL filter <{}> --> {}", expression, predicate != null ? predicate : "not supported (mVEL will be used)");
+        if (predicate != null) {
+            COMPILED.putIfAbsent(expression, predicate);
+        }
+        return predicate;
+    }
+
+    // ************************************************************************
+    // * Parser: or := and ('||' and)* ; and := term ('&&' term)* ;
+    // *         term := '(' or ')' | operand ('==' | '!=') operand
+    // ************************************************************************
+
+    private Predicate<DataRecord> parseOr() {
+        final List<Predicate<DataRecord>> terms = new ArrayList<>();
+        do {
+            final Predicate<DataRecord> term = parseAnd();
+            if (term == null) {
+                return null;
+            }
+            terms.add(term);
+        } while (accept("||"));
+        return terms.size() == 1 ? terms.get(0) : toValueSet(terms);
+    }
+
+    private Predicate<DataRecord> parseAnd() {
+        final List<Predicate<DataRecord>> terms = new ArrayList<>();
+        do {
+            final Predicate<DataRecord> term = parseTerm();
+            if (term == null) {
+                return null;
+            }
+            terms.add(term);
+        } while (accept("&&"));
+        return terms.size() == 1 ? terms.get(0) : new AllOf(terms);
+    }
+
+    private Predicate<DataRecord> parseTerm() {
+        if (accept("(")) {
+            final Predicate<DataRecord> inner = parseOr();
+            return inner != null && accept(")") ? inner : null;
+        }
+        final Operand left = parseOperand();
+        final boolean equals = accept("==");
+        if (left == null || !equals && !accept("!=")) {
+            return null;
+        }
+        final Operand right = parseOperand();
+        return right == null ? null : new Comparison(left, right, !equals);
+    }
+
+    private Operand parseOperand() {
+        if (position >= tokens.size()) {
+            return null;
+        }
+        final String token = tokens.get(position);
+        final char first = token.charAt(0);
+        if (first == '\'' || first == '"') {
+            position++;
+            return new Operand(null, token.substring(1, token.length() - 1));
+        }
+        if (!Character.isJavaIdentifierStart(first)) {
+            return null;
+        }
+        position++;
+        switch (token) {
+            case "true":
+                return new Operand(null, Boolean.TRUE);
+            case "false":
+                return new Operand(null, Boolean.FALSE);
+            case "null":
+                return new Operand(null, null);
+            default:
+                // References to other DataSources (dataSource.field) are resolved only by mVEL binding
+                return token.indexOf('.') < 0 ? new Operand(token, null) : null;
+        }
+    }
+
+    private boolean accept(final String token) {
+        if (position < tokens.size() && tokens.get(position).equals(token)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private static Predicate<DataRecord> toValueSet(final List<Predicate<DataRecord>> terms) {
+        String fieldName = null;
+        final List<String> values = new ArrayList<>();
+        for (final Predicate<DataRecord> term : terms) {
+            if (!(term instanceof Comparison)) {
+                return new AnyOf(terms);
+            }
+            final Comparison comparison = (Comparison) term;
+            final String termField = comparison.getFieldName();
+            final String termValue = comparison.getStringLiteral();
+            if (comparison.negated || termField == null || termValue == null || fieldName != null && !fieldName.equals(termField)) {
+                return new AnyOf(terms);
+            }
+            fieldName = termField;
+            values.add(termValue);
+        }
+        return new ValueSet(fieldName, values);
+    }
+
+    private static List<String> tokenize(final String expression) {
+        final List<String> tokens = new ArrayList<>();
+        int index = 0;
+        while (index < expression.length()) {
+            final char current = expression.charAt(index);
+            if (Character.isWhitespace(current)) {
+                index++;
+            } else if (current == '\'' || current == '"') {
+                final int end = expression.indexOf(current, index + 1);
+                if (end < 0 || expression.substring(index + 1, end).indexOf('\\') >= 0) {
+                    return null;
+                }
+                tokens.add(expression.substring(index, end + 1));
+                index = end + 1;
+            } else if (current == '(' || current == ')') {
+                tokens.add(String.valueOf(current));
+                index++;
+            } else if (expression.startsWith("==", index) || expression.startsWith("!=", index) || expression.startsWith("&&", index)
+                    || expression.startsWith("||", index)) {
+                tokens.add(expression.substring(index, index + 2));
+                index += 2;
+            } else if (Character.isJavaIdentifierStart(current)) {
+                int end = index + 1;
+                while (end < expression.length() && (Character.isJavaIdentifierPart(expression.charAt(end)) || expression.charAt(end) == '.')) {
+                    end++;
+                }
+                tokens.add(expression.substring(index, end));
+                index = end;
+            } else {
+                return null;
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isEqual(final Object left, final Object right) {
+        if (left == null || right == null) {
+            return left == right;
+        }
+        if (left instanceof String && right instanceof String) {
+            return left.equals(right);
+        }
+        // mVEL compares values of different types after conversion (i.e. Boolean field with 'true')
+        return left.toString().equals(right.toString());
+    }
+
+    /**
+     * <pre>
+     * <b>Class Name</b>: Operand
+     * <b>Description</b>: Field of the DataRecord or literal value.
+     * </pre>
+     */
+    private static final class Operand {
+        private final String fieldName;
+        private final Object literal;
+
+        private Operand(final String fieldName, final Object literal) {
+            this.fieldName = fieldName;
+            this.literal = literal;
+        }
+
+        private Object getValue(final DataRecord input) {
+            return fieldName != null ? input.getFieldValue(fieldName) : literal;
+        }
+
+        @Override
+        public String toString() {
+            return fieldName != null ? fieldName : literal instanceof String ? "'" + literal + "'" : String.valueOf(literal);
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Class Name</b>: Comparison
+     * <b>Description</b>: Predicate for '==' and '!=' operators.
+     * </pre>
+     */
+    private static final class Comparison implements Predicate<DataRecord> {
+        private final Operand left;
+        private final Operand right;
+        private final boolean negated;
+
+        private Comparison(final Operand left, final Operand right, final boolean negated) {
+            this.left = left;
+            this.right = right;
+            this.negated = negated;
+        }
+
+        @Override
+        public boolean apply(final DataRecord input) {
+            return input != null && isEqual(left.getValue(input), right.getValue(input)) ^ negated;
+        }
+
+        private String getFieldName() {
+            return left.fieldName != null && right.fieldName == null ? left.fieldName : right.fieldName != null && left.fieldName == null
+                    ? right.fieldName : null;
+        }
+
+        private String getStringLiteral() {
+            final Object literal = left.fieldName == null ? left.literal : right.literal;
+            return literal instanceof String ? (String) literal : null;
+        }
+
+        @Override
+        public String toString() {
+            return left + (negated ? " != " : " == ") + right;
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Class Name</b>: ValueSet
+     * <b>Description</b>: Predicate for OR-chain of equalities on the same field.
+     * </pre>
+     */
+    private static final class ValueSet implements Predicate<DataRecord> {
+        private final String fieldName;
+        private final Predicates.CompiledValues values;
+
+        private ValueSet(final String fieldName, final List<String> values) {
+            this.fieldName = fieldName;
+            this.values = Predicates.CompiledValues.of(values);
+        }
+
+        @Override
+        public boolean apply(final DataRecord input) {
+            if (input == null) {
+                return false;
+            }
+            final Object value = input.getFieldValue(fieldName);
+            return value != null && values.contains(value instanceof String ? (String) value : value.toString());
+        }
+
+        @Override
+        public String toString() {
+            return fieldName + " in " + values;
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Class Name</b>: AllOf
+     * <b>Description</b>: Predicate for '&amp;&amp;' operator.
+     * </pre>
+     */
+    private static final class AllOf implements Predicate<DataRecord> {
+        private final Predicate<DataRecord>[] terms;
+
+        @SuppressWarnings("unchecked")
+        private AllOf(final List<Predicate<DataRecord>> terms) {
+            this.terms = terms.toArray(new Predicate[terms.size()]);
+        }
+
+        @Override
+        public boolean apply(final DataRecord input) {
+            for (final Predicate<DataRecord> term : terms) {
+                if (!term.apply(input)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "(" + Joiner.on(" && ").join(terms) + ")";
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Class Name</b>: AnyOf
+     * <b>Description</b>: Predicate for '||' operator.
+     * </pre>
+     */
+    private static final class AnyOf implements Predicate<DataRecord> {
+        private final Predicate<DataRecord>[] terms;
+
+        @SuppressWarnings("unchecked")
+        private AnyOf(final List<Predicate<DataRecord>> terms) {
+            this.terms = terms.toArray(new Predicate[terms.size()]);
+        }
+
+        @Override
+        public boolean apply(final DataRecord input) {
+            for (final Predicate<DataRecord> term : terms) {
+                if (term.apply(input)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return "(" + Joiner.on(" || ").join(terms) + ")";
+        }
+    }
+}
@@ -40,15 +40,17 @@ public class PredicateExtended extends Predicates {
      * <b>Name</b>: netsimNodePredicate            <i>[public]</i>
      * <b>Description</b>: The predicate is used to select the datasource records that
      * contain the value 'NETSIM' in the field
-     * --> '{@link Predicates.Fields#COLUMN_NAME_NODEOPERTYPE}' .
+     * --> '{@link Predicates.Fields#COLUMN_NAME_NODEOPERTYPE}' (all the records
+     * with 'force.node.creation.flag' property).
      * </pre>
      *
      * @return predicate object
      */
     public static Predicate<DataRecord> netsimNodePredicate() {
-        return com.google.common.base.Predicates.or(
-                singleValuePredicate(Fields.COLUMN_NAME_NODEOPERTYPE, "NETSIM", true),
-                booleanAlwaysPredicete(FORCE_NODE_CREATION));
+        if (FORCE_NODE_CREATION) {
+            return booleanAlwaysPredicete(true);
+        }
+        return singleValuePredicate(Fields.COLUMN_NAME_NODEOPERTYPE, "NETSIM", true);
     }
 
     /**
@@ -77,10 +79,7 @@ public class PredicateExtended extends Predicates {
      * @return predicate object
      */
     public static Predicate<DataRecord> ldapManagedPredicate() {
-        return com.google.common.base.Predicates.and(
-                com.google.common.base.Predicates.not(singleValuePredicate(SpecificFields.AUTHENTICATION_FDN, "", true)),
-                com.google.common.base.Predicates.not(singleValuePredicate(SpecificFields.LDAP_FDN, "", true))
-        );
+        return notEmptyFieldsPredicate(SpecificFields.AUTHENTICATION_FDN, SpecificFields.LDAP_FDN);
     }
 
     /**
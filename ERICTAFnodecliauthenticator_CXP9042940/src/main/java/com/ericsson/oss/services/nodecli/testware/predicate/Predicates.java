@@ -18,6 +18,8 @@
 package com.ericsson.oss.services.nodecli.testware.predicate;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import javax.annotation.Nullable;
 
@@ -32,6 +34,10 @@ import com.google.common.base.Predicate;
  * <b>Name</b>: Predicates      <i>[public (Class)]</i>
  * <b>Description</b>: This class contains the 'base' definitions and methods for the
  * predicates used by this testware.
+ * Expected values are 'compiled' when the predicate is created (comma-separated
+ * values are split only once and stored in a hash table): the evaluation of a
+ * DataRecord does not create objects (the comma-separated values of the fields
+ * are checked in place).
  * </pre>
  */
 @SuppressWarnings("checkstyle:HideUtilityClassConstructor")
@@ -39,6 +45,7 @@ public class Predicates {
     private static final Logger LOGGER = LoggerFactory.getLogger(Predicates.class);
     private static final String USE_RECORD = "Use Datarecord";
     private static final String DONT_USE_RECORD = "Skip Datarecord";
+    private static final char VALUE_SEPARATOR = ',';
 
     /**
      * <pre>
@@ -66,14 +73,13 @@ public class Predicates {
      * @return - Predicate for Data Evaluation (Suite Names)
      */
     public static Predicate<DataRecord> suiteNamePredicate(final String suiteName) {
+        final CompiledValues expectedSuiteName = CompiledValues.of(suiteName);
         return new Predicate<DataRecord>() {
             @Override
             public boolean apply(final DataRecord input) {
-                String methodName = null;
                 if (LOGGER.isTraceEnabled()) {
-                    methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
                     LOGGER.trace("\n{}\n\tInput Values: Suite Column -> {}, Suite Name -> {}\n\tData Record -> {}",
-                            methodName, Fields.COLUMN_NAME_SUITENAME, suiteName, input.toString());
+                            "suiteNamePredicate", Fields.COLUMN_NAME_SUITENAME, suiteName, input);
                 }
 
                 // Check input values: if null or empty, return 'true'
@@ -87,9 +93,9 @@ public class Predicates {
 
                 // Check values of field (if it's not of type String, return 'true')
                 if (value instanceof String) {
-                    final List<String> suiteNameList = Arrays.asList(((String) value).split(","));
-                    LOGGER.trace("\n{}\n\t--> Colum Name {}: Expected {} - Found {}", methodName, Fields.COLUMN_NAME_SUITENAME, suiteName, value);
-                    return suiteNameList.contains(suiteName);
+                    LOGGER.trace("\n{}\n\t--> Colum Name {}: Expected {} - Found {}", "suiteNamePredicate", Fields.COLUMN_NAME_SUITENAME,
+                            suiteName, value);
+                    return expectedSuiteName.containsAnyOf((String) value);
                 }
                 return  true;
             }
@@ -161,10 +167,11 @@ public class Predicates {
      */
     static Predicate<DataRecord> multiValuesPredicate(final String columnName, final List<String> columnValues,
             final boolean forcedTrueNotFound) {
+        final CompiledValues expectedValues = columnValues == null ? null : CompiledValues.of(columnValues);
         return new Predicate<DataRecord>() {
             @Override
             public boolean apply(final DataRecord input) {
-                return findValue(input, columnName, columnValues, forcedTrueNotFound);
+                return findValue(input, columnName, expectedValues, forcedTrueNotFound);
             }
         };
     }
@@ -184,6 +191,35 @@ public class Predicates {
         return  multiValuesPredicate(columnName, columnValues, false);
     }
 
+    /**
+     * <pre>
+     * <b>Name</b>: notEmptyFieldsPredicate            <i>[package protected]</i>
+     * <b>Description</b>: This predicate is used to select the DataRecords where all
+     * the selected fields contain a not empty String.
+     * </pre>
+     *
+     * @param columnNames Column names of the DataSource to evaluate
+     * @return - Predicate for Data Evaluation
+     */
+    static Predicate<DataRecord> notEmptyFieldsPredicate(final String... columnNames) {
+        return new Predicate<DataRecord>() {
+            @Override
+            public boolean apply(final DataRecord input) {
+                if (input == null) {
+                    return false;
+                }
+                for (final String columnName : columnNames) {
+                    final Object value = input.getFieldValue(columnName);
+                    if (!(value instanceof String) || ((String) value).isEmpty()) {
+                        LOGGER.trace("Predicate Return Value: {} --> '{}' ({})", false, columnName, DONT_USE_RECORD);
+                        return false;
+                    }
+                }
+                return true;
+            }
+        };
+    }
+
     /**
      * <pre>
      * <b>Name</b>: singleValuePredicate            <i>[package protected]</i>
@@ -202,24 +238,25 @@ public class Predicates {
      */
     private static Predicate<DataRecord> singleValuePredicateImplement(final String columnName, final String columnValue, final boolean isIncluded,
             final boolean inputParameterNull, final boolean dataValueNull) {
+        final String dataValueNullOption = dataValueNull ?  USE_RECORD : DONT_USE_RECORD;
         return new Predicate<DataRecord>() {
             @Override
             public boolean apply(final DataRecord input) {
-                String methodName = null;
-                methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-                LOGGER.trace("\n{}\n\tInput Flags: Is included ({}), Parameter 'null' ({}), Value 'null' ({})\n\t--> {}", methodName, isIncluded,
-                        inputParameterNull, dataValueNull, input.toString());
-                final String dataValueNullOption = dataValueNull ?  USE_RECORD : DONT_USE_RECORD;
+                if (LOGGER.isTraceEnabled()) {
+                    LOGGER.trace("\n{}\n\tInput Flags: Is included ({}), Parameter 'null' ({}), Value 'null' ({})\n\t--> {}",
+                            "singleValuePredicate", isIncluded, inputParameterNull, dataValueNull, input);
+                }
 
                 // Check input parameters (Column name and input row)
                 if ((input == null) || (columnName == null) || columnValue == null) {
-                    LOGGER.trace("Predicate Return Value (1): {}", inputParameterNull, inputParameterNull ? USE_RECORD : DONT_USE_RECORD);
+                    LOGGER.trace("Predicate Return Value (1): {} ({})", inputParameterNull, inputParameterNull ? USE_RECORD : DONT_USE_RECORD);
                     return inputParameterNull;
                 }
 
                 // Get value of input DataRecord column
                 final Object value = input.getFieldValue(columnName);
-                LOGGER.trace("\n{}\n\t--> Colum Name {}: Expected {} - Found {} [{}]", methodName, columnName, columnValue, value, isIncluded);
+                LOGGER.trace("\n{}\n\t--> Colum Name {}: Expected {} - Found {} [{}]", "singleValuePredicate", columnName, columnValue, value,
+                        isIncluded);
 
                 // Check value Result (check for 'null')
                 if (value == null) {
@@ -240,33 +277,33 @@ public class Predicates {
         };
     }
 
-    private static boolean findValue(final DataRecord input, final String columnName, final List<String> columnValues,
+    private static boolean findValue(final DataRecord input, final String columnName, final CompiledValues expectedValues,
             final boolean forcedTrueNotFound) {
-        String methodName = null;
-        methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        LOGGER.trace("\n{}\n\tInput Parameters: Column Name -> {}, Epexted Values -> {}, Flag Force True Not Found {}\n\t--> {}",
-                methodName, columnName, columnValues, forcedTrueNotFound, input.toString());
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("\n{}\n\tInput Parameters: Column Name -> {}, Epexted Values -> {}, Flag Force True Not Found {}\n\t--> {}",
+                    "findValue", columnName, expectedValues, forcedTrueNotFound, input);
+        }
 
         // Check input parameters (if null, return 'false')
-        if ((input == null) || (columnName == null) || (columnValues == null) || columnValues.isEmpty()) {
+        if ((input == null) || (columnName == null) || (expectedValues == null) || expectedValues.isEmpty()) {
             return false;
         }
 
         // Reading the contents of the selected column:
         final Object value = input.getFieldValue(columnName);
-        LOGGER.trace("\n{}\n\tDataSource Record: {}", methodName, value.toString());
+        LOGGER.trace("\n{}\n\tDataSource Record: {}", "findValue", value);
 
         // Piece of code for a workaround of a TDM problem
         if (value == null) {
             return forcedTrueNotFound;
         }
 
-        // DataRecord field evaluation: Check 'value' object type and convert it into List<String>
-        List<String> valueList = null;
+        // DataRecord field evaluation: check if at least one of the required elements is present among those of the DataSource field.
+        final boolean found;
         if (value instanceof String[]) {
-            valueList = Arrays.asList((String[]) value);
+            found = expectedValues.containsAnyOf((String[]) value);
         } else if (value instanceof String) {
-            valueList = Arrays.asList(((String) value).split(","));
+            found = expectedValues.containsAnyOf((String) value);
         } else {
             // This is used to reduce the quantity of LOG messages, however indicating its severity in the message.
             if (LOGGER.isTraceEnabled()) {
@@ -275,21 +312,13 @@ public class Predicates {
             return false;
         }
 
-        // Cycle to check if at least one of the required elements is present among those of the DataSource field.
-        for (final String expectedSingleValue : columnValues) {
-            for (final String fieldSingleValue : valueList) {
-                if (expectedSingleValue.equals(fieldSingleValue)) {
-                    LOGGER.trace("Expected value found: {} --> {}", expectedSingleValue, fieldSingleValue);
-                    return true;
-                }
-            }
-        }
-
         // This is used to reduce the quantity of LOG messages, however indicating its severity in the message.
-        if (LOGGER.isTraceEnabled()) {
+        if (found) {
+            LOGGER.trace("Expected value found: {} --> {}", expectedValues, value);
+        } else if (LOGGER.isTraceEnabled()) {
             LOGGER.warn("Expected value Not found: return {} value", false);
         }
-        return false;
+        return found;
     }
 
     /**
@@ -306,4 +335,119 @@ public class Predicates {
         static final String COLUMN_NAME_NODEOPERTYPE = "nodeOperatorType";
         static final String COLUMN_NAME_TYPE = "type";
     }
+
+    /**
+     * <pre>
+     * <b>Name</b>: CompiledValues      <i>[package protected (Class)]</i>
+     * <b>Description</b>: This class contains the expected values of a predicate in an
+     * open addressing hash table: values can be searched also as a part of a
+     * String (a comma-separated value) without creating sub strings.
+     * </pre>
+     */
+    static final class CompiledValues {
+        private final String[] table;
+        private final int mask;
+        private final int size;
+
+        private CompiledValues(final Collection<String> values) {
+            int capacity = 2;
+            while (capacity < values.size() * 2) {
+                capacity <<= 1;
+            }
+            table = new String[capacity];
+            mask = capacity - 1;
+            int count = 0;
+            for (final String value : values) {
+                if (value != null && !contains(value, 0, value.length())) {
+                    int slot = hash(value, 0, value.length()) & mask;
+                    while (table[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                    table[slot] = value;
+                    count++;
+                }
+            }
+            size = count;
+        }
+
+        static CompiledValues of(final Collection<String> values) {
+            return new CompiledValues(values);
+        }
+
+        static CompiledValues of(final String value) {
+            return new CompiledValues(value == null ? Collections.<String>emptyList() : Collections.singletonList(value));
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        boolean contains(final String value) {
+            return contains(value, 0, value.length());
+        }
+
+        boolean containsAnyOf(final String[] values) {
+            for (final String value : values) {
+                if (value != null && contains(value, 0, value.length())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // Comma-separated values are checked with the same rules of String.split (trailing empty values are ignored)
+        boolean containsAnyOf(final String values) {
+            if (values.indexOf(VALUE_SEPARATOR) < 0) {
+                return contains(values, 0, values.length());
+            }
+            int end = values.length();
+            while (end > 0 && values.charAt(end - 1) == VALUE_SEPARATOR) {
+                end--;
+            }
+            int start = 0;
+            while (start < end) {
+                int separator = values.indexOf(VALUE_SEPARATOR, start);
+                if (separator < 0 || separator > end) {
+                    separator = end;
+                }
+                if (contains(values, start, separator)) {
+                    return true;
+                }
+                start = separator + 1;
+            }
+            return false;
+        }
+
+        private boolean contains(final String text, final int from, final int to) {
+            final int length = to - from;
+            int slot = hash(text, from, to) & mask;
+            while (table[slot] != null) {
+                final String value = table[slot];
+                if (value.length() == length && value.regionMatches(0, text, from, length)) {
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+
+        private static int hash(final String text, final int from, final int to) {
+            int hash = 0;
+            for (int index = from; index < to; index++) {
+                hash = 31 * hash + text.charAt(index);
+            }
+            return hash ^ (hash >>> 16);
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder result = new StringBuilder("[");
+            for (final String value : table) {
+                if (value != null) {
+                    result.append(result.length() > 1 ? ", " : "").append(value);
+                }
+            }
+            return result.append(']').toString();
+        }
+    }
 }
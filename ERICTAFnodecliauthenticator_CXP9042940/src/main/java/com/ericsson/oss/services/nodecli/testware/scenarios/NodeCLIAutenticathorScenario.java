@@ -64,14 +64,20 @@ import com.ericsson.oss.services.nodecli.operators.flows.LdapMngFlow;
 import com.ericsson.oss.services.nodecli.operators.flows.SsoMngFlows;
 import com.ericsson.oss.services.nodecli.operators.flows.UiFlows;
 import com.ericsson.oss.services.nodecli.operators.flows.UtilityFlow;
+import com.ericsson.oss.services.nodecli.operators.operators.CliSessionTimeline;
+import com.ericsson.oss.services.nodecli.operators.operators.NodeCliLoadGenerator;
 import com.ericsson.oss.services.nodecli.operators.teststeps.CredentialMngTestSteps;
 import com.ericsson.oss.services.nodecli.operators.teststeps.SsoMngTestSteps;
 import com.ericsson.oss.services.nodecli.operators.utility.BasicUtility;
+import com.ericsson.oss.services.nodecli.operators.utility.CallerMethod;
+import com.ericsson.oss.services.nodecli.operators.utility.NodeCliLogIndex;
 import com.ericsson.oss.services.nodecli.testware.constant.Constants;
 import com.ericsson.oss.services.nodecli.testware.predicate.FilterMvel;
+import com.ericsson.oss.services.nodecli.testware.predicate.FilterMvelCompiler;
 import com.ericsson.oss.services.nodecli.testware.predicate.PredicateExtended;
 import com.ericsson.oss.testware.scenario.PrintDatasourceHelper;
 import com.ericsson.oss.testware.security.authentication.flows.LoginLogoutRestFlows;
+import com.google.common.base.Predicates;
 import com.google.common.collect.Iterables;
 
 /**
@@ -115,6 +121,7 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
     protected static final String TEAMNAME_DEFAULTVALUE = "Hydra";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(NodeCLIAutenticathorScenario.class);
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(NodeCLIAutenticathorScenario.class);
     private static final String NODESYNC_AWAIT_SHORT_SEC = DataHandler.getConfiguration().getProperty("nodeCliSync.await.atmost.short", "20",
             String.class);
     private static final String NODESYNC_AWAIT_LONG_SEC = DataHandler.getConfiguration().getProperty("nodeCliSync.await.atmost.long", "40",
@@ -164,13 +171,12 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
      */
     @BeforeClass(groups = { "Functional", "NSS", "RFA250", "ENM_EXTERNAL_TESTWARE" })
     public void beforeClass() {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        final String className = Thread.currentThread().getStackTrace()[1].getClassName();
-        LOGGER.info(" **** Execution of {} method - START **** {}", methodName, SEPARATOR);
+        final String className = getClass().getSimpleName();
+        LOGGER.info(" **** Execution of {} method - START **** {}", METHOD_NAME, SEPARATOR);
         final int size = distributeValues(Iterables.size(context.dataSource(SYNCED_NODES)), MAX_NODES_PARALLEL_EXECUTION);
         backupNodeCliUser(SYNCED_NODES, context.dataSource(SYNCED_NODES));
         printDatasourceHelper.setSeparateUpperOutput(true).setSeparateLowerOutput(true).setLogLevel(PrintDatasourceHelper.LoggerLevel.DEBUG)
-                .printDataSource(SYNCED_NODES, "Added Nodes in " + methodName + "method (No LDAP info)");
+                .printDataSource(SYNCED_NODES, "Added Nodes in " + METHOD_NAME + "method (No LDAP info)");
 
         // execute operation to get Node Type Capability
         final TestScenario scenario = scenario("Before Class '" + className + "' Scenario ")
@@ -181,11 +187,14 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
                         .afterFlow(UtilityFlow.printDataSource(SYNCED_NODES, "After GET cm sync", PrintDatasourceHelper.LoggerLevel.TRACE))
                         .withDataSources(dataSource(SYNCED_NODES).bindTo(ADDED_NODES).allowEmpty())
                         .withExceptionHandler(ScenarioExceptionHandler.LOGONLY))
+                .addFlow(utilityFlow.prefetchCredentials(SYNCED_NODES)
+                        .withExceptionHandler(ScenarioExceptionHandler.LOGONLY))
                 .addFlow(flow("Realign Added Nodes Flow")
                         .beforeFlow(BasicUtility.setupDataSource(SYNCED_NODES, false, true, true))
                         .beforeFlow(UtilityFlow.printDataSource(SYNCED_NODES, "Before REALIGN added nodes", PrintDatasourceHelper.LoggerLevel.TRACE))
                         .afterFlow(UtilityFlow.printDataSource(SYNCED_NODES, "After REALIGN added nodes", PrintDatasourceHelper.LoggerLevel.TRACE))
                         .afterFlow(UtilityFlow.setupDataSource(LDAPNODESTOADD, SYNCED_NODES, true, false, false))
+                        .afterFlow(UtilityFlow.clearPrefetchedCredentials())
                         .addSubFlow(utilityFlow.realignAddedNodes())
                         .withDataSources(dataSource(SYNCED_NODES).bindTo(ADDED_NODES).allowEmpty()))
                 .addFlow(loginLogoutRestFlows.logout())
@@ -195,8 +204,8 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
         runner.start(scenario);
 
         printDatasourceHelper.setSeparateUpperOutput(true).setSeparateLowerOutput(true).setLogLevel(PrintDatasourceHelper.LoggerLevel.INFO)
-                .printDataSource(SYNCED_NODES, "Added Nodes in " + methodName + "method (With LDAP info)");
-        LOGGER.info(" **** Execution of {} method -  END  **** {}", methodName, SEPARATOR);
+                .printDataSource(SYNCED_NODES, "Added Nodes in " + METHOD_NAME + "method (With LDAP info)");
+        LOGGER.info(" **** Execution of {} method -  END  **** {}", METHOD_NAME, SEPARATOR);
     }
 
     /**
@@ -208,12 +217,12 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
      */
     @AfterClass(alwaysRun = true, groups = { "Functional", "NSS", "RFA250", "ENM_EXTERNAL_TESTWARE" })
     public void afterClass() {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        final String className = Thread.currentThread().getStackTrace()[1].getClassName();
-        LOGGER.trace("{} - After execution of {} class", methodName, className);
+        final String className = getClass().getSimpleName();
+        LOGGER.trace("{} - After execution of {} class", METHOD_NAME, className);
 
         final int size = distributeValues(Iterables.size(context.dataSource(SYNCED_NODES)), MAX_NODES_PARALLEL_EXECUTION);
         final TestScenario scenario = scenario("After Class '" + className + "' Scenario ")
+                .addFlow(uiFlows.closePooledBrowsers())
                 .addFlow(loginLogoutRestFlows.loginDefaultUser())
                 .addFlow(cmSyncFlows.getCmSync(NODESYNC_AWAIT_SHORT_SEC)
                         .beforeFlow(BasicUtility.setupDataSource(SYNCED_NODES, false, true, true))
@@ -223,8 +232,9 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
                         .beforeFlow(BasicUtility.setupDataSource(SYNCED_NODES, false, true, true))
                         .withDataSources(dataSource(SYNCED_NODES).withFilter(PredicateExtended.realNodePredicate()).bindTo(ADDED_NODES).allowEmpty()))
                 .addFlow(credentialMngFlow.updateCredentialLdap(CredentialMngTestSteps.Param.DISABLE)
-                        .withDataSources(dataSource(SYNCED_NODES).withFilter(PredicateExtended.realNodePredicate())
-                                .withFilter(FilterMvel.SETAUTHENTICATION).bindTo(ADDED_NODES).allowEmpty()))
+                        .withDataSources(dataSource(SYNCED_NODES).withFilter(Predicates.and(
+                                PredicateExtended.realNodePredicate(), FilterMvelCompiler.compile(FilterMvel.SETAUTHENTICATION)))
+                                .bindTo(ADDED_NODES).allowEmpty()))
                 .addFlow(ssoMngFlows.setVerifySso(SsoMngTestSteps.Command.DISABLED)
                         .beforeFlow(BasicUtility.setupDataSource(SYNCED_NODES, false, true, true))
                         .withDataSources(dataSource(SYNCED_NODES).withFilter(PredicateExtended.realNodePredicate()).bindTo(ADDED_NODES).allowEmpty()))
@@ -244,12 +254,11 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
     @Test(enabled = true, groups = { "Functional", "NSS", "RFA250", "ENM_EXTERNAL_TESTWARE" })
     @TestSuite
     public void ldapDisabledSooDisabledScenario() {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        LOGGER.info(TESTCASE_LOG_MESSAGE, methodName, DISABLED, DISABLED, getLdapDisabledSooDisabledNormalUserTestId(),
+        LOGGER.info(TESTCASE_LOG_MESSAGE, METHOD_NAME, DISABLED, DISABLED, getLdapDisabledSooDisabledNormalUserTestId(),
                 getLdapDisabledSooDisabledNormalUserTitle().replace(MR_SUBSTITUTION_TAG, Constants.MR_MAP_REFERENCE.get(DEFAULT_TAG)));
         final TestScenario scenario = ldapDisableSooDisable(NOT_NODECLIUSER_TAG);
         final TestScenarioRunner runner = SetupAndTearDownUtil.getScenarioRunner();
-        runner.start(scenario);
+        runScenario(runner, scenario, getLdapDisabledSooDisabledNormalUserTestId());
     }
 
     /**
@@ -262,12 +271,11 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
     @Test(enabled = true, groups = { "Functional", "NSS", "RFA250", "ENM_EXTERNAL_TESTWARE" })
     @TestSuite
     public void ldapDisabledSooDisabledNodeCliUserScenario() {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        LOGGER.info(TESTCASE_LOG_MESSAGE, methodName, DISABLED, DISABLED, getLdapDisabledSooDisabledNodecliUserTestId(),
+        LOGGER.info(TESTCASE_LOG_MESSAGE, METHOD_NAME, DISABLED, DISABLED, getLdapDisabledSooDisabledNodecliUserTestId(),
                 getLdapDisabledSooDisabledNodecliUserTitle().replace(MR_SUBSTITUTION_TAG, Constants.MR_MAP_REFERENCE.get(DEFAULT_TAG)));
         final TestScenario scenario = ldapDisableSooDisable(NODECLIUSER_TAG);
         final TestScenarioRunner runner = SetupAndTearDownUtil.getScenarioRunner();
-        runner.start(scenario);
+        runScenario(runner, scenario, getLdapDisabledSooDisabledNodecliUserTestId());
     }
 
     /**
@@ -280,13 +288,12 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
     @TestSuite
     @TestOptions(timeout = "1200000")
     public void ldapDisabledSooEnabledScenario() {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        LOGGER.info(TESTCASE_LOG_MESSAGE, methodName, DISABLED, ENABLED,
+        LOGGER.info(TESTCASE_LOG_MESSAGE, METHOD_NAME, DISABLED, ENABLED,
                 getLdapDisabledSooEnabledTestId(),
                         getLdapDisabledSooEnabledTitle().replace(MR_SUBSTITUTION_TAG, Constants.MR_MAP_REFERENCE.get(DEFAULT_TAG)));
         final TestScenario scenario = ldapDisableSooEnable();
         final TestScenarioRunner runner = SetupAndTearDownUtil.getScenarioRunner();
-        runner.start(scenario);
+        runScenario(runner, scenario, getLdapDisabledSooEnabledTestId());
     }
 
     /**
@@ -299,13 +306,12 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
     @TestSuite
     @TestOptions(timeout = "1200000")
     public void ldapEnabledSooDisabledScenario() {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        LOGGER.info(TESTCASE_LOG_MESSAGE, methodName, ENABLED, DISABLED,
+        LOGGER.info(TESTCASE_LOG_MESSAGE, METHOD_NAME, ENABLED, DISABLED,
                 getLdapEnabledSooDisabledTestId(),
                         getLdapEnabledSooDisabledTitle().replace(MR_SUBSTITUTION_TAG, Constants.MR_MAP_REFERENCE.get(DEFAULT_TAG)));
         final TestScenario scenario = ldapEnableSooDisable();
         final TestScenarioRunner runner = SetupAndTearDownUtil.getScenarioRunner();
-        runner.start(scenario);
+        runScenario(runner, scenario, getLdapEnabledSooDisabledTestId());
     }
 
     /**
@@ -318,13 +324,12 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
     @TestSuite
     @TestOptions(timeout = "1200000")
     public void ldapEnabledSooEnabledScenario() {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        LOGGER.info(TESTCASE_LOG_MESSAGE, methodName, ENABLED, ENABLED,
+        LOGGER.info(TESTCASE_LOG_MESSAGE, METHOD_NAME, ENABLED, ENABLED,
                 getLdapEnabledSooEnabledTestId(),
                         getLdapEnabledSooEnabledTitle().replace(MR_SUBSTITUTION_TAG, Constants.MR_MAP_REFERENCE.get(DEFAULT_TAG)));
         final TestScenario scenario = ldapEnableSooEnable();
         final TestScenarioRunner runner = SetupAndTearDownUtil.getScenarioRunner();
-        runner.start(scenario);
+        runScenario(runner, scenario, getLdapEnabledSooEnabledTestId());
     }
 
     // --------------------------------------------------------------------------
@@ -332,9 +337,9 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
     // --------------------------------------------------------------------------
     @SuppressWarnings("checkstyle:JavadocMethod")
     protected TestScenario ldapDisableSooDisable(final String userToUse) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
         LOGGER.trace("{} (With '{}') - Original DataSource [1] (Available Users Size --> {}, Added Node Size --> {})",
-                methodName, userToUse, Iterables.size(context.dataSource(AVAILABLE_USERS)), Iterables.size(context.dataSource(SYNCED_NODES)));
+                METHOD_NAME, userToUse, Iterables.size(context.dataSource(AVAILABLE_USERS)),
+                Iterables.size(context.dataSource(SYNCED_NODES)));
         Assertions.assertThat(userToUse.toLowerCase())
                 .as(String.format("ldapDisableSooDisable - Wrong UserType selected --> %s.",
                         userToUse)).isIn(NOT_NODECLIUSER_TAG.toLowerCase(), NODECLIUSER_TAG.toLowerCase());
@@ -346,7 +351,7 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
 
         final TestDataSource<DataRecord> merged = TafDataSources.merge(context.dataSource(AVAILABLE_USERS), context.dataSource(SYNCED_NODES));
         LOGGER.trace("{} - Before Update DataSource [1] (DataSource Size --> {})",
-                methodName, Iterables.size(merged));
+                METHOD_NAME, Iterables.size(merged));
         final boolean isNormaluserTest = userToUse == NOT_NODECLIUSER_TAG;
         final String actualTestId = isNormaluserTest ?  getLdapDisabledSooDisabledNormalUserTestId() : getLdapDisabledSooDisabledNodecliUserTestId();
         final String actualTesttitle = isNormaluserTest ?  getLdapDisabledSooDisabledNormalUserTitle() : getLdapDisabledSooDisabledNodecliUserTitle();
@@ -356,17 +361,17 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
             nodeCliUserConfiguration(INPUT_DATASOURCE, context.dataSource(INPUT_DATASOURCE));
         }
         LOGGER.trace("{} - Added Test Case ID and Test Title [1] (DataSource Size --> {})",
-                methodName, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
+                METHOD_NAME, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
         nodeCliLoggerConfiguration(INPUT_DATASOURCE, context.dataSource(INPUT_DATASOURCE));
         LOGGER.trace("{} - Added Node Cli Logger Configuration [1] (DataSource Size --> {})",
-                methodName, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
+                METHOD_NAME, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
         // Non dovrebbe essere necessario percè vengono recuperate le informazioni e messe nel DataSource, direttamente da ENM
         // nodeCliUserConfiguration(INPUT_DATASOURCE, context.dataSource(INPUT_DATASOURCE));
         LOGGER.trace("{} - Added Node Cli User Configuration [1] (DataSource Size --> {})",
-                methodName, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
+                METHOD_NAME, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
         printDatasourceHelper.setSeparateUpperOutput(true).setSeparateLowerOutput(true).setLogLevel(PrintDatasourceHelper.LoggerLevel.INFO)
-                .printDataSource(INPUT_DATASOURCE, String.format(INPUT_DATASOURCE_DESCRIPTION, methodName + " (" + actualTestId + ")"));
-        LOGGER.trace(getMvalFilterAppliedMessage(methodName, new String[] {
+                .printDataSource(INPUT_DATASOURCE, String.format(INPUT_DATASOURCE_DESCRIPTION, METHOD_NAME + " (" + actualTestId + ")"));
+        LOGGER.trace(getMvalFilterAppliedMessage(METHOD_NAME.toString(), new String[] {
                 FilterMvel.SETAUTHENTICATION, FilterMvel.NETWORKELEMENTID, FilterMvel.AND_OPERATOR}));
 
         // Take the size of the datasource and adapt it to the maximum execution parallelism (Redistribuite).
@@ -375,10 +380,10 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
 
         //        Assertions.assertThat(dataRercordCount)
         //                .as(String.format(NO_DATARECORD_AVAILABLE_FOR_SCENARIO_MESSAGE,
-        //                        methodName, dataSourceSize, dataRercordCount)).isGreaterThan(0);
+        //                        METHOD_NAME, dataSourceSize, dataRercordCount)).isGreaterThan(0);
         if (dataRercordCount == 0) {
             LOGGER.warn("{} [1]", String.format(NO_DATARECORD_AVAILABLE_FOR_SCENARIO_MESSAGE,
-                    methodName, dataSourceSize, dataRercordCount));
+                    METHOD_NAME, dataSourceSize, dataRercordCount));
         }
 
         // Create DataDriven scenario and Build it.
@@ -414,9 +419,8 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
 
     @SuppressWarnings("checkstyle:JavadocMethod")
     protected TestScenario ldapDisableSooEnable() {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
         LOGGER.trace("{} - Original DataSource [2] (Available Users Size --> {}, Added Node Size --> {})",
-                methodName, Iterables.size(context.dataSource(AVAILABLE_USERS)), Iterables.size(context.dataSource(SYNCED_NODES)));
+                METHOD_NAME, Iterables.size(context.dataSource(AVAILABLE_USERS)), Iterables.size(context.dataSource(SYNCED_NODES)));
         Assertions.assertThat(compareDataSourceSize(AVAILABLE_USERS, SYNCED_NODES))
                 .as(String.format("ldapDisableSooEnable - Datasource '%s'(%s) is not '>=' than '%s'(%s).",
                         AVAILABLE_USERS, Iterables.size(context.dataSource(AVAILABLE_USERS)),
@@ -425,15 +429,15 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
         final TestDataSource<DataRecord> merged = TafDataSources.merge(context.dataSource(AVAILABLE_USERS), context.dataSource(SYNCED_NODES));
         dataDrivenDataSource(INPUT_DATASOURCE, getLdapDisabledSooEnabledTestId(), getLdapDisabledSooEnabledTitle(), merged);
         LOGGER.trace("{} - Added Test Case ID and Test Title [2] (DataSource Size --> {})",
-                methodName, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
+                METHOD_NAME, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
         nodeCliLoggerConfiguration(INPUT_DATASOURCE, context.dataSource(INPUT_DATASOURCE));
         LOGGER.trace("{} - Added Node Cli Configuration [2] (DataSource Size --> {})",
-                methodName, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
+                METHOD_NAME, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
         LOGGER.trace("{} - Added Node Cli User Configuration [2] (DataSource Size --> {})",
-                methodName, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
+                METHOD_NAME, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
         printDatasourceHelper.setSeparateUpperOutput(true).setSeparateLowerOutput(true).setLogLevel(PrintDatasourceHelper.LoggerLevel.INFO)
-                .printDataSource(INPUT_DATASOURCE, String.format(INPUT_DATASOURCE_DESCRIPTION, methodName));
-        LOGGER.trace(getMvalFilterAppliedMessage(methodName,
+                .printDataSource(INPUT_DATASOURCE, String.format(INPUT_DATASOURCE_DESCRIPTION, METHOD_NAME));
+        LOGGER.trace(getMvalFilterAppliedMessage(METHOD_NAME.toString(),
                 new String[] {FilterMvel.NETWORKELEMENTID + FilterMvel.AND_OPERATOR + FilterMvel.SETAUTHENTICATION}));
 
         // Take the size of the datasource and adapt it to the maximum execution parallelism (Redistribuite).
@@ -442,10 +446,10 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
 
         //        Assertions.assertThat(dataRercordCount)
         //                .as(String.format(NO_DATARECORD_AVAILABLE_FOR_SCENARIO_MESSAGE,
-        //                        methodName, dataSourceSize, dataRercordCount)).isGreaterThan(0);
+        //                        METHOD_NAME, dataSourceSize, dataRercordCount)).isGreaterThan(0);
         if (dataRercordCount == 0) {
             LOGGER.warn("{} [2]", String.format(NO_DATARECORD_AVAILABLE_FOR_SCENARIO_MESSAGE,
-                    methodName, dataSourceSize, dataRercordCount));
+                    METHOD_NAME, dataSourceSize, dataRercordCount));
         }
 
         // Create DataDriven scenario and Build it.
@@ -467,7 +471,7 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
                         .addTestStep(annotatedMethod(credentialMngTestSteps, CredentialMngTestSteps.StepIds.CRED_GET))
                         .addTestStep(annotatedMethod(credentialMngTestSteps, CredentialMngTestSteps.StepIds.NODE_CRED_GET)))
                 .addFlow(loginLogoutRestFlows.logoutBuilder())
-                .addFlow(uiFlows.searchAndLaunchParallelNodeCLI(dataRercordCount)
+                .addFlow(uiFlows.launchParallelNodeCLI(dataRercordCount)
                         .pause(15, TimeUnit.SECONDS))
                 .addFlow(logCheckFlow.checKLoggedUserFlow())
                 .withScenarioDataSources(dataSource(INPUT_DATASOURCE)
@@ -477,28 +481,27 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
 
     @SuppressWarnings("checkstyle:JavadocMethod")
     protected TestScenario ldapEnableSooDisable() {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
         LOGGER.trace("{} - Original DataSource [3] (Available Users Size --> {}, Added Node Size --> {})",
-                methodName, Iterables.size(context.dataSource(AVAILABLE_USERS)), Iterables.size(context.dataSource(SYNCED_NODES)));
+                METHOD_NAME, Iterables.size(context.dataSource(AVAILABLE_USERS)), Iterables.size(context.dataSource(SYNCED_NODES)));
         Assertions.assertThat(compareDataSourceSize(AVAILABLE_USERS, SYNCED_NODES))
                 .as(String.format("ldapEnableSooDisable - Datasource '%s'(%s) is not '>=' than '%s'(%s).",
                         AVAILABLE_USERS, Iterables.size(context.dataSource(AVAILABLE_USERS)),
                         SYNCED_NODES, Iterables.size(context.dataSource(SYNCED_NODES)))).isTrue();
 
         final TestDataSource<DataRecord> merged = TafDataSources.merge(context.dataSource(AVAILABLE_USERS), context.dataSource(SYNCED_NODES));
-        LOGGER.trace("{} - Before Update DataSource [3] (DataSource Size --> {})", methodName, Iterables.size(merged));
+        LOGGER.trace("{} - Before Update DataSource [3] (DataSource Size --> {})", METHOD_NAME, Iterables.size(merged));
 
         dataDrivenDataSource(INPUT_DATASOURCE, getLdapEnabledSooDisabledTestId(), getLdapEnabledSooDisabledTitle(), merged);
         LOGGER.trace("{} - Added Test Case ID and Test Title [3] (DataSource Size --> {})",
-                methodName, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
+                METHOD_NAME, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
         nodeCliLoggerConfiguration(INPUT_DATASOURCE, context.dataSource(INPUT_DATASOURCE));
         LOGGER.trace("{} - Added Node Cli Configuration [3] (DataSource Size --> {})",
-                methodName, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
+                METHOD_NAME, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
         LOGGER.trace("{} - Added Node Cli User Configuration [3] (DataSource Size --> {})",
-                methodName, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
+                METHOD_NAME, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
         printDatasourceHelper.setSeparateUpperOutput(true).setSeparateLowerOutput(true).setLogLevel(PrintDatasourceHelper.LoggerLevel.INFO)
-                .printDataSource(INPUT_DATASOURCE, String.format(INPUT_DATASOURCE_DESCRIPTION, methodName));
-        LOGGER.trace(getMvalFilterAppliedMessage(methodName, new String[] {FilterMvel.NETWORKELEMENTID}));
+                .printDataSource(INPUT_DATASOURCE, String.format(INPUT_DATASOURCE_DESCRIPTION, METHOD_NAME));
+        LOGGER.trace(getMvalFilterAppliedMessage(METHOD_NAME.toString(), new String[] {FilterMvel.NETWORKELEMENTID}));
 
         // Take the size of the datasource and adapt it to the maximum execution parallelism (Redistribuite).
         final int dataSourceSize = Iterables.size(context.dataSource(INPUT_DATASOURCE));
@@ -506,10 +509,10 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
 
         //        Assertions.assertThat(dataRercordCount)
         //                .as(String.format(NO_DATARECORD_AVAILABLE_FOR_SCENARIO_MESSAGE,
-        //                        methodName, dataSourceSize, dataRercordCount)).isGreaterThan(0);
+        //                        METHOD_NAME, dataSourceSize, dataRercordCount)).isGreaterThan(0);
         if (dataRercordCount == 0) {
             LOGGER.warn("{} [3]", String.format(NO_DATARECORD_AVAILABLE_FOR_SCENARIO_MESSAGE,
-                    methodName, dataSourceSize, dataRercordCount));
+                    METHOD_NAME, dataSourceSize, dataRercordCount));
         }
 
         // Create DataDriven scenario and Build it.
@@ -529,7 +532,7 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
                         .addTestStep(annotatedMethod(credentialMngTestSteps, CredentialMngTestSteps.StepIds.CRED_GET))
                         .addTestStep(annotatedMethod(credentialMngTestSteps, CredentialMngTestSteps.StepIds.NODE_CRED_GET)))
                 .addFlow(loginLogoutRestFlows.logout())
-                .addFlow(uiFlows.searchAndLaunchParallelNodeCLI(dataRercordCount)
+                .addFlow(uiFlows.launchParallelNodeCLI(dataRercordCount)
                         .pause(15, TimeUnit.SECONDS))
                 .addFlow(logCheckFlow.checKLoggedUserFlow())
                 .withScenarioDataSources(
@@ -540,9 +543,8 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
 
     @SuppressWarnings("checkstyle:JavadocMethod")
     protected TestScenario ldapEnableSooEnable() {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
         LOGGER.trace("{} - Original DataSource [4] (Available Users Size --> {}, Added Node Size --> {})",
-                methodName, Iterables.size(context.dataSource(AVAILABLE_USERS)), Iterables.size(context.dataSource(SYNCED_NODES)));
+                METHOD_NAME, Iterables.size(context.dataSource(AVAILABLE_USERS)), Iterables.size(context.dataSource(SYNCED_NODES)));
         Assertions.assertThat(compareDataSourceSize(AVAILABLE_USERS, SYNCED_NODES))
                 .as(String.format("ldapEnableSooEnable - Datasource '%s'(%s) is not '>=' than '%s'(%s).",
                         AVAILABLE_USERS, Iterables.size(context.dataSource(AVAILABLE_USERS)),
@@ -550,18 +552,18 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
 
         final TestDataSource<DataRecord> merged = TafDataSources.merge(context.dataSource(AVAILABLE_USERS), context.dataSource(SYNCED_NODES));
         LOGGER.trace("{} - Before Update DataSource [4] (DataSource Size --> {})",
-                methodName, Iterables.size(merged));
+                METHOD_NAME, Iterables.size(merged));
         dataDrivenDataSource(INPUT_DATASOURCE, getLdapEnabledSooEnabledTestId(), getLdapEnabledSooEnabledTitle(), merged);
         LOGGER.trace("{} - Added Test Case ID and Test Title [4] (DataSource Size --> {})",
-                methodName, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
+                METHOD_NAME, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
         nodeCliLoggerConfiguration(INPUT_DATASOURCE, context.dataSource(INPUT_DATASOURCE));
         LOGGER.trace("{} - Added Node Cli Configuration [4] (DataSource Size --> {})",
-                methodName, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
+                METHOD_NAME, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
         LOGGER.trace("{} - Added Node Cli User Configuration [4] (DataSource Size --> {})",
-                methodName, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
+                METHOD_NAME, Iterables.size(context.dataSource(INPUT_DATASOURCE)));
         printDatasourceHelper.setSeparateUpperOutput(true).setSeparateLowerOutput(true).setLogLevel(PrintDatasourceHelper.LoggerLevel.INFO)
-                .printDataSource(INPUT_DATASOURCE, String.format(INPUT_DATASOURCE_DESCRIPTION, methodName));
-        LOGGER.trace(getMvalFilterAppliedMessage(methodName, new String[] {FilterMvel.NETWORKELEMENTID}));
+                .printDataSource(INPUT_DATASOURCE, String.format(INPUT_DATASOURCE_DESCRIPTION, METHOD_NAME));
+        LOGGER.trace(getMvalFilterAppliedMessage(METHOD_NAME.toString(), new String[] {FilterMvel.NETWORKELEMENTID}));
 
         // Take the size of the datasource and adapt it to the maximum execution parallelism (Redistribuite).
         final int dataSourceSize = Iterables.size(context.dataSource(INPUT_DATASOURCE));
@@ -569,10 +571,10 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
 
         //        Assertions.assertThat(dataRercordCount)
         //                .as(String.format(NO_DATARECORD_AVAILABLE_FOR_SCENARIO_MESSAGE,
-        //                        methodName, dataSourceSize, dataRercordCount)).isGreaterThan(0);
+        //                        METHOD_NAME, dataSourceSize, dataRercordCount)).isGreaterThan(0);
         if (dataRercordCount == 0) {
             LOGGER.warn("{} [4]", String.format(NO_DATARECORD_AVAILABLE_FOR_SCENARIO_MESSAGE,
-                    methodName, dataSourceSize, dataRercordCount));
+                    METHOD_NAME, dataSourceSize, dataRercordCount));
         }
 
         // Create DataDriven scenario and Build it.
@@ -592,7 +594,7 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
                         .addTestStep(annotatedMethod(credentialMngTestSteps, CredentialMngTestSteps.StepIds.CRED_GET))
                         .addTestStep(annotatedMethod(credentialMngTestSteps, CredentialMngTestSteps.StepIds.NODE_CRED_GET)))
                 .addFlow(loginLogoutRestFlows.logout())
-                .addFlow(uiFlows.searchAndLaunchParallelNodeCLI(dataRercordCount)
+                .addFlow(uiFlows.launchParallelNodeCLI(dataRercordCount)
                         .pause(15, TimeUnit.SECONDS))
                 .addFlow(logCheckFlow.checKLoggedUserFlow())
                 .withScenarioDataSources(dataSource(INPUT_DATASOURCE).withFilter(ldapManagedPredicate())
@@ -600,6 +602,51 @@ public class NodeCLIAutenticathorScenario extends SetupAndTeardownScenario {
                 .doParallel(dataRercordCount).build();
     }
 
+    /**
+     * <pre>
+     * <b>Name</b>: runScenario       <i>[protected]</i>
+     * <b>Description</b>: This method executes the Test Case scenario, the check of
+     *    time-to-prompt SLO (over all the Node CLI sessions of the scenario) and the open
+     *    loop load; at the end the NodeCli LOG snapshot and the time-to-prompt values of
+     *    the Test Case are removed.
+     * </pre>
+     *
+     * @param runner scenario runner
+     * @param scenario Test Case scenario
+     * @param testCaseId Test Case ID
+     */
+    protected void runScenario(final TestScenarioRunner runner, final TestScenario scenario, final String testCaseId) {
+        try {
+            runner.start(scenario);
+            runner.start(scenario(String.format("Time-to-prompt SLO - %s", testCaseId))
+                    .addFlow(uiFlows.checkTimeToPromptSlo(testCaseId)).build());
+            runOpenLoopLoad(runner, testCaseId);
+        } finally {
+            NodeCliLogIndex.remove(testCaseId);
+            CliSessionTimeline.removeTimeToPrompt(testCaseId);
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: runOpenLoopLoad       <i>[protected]</i>
+     * <b>Description</b>: This method executes the open loop load of Node CLI sessions
+     *    with the nodes registered by the Test Case scenario (only if 'nodecli.load.enabled'
+     *    property is set).
+     * </pre>
+     *
+     * @param runner scenario runner
+     * @param testCaseId Test Case ID
+     */
+    protected void runOpenLoopLoad(final TestScenarioRunner runner, final String testCaseId) {
+        if (!NodeCliLoadGenerator.isEnabled()) {
+            return;
+        }
+        final TestScenario scenario = scenario(String.format("Open Loop Load - %s", testCaseId))
+                .addFlow(uiFlows.openLoopLoad(testCaseId)).build();
+        runner.start(scenario);
+    }
+
     @SuppressWarnings("checkstyle:JavadocMethod")
     protected TestStepFlowBuilder setVerifySsoDisabled() {
         return ssoMngFlows.setVerifySso(SsoMngTestSteps.Command.DISABLED);
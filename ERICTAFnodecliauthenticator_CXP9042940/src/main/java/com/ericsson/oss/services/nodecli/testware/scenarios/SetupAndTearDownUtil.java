@@ -38,7 +38,9 @@ import com.ericsson.cifwk.taf.datasource.TestDataSource;
 import com.ericsson.cifwk.taf.datasource.TestDataSourceFactory;
 import com.ericsson.cifwk.taf.scenario.TestScenarioRunner;
 import com.ericsson.cifwk.taf.scenario.impl.LoggingSecurityScenarioListener;
+import com.ericsson.oss.services.nodecli.operators.utility.StepContextListener;
 import com.ericsson.oss.services.nodecli.testware.constant.Constants;
+import com.ericsson.oss.services.nodecli.testware.predicate.FilterMvel;
 import com.ericsson.oss.testware.scenario.PrintDatasourceHelper;
 import com.ericsson.oss.testware.scenario.ScenarioUtilities;
 import com.google.common.collect.Iterables;
@@ -91,13 +93,18 @@ public abstract class SetupAndTearDownUtil extends ScenarioUtilities {
      * <pre>
      * <b>Name</b>: getScenarioRunner                      <i>public</i>
      * <b>Description</b>: This method return a common scenario runner for this
-     *   testware.
+     *   testware (the Test Step information of each vUser is available
+     *   in {@link com.ericsson.oss.services.nodecli.operators.utility.StepContext}, its
+     *   outcome is set by the default exception handler).
      * </pre>
      * @return scenario Runner
      */
     public static TestScenarioRunner getScenarioRunner() {
+        final StepContextListener stepContextListener = new StepContextListener();
         return runner()
-                .withListener(new LoggingSecurityScenarioListener()).build();
+                .withListener(new LoggingSecurityScenarioListener())
+                .withListener(stepContextListener)
+                .withDefaultExceptionHandler(stepContextListener).build();
     }
 
     /**
@@ -243,17 +250,9 @@ public abstract class SetupAndTearDownUtil extends ScenarioUtilities {
             final String suiteName = (String) DataHandler.getConfiguration().getProperty("suites", String.class).replaceAll(".xml", "");
             final String propertyName = String.format("%s.%s", suiteName, "filter");
             LOGGER.trace("Suite Name: <{}>, Property Name: <{}>", suiteName, propertyName);
-            final StringBuilder mvalStringBuilder = new StringBuilder();
-            boolean firstItem = true;
-            for (final String singleNodeType : nodeTypeList) {
-                mvalStringBuilder.append(firstItem ? "" : " || ");
-                mvalStringBuilder.append("nodeType");
-                mvalStringBuilder.append(" == ");
-                mvalStringBuilder.append(String.format("'%s'", singleNodeType));
-                firstItem = false;
-            }
-            LOGGER.trace("Mval Property Value: <{}>", mvalStringBuilder.toString());
-            TafConfigurationProvider.provide().setProperty(propertyName, mvalStringBuilder.toString());
+            final String mvalFilter = FilterMvel.getNodeTypeFilter(nodeTypeList);
+            LOGGER.trace("Mval Property Value: <{}>", mvalFilter);
+            TafConfigurationProvider.provide().setProperty(propertyName, mvalFilter);
         }
     }
 
@@ -67,13 +67,19 @@ import com.ericsson.cifwk.taf.scenario.TestScenarioRunner;
 import com.ericsson.cifwk.taf.scenario.api.TestScenarioBuilder;
 import com.ericsson.oss.services.nodecli.operators.flows.UtilityFlows;
 import com.ericsson.oss.services.nodecli.operators.teststeps.LdapMngTestStep;
+import com.ericsson.oss.services.nodecli.operators.utility.CallerMethod;
+import com.ericsson.oss.services.nodecli.operators.utility.EnmCommandJournal;
+import com.ericsson.oss.services.nodecli.operators.utility.EnmCommandStandIn;
+import com.ericsson.oss.services.nodecli.operators.utility.StepMetrics;
 import com.ericsson.oss.services.nodecli.testware.datasource.UsersToCreateTimeStampDataSource;
+import com.ericsson.oss.services.nodecli.testware.predicate.FilterMvelCompiler;
 import com.ericsson.oss.services.nodecli.testware.predicate.PredicateExtended;
 import com.ericsson.oss.services.nodecli.testware.predicate.Predicates;
 import com.ericsson.oss.testware.flow.PemKeyFlow;
 import com.ericsson.oss.testware.network.operators.netsim.NetsimDataProvider;
 import com.ericsson.oss.testware.scenario.PrintDatasourceHelper;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Predicate;
 import com.google.common.collect.Iterables;
 
 /**
@@ -88,6 +94,7 @@ public class SetupAndTeardownScenario extends SetupAndTearDownUtil {
     protected static String testwareTeamName = "";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SetupAndTeardownScenario.class);
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(SetupAndTeardownScenario.class);
     private static final String NO_DATA = "No Data in Data Source";
     private static final String CLASS_FIELD = "class";
 
@@ -125,8 +132,7 @@ public class SetupAndTeardownScenario extends SetupAndTearDownUtil {
      */
     protected void onBeforeSuiteMethod(final ITestContext suiteContext, final String customNodeDatasource, final String suiteTeamName) {
         setSuiteContext(suiteContext);
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        LOGGER.info(" **** Execution of {} method - START **** {}", methodName, SEPARATOR);
+        LOGGER.info(" **** Execution of {} method - START **** {}", METHOD_NAME, SEPARATOR);
 
         // Fetch current profile
         final TafConfiguration tafConfiguration = DataHandler.getConfiguration();
@@ -151,15 +157,15 @@ public class SetupAndTeardownScenario extends SetupAndTearDownUtil {
         Assertions.assertThat(Iterables.size(context.dataSource(SYNCED_NODES)))
                 .as(String.format("No Synced Nodes are present (%d/%d)", Iterables.size(context.dataSource(ADDED_NODES)),
                         Iterables.size(context.dataSource(SYNCED_NODES)))).isNotEqualTo(0);
-        LOGGER.info(" **** Execution of {} method -  END  **** {}", methodName, SEPARATOR);
+        LOGGER.info(" **** Execution of {} method -  END  **** {}", METHOD_NAME, SEPARATOR);
     }
 
     private TestScenarioBuilder beforeSuiteScenarioBuilder(final String profile) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
         final int parallelExecutionNodes = distributeValues(getNumberOfNodes(), MAX_NODES_PARALLEL_EXECUTION);
         final int parallelExecutionUsers = distributeValues(getNumberOfUsers(), MAX_NODES_PARALLEL_EXECUTION);
         LOGGER.debug("{} - Executing Before Suite with [{} --> {}] profile and {} Nodes ({})/ {} Users ({})",
-                methodName, profile, profile.toLowerCase(), getNumberOfNodes(), parallelExecutionNodes, getNumberOfUsers(), parallelExecutionUsers);
+                METHOD_NAME, profile, profile.toLowerCase(), getNumberOfNodes(), parallelExecutionNodes, getNumberOfUsers(),
+                parallelExecutionUsers);
         return scenario("Before Suite Scenario ")
                 .addFlow(pemKeyFlow.setPemKey())
                 // TODO - Verify netsim host, simulation and nodes Availability)!
@@ -188,23 +194,30 @@ public class SetupAndTeardownScenario extends SetupAndTearDownUtil {
      * .
      */
     protected void onAfterSuiteMethod() {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        LOGGER.info(" **** Execution of {} method - START **** {}", methodName, SEPARATOR);
+        LOGGER.info(" **** Execution of {} method - START **** {}", METHOD_NAME, SEPARATOR);
         final String profile = DataHandler.getConfiguration().getProperty("taf.profiles", "", String.class);
         Preconditions.checkArgument(context.dataSource(AVAILABLE_USERS).iterator().hasNext(), NO_DATA);
         teardownSpecificDataSource();
         final TestScenario scenario = afterSuiteScenarioBuilder(profile).build();
         final TestScenarioRunner runner = SetupAndTearDownUtil.getScenarioRunner();
         runner.start(scenario);
-        LOGGER.info(" **** Execution of {} method -  END  **** {}", methodName, SEPARATOR);
+        StepMetrics.getInstance().writeReports();
+        if (EnmCommandStandIn.isEnabled()) {
+            LOGGER.info("{} - {}", METHOD_NAME, EnmCommandStandIn.getInstance());
+        }
+        if (EnmCommandJournal.getMode() != EnmCommandJournal.Mode.OFF) {
+            EnmCommandJournal.getInstance().close();
+            LOGGER.info("{} - {}", METHOD_NAME, EnmCommandJournal.getInstance());
+        }
+        LOGGER.info(" **** Execution of {} method -  END  **** {}", METHOD_NAME, SEPARATOR);
     }
 
     private TestScenarioBuilder afterSuiteScenarioBuilder(final String profile) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
         final int parallelExecutionNodes = distributeValues(getNumberOfNodes(), MAX_NODES_PARALLEL_EXECUTION);
         final int parallelExecutionUsers = distributeValues(getNumberOfUsers(), MAX_NODES_PARALLEL_EXECUTION);
         LOGGER.debug("{} - Executing After Suite with [{} --> {}] profile and {} Nodes ({})/ {} Users ({})",
-                methodName, profile, profile.toLowerCase(), getNumberOfNodes(), parallelExecutionNodes, getNumberOfUsers(), parallelExecutionUsers);
+                METHOD_NAME, profile, profile.toLowerCase(), getNumberOfNodes(), parallelExecutionNodes, getNumberOfUsers(),
+                parallelExecutionUsers);
         return scenario("After Suite Scenario ")
                 // Since we are performing the setup operations (and not the tests) we access ENM with the 'ci-user'
                 //   user to simplify the preparation of the environment.
@@ -222,8 +235,7 @@ public class SetupAndTeardownScenario extends SetupAndTearDownUtil {
      * Meant to be overridden by child classes if more specific DataSources are needed.
      */
     private void setupSpecificDataSource(final String profile) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        LOGGER.debug("{} - Preparing Specific DataSource with [{} --> {}] profile", methodName, profile, profile.toLowerCase());
+        LOGGER.debug("{} - Preparing Specific DataSource with [{} --> {}] profile", METHOD_NAME, profile, profile.toLowerCase());
         final TestDataSource<DataRecord> issueDataSource = fromTafDataProvider("issueDataSource");
         context.addDataSource(CERT_ISSUE_REISSUE_DATASOURCE, issueDataSource);
         final TestDataSource<DataRecord> ldapsDataSource = fromTafDataProvider("ldapsDataSource");
@@ -251,7 +263,6 @@ public class SetupAndTeardownScenario extends SetupAndTearDownUtil {
      * Method to fill in users and nodes datasources depending on the current profile.
      */
     private void standardDataSourceFromProfileConfiguration(final String profile, final String customNodeDatasource) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
         final String nodeDatasourceName = customNodeDatasource == null || customNodeDatasource.isEmpty()
                 ? NODES_TO_ADD : customNodeDatasource;
         final String nodesToAddFromDataprovider =
@@ -263,7 +274,7 @@ public class SetupAndTeardownScenario extends SetupAndTearDownUtil {
         }
         LOGGER.debug("{} - Preparing Node DataSource\n\tSelected Profile: [{} --> {}]\n\tForce Node Creation --> {}"
                 + "\n\tNode DataSource Name -> {} [{}] ({})\n\tTDM app Address: {}",
-                methodName, profile.isEmpty() ? "'No Profile'" : profile, profile.toLowerCase(),
+                METHOD_NAME, profile.isEmpty() ? "'No Profile'" : profile, profile.toLowerCase(),
                 FORCE_NODE_CREATION, nodeDatasourceName.isEmpty() ? "---" : nodeDatasourceName,
                 nodesToAddFromDataprovider.isEmpty() ? "---" : nodesToAddFromDataprovider,
                 customNodeDatasource.isEmpty() ? "---" : customNodeDatasource, tdmAppAddress);
@@ -286,12 +297,11 @@ public class SetupAndTeardownScenario extends SetupAndTearDownUtil {
     }
 
     private void createNodesToAdd(final String dataSourceName, final boolean isMT, final boolean isKGB) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
         TestDataSource<DataRecord> file = copy(fromTafDataProvider(dataSourceName));
 
         // if we're in KGB environment, node address changes each run, so we need to update them fron NetSim
         if (isKGB) {
-            LOGGER.trace("{} - isKGB flag 'true': updating nodesToAdd from NetSim", methodName);
+            LOGGER.trace("{} - isKGB flag 'true': updating nodesToAdd from NetSim", METHOD_NAME);
             file = TafDataSources.transform(file, NetsimDataProvider.updateDataSourceFromNetsim());
         }
         printDatasourceHelper.setSeparateUpperOutput(true).setLogLevel(PrintDatasourceHelper.LoggerLevel.DEBUG)
@@ -317,7 +327,8 @@ public class SetupAndTeardownScenario extends SetupAndTearDownUtil {
 
         /* Filtering with MVAL Predicate */
         LOGGER.debug(String.format(LOGGER_INFO_PARAM_ONLY, "Local File filtered by 'MVEL'", getFilterMval()));
-        file = TafDataSources.filter(file, mvelFilter(getFilterMval()));
+        final Predicate<DataRecord> compiledFilter = FilterMvelCompiler.tryCompile(getFilterMval());
+        file = compiledFilter != null ? TafDataSources.filter(file, compiledFilter) : TafDataSources.filter(file, mvelFilter(getFilterMval()));
         Assertions.assertThat(0)
                 .as("local File filered with 'MVEL' failure (empty)").isNotEqualTo(Iterables.size(file));
         printDatasourceHelper.setSeparateUpperOutput(false).printDataSource(file, String.format("Local DataSource Filtered with MVAL"), false);
@@ -346,8 +357,7 @@ public class SetupAndTeardownScenario extends SetupAndTearDownUtil {
      * Method to fill in users and nodes datasources depending on the current profile.
      */
     private void realignNodeDataSource(final String profile) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        LOGGER.debug("{} - Realign Nodes DataSource with [{} --> {}] profile", methodName, profile, profile.toLowerCase());
+        LOGGER.debug("{} - Realign Nodes DataSource with [{} --> {}] profile", METHOD_NAME, profile, profile.toLowerCase());
         switch (profile.toLowerCase()) {
             case PROFILE_TDM_INFO:
             case PROFILE_HYDRA:
@@ -373,8 +383,7 @@ public class SetupAndTeardownScenario extends SetupAndTearDownUtil {
     }
 
     private void realignUserDataSource(final String profile) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        LOGGER.debug("{} - Realign Users DataSource with [{} --> {}] profile", methodName, profile, profile.toLowerCase());
+        LOGGER.debug("{} - Realign Users DataSource with [{} --> {}] profile", METHOD_NAME, profile, profile.toLowerCase());
         final int numUsers;
         switch (profile.toLowerCase()) {
             case PROFILE_REAL_NODE:
@@ -0,0 +1,98 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.testware.predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.mvel2.MVEL;
+
+import com.ericsson.cifwk.taf.datasource.DataRecord;
+import com.ericsson.cifwk.taf.datasource.DataRecordImpl;
+import com.ericsson.oss.services.nodecli.operators.teststeps.LdapMngTestStep;
+import com.ericsson.oss.services.nodecli.operators.utility.UserCredentialType;
+import com.google.common.base.Predicate;
+
+/**
+ * Compiled {@link FilterMvel} filters (see {@link FilterMvelCompiler}) must select the
+ * same records as the mVEL evaluation of the filter, for each filter of the testware
+ * and each record of the table (null fields, Boolean fields, empty strings).
+ */
+@RunWith(Parameterized.class)
+public class FilterMvelCompilerTest {
+    private static final String NODECLI_USER_FIELD = UserCredentialType.NODECLI_USER.getUserNameField();
+    private static final List<DataRecord> RECORDS = Arrays.asList(
+            record(Boolean.TRUE, "NetworkElement=EPG01,Authentication=1", "NetworkElement=EPG01,Ldap=1",
+                    UserCredentialType.NODECLI_USER.getDefaultUser(), "EPG"),
+            record(Boolean.FALSE, "", "", "nodecliUser01", "VEPG"),
+            record("true", "NetworkElement=RN01,Authentication=1", "", "nodecliUser02", "RadioNode"),
+            record("false", "", "NetworkElement=RN02,Ldap=1", "", "EPG-OI"),
+            record(null, null, null, null, null));
+
+    private final String expression;
+
+    public FilterMvelCompilerTest(final String name, final String expression) {
+        this.expression = expression;
+    }
+
+    @Parameters(name = "{0}")
+    public static Collection<Object[]> filters() {
+        return Arrays.asList(new Object[][] {
+                {"LDAPMANAGED", FilterMvel.LDAPMANAGED},
+                {"SETAUTHENTICATION", FilterMvel.SETAUTHENTICATION},
+                {"SETLDAP", FilterMvel.SETLDAP},
+                {"SECURE_USER", FilterMvel.SECURE_USER},
+                {"NODECLI_USER", FilterMvel.NODECLI_USER},
+                {"SETAUTHENTICATION && LDAPMANAGED", FilterMvel.SETAUTHENTICATION + FilterMvel.AND_OPERATOR + FilterMvel.LDAPMANAGED},
+                {"LDAPMANAGED || SETLDAP", FilterMvel.LDAPMANAGED + FilterMvel.OR_OPERATOR + FilterMvel.SETLDAP},
+                {"Node Type filter (single type)", FilterMvel.getNodeTypeFilter("RadioNode")},
+                {"Node Type filter", FilterMvel.getNodeTypeFilter("EPG", "VEPG", "EPG-OI", "vEPG-OI")},
+                {"Node Type filter && SETAUTHENTICATION", "(" + FilterMvel.getNodeTypeFilter("EPG", "RadioNode") + ")"
+                        + FilterMvel.AND_OPERATOR + FilterMvel.SETAUTHENTICATION},
+        });
+    }
+
+    @Test
+    public void compiledFilterMatchesMvel() {
+        final Predicate<DataRecord> compiled = FilterMvelCompiler.compile(expression);
+        for (final DataRecord record : RECORDS) {
+            assertThat(compiled.apply(record)).as("%s on %s", expression, record.getAllFields())
+                    .isEqualTo(MVEL.eval(expression, new HashMap<>(record.getAllFields()), Boolean.class));
+        }
+    }
+
+    private static DataRecord record(final Object ldapManaged, final String authenticationFdn, final String ldapFdn, final String nodeCliUser,
+            final String nodeType) {
+        final Map<String, Object> fields = new HashMap<>();
+        fields.put("ldapManaged", ldapManaged);
+        fields.put(LdapMngTestStep.Param.AUTHENTICATIONFDN, authenticationFdn);
+        fields.put(LdapMngTestStep.Param.LDAP_FDN, ldapFdn);
+        fields.put(NODECLI_USER_FIELD, nodeCliUser);
+        fields.put("nodeType", nodeType);
+        return new DataRecordImpl(fields);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.testware.predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.Test;
+
+/**
+ * {@link FilterMvel} filters built by the testware.
+ */
+public class FilterMvelTest {
+
+    @Test
+    public void nodeTypeFilterIsOrChainOfEqualities() {
+        assertThat(FilterMvel.getNodeTypeFilter("EPG", "VEPG")).isEqualTo("nodeType == 'EPG' || nodeType == 'VEPG'");
+        assertThat(FilterMvel.getNodeTypeFilter("EPG")).isEqualTo("nodeType == 'EPG'");
+    }
+
+    @Test
+    public void filterWithOtherDataSourceIsNotCompiled() {
+        assertThat(FilterMvelCompiler.tryCompile(FilterMvel.NETWORKELEMENTID)).isNull();
+        assertThatThrownBy(() -> FilterMvelCompiler.compile(FilterMvel.NETWORKELEMENTID)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.testware.predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.ericsson.cifwk.taf.datasource.DataRecord;
+import com.ericsson.cifwk.taf.datasource.DataRecordImpl;
+import com.google.common.base.Predicate;
+
+/**
+ * Expected values of the {@link Predicates} (see {@link Predicates.CompiledValues}).
+ */
+public class PredicatesTest {
+    private static final String NODE_TYPE = "nodeType";
+
+    @Test
+    public void valuesAreFoundAsWholeItems() {
+        final Predicates.CompiledValues values = Predicates.CompiledValues.of(Arrays.asList("EPG", "RadioNode"));
+
+        assertThat(values.contains("EPG")).isTrue();
+        assertThat(values.contains("RadioNode")).isTrue();
+        assertThat(values.contains("EP")).isFalse();
+        assertThat(values.contains("EPG-OI")).isFalse();
+        assertThat(values.contains("")).isFalse();
+    }
+
+    @Test
+    public void commaSeparatedValuesFollowSplitRules() {
+        final Predicates.CompiledValues values = Predicates.CompiledValues.of(Arrays.asList("EPG", ""));
+
+        assertThat(values.containsAnyOf("ERBS,EPG")).isTrue();
+        assertThat(values.containsAnyOf("EPG,,")).isTrue();
+        assertThat(values.containsAnyOf("ERBS,,VEPG")).isTrue();
+        assertThat(values.containsAnyOf("ERBS,VEPG,")).isFalse();
+        assertThat(values.containsAnyOf(",")).isFalse();
+        assertThat(Predicates.CompiledValues.of("EPG").containsAnyOf(",EPG")).isTrue();
+        assertThat(Predicates.CompiledValues.of("EPG").containsAnyOf("EPGX,XEPG")).isFalse();
+    }
+
+    @Test
+    public void arrayValuesAreChecked() {
+        final Predicates.CompiledValues values = Predicates.CompiledValues.of("VEPG");
+
+        assertThat(values.containsAnyOf(new String[] {null, "EPG", "VEPG"})).isTrue();
+        assertThat(values.containsAnyOf(new String[] {"EPG,VEPG"})).isFalse();
+        assertThat(values.containsAnyOf(new String[0])).isFalse();
+    }
+
+    @Test
+    public void nullAndDuplicatedValuesAreIgnored() {
+        assertThat(Predicates.CompiledValues.of(Arrays.asList("EPG", null, "EPG")).toString()).isEqualTo("[EPG]");
+        assertThat(Predicates.CompiledValues.of((String) null).isEmpty()).isTrue();
+        assertThat(Predicates.CompiledValues.of(Collections.<String>emptyList()).isEmpty()).isTrue();
+        assertThat(Predicates.CompiledValues.of(Collections.<String>emptyList()).contains("EPG")).isFalse();
+    }
+
+    @Test
+    public void collidingValuesAreFound() {
+        final List<String> nodeNames = new ArrayList<>();
+        for (int index = 0; index < 1000; index++) {
+            nodeNames.add("LTE" + index);
+        }
+        nodeNames.add("Aa");
+        nodeNames.add("BB");
+        final Predicates.CompiledValues values = Predicates.CompiledValues.of(nodeNames);
+
+        for (final String nodeName : nodeNames) {
+            assertThat(values.contains(nodeName)).as(nodeName).isTrue();
+        }
+        assertThat(values.contains("LTE1000")).isFalse();
+        assertThat(values.containsAnyOf("LTE1000,BB")).isTrue();
+    }
+
+    @Test
+    public void multiValuesPredicateChecksFieldValue() {
+        final Predicate<DataRecord> predicate = Predicates.multiValuesPredicate(NODE_TYPE, Arrays.asList("EPG", "VEPG"));
+
+        assertThat(predicate.apply(record("ERBS,VEPG"))).isTrue();
+        assertThat(predicate.apply(record(new String[] {"ERBS", "EPG"}))).isTrue();
+        assertThat(predicate.apply(record("EPG-OI"))).isFalse();
+        assertThat(predicate.apply(record(Boolean.TRUE))).isFalse();
+        assertThat(predicate.apply(record(null))).isFalse();
+        assertThat(predicate.apply(null)).isFalse();
+        assertThat(Predicates.multiValuesPredicate(NODE_TYPE, Arrays.asList("EPG"), true).apply(record(null))).isTrue();
+        assertThat(Predicates.multiValuesPredicate(NODE_TYPE, Collections.<String>emptyList(), true).apply(record("EPG"))).isFalse();
+        assertThat(Predicates.multiValuesPredicate(NODE_TYPE, null).apply(record("EPG"))).isFalse();
+    }
+
+    private static DataRecord record(final Object nodeType) {
+        final Map<String, Object> fields = new HashMap<>();
+        fields.put(NODE_TYPE, nodeType);
+        return new DataRecordImpl(fields);
+    }
+}
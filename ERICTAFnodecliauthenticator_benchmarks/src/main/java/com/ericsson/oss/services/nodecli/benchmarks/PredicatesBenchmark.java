@@ -0,0 +1,100 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ericsson.cifwk.taf.datasource.DataRecord;
+import com.ericsson.oss.services.nodecli.testware.predicate.FilterMvelCompiler;
+import com.ericsson.oss.services.nodecli.testware.predicate.Predicates;
+import com.google.common.base.Predicate;
+
+/**
+ * <pre>
+ * <b>Name</b>: PredicatesBenchmark      <i>[public (Class)]</i>
+ * <b>Description</b>: Benchmark of the DataSource predicates: each invocation
+ *   evaluates the predicate on all the nodes of the DataSource.
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PredicatesBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    private int nodes;
+
+    private List<DataRecord> records;
+    private Predicate<DataRecord> nodeTypePredicate;
+    private Predicate<DataRecord> suiteNamePredicate;
+    private Predicate<DataRecord> filterMvelPredicate;
+
+    /**
+     * <pre>
+     * <b>Name</b>: setup            <i>[public]</i>
+     * <b>Description</b>: This method creates nodes and predicates.
+     * </pre>
+     */
+    @Setup
+    public void setup() {
+        records = SyntheticNodes.records(nodes);
+        nodeTypePredicate = Predicates.nodeType("RadioNode,MINI-LINK-6352,PCC,Shared-CNF");
+        suiteNamePredicate = Predicates.suiteNamePredicate("NodeCliLdap");
+        filterMvelPredicate = FilterMvelCompiler.compile("nodeType == 'RadioNode' || nodeType == 'MINI-LINK-6352' || nodeType == 'PCC'");
+    }
+
+    @Benchmark
+    public int nodeTypePredicate() {
+        return count(nodeTypePredicate);
+    }
+
+    @Benchmark
+    public int suiteNamePredicate() {
+        return count(suiteNamePredicate);
+    }
+
+    @Benchmark
+    public int filterMvelPredicate() {
+        return count(filterMvelPredicate);
+    }
+
+    private int count(final Predicate<DataRecord> predicate) {
+        int selected = 0;
+        for (final DataRecord record : records) {
+            if (predicate.apply(record)) {
+                selected++;
+            }
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ericsson.cifwk.taf.datasource.DataRecord;
+import com.ericsson.cifwk.taf.datasource.TestDataSource;
+import com.ericsson.cifwk.taf.datasource.TestDataSourceFactory;
+import com.ericsson.oss.services.nodecli.testware.scenarios.SetupAndTearDownUtil;
+
+/**
+ * <pre>
+ * <b>Name</b>: SetupAndTearDownUtilBenchmark      <i>[public (Class)]</i>
+ * <b>Description</b>: Benchmark of the DataSource manipulation used by setup and
+ *   teardown scenarios (duplicated records removal and reordering).
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SetupAndTearDownUtilBenchmark {
+    private static final long SEED = 20240501L;
+
+    @Param({"10", "100", "1000", "10000"})
+    private int nodes;
+
+    private TestDataSource<DataRecord> originalDataSource;
+    private TestDataSource<DataRecord> shuffledDataSource;
+
+    /**
+     * <pre>
+     * <b>Name</b>: setup            <i>[public]</i>
+     * <b>Description</b>: This method creates the DataSources: the original one and
+     *   the same nodes in a different order.
+     * </pre>
+     */
+    @Setup
+    public void setup() {
+        final List<Map<String, Object>> fields = SyntheticNodes.fields(nodes);
+        originalDataSource = TestDataSourceFactory.createDataSource(fields);
+        final List<Map<String, Object>> shuffled = new ArrayList<>(fields);
+        Collections.shuffle(shuffled, new Random(SEED));
+        shuffledDataSource = TestDataSourceFactory.createDataSource(shuffled);
+    }
+
+    @Benchmark
+    public TestDataSource<DataRecord> reduceDataSource() {
+        return SetupAndTearDownUtil.reduceDataSource(originalDataSource, SyntheticNodes.NODE_TYPE);
+    }
+
+    @Benchmark
+    public TestDataSource<DataRecord> reorderDatasourceWithOriginAlone() {
+        return SetupAndTearDownUtil.reorderDatasourceWithOriginAlone(originalDataSource, shuffledDataSource,
+                SyntheticNodes.NETWORK_ELEMENT_ID);
+    }
+}
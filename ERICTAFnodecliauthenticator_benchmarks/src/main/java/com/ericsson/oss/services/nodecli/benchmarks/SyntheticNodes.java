@@ -0,0 +1,154 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.ericsson.cifwk.taf.datasource.DataRecord;
+import com.ericsson.cifwk.taf.datasource.DataRecordImpl;
+
+/**
+ * <pre>
+ * <b>Name</b>: SyntheticNodes      <i>[public (Class)]</i>
+ * <b>Description</b>: This class creates the synthetic data used by benchmarks:
+ *   node DataRecords (same fields of 'nodesToAdd' DataSource) and NodeCli LOG. Data
+ *   is generated with a fixed seed, so each run of the benchmarks uses the same
+ *   values.
+ * </pre>
+ */
+public final class SyntheticNodes {
+    @SuppressWarnings("checkstyle:JavadocVariable")
+    public static final String NETWORK_ELEMENT_ID = "networkElementId";
+    @SuppressWarnings("checkstyle:JavadocVariable")
+    public static final String NODE_TYPE = "nodeType";
+    @SuppressWarnings("checkstyle:JavadocVariable")
+    public static final String SUITE_NAME = "suiteName";
+    @SuppressWarnings("checkstyle:JavadocVariable")
+    public static final String IP_ADDRESS = "ipAddress";
+    @SuppressWarnings("checkstyle:JavadocVariable")
+    public static final String[] NODE_TYPES = {"RadioNode", "ERBS", "MINI-LINK-6352", "Router6672", "SGSN-MME", "PCC", "PCG", "Shared-CNF"};
+    @SuppressWarnings("checkstyle:JavadocVariable")
+    public static final String[] SUITE_NAMES = {"", "NodeCliAuthenticator", "NodeCliAuthenticator,NodeCliLdap", "NodeCliSso"};
+    @SuppressWarnings("checkstyle:JavadocVariable")
+    public static final String SESSION_OPENED = "Session opened successfully";
+    private static final long SEED = 20240501L;
+    private static final int IP_BYTE = 256;
+
+    private SyntheticNodes() {
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: fields            <i>[public]</i>
+     * <b>Description</b>: This method creates the fields of the selected number of nodes.
+     * </pre>
+     *
+     * @param count number of nodes
+     * @return fields of each node
+     */
+    public static List<Map<String, Object>> fields(final int count) {
+        final Random random = new Random(SEED);
+        final List<Map<String, Object>> nodes = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            final Map<String, Object> node = new LinkedHashMap<>();
+            final String nodeType = NODE_TYPES[random.nextInt(NODE_TYPES.length)];
+            node.put(NETWORK_ELEMENT_ID, nodeName(nodeType, index));
+            node.put(NODE_TYPE, nodeType);
+            node.put(SUITE_NAME, SUITE_NAMES[random.nextInt(SUITE_NAMES.length)]);
+            node.put(IP_ADDRESS, ipAddress(index));
+            node.put("nodeOperatorType", random.nextBoolean() ? "ECIM" : "CPP");
+            node.put("secureUserName", "netsim");
+            node.put("secureUserPassword", "netsim");
+            node.put("ldapApplicationUserName", random.nextBoolean() ? "" : "ldapApplicationUser");
+            nodes.add(node);
+        }
+        return nodes;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: records            <i>[public]</i>
+     * <b>Description</b>: This method creates the DataRecords of the selected number of nodes.
+     * </pre>
+     *
+     * @param count number of nodes
+     * @return node DataRecords
+     */
+    public static List<DataRecord> records(final int count) {
+        final List<DataRecord> records = new ArrayList<>(count);
+        for (final Map<String, Object> node : fields(count)) {
+            records.add(new DataRecordImpl(node));
+        }
+        return records;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: nodeCliLog            <i>[public]</i>
+     * <b>Description</b>: This method creates a NodeCli LOG (ordered by time) with the
+     *   selected number of lines for each node: one 'session opened' record for each
+     *   node and user, the other lines are unrelated records.
+     * </pre>
+     *
+     * @param count number of nodes
+     * @param linesPerNode LOG lines for each node
+     * @param users users that open a session on each node
+     * @return LOG text
+     */
+    public static String nodeCliLog(final int count, final int linesPerNode, final String... users) {
+        final Random random = new Random(SEED);
+        final StringBuilder log = new StringBuilder();
+        final int lines = count * linesPerNode;
+        for (int line = 0; line < lines; line++) {
+            final int second = line * 86400 / Math.max(1, lines);
+            final String timestamp = String.format("2024-05-01 %02d:%02d:%02d,%03d", second / 3600, second / 60 % 60, second % 60, line % 1000);
+            final int node = random.nextInt(count);
+            if (line % linesPerNode == 0 && users.length > 0) {
+                log.append(timestamp).append(" INFO  [com.ericsson.oss.services.nodecli.NodeCliSessionManager] (default task-")
+                        .append(line % 64).append(") ").append(SESSION_OPENED).append(" for user ")
+                        .append(users[random.nextInt(users.length)]).append(" on ").append(ipAddress(node)).append('\n');
+            } else {
+                log.append(timestamp).append(" DEBUG [com.ericsson.oss.services.nodecli.NodeCliWebSocket] (default task-")
+                        .append(line % 64).append(") Message received from ").append(ipAddress(node)).append(": ")
+                        .append(Long.toHexString(random.nextLong())).append('\n');
+            }
+        }
+        return log.toString();
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: ipAddress            <i>[public]</i>
+     * <b>Description</b>: This method returns the IP address of the selected node.
+     * </pre>
+     *
+     * @param index node index
+     * @return IP address
+     */
+    public static String ipAddress(final int index) {
+        return "10." + (index / IP_BYTE / IP_BYTE % IP_BYTE) + "." + (index / IP_BYTE % IP_BYTE) + "." + (index % IP_BYTE);
+    }
+
+    private static String nodeName(final String nodeType, final int index) {
+        return String.format("%s%05d", nodeType.replace("-", ""), index);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ericsson.cifwk.taf.datasource.DataRecord;
+import com.ericsson.oss.services.nodecli.operators.teststeps.CredentialMngTestSteps;
+import com.ericsson.oss.services.nodecli.operators.utility.LogTimestampDecoder;
+import com.ericsson.oss.services.nodecli.operators.utility.NodeCliLogIndex;
+import com.ericsson.oss.services.scriptengine.spi.dtos.AbstractDto;
+import com.ericsson.oss.services.scriptengine.spi.dtos.LineDto;
+import com.ericsson.oss.services.scriptengine.spi.dtos.ResponseDto;
+import com.ericsson.oss.testware.enm.cli.EnmCliResponse;
+
+/**
+ * <pre>
+ * <b>Name</b>: TestStepsBenchmark      <i>[public (Class)]</i>
+ * <b>Description</b>: Benchmark of the per node code of the Test Steps: NodeCli
+ *   LOG check and command response search. Each invocation processes all the
+ *   nodes.
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestStepsBenchmark {
+    private static final String SCENARIO_KEY = "benchmark";
+    private static final String[] USERS = {"administrator", "nodecli_operator", "ldapApplicationUser"};
+    private static final int LOG_LINES_PER_NODE = 20;
+    private static final int RESPONSE_LINES = 40;
+
+    @Param({"10", "100", "1000", "10000"})
+    private int nodes;
+
+    private final CredentialMngTestSteps credentialSteps = new CredentialMngTestSteps();
+    private List<DataRecord> records;
+    private String nodeCliLog;
+    private long fromTimestamp;
+    private EnmCliResponse response;
+
+    /**
+     * <pre>
+     * <b>Name</b>: setup            <i>[public]</i>
+     * <b>Description</b>: This method creates nodes, NodeCli LOG and command response.
+     * </pre>
+     */
+    @Setup
+    public void setup() {
+        records = SyntheticNodes.records(nodes);
+        nodeCliLog = SyntheticNodes.nodeCliLog(nodes, LOG_LINES_PER_NODE, USERS);
+        final LogTimestampDecoder decoder = new LogTimestampDecoder();
+        fromTimestamp = decoder.find(nodeCliLog, 0, nodeCliLog.length()) ? decoder.getValue() : -1L;
+        final List<AbstractDto> dtos = new ArrayList<>(RESPONSE_LINES);
+        for (int line = 0; line < RESPONSE_LINES; line++) {
+            dtos.add(new LineDto(String.format("NetworkElement=Node%05d,SecurityFunction=1,NetworkElementSecurity=1", line)));
+        }
+        response = new EnmCliResponse(new ResponseDto(dtos));
+    }
+
+    @Benchmark
+    public int nodeCliLogCheck() {
+        NodeCliLogIndex.remove(SCENARIO_KEY);
+        final NodeCliLogIndex logIndex = NodeCliLogIndex.refresh(SCENARIO_KEY, Long.MAX_VALUE, nodeCliLog, SyntheticNodes.SESSION_OPENED);
+        int found = 0;
+        for (int index = 0; index < records.size(); index++) {
+            if (logIndex.findAfter(SyntheticNodes.ipAddress(index), USERS[index % USERS.length], fromTimestamp) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int containsString() {
+        int found = 0;
+        for (final DataRecord record : records) {
+            if (credentialSteps.containsString(response, (String) record.getFieldValue(SyntheticNodes.NETWORK_ELEMENT_ID))) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
@@ -23,6 +23,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.ericsson.cifwk.taf.datasource.DataRecord;
+import com.ericsson.oss.services.nodecli.operators.utility.CallerMethod;
 import com.ericsson.oss.services.nodecli.operators.utility.SsoOperation;
 import com.ericsson.oss.testware.nodesecurity.operators.factory.CredentialFactory;
 
@@ -31,6 +32,7 @@ import com.ericsson.oss.testware.nodesecurity.operators.factory.CredentialFactor
  */
 public class SsoFactory {
     private static final Logger LOGGER = LoggerFactory.getLogger(SsoFactory.class);
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(SsoFactory.class);
 
     @Inject
     private CredentialFactory credentialFactory;
@@ -44,7 +46,6 @@ public class SsoFactory {
      * @return command
      */
     public String prepareSsoCommand(final DataRecord dataRecord, final SsoOperation ssoOperation) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
         String preparedCommand = null;
         switch (ssoOperation) {
             case ENABLE:
@@ -60,7 +61,7 @@ public class SsoFactory {
                 LOGGER.error("Invalid SSO operation {}", ssoOperation.toString());
                 break;
         }
-        LOGGER.trace("{} - 'secadm' command to execute: [{}]", methodName, preparedCommand);
+        LOGGER.trace("{} - 'secadm' command to execute: [{}]", METHOD_NAME, preparedCommand);
         return preparedCommand;
     }
 
@@ -27,6 +27,7 @@ import javax.inject.Inject;
 
 import com.ericsson.cifwk.taf.data.DataHandler;
 import com.ericsson.cifwk.taf.scenario.api.TestStepFlowBuilder;
+import com.ericsson.oss.services.nodecli.operators.operators.NodeCliLoadGenerator;
 import com.ericsson.oss.services.nodecli.operators.teststeps.NodeCliLogTestStep;
 import com.ericsson.oss.testware.teststeps.EnmLogTestStep;
 
@@ -41,6 +42,10 @@ import com.ericsson.oss.testware.teststeps.EnmLogTestStep;
 public class EnmLogCheckFlow {
     private static final int WAIT_FOR_LOG_COLLECTION = DataHandler.getConfiguration().getProperty("log.nodecli.collectingWait.seconds", 10,
             Integer.class);
+    private static final boolean REMOTE_LOG_FILTER = DataHandler.getConfiguration().getProperty("log.nodecli.pushdown.enabled", false,
+            Boolean.class);
+    private static final boolean LOG_SNAPSHOT = DataHandler.getConfiguration().getProperty("log.nodecli.snapshot.enabled", false,
+            Boolean.class);
     @Inject
     private NodeCliLogTestStep nodeCliTestStep;
     @Inject
@@ -52,11 +57,35 @@ public class EnmLogCheckFlow {
      * <b>Description</b>: TThis flow builder is used to 'read' the LOG of the <i>NodeCli</i>
      *   host and search inside for the correct connection to the node with the
      *   designated user.
+     *   By default the LOG is collected for each record by {@link EnmLogTestStep.StepIds#GET_LOG_TO_STRINGS}.
+     *   With 'log.nodecli.snapshot.enabled' property the LOG is read once for all the
+     *   vUsers of the scenario and read again only when a record is not found (see
+     *   {@link NodeCliLogTestStep.StepIds#CHECK_NODECLI_LOGGED_USER_SNAPSHOT}); with
+     *   'log.nodecli.pushdown.enabled' property the LOG is filtered on the hosts for
+     *   each record (only the records to check are read).
+     *   With open loop load ('nodecli.load.enabled' property) no session is opened by
+     *   the data records: the LOG record of each load session is checked by the load
+     *   itself (see {@link com.ericsson.oss.services.nodecli.operators.teststeps.NodeCliUiTestStep.StepIds#RUN_OPEN_LOOP_LOAD}).
      * </pre>
      *
      * @return Test Flow Builder
      */
     public TestStepFlowBuilder checKLoggedUserFlow() {
+        if (NodeCliLoadGenerator.isEnabled()) {
+            return flow("'nodeCli' Log checked by open loop load").pause(1, TimeUnit.SECONDS);
+        }
+        if (REMOTE_LOG_FILTER) {
+            return flow("Get filtered 'nodeCli' Log and Check User")
+                    .pause(WAIT_FOR_LOG_COLLECTION, TimeUnit.SECONDS)
+                    .addTestStep(annotatedMethod(nodeCliTestStep, NodeCliLogTestStep.StepIds.GET_NODECLI_LOG_FILTERED))
+                    .addTestStep(annotatedMethod(nodeCliTestStep, NodeCliLogTestStep.StepIds.CHECK_NODECLI_LOGGED_USER)
+                            .withParameter(LOG_FROM_NODECLI_PARAM, fromTestStepResult(NodeCliLogTestStep.StepIds.GET_NODECLI_LOG_FILTERED)));
+        }
+        if (LOG_SNAPSHOT) {
+            return flow("Check User in 'nodeCli' Log snapshot")
+                    .pause(WAIT_FOR_LOG_COLLECTION, TimeUnit.SECONDS)
+                    .addTestStep(annotatedMethod(nodeCliTestStep, NodeCliLogTestStep.StepIds.CHECK_NODECLI_LOGGED_USER_SNAPSHOT));
+        }
         return flow("Get 'nodeCli' Log and Check User")
                 .pause(WAIT_FOR_LOG_COLLECTION, TimeUnit.SECONDS)
                 .addTestStep(annotatedMethod(enmHostLogCollectorTestStep, EnmLogTestStep.StepIds.GET_LOG_TO_STRINGS))
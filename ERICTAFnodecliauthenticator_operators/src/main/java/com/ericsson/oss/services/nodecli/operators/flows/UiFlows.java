@@ -19,8 +19,10 @@ import static com.ericsson.oss.testware.security.authentication.steps.LoginLogou
 
 import javax.inject.Inject;
 
+import com.ericsson.cifwk.taf.data.DataHandler;
 import com.ericsson.cifwk.taf.scenario.TestStepFlow;
 import com.ericsson.cifwk.taf.scenario.api.TestStepFlowBuilder;
+import com.ericsson.oss.services.nodecli.operators.operators.NodeCliLoadGenerator;
 import com.ericsson.oss.services.nodecli.operators.teststeps.NodeCliUiTestStep;
 import com.ericsson.oss.testware.security.authentication.steps.LoginLogoutUiTestSteps;
 
@@ -32,6 +34,10 @@ import com.ericsson.oss.testware.security.authentication.steps.LoginLogoutUiTest
  * </pre>
  */
 public class UiFlows {
+    private static final boolean NODECLI_DIRECT_LAUNCH = DataHandler.getConfiguration().getProperty("nodecli.launch.direct", false,
+            Boolean.class);
+    private static final boolean NODECLI_HEADLESS = DataHandler.getConfiguration().getProperty("nodecli.verify.headless", false,
+            Boolean.class);
 
     @Inject
     private NodeCliUiTestStep uiSteps;
@@ -57,20 +63,131 @@ public class UiFlows {
      * <pre>
      * <b>Name</b>: searchAndLaunchParallelNodeCLI            <i>[public]</i>
      * <b>Description</b>: This method is used to create a flow that, through the UI,
-     * provides access to the node's CLI, verifying its correct opening.
+     * provides access to the node's CLI, verifying its correct opening (with open loop
+     * load the nodes are only registered for the load).
      * </pre>
      *
      * @param vUserCount number of parallel execution.
      * @return flow which performs Node Cli Check.
      */
     public TestStepFlowBuilder searchAndLaunchParallelNodeCLI(final int vUserCount) {
+        if (NodeCliLoadGenerator.isEnabled()) {
+            return registerLoadTarget();
+        }
         return flow("Searches for nodes and launches the CLI, working")
                 .addTestStep(annotatedMethod(uiSteps, NodeCliUiTestStep.StepIds.INIT_BROWSER_AND_LOGIN))
                 .addTestStep(annotatedMethod(uiSteps, NodeCliUiTestStep.StepIds.SEARCH_FOR_NODE_VUSERS))
                 .addTestStep(annotatedMethod(uiSteps, NodeCliUiTestStep.StepIds.ASSERT_LAUNCH_NODECLI_PRESENT))
                 .addTestStep(annotatedMethod(uiSteps, NodeCliUiTestStep.StepIds.LAUNCH_AND_VERIFY_CLI_PARALLEL)
                         .withParameter(NodeCliUiTestStep.Param.VUSER_PARAM, vUserCount))
-                .addTestStep(annotatedMethod(uiSteps, NodeCliUiTestStep.StepIds.CLOSE_BROWSER)).alwaysRun();
+                .addTestStep(annotatedMethod(uiSteps, NodeCliUiTestStep.StepIds.RELEASE_BROWSER)).alwaysRun();
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: launchParallelNodeCLI            <i>[public]</i>
+     * <b>Description</b>: This method is used to create a flow that opens the node's
+     * CLI application directly (without Network Explorer search), verifying its correct
+     * opening. If direct launch is disabled ('nodecli.launch.direct' property), the
+     * Network Explorer search flow is returned; if headless verification is enabled
+     * ('nodecli.verify.headless' property), the flow without browser is returned; with
+     * open loop load ('nodecli.load.enabled' property) the nodes are only registered
+     * for the load (see {@link #openLoopLoad(String)}).
+     * </pre>
+     *
+     * @param vUserCount number of parallel execution.
+     * @return flow which performs Node Cli Check.
+     */
+    public TestStepFlowBuilder launchParallelNodeCLI(final int vUserCount) {
+        if (NodeCliLoadGenerator.isEnabled()) {
+            return registerLoadTarget();
+        }
+        if (NODECLI_HEADLESS) {
+            return verifyNodeCliHeadless();
+        }
+        if (!NODECLI_DIRECT_LAUNCH) {
+            return searchAndLaunchParallelNodeCLI(vUserCount);
+        }
+        return flow("Launches the CLI directly, working")
+                .addTestStep(annotatedMethod(uiSteps, NodeCliUiTestStep.StepIds.INIT_BROWSER_AND_LOGIN))
+                .addTestStep(annotatedMethod(uiSteps, NodeCliUiTestStep.StepIds.LAUNCH_AND_VERIFY_CLI_PARALLEL)
+                        .withParameter(NodeCliUiTestStep.Param.VUSER_PARAM, vUserCount)
+                        .withParameter(NodeCliUiTestStep.Param.DIRECT_LAUNCH_PARAM, true))
+                .addTestStep(annotatedMethod(uiSteps, NodeCliUiTestStep.StepIds.RELEASE_BROWSER)).alwaysRun();
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: verifyNodeCliHeadless            <i>[public]</i>
+     * <b>Description</b>: This method is used to create a flow that verifies the
+     * access to the node's CLI without browser.
+     * </pre>
+     *
+     * @return flow which performs Node Cli Check.
+     */
+    public TestStepFlowBuilder verifyNodeCliHeadless() {
+        return flow("Verifies the CLI without browser, working")
+                .addTestStep(annotatedMethod(uiSteps, NodeCliUiTestStep.StepIds.VERIFY_CLI_HEADLESS));
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: registerLoadTarget            <i>[public]</i>
+     * <b>Description</b>: This method is used to create a flow that adds node and user
+     * of each data record to the open loop load of the Test Case.
+     * </pre>
+     *
+     * @return flow which registers load targets.
+     */
+    public TestStepFlowBuilder registerLoadTarget() {
+        return flow("Registers the node for open loop load")
+                .addTestStep(annotatedMethod(uiSteps, NodeCliUiTestStep.StepIds.REGISTER_LOAD_TARGET));
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: openLoopLoad            <i>[public]</i>
+     * <b>Description</b>: This method creates the flow that executes the open loop load
+     * of Node CLI sessions with the nodes registered for the Test Case.
+     * </pre>
+     *
+     * @param testCaseId Test Case of the registered nodes.
+     * @return flow which performs open loop load.
+     */
+    public TestStepFlow openLoopLoad(final String testCaseId) {
+        return flow("Open loop load of Node CLI sessions").withVusers(1)
+                .addTestStep(annotatedMethod(uiSteps, NodeCliUiTestStep.StepIds.RUN_OPEN_LOOP_LOAD)
+                        .withParameter(NodeCliUiTestStep.Param.LOAD_TEST_CASE_PARAM, testCaseId)).build();
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: checkTimeToPromptSlo            <i>[public]</i>
+     * <b>Description</b>: This method creates the flow that checks the time-to-prompt
+     * SLO of the Test Case (once, with all the Node CLI sessions completed).
+     * </pre>
+     *
+     * @param testCaseId Test Case of the Node CLI sessions.
+     * @return flow which checks time-to-prompt SLO.
+     */
+    public TestStepFlow checkTimeToPromptSlo(final String testCaseId) {
+        return flow("Check time-to-prompt SLO of Node CLI sessions").withVusers(1)
+                .addTestStep(annotatedMethod(uiSteps, NodeCliUiTestStep.StepIds.CHECK_TIME_TO_PROMPT_SLO)
+                        .withParameter(NodeCliUiTestStep.Param.SLO_TEST_CASE_PARAM, testCaseId)).build();
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: closePooledBrowsers            <i>[public]</i>
+     * <b>Description</b>: This method creates the flow for closing the browsers
+     * stored in the session pool.
+     * </pre>
+     *
+     * @return flow which performs pooled Browsers close.
+     */
+    public TestStepFlow closePooledBrowsers() {
+        return flow("Closes the pooled browsers").withVusers(1)
+                .addTestStep(annotatedMethod(uiSteps, NodeCliUiTestStep.StepIds.CLOSE_POOLED_BROWSERS)).build();
     }
 
     /**
@@ -76,6 +76,42 @@ public class UtilityFlow extends UtilityFlows {
                 .withDataSources(dataSource(CERT_ISSUE_REISSUE_DATASOURCE), dataSource(LDAP_DATASOURCE))*/;
     }
 
+    /**
+     * <pre>
+     * <b>Name</b>: prefetchCredentials            <i>[public]</i>
+     * <b>Description</b>: This method creates the flow builder to read, with batch
+     * commands, the credentials of all the nodes in the selected DataSource before the
+     * node credential realignment operation: the flow that uses the credentials should
+     * remove those not used at its end (see {@link #clearPrefetchedCredentials()}).
+     * </pre>
+     * @param dataSourceName Context DataSource Name containing nodes
+     * @return a Test Step Flow Builder.
+     */
+    public TestStepFlowBuilder prefetchCredentials(final String dataSourceName) {
+        return flow("Prefetch Credentials Flow")
+                .addTestStep(annotatedMethod(credentialMngTestSteps, CredentialMngTestSteps.StepIds.CRED_BATCH_PREFETCH)
+                        .withParameter(CredentialMngTestSteps.Param.PREFETCH_DATASOURCE, dataSourceName))
+                .withVusers(1);
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: clearPrefetchedCredentials            <i>[public]</i>
+     * <b>Description</b>: This runnable function removes the credentials read by
+     *   {@link #prefetchCredentials(String)} and not used.
+     * </pre>
+     *
+     * @return runnable object for prefetched credentials removal
+     */
+    public static Runnable clearPrefetchedCredentials() {
+        return new Runnable() {
+            @Override
+            public void run() {
+                CredentialMngTestSteps.clearPrefetchedCredentials();
+            }
+        };
+    }
+
     /**
      * <pre>
      * <b>Name</b>: printDataSource            <i>[public]</i>
@@ -0,0 +1,309 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.operators;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ericsson.cifwk.taf.data.DataHandler;
+import com.ericsson.cifwk.taf.ui.Browser;
+import com.ericsson.cifwk.taf.ui.BrowserTab;
+import com.ericsson.oss.services.nodecli.operators.utility.CallerMethod;
+
+/**
+ * <pre>
+ * <b>Name</b>: BrowserSessionPool      <i>[public (Class)]</i>
+ * <b>Description</b>: This class contains the browsers already logged to ENM, so
+ *   they can be reused by the following Test Cases instead of opening a new browser
+ *   (and executing login) for each Data Record.
+ *   Idle sessions are stored for each ENM user: a session is leased by a vUser and
+ *   given back at the end of the flow; sessions that are not healthy or idle for
+ *   too long are closed.
+ *   A leased browser belongs to the thread of the vUser that leased it: a browser
+ *   given back can still be in the vUser context, so it must be checked with
+ *   {@link #isUsable(Browser)} before use.
+ * </pre>
+ */
+public final class BrowserSessionPool {
+    @SuppressWarnings("checkstyle:JavadocVariable")
+    public static final boolean BROWSER_POOL_ENABLED = DataHandler.getConfiguration().getProperty("nodecli.browser.pool.enabled", true,
+            Boolean.class);
+    private static final Logger LOGGER = LoggerFactory.getLogger(BrowserSessionPool.class);
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(BrowserSessionPool.class);
+    private static final long IDLE_TIMEOUT_MILLIS = DataHandler.getConfiguration().getProperty("nodecli.browser.pool.idle.timeout", 300,
+            Integer.class) * 1000L;
+    private static final int MAX_IDLE_SESSIONS = DataHandler.getConfiguration().getProperty("nodecli.browser.pool.max.idle", 8, Integer.class);
+    private static final BrowserSessionPool INSTANCE = new BrowserSessionPool();
+
+    private final Deque<Session> idleSessions = new LinkedList<>();
+    private final Map<Browser, Session> leasedSessions = new ConcurrentHashMap<>();
+
+    private BrowserSessionPool() {
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public static BrowserSessionPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: lease            <i>[public]</i>
+     * <b>Description</b>: This method returns an idle session: a session of the selected
+     *   user is preferred, otherwise the least recently used session of another user is
+     *   returned (caller should execute logout and login again).
+     *   Sessions idle for too long or not healthy are closed.
+     * </pre>
+     *
+     * @param userName ENM user name
+     * @param healthCheck check executed on the idle browser before leasing it
+     * @param closer operation used to close the evicted browsers
+     * @return leased session (null if no session available)
+     */
+    public Session lease(final String userName, final Predicate<Browser> healthCheck, final Consumer<Browser> closer) {
+        final List<Session> evicted = new ArrayList<>();
+        Session candidate;
+        synchronized (idleSessions) {
+            evictIdleSessions(evicted);
+            candidate = findIdleSession(userName);
+            if (candidate == null) {
+                candidate = idleSessions.pollLast();
+            }
+        }
+        while (candidate != null && !healthCheck.test(candidate.getBrowser())) {
+            LOGGER.debug("{} - Browser session of user '{}' is not healthy", METHOD_NAME, candidate.getUserName());
+            evicted.add(candidate);
+            synchronized (idleSessions) {
+                candidate = findIdleSession(userName);
+                if (candidate == null) {
+                    candidate = idleSessions.pollLast();
+                }
+            }
+        }
+        close(evicted, closer);
+        if (candidate != null) {
+            candidate.owner = Thread.currentThread();
+            leasedSessions.put(candidate.getBrowser(), candidate);
+            LOGGER.debug("{} - Leased browser session of user '{}' for user '{}' (idle sessions --> {})",
+                    METHOD_NAME, candidate.getUserName(), userName, idleSessions.size());
+        }
+        return candidate;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: register            <i>[public]</i>
+     * <b>Description</b>: This method adds to the pool a new browser (already logged),
+     *   in leased state.
+     * </pre>
+     *
+     * @param userName ENM user logged in the browser
+     * @param browser browser
+     * @param mainTab ENM application tab
+     * @return leased session
+     */
+    public Session register(final String userName, final Browser browser, final BrowserTab mainTab) {
+        final Session session = new Session(userName, browser, mainTab);
+        session.owner = Thread.currentThread();
+        leasedSessions.put(browser, session);
+        return session;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: getLeasedSession            <i>[public]</i>
+     * <b>Description</b>: This method returns the leased session for the selected browser.
+     * </pre>
+     *
+     * @param browser browser
+     * @return leased session (null if browser is not in the pool)
+     */
+    public Session getLeasedSession(final Browser browser) {
+        return leasedSessions.get(browser);
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: isUsable            <i>[public]</i>
+     * <b>Description</b>: This method says if the browser can be used by the current
+     *   vUser: browsers not managed by the pool or leased by the current thread are
+     *   usable; idle browsers or browsers leased by another vUser are not.
+     * </pre>
+     *
+     * @param browser browser (i.e. from vUser context)
+     * @return true if the browser can be used by the current vUser
+     */
+    public boolean isUsable(final Browser browser) {
+        final Session session = leasedSessions.get(browser);
+        if (session != null) {
+            return session.owner == Thread.currentThread();
+        }
+        synchronized (idleSessions) {
+            for (final Session idleSession : idleSessions) {
+                if (idleSession.getBrowser() == browser) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: giveBack            <i>[public]</i>
+     * <b>Description</b>: This method puts the leased session back among the idle ones.
+     *   The oldest idle sessions are closed if the maximum number is exceeded.
+     * </pre>
+     *
+     * @param browser browser to give back
+     * @param closer operation used to close the evicted browsers
+     * @return true if the browser was leased from this pool
+     */
+    public boolean giveBack(final Browser browser, final Consumer<Browser> closer) {
+        final Session session = leasedSessions.remove(browser);
+        if (session == null) {
+            return false;
+        }
+        final List<Session> evicted = new ArrayList<>();
+        session.lastUseMillis = System.currentTimeMillis();
+        session.owner = null;
+        synchronized (idleSessions) {
+            idleSessions.addFirst(session);
+            evictIdleSessions(evicted);
+            while (idleSessions.size() > MAX_IDLE_SESSIONS) {
+                evicted.add(idleSessions.pollLast());
+            }
+        }
+        close(evicted, closer);
+        return true;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: discard            <i>[public]</i>
+     * <b>Description</b>: This method removes the leased session from the pool (i.e.
+     *   browser closed by caller).
+     * </pre>
+     *
+     * @param browser browser to remove
+     */
+    public void discard(final Browser browser) {
+        leasedSessions.remove(browser);
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: closeAll            <i>[public]</i>
+     * <b>Description</b>: This method closes all the idle sessions.
+     * </pre>
+     *
+     * @param closer operation used to close the browsers
+     * @return number of closed browsers
+     */
+    public int closeAll(final Consumer<Browser> closer) {
+        final List<Session> evicted;
+        synchronized (idleSessions) {
+            evicted = new ArrayList<>(idleSessions);
+            idleSessions.clear();
+        }
+        close(evicted, closer);
+        return evicted.size();
+    }
+
+    private Session findIdleSession(final String userName) {
+        final Iterator<Session> iterator = idleSessions.iterator();
+        while (iterator.hasNext()) {
+            final Session session = iterator.next();
+            if (session.getUserName().equals(userName)) {
+                iterator.remove();
+                return session;
+            }
+        }
+        return null;
+    }
+
+    private void evictIdleSessions(final List<Session> evicted) {
+        final long now = System.currentTimeMillis();
+        while (!idleSessions.isEmpty() && now - idleSessions.peekLast().lastUseMillis > IDLE_TIMEOUT_MILLIS) {
+            evicted.add(idleSessions.pollLast());
+        }
+    }
+
+    private static void close(final List<Session> sessions, final Consumer<Browser> closer) {
+        for (final Session session : sessions) {
+            LOGGER.debug("{} - Closing pooled browser session of user '{}' (ID --> {})", METHOD_NAME, session.getUserName(),
+                    session.getBrowser().hashCode());
+            try {
+                closer.accept(session.getBrowser());
+            } catch (final Exception e) {
+                LOGGER.warn("{} - Error closing browser (ID --> {}): {}", METHOD_NAME, session.getBrowser().hashCode(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Class Name</b>: Session
+     * <b>Description</b>: Browser logged to ENM with the indicated user.
+     * </pre>
+     */
+    public static final class Session {
+        private final Browser browser;
+        private final BrowserTab mainTab;
+        private volatile String userName;
+        private volatile long lastUseMillis;
+        private volatile Thread owner;
+
+        private Session(final String userName, final Browser browser, final BrowserTab mainTab) {
+            this.userName = userName;
+            this.browser = browser;
+            this.mainTab = mainTab;
+            this.lastUseMillis = System.currentTimeMillis();
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public Browser getBrowser() {
+            return browser;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public BrowserTab getMainTab() {
+            return mainTab;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public String getUserName() {
+            return userName;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public void setUserName(final String userName) {
+            this.userName = userName;
+        }
+    }
+}
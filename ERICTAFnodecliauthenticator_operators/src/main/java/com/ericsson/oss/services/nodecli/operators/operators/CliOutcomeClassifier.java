@@ -0,0 +1,182 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.operators;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <pre>
+ * <b>Name</b>: CliOutcomeClassifier      <i>[public (Class)]</i>
+ * <b>Description</b>: This class classifies the Node Cli terminal content in a single
+ *   pass: all the connection messages are searched with one precompiled pattern
+ *   (an alternation of named groups) and the prompt is checked on the last line.
+ *   Only the lines of the current connection attempt are classified: from the most
+ *   recent 'Opening SSH/Telnet connection' line (older scrollback lines and previous
+ *   attempts, i.e. SSH before Telnet fallback, are ignored).
+ * </pre>
+ */
+public final class CliOutcomeClassifier {
+    private static final Pattern OPENING_PATTERN = Pattern.compile("Opening (SSH|Telnet) connection");
+    private static final Pattern OUTCOME_PATTERN = Pattern.compile(
+            "(?<telnet>Opening Telnet connection)"
+            + "|(?<ssh>Opening SSH connection)"
+            + "|(?<authfailure>SSH authentication failure)"
+            + "|(?<allfailed>All supported CLI connection attempts failed|Error: Login failed)"
+            + "|(?<sessionexists>An open session already exists|Only one session allowed)"
+            + "|(?<closed>Connection closed|Connection refused)");
+
+    private CliOutcomeClassifier() {
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: classify            <i>[public]</i>
+     * <b>Description</b>: This method returns all the outcomes found in the terminal
+     *   lines of the current connection attempt.
+     * </pre>
+     *
+     * @param lines Node Cli terminal lines
+     * @param nodePrompt expected prompt (null if unknown)
+     * @return classification result
+     */
+    public static Result classify(final List<String> lines, final String nodePrompt) {
+        final Set<Outcome> outcomes = EnumSet.noneOf(Outcome.class);
+        final Matcher matcher = OUTCOME_PATTERN.matcher(String.join("\n", lines.subList(getAttemptStart(lines), lines.size())));
+        while (matcher.find()) {
+            for (final Outcome outcome : Outcome.values()) {
+                if (outcome.groupName != null && matcher.group(outcome.groupName) != null) {
+                    outcomes.add(outcome);
+                }
+            }
+        }
+        if (nodePrompt != null && !lines.isEmpty() && lines.get(lines.size() - 1).indexOf(nodePrompt) != -1) {
+            outcomes.add(Outcome.PROMPT_REACHED);
+        }
+        return new Result(outcomes);
+    }
+
+    private static int getAttemptStart(final List<String> lines) {
+        for (int index = lines.size() - 1; index >= 0; index--) {
+            if (OPENING_PATTERN.matcher(lines.get(index)).find()) {
+                return index;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: Outcome      <i>[public enum]</i>
+     * <b>Description</b>: Messages (and prompt) that can be displayed in Node Cli terminal.
+     * </pre>
+     */
+    public enum Outcome {
+        TELNET_OPENED("telnet"),
+        SSH_OPENED("ssh"),
+        SSH_AUTHENTICATION_FAILURE("authfailure"),
+        ALL_CONNECTION_FAILED("allfailed"),
+        SESSION_ALREADY_EXISTS("sessionexists"),
+        CONNECTION_CLOSED("closed"),
+        PROMPT_REACHED(null);
+
+        private final String groupName;
+
+        Outcome(final String groupName) {
+            this.groupName = groupName;
+        }
+
+        /**
+         * <pre>
+         * <b>Name</b>: isFailure            <i>[public]</i>
+         * <b>Description</b>: This method says if the outcome ends the connection attempt
+         *   ('Connection closed/refused' and 'SSH authentication failure' do not: they can
+         *   be followed by the Telnet fallback attempt, so they are final only when the
+         *   prompt timeout expires).
+         * </pre>
+         *
+         * @return true for failure outcomes
+         */
+        public boolean isFailure() {
+            return this == ALL_CONNECTION_FAILED || this == SESSION_ALREADY_EXISTS;
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Class Name</b>: Result
+     * <b>Description</b>: Outcomes found in a Node Cli terminal snapshot.
+     * </pre>
+     */
+    public static final class Result {
+        private final Set<Outcome> outcomes;
+
+        private Result(final Set<Outcome> outcomes) {
+            this.outcomes = Collections.unmodifiableSet(outcomes);
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public Set<Outcome> getOutcomes() {
+            return outcomes;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public boolean has(final Outcome outcome) {
+            return outcomes.contains(outcome);
+        }
+
+        /**
+         * <pre>
+         * <b>Name</b>: isFailed            <i>[public]</i>
+         * <b>Description</b>: This method says if a failure message has been found.
+         * </pre>
+         *
+         * @return true if at least a failure outcome is present
+         */
+        public boolean isFailed() {
+            for (final Outcome outcome : outcomes) {
+                if (outcome.isFailure()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * <pre>
+         * <b>Name</b>: isCompleted            <i>[public]</i>
+         * <b>Description</b>: This method says if the connection attempt is ended
+         *   (prompt reached or failure).
+         * </pre>
+         *
+         * @return true if connection attempt is ended
+         */
+        public boolean isCompleted() {
+            return has(Outcome.PROMPT_REACHED) || isFailed();
+        }
+
+        @Override
+        public String toString() {
+            return outcomes.toString();
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.operators;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.ericsson.oss.services.nodecli.operators.utility.LatencyHistogram;
+import com.ericsson.oss.services.nodecli.operators.utility.StepMetrics;
+
+/**
+ * <pre>
+ * <b>Name</b>: CliSessionTimeline      <i>[public (Class)]</i>
+ * <b>Description</b>: This class contains the phases of a Node Cli session opened
+ *   from the browser, each with its monotonic timestamp ({@link System#nanoTime()}),
+ *   so that a slow login can be attributed to browser (launch, tab, terminal), ENM
+ *   (connection opening) or node (credentials and prompt).
+ *   Terminal phases are detected by polling the terminal: their resolution is the
+ *   'nodecli.prompt.poll.interval' property.
+ *   Time-to-prompt (from launch to prompt) of each Test Case is collected to check
+ *   its 95th percentile (see {@link #getTimeToPromptP95Micros(String)}) when the Test
+ *   Case is completed: values must be removed at the end of the Test Case (see
+ *   {@link #removeTimeToPrompt(String)}).
+ * </pre>
+ */
+public final class CliSessionTimeline {
+    private static final String METRICS_PREFIX = "Time to prompt";
+    private static final double P95 = 95.0;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final ConcurrentMap<String, LatencyHistogram> TIME_TO_PROMPT = new ConcurrentHashMap<>();
+
+    private final Map<Phase, Long> timestamps = new EnumMap<>(Phase.class);
+    private int connectionLine = -1;
+
+    /**
+     * <pre>
+     * <b>Name</b>: Phase      <i>[public enum]</i>
+     * <b>Description</b>: Phases of the Node Cli session (in order).
+     * </pre>
+     */
+    public enum Phase {
+        LAUNCH_CLICKED,
+        TAB_DETECTED,
+        TERMINAL_ATTACHED,
+        CONNECTION_OPENING,
+        CREDENTIALS_SENT,
+        PROMPT_REACHED
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: mark            <i>[public]</i>
+     * <b>Description</b>: This method sets the timestamp of the phase to current time
+     *   (only the first time the phase is reached).
+     * </pre>
+     *
+     * @param phase reached phase
+     * @return this timeline
+     */
+    public CliSessionTimeline mark(final Phase phase) {
+        return mark(phase, System.nanoTime());
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: mark            <i>[public]</i>
+     * <b>Description</b>: This method sets the timestamp of the phase (only the first
+     *   time the phase is reached).
+     * </pre>
+     *
+     * @param phase reached phase
+     * @param nanos monotonic timestamp ({@link System#nanoTime()})
+     * @return this timeline
+     */
+    public synchronized CliSessionTimeline mark(final Phase phase, final long nanos) {
+        if (!timestamps.containsKey(phase)) {
+            timestamps.put(phase, nanos);
+        }
+        return this;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: update            <i>[public]</i>
+     * <b>Description</b>: This method marks the terminal phases found in the Node Cli
+     *   lines read at the selected time: first connection line ('Opening SSH/Telnet
+     *   connection'), first line written after it (node answer to the credentials sent
+     *   by ENM) and prompt.
+     * </pre>
+     *
+     * @param lines Node Cli terminal lines
+     * @param outcome classification of the lines
+     * @param nanos monotonic timestamp of the read
+     */
+    public synchronized void update(final List<String> lines, final CliOutcomeClassifier.Result outcome, final long nanos) {
+        if (connectionLine < 0 && (outcome.has(CliOutcomeClassifier.Outcome.SSH_OPENED)
+                || outcome.has(CliOutcomeClassifier.Outcome.TELNET_OPENED))) {
+            for (int index = 0; index < lines.size() && connectionLine < 0; index++) {
+                if (lines.get(index).contains("Opening SSH connection") || lines.get(index).contains("Opening Telnet connection")) {
+                    connectionLine = index;
+                }
+            }
+            mark(Phase.CONNECTION_OPENING, nanos);
+        }
+        if (connectionLine >= 0 && lines.size() > connectionLine + 1) {
+            mark(Phase.CREDENTIALS_SENT, nanos);
+        }
+        if (outcome.has(CliOutcomeClassifier.Outcome.PROMPT_REACHED)) {
+            mark(Phase.CREDENTIALS_SENT, nanos);
+            mark(Phase.PROMPT_REACHED, nanos);
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: getNanos            <i>[public]</i>
+     * <b>Description</b>: This method returns the timestamp of the phase.
+     * </pre>
+     *
+     * @param phase selected phase
+     * @return monotonic timestamp (null if the phase was not reached)
+     */
+    public synchronized Long getNanos(final Phase phase) {
+        return timestamps.get(phase);
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: getPhaseNanos            <i>[public]</i>
+     * <b>Description</b>: This method returns the duration of the phase: time from the
+     *   previous reached phase.
+     * </pre>
+     *
+     * @param phase selected phase
+     * @return phase duration in nanoseconds (-1 if the phase was not reached)
+     */
+    public synchronized long getPhaseNanos(final Phase phase) {
+        final Long end = timestamps.get(phase);
+        if (end == null) {
+            return -1L;
+        }
+        for (int index = phase.ordinal() - 1; index >= 0; index--) {
+            final Long start = timestamps.get(Phase.values()[index]);
+            if (start != null) {
+                return end - start;
+            }
+        }
+        return 0L;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: getTimeToPromptNanos            <i>[public]</i>
+     * <b>Description</b>: This method returns the time from launch (or the first
+     *   reached phase) to the node prompt.
+     * </pre>
+     *
+     * @return time-to-prompt in nanoseconds (-1 if prompt was not reached)
+     */
+    public synchronized long getTimeToPromptNanos() {
+        final Long prompt = timestamps.get(Phase.PROMPT_REACHED);
+        if (prompt == null) {
+            return -1L;
+        }
+        return prompt - timestamps.values().iterator().next();
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: record            <i>[public]</i>
+     * <b>Description</b>: This method feeds the run metrics ({@link StepMetrics}) with
+     *   the duration of each reached phase and the time-to-prompt, and adds the
+     *   time-to-prompt to the Test Case values.
+     * </pre>
+     *
+     * @param testCaseId Test Case ID
+     * @param nodeType node type
+     * @param vUser vUser number
+     */
+    public synchronized void record(final String testCaseId, final String nodeType, final int vUser) {
+        final long timeToPrompt = getTimeToPromptNanos();
+        final String outcome = timeToPrompt < 0 ? StepMetrics.FAILED : StepMetrics.PASSED;
+        if (StepMetrics.isEnabled()) {
+            for (final Phase phase : timestamps.keySet()) {
+                StepMetrics.getInstance().record(METRICS_PREFIX + " - " + phase, nodeType, vUser, outcome, getPhaseNanos(phase));
+            }
+            if (timeToPrompt >= 0) {
+                StepMetrics.getInstance().record(METRICS_PREFIX, nodeType, vUser, outcome, timeToPrompt);
+            }
+        }
+        if (timeToPrompt >= 0) {
+            TIME_TO_PROMPT.computeIfAbsent(testCaseId, key -> new LatencyHistogram()).record(timeToPrompt);
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: getTimeToPromptCount            <i>[public]</i>
+     * <b>Description</b>: This method returns the number of time-to-prompt values
+     *   recorded for the Test Case.
+     * </pre>
+     *
+     * @param testCaseId Test Case ID
+     * @return number of sessions that reached the prompt
+     */
+    public static long getTimeToPromptCount(final String testCaseId) {
+        final LatencyHistogram histogram = TIME_TO_PROMPT.get(testCaseId);
+        return histogram == null ? 0L : histogram.getCount();
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: getTimeToPromptP95Micros            <i>[public]</i>
+     * <b>Description</b>: This method returns the 95th percentile of the time-to-prompt
+     *   values recorded for the Test Case.
+     * </pre>
+     *
+     * @param testCaseId Test Case ID
+     * @return time-to-prompt p95 in microseconds (0 if no value is recorded)
+     */
+    public static long getTimeToPromptP95Micros(final String testCaseId) {
+        final LatencyHistogram histogram = TIME_TO_PROMPT.get(testCaseId);
+        return histogram == null ? 0L : histogram.getPercentile(P95);
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: removeTimeToPrompt            <i>[public]</i>
+     * <b>Description</b>: This method removes the time-to-prompt values recorded for
+     *   the Test Case.
+     * </pre>
+     *
+     * @param testCaseId Test Case ID
+     */
+    public static void removeTimeToPrompt(final String testCaseId) {
+        TIME_TO_PROMPT.remove(testCaseId);
+    }
+
+    @Override
+    public synchronized String toString() {
+        final StringBuilder timeline = new StringBuilder();
+        for (final Map.Entry<Phase, Long> entry : timestamps.entrySet()) {
+            timeline.append(timeline.length() > 0 ? ", " : "").append(entry.getKey()).append(String.format(Locale.ROOT, " +%.1f ms",
+                    getPhaseNanos(entry.getKey()) / NANOS_PER_MILLI));
+        }
+        return String.format("CliSessionTimeline [%s]", timeline);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.operators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <pre>
+ * <b>Name</b>: CliSnapshot      <i>[public (Class)]</i>
+ * <b>Description</b>: This class contains the Node Cli terminal content read
+ *   at a given instant (not empty lines only).
+ * </pre>
+ */
+public final class CliSnapshot {
+    private final List<String> lines;
+    private final long readTimeMillis;
+    private final boolean fullBuffer;
+
+    /**
+     * <pre>
+     * <b>Name</b>: CliSnapshot            <i>[public]</i>
+     * <b>Description</b>: Constructor.
+     * </pre>
+     *
+     * @param lines terminal lines
+     * @param readTimeMillis instant of the read (epoch ms)
+     * @param fullBuffer true if lines come from the whole terminal buffer (scrollback included)
+     */
+    public CliSnapshot(final List<String> lines, final long readTimeMillis, final boolean fullBuffer) {
+        this.lines = Collections.unmodifiableList(new ArrayList<>(lines));
+        this.readTimeMillis = readTimeMillis;
+        this.fullBuffer = fullBuffer;
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public List<String> getLines() {
+        return lines;
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public long getReadTimeMillis() {
+        return readTimeMillis;
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public boolean isFullBuffer() {
+        return fullBuffer;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: getLastLine            <i>[public]</i>
+     * <b>Description</b>: This method returns the last not empty line of the terminal.
+     * </pre>
+     *
+     * @return last line ("" if terminal is empty)
+     */
+    public String getLastLine() {
+        return lines.isEmpty() ? "" : lines.get(lines.size() - 1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CliSnapshot [read at %d, %d lines, %s]", readTimeMillis, lines.size(), fullBuffer ? "full buffer" : "visible rows");
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.operators;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ericsson.cifwk.taf.annotations.Operator;
+import com.ericsson.cifwk.taf.data.DataHandler;
+import com.ericsson.cifwk.taf.tools.http.HttpResponse;
+import com.ericsson.cifwk.taf.tools.http.HttpTool;
+import com.ericsson.cifwk.taf.tools.http.HttpToolBuilder;
+import com.ericsson.oss.services.nodecli.operators.utility.CallerMethod;
+import com.ericsson.oss.testware.hostconfigurator.HostConfigurator;
+import com.google.common.base.Joiner;
+
+/**
+ * <pre>
+ * <b>Name</b>: HeadlessNodeCliVerifier      <i>[public (Class)]</i>
+ * <b>Description</b>: This class verifies the Node Cli authentication without a
+ *   browser: the ENM user is authenticated with REST login, then the Node Cli
+ *   session is opened on its WebSocket transport and the terminal stream is
+ *   checked (prompt and user) as done for the graphical Node Cli.
+ *   The WebSocket path ('nodecli.headless.ws.path' property, '%s' is the node name)
+ *   and the optional first message ('nodecli.headless.ws.open.message') must match
+ *   the Node Cli deployment; ENM certificate is accepted without verification only
+ *   with 'nodecli.headless.ws.trustAll' property.
+ * </pre>
+ */
+@Operator
+public class HeadlessNodeCliVerifier {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HeadlessNodeCliVerifier.class);
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(HeadlessNodeCliVerifier.class);
+    private static final String LOGIN_URI = "/login";
+    private static final String LOGOUT_URI = "/logout";
+    private static final String USERNAME_FIELD = "IDToken1";
+    private static final String PASSWORD_FIELD = "IDToken2";
+    private static final String NEWLINE = "\n";
+    private static final Pattern ANSI_ESCAPE = Pattern.compile("\u001B\\[[0-9;?]*[ -/]*[@-~]|\u001B\\][^\u0007\u001B]*(\u0007|\u001B\\\\)|\u001B[()][0-9A-Za-z]");
+    private static final Pattern LINE_SEPARATOR = Pattern.compile("\r\n|\r|\n");
+    private static final String WEBSOCKET_PATH_FORMAT = DataHandler.getConfiguration().getProperty("nodecli.headless.ws.path",
+            "/nodecli-websocket/?nodeName=%s", String.class);
+    private static final String WEBSOCKET_OPEN_MESSAGE = DataHandler.getConfiguration().getProperty("nodecli.headless.ws.open.message", "",
+            String.class);
+    private static final int NODECLI_LOGIN_RETRY_COUNT = DataHandler.getConfiguration().getProperty("nodecli.timeout.retry", 5, Integer.class);
+    private static final int NODECLI_PROMPT_TIMEOUT_SEC = DataHandler.getConfiguration().getProperty("nodecli.prompt.timeout",
+            NODECLI_LOGIN_RETRY_COUNT * 11, Integer.class);
+    private static final boolean WEBSOCKET_TRUST_ALL = DataHandler.getConfiguration().getProperty("nodecli.headless.ws.trustAll", false,
+            Boolean.class);
+    private static final int CONNECTION_TIMEOUT_MILLIS = 20000;
+    private static final ThreadLocal<Long> PROMPT_NANOS = ThreadLocal.withInitial(() -> 0L);
+
+    /**
+     * <pre>
+     * <b>Name</b>: getPromptNanos      <i>[public]</i>
+     * <b>Description</b>: This method returns the time ({@link System#nanoTime()}) when
+     *   the node prompt was reached by the last session of the current thread.
+     * </pre>
+     *
+     * @return prompt time (0 if prompt was not reached)
+     */
+    public static long getPromptNanos() {
+        return PROMPT_NANOS.get();
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: loginAndCheckNodeCli      <i>[public]</i>
+     * <b>Description</b>: This method logs to ENM with the selected user, opens the Node
+     *   Cli session for the node and checks the prompt (and the user: warning only, as for
+     *   graphical Node Cli). The session is closed with 'exit' command.
+     * </pre>
+     *
+     * @param nodeId Network element ID string
+     * @param nodeType Node Type String
+     * @param enmUserName ENM user name
+     * @param enmPassword ENM user password
+     * @param cliUserName Expected USER to see in CLI shell output (warn message if not present)
+     * @return boolean result for login to None Cli (expected Prompt).
+     */
+    public boolean loginAndCheckNodeCli(final String nodeId, final String nodeType, final String enmUserName, final String enmPassword,
+            final String cliUserName) {
+        final String nodePrompt = String.format(NodeCliUiOperator.getPromptNodeType(nodeType), nodeId);
+        final HttpTool httpTool = HttpToolBuilder.newBuilder(HostConfigurator.getApache()).useHttpsIfProvided(true)
+                .trustSslCertificates(true).followRedirect(false).build();
+        try {
+            final HttpResponse loginResponse = httpTool.request().body(USERNAME_FIELD, enmUserName).body(PASSWORD_FIELD, enmPassword)
+                    .post(LOGIN_URI);
+            final Map<String, String> cookies = httpTool.getCookies();
+            LOGGER.debug("{} - ENM login for '{}' --> {} (cookies: {})", METHOD_NAME, enmUserName, loginResponse.getResponseCode(),
+                    cookies.keySet());
+            if (cookies.isEmpty()) {
+                LOGGER.warn("{} - ENM login failed for user '{}' --> {}", METHOD_NAME, enmUserName, loginResponse.getResponseCode());
+                return false;
+            }
+            final URI webSocketUri = URI.create("wss://" + HostConfigurator.getApache().getIp() + String.format(WEBSOCKET_PATH_FORMAT, nodeId));
+            final Map<String, String> headers = new HashMap<>();
+            headers.put("Cookie", Joiner.on("; ").withKeyValueSeparator("=").join(cookies));
+            headers.put("Origin", "https://" + HostConfigurator.getApache().getIp());
+            final List<String> cliTextContent = readCliSession(webSocketUri, headers, nodeId, nodePrompt, WEBSOCKET_TRUST_ALL);
+            final String lastRow = cliTextContent.isEmpty() ? "" : cliTextContent.get(cliTextContent.size() - 1);
+            if (lastRow.indexOf(cliUserName) == -1) {
+                LOGGER.warn("{} - Check Node Cli for {}[{}] node and {} user:\n\t =====>>> No user in CLI output !\n\t"
+                        + "NB. Username is not available with NetSim !!", METHOD_NAME, nodeId, nodeType, cliUserName);
+            }
+            final boolean checkResult = lastRow.indexOf(nodePrompt) != -1;
+            LOGGER.debug("{} - Check headless Node Cli prompt for {}[{}] node:\n\tExpected Prompt --> {}\n\tReceived Prompt --> {}"
+                    + "\n\tResult --> {}", METHOD_NAME, nodeId, nodeType, nodePrompt, lastRow, checkResult);
+            return checkResult;
+        } finally {
+            try {
+                httpTool.request().get(LOGOUT_URI);
+            } finally {
+                httpTool.close();
+            }
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: readCliSession      <i>[package]</i>
+     * <b>Description</b>: This method opens the Node Cli WebSocket session and reads the
+     *   terminal stream (ANSI escape sequences removed) until the prompt, a connection
+     *   failure or the timeout; if the prompt is reached, the session is closed with
+     *   'exit' command.
+     * </pre>
+     *
+     * @param webSocketUri Node Cli WebSocket URI
+     * @param headers handshake headers (ENM session cookies)
+     * @param nodeId Network element ID string
+     * @param nodePrompt expected prompt
+     * @param trustAllCertificates true to accept any server certificate
+     * @return Node Cli terminal lines
+     */
+    static List<String> readCliSession(final URI webSocketUri, final Map<String, String> headers, final String nodeId, final String nodePrompt,
+            final boolean trustAllCertificates) {
+        PROMPT_NANOS.set(0L);
+        final List<String> lines = new ArrayList<>();
+        final StringBuilder currentLine = new StringBuilder();
+        final long deadline = System.currentTimeMillis() + SECONDS.toMillis(NODECLI_PROMPT_TIMEOUT_SEC);
+        try (NodeCliWebSocketClient client = NodeCliWebSocketClient.connect(webSocketUri, headers, CONNECTION_TIMEOUT_MILLIS,
+                trustAllCertificates)) {
+            if (!WEBSOCKET_OPEN_MESSAGE.isEmpty()) {
+                client.sendText(String.format(WEBSOCKET_OPEN_MESSAGE, nodeId));
+            }
+            CliOutcomeClassifier.Result outcome = CliOutcomeClassifier.classify(lines, nodePrompt);
+            while (!outcome.isCompleted() && !client.isClosed() && System.currentTimeMillis() < deadline) {
+                final String message = client.readMessage(deadline - System.currentTimeMillis());
+                if (message == null) {
+                    break;
+                }
+                appendTerminalText(ANSI_ESCAPE.matcher(message).replaceAll(""), lines, currentLine);
+                outcome = CliOutcomeClassifier.classify(getTerminalLines(lines, currentLine), nodePrompt);
+            }
+            LOGGER.debug("{} - Headless Node Cli outcome for {} --> {}", METHOD_NAME, nodeId, outcome);
+            if (outcome.has(CliOutcomeClassifier.Outcome.PROMPT_REACHED)) {
+                PROMPT_NANOS.set(System.nanoTime());
+                client.sendText(NodeCliUiOperator.Pattern.EXIT + "\r");
+            }
+        } catch (final IOException e) {
+            LOGGER.warn("{} - Headless Node Cli session error for {} ({}): {}", METHOD_NAME, nodeId, webSocketUri, e.getMessage());
+        }
+        final List<String> terminalLines = getTerminalLines(lines, currentLine);
+        LOGGER.trace("{} - Headless Node Cli output for {}:\n{}", METHOD_NAME, nodeId, String.join(NEWLINE, terminalLines));
+        return terminalLines;
+    }
+
+    private static void appendTerminalText(final String text, final List<String> lines, final StringBuilder currentLine) {
+        final String[] chunks = LINE_SEPARATOR.split(text, -1);
+        currentLine.append(chunks[0]);
+        for (int index = 1; index < chunks.length; index++) {
+            if (currentLine.toString().trim().length() > 0) {
+                lines.add(currentLine.toString());
+            }
+            currentLine.setLength(0);
+            currentLine.append(chunks[index]);
+        }
+    }
+
+    private static List<String> getTerminalLines(final List<String> lines, final StringBuilder currentLine) {
+        if (currentLine.toString().trim().isEmpty()) {
+            return lines;
+        }
+        final List<String> terminalLines = new ArrayList<>(lines);
+        terminalLines.add(currentLine.toString());
+        return terminalLines;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.operators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.ericsson.oss.services.nodecli.operators.utility.EnmCommandJournal;
+import com.ericsson.oss.services.scriptengine.spi.dtos.AbstractDto;
+import com.ericsson.oss.services.scriptengine.spi.dtos.LineDto;
+import com.ericsson.oss.services.scriptengine.spi.dtos.ResponseDto;
+import com.ericsson.oss.services.scriptengine.spi.dtos.RowCell;
+import com.ericsson.oss.services.scriptengine.spi.dtos.RowDto;
+import com.ericsson.oss.services.scriptengine.spi.dtos.summary.ResponseStatus;
+import com.ericsson.oss.services.scriptengine.spi.dtos.summary.SummaryDto;
+import com.ericsson.oss.testware.enm.cli.EnmCliResponse;
+import com.ericsson.oss.testware.nodesecurity.operators.RestImpl;
+
+/**
+ * <pre>
+ * <b>Name</b>: JournalRestImpl      <i>[public class]</i>
+ * <b>Description</b>: This class wraps the command executor when the ENM journal
+ *   is active (property 'enm.journal.mode'): in record mode the commands are sent
+ *   to ENM and recorded by {@link EnmCommandJournal}, in replay mode the recorded
+ *   responses are returned without ENM.
+ * </pre>
+ */
+public class JournalRestImpl extends RestImpl {
+    private static final int NOT_RECORDED_ERROR_CODE = 9998;
+    private static final String NOT_RECORDED = "Command not found in ENM journal";
+
+    private final RestImpl delegate;
+
+    JournalRestImpl(final RestImpl delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public EnmCliResponse sendCommand(final String command) {
+        return execute(command, () -> delegate.sendCommand(command));
+    }
+
+    @Override
+    public EnmCliResponse sendCommandWithFile(final String command, final String fileName, final byte[] fileContents) {
+        return execute(command, () -> delegate.sendCommandWithFile(command, fileName, fileContents));
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: execute            <i>[public]</i>
+     * <b>Description</b>: This method executes the command according to journal mode:
+     *   ENM call only (off), ENM call recorded (record) or recorded response (replay).
+     * </pre>
+     *
+     * @param command ENM CLI command
+     * @param enmCall call of ENM command
+     * @return command response
+     */
+    public static EnmCliResponse execute(final String command, final Supplier<EnmCliResponse> enmCall) {
+        switch (EnmCommandJournal.getMode()) {
+            case RECORD:
+                final long start = System.nanoTime();
+                final EnmCliResponse response = enmCall.get();
+                EnmCommandJournal.getInstance().record(toEntry(command, System.nanoTime() - start, response));
+                return response;
+            case REPLAY:
+                final EnmCommandJournal.Entry entry = EnmCommandJournal.getInstance().replay(command);
+                return toResponse(entry == null ? new EnmCommandJournal.Entry(command, 0L)
+                        .addLine(String.format("Error %d : %s", NOT_RECORDED_ERROR_CODE, NOT_RECORDED))
+                        .setSummary(new EnmCommandJournal.Summary(NOT_RECORDED_ERROR_CODE, null, NOT_RECORDED)) : entry);
+            default:
+                return enmCall.get();
+        }
+    }
+
+    private static EnmCommandJournal.Entry toEntry(final String command, final long latencyNanos, final EnmCliResponse response) {
+        final EnmCommandJournal.Entry entry = new EnmCommandJournal.Entry(command, latencyNanos);
+        if (response == null) {
+            return entry;
+        }
+        for (final AbstractDto dto : response.getAllDtos()) {
+            if (dto instanceof RowDto) {
+                final List<String> cells = new ArrayList<>();
+                for (final RowCell cell : ((RowDto) dto).getElements()) {
+                    cells.add(cell.getValue());
+                }
+                entry.addRow(cells);
+            } else if (dto instanceof LineDto) {
+                entry.addLine(((LineDto) dto).getValue());
+            }
+        }
+        final SummaryDto summary = response.getSummaryDto();
+        if (summary != null) {
+            entry.setSummary(new EnmCommandJournal.Summary(summary.getErrorCode(), summary.getStatusMessage(), summary.getErrorMessage()));
+        }
+        return entry;
+    }
+
+    private static EnmCliResponse toResponse(final EnmCommandJournal.Entry entry) {
+        final List<AbstractDto> dtos = new ArrayList<>(entry.getElements().size());
+        for (final EnmCommandJournal.Element element : entry.getElements()) {
+            if (element.isRow()) {
+                final List<RowCell> cells = new ArrayList<>(element.getValues().size());
+                for (final String value : element.getValues()) {
+                    cells.add(new RowCell(value == null ? "" : value));
+                }
+                dtos.add(new RowDto(cells));
+            } else {
+                dtos.add(new LineDto(element.getValues().get(0)));
+            }
+        }
+        final EnmCommandJournal.Summary summary = entry.getSummary();
+        if (summary != null) {
+            dtos.add(toSummaryDto(summary.getErrorCode(), summary.getStatusMessage(), summary.getErrorMessage()));
+        }
+        return new EnmCliResponse(new ResponseDto(dtos));
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: toSummaryDto            <i>[public]</i>
+     * <b>Description</b>: This method creates the summary of an ENM CLI response:
+     *   error code 0 for a successful command.
+     * </pre>
+     *
+     * @param errorCode error code (0 if successful)
+     * @param statusMessage status message of a successful command
+     * @param errorMessage error message of a failed command
+     * @return response summary
+     */
+    public static SummaryDto toSummaryDto(final int errorCode, final String statusMessage, final String errorMessage) {
+        if (errorCode == 0) {
+            return new SummaryDto(ResponseStatus.SUCCESS, statusMessage);
+        }
+        return new SummaryDto(ResponseStatus.FAIL, errorCode, errorMessage, null);
+    }
+}
@@ -0,0 +1,478 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.operators;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ericsson.cifwk.taf.data.DataHandler;
+import com.ericsson.oss.services.nodecli.operators.utility.CallerMethod;
+import com.ericsson.oss.services.nodecli.operators.utility.LatencyHistogram;
+import com.ericsson.oss.services.nodecli.operators.utility.LoadProfile;
+import com.ericsson.oss.services.nodecli.operators.utility.LogTimestampDecoder;
+import com.ericsson.oss.services.nodecli.operators.utility.NodeCliLogIndex;
+import com.ericsson.oss.services.nodecli.operators.utility.NodeCliLogMerger;
+import com.ericsson.oss.services.nodecli.operators.utility.NodeCliLogTail;
+
+/**
+ * <pre>
+ * <b>Name</b>: NodeCliLoadGenerator      <i>[public (Class)]</i>
+ * <b>Description</b>: This class executes an open loop load of Node Cli sessions
+ *   (see {@link HeadlessNodeCliVerifier}): sessions are started at the arrival rate
+ *   of the load profile (see {@link LoadProfile}), independently of the completion
+ *   of the previous ones, using in turn the nodes/users registered for the Test Case.
+ *   For each time window the report contains offered sessions, errors (failed
+ *   sessions and sessions not started because 'maxInFlight' is reached),
+ *   time-to-prompt (from the planned start) and delay of the 'Session opened'
+ *   record in NodeCli LOG (from the prompt, at LOG polling resolution): the records
+ *   of each node/user written after the start of the load are assigned in order
+ *   to its sessions.
+ *     nodecli.load.enabled = true to replace the Node Cli check with the load
+ *     nodecli.load.profile = load profile (default constant:1)
+ *     nodecli.load.arrival = uniform | poisson
+ *     nodecli.load.duration = load duration (seconds)
+ *     nodecli.load.maxInFlight = maximum number of concurrent sessions
+ *     nodecli.load.window = report time window (seconds)
+ *     nodecli.load.log.enabled, nodecli.load.log.poll, nodecli.load.log.timeout = LOG check
+ * </pre>
+ */
+public class NodeCliLoadGenerator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NodeCliLoadGenerator.class);
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(NodeCliLoadGenerator.class);
+    private static final String PROPERTY_PREFIX = "nodecli.load.";
+    private static final String LOG_SUCCESS_PATTERN = DataHandler.getConfiguration().getProperty("log.nodecli.accessPattern.success",
+            "Session opened successfully", String.class);
+    private static final String LOG_INDEX_PREFIX = "load:";
+    private static final String ALL = "*";
+    private static final String CSV_HEADER = "windowStartSec,offered,completed,failed,dropped,errorRate,ttpP50Ms,ttpP95Ms,ttpP99Ms,ttpMaxMs,"
+            + "logFound,logMissing,logP50Ms,logP95Ms,logP99Ms,logMaxMs";
+    private static final double NANOS_PER_SECOND = 1.0e9;
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final double P50 = 50.0;
+    private static final double P95 = 95.0;
+    private static final double P99 = 99.0;
+    private static final long SESSION_END_TIMEOUT_SEC = 300;
+    private static final Map<String, List<Target>> TARGETS = new ConcurrentHashMap<>();
+
+    private final String testCaseId;
+    private final HeadlessNodeCliVerifier verifier;
+    private final LoadProfile profile = LoadProfile.parse(getProperty("profile", "constant:1"), getProperty("arrival", "poisson"));
+    private final double durationSeconds = DataHandler.getConfiguration().getProperty(PROPERTY_PREFIX + "duration", 300, Integer.class);
+    private final int maxInFlight = DataHandler.getConfiguration().getProperty(PROPERTY_PREFIX + "maxInFlight", 100, Integer.class);
+    private final int windowSeconds = DataHandler.getConfiguration().getProperty(PROPERTY_PREFIX + "window", 10, Integer.class);
+    private final boolean logEnabled = DataHandler.getConfiguration().getProperty(PROPERTY_PREFIX + "log.enabled", true, Boolean.class);
+    private final int logPollSeconds = DataHandler.getConfiguration().getProperty(PROPERTY_PREFIX + "log.poll", 10, Integer.class);
+    private final int logTimeoutSeconds = DataHandler.getConfiguration().getProperty(PROPERTY_PREFIX + "log.timeout", 120, Integer.class);
+    private final Random random = new Random(DataHandler.getConfiguration().getProperty(PROPERTY_PREFIX + "seed", 1L, Long.class));
+    private final Map<Integer, Window> windows = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<PendingSession> pendingSessions = new ConcurrentLinkedQueue<>();
+    private final Map<String, Integer> matchedLogRecords = new ConcurrentHashMap<>();
+    private long logStartTimestamp = -1L;
+    private boolean logStarted;
+
+    /**
+     * <pre>
+     * <b>Name</b>: NodeCliLoadGenerator      <i>[public]</i>
+     * <b>Description</b>: Constructor.
+     * </pre>
+     *
+     * @param testCaseId Test Case of the registered nodes/users
+     * @param verifier Node Cli session executor
+     */
+    public NodeCliLoadGenerator(final String testCaseId, final HeadlessNodeCliVerifier verifier) {
+        this.testCaseId = testCaseId;
+        this.verifier = verifier;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: isEnabled            <i>[public]</i>
+     * <b>Description</b>: This method checks if the Node Cli check is replaced by the
+     *   open loop load (property 'nodecli.load.enabled').
+     * </pre>
+     *
+     * @return true if enabled
+     */
+    public static boolean isEnabled() {
+        return DataHandler.getConfiguration().getProperty(PROPERTY_PREFIX + "enabled", false, Boolean.class);
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: register            <i>[public]</i>
+     * <b>Description</b>: This method adds a node/user to the load of the Test Case.
+     * </pre>
+     *
+     * @param testCaseId Test Case ID
+     * @param target node and user
+     */
+    public static void register(final String testCaseId, final Target target) {
+        TARGETS.computeIfAbsent(testCaseId, key -> new CopyOnWriteArrayList<>()).add(target);
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: run            <i>[public]</i>
+     * <b>Description</b>: This method executes the load, waits for the running sessions
+     *   and the LOG check, then writes the report (property 'nodecli.load.report.dir').
+     *   The sessions still running after the end timeout are interrupted.
+     * </pre>
+     *
+     * @return totals of the load
+     * @throws IllegalStateException if no node/user is registered for the Test Case
+     */
+    public Result run() {
+        final List<Target> targets = TARGETS.getOrDefault(testCaseId, Collections.emptyList());
+        final Window total = new Window();
+        if (targets.isEmpty()) {
+            throw new IllegalStateException(String.format("No node registered for load of '%s'", testCaseId));
+        }
+        LOGGER.info("{} - Open loop load of '{}': {} nodes/users, profile {}, {} seconds, max {} sessions in flight", METHOD_NAME,
+                testCaseId, targets.size(), profile, durationSeconds, maxInFlight);
+        final ThreadPoolExecutor sessions = new ThreadPoolExecutor(maxInFlight, maxInFlight, 1, TimeUnit.MINUTES, new SynchronousQueue<>());
+        final ScheduledExecutorService logPoller = Executors.newSingleThreadScheduledExecutor();
+        if (logEnabled) {
+            checkLog(false);
+            logPoller.scheduleWithFixedDelay(() -> checkLog(false), logPollSeconds, logPollSeconds, TimeUnit.SECONDS);
+        }
+        final long start = System.nanoTime();
+        double arrival = 0;
+        int sequence = 0;
+        while (true) {
+            arrival = profile.nextArrival(arrival, durationSeconds, random);
+            if (arrival >= durationSeconds) {
+                break;
+            }
+            final long plannedStart = start + (long) (arrival * NANOS_PER_SECOND);
+            final long delay = plannedStart - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            final Target target = targets.get(sequence++ % targets.size());
+            final Window window = windows.computeIfAbsent((int) (arrival / windowSeconds), index -> new Window());
+            window.offered.incrementAndGet();
+            try {
+                sessions.execute(() -> openSession(target, plannedStart, window));
+            } catch (final RejectedExecutionException e) {
+                window.dropped.incrementAndGet();
+            }
+        }
+        sessions.shutdown();
+        try {
+            if (!sessions.awaitTermination(SESSION_END_TIMEOUT_SEC, TimeUnit.SECONDS)) {
+                LOGGER.warn("{} - Node Cli sessions still running after {} seconds: interrupted", METHOD_NAME, SESSION_END_TIMEOUT_SEC);
+                sessions.shutdownNow();
+            }
+            final long logDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(logTimeoutSeconds);
+            while (logEnabled && !pendingSessions.isEmpty() && System.nanoTime() < logDeadline) {
+                TimeUnit.SECONDS.sleep(logPollSeconds);
+            }
+        } catch (final InterruptedException e) {
+            sessions.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        logPoller.shutdownNow();
+        if (logEnabled) {
+            checkLog(true);
+        }
+        NodeCliLogIndex.remove(LOG_INDEX_PREFIX + testCaseId);
+        TARGETS.remove(testCaseId);
+        writeReports(total);
+        LOGGER.info("{} - Open loop load of '{}' completed: offered {}, completed {}, failed {}, dropped {}, LOG missing {}", METHOD_NAME,
+                testCaseId, total.offered.get(), total.completed.get(), total.failed.get(), total.dropped.get(), total.logMissing.get());
+        return new Result(total);
+    }
+
+    private void openSession(final Target target, final long plannedStart, final Window window) {
+        boolean result;
+        try {
+            result = verifier.loginAndCheckNodeCli(target.getNodeId(), target.getNodeType(), target.getEnmUserName(), target.getEnmPassword(),
+                    target.getCliUserName());
+        } catch (final RuntimeException e) {
+            LOGGER.warn("{} - Node Cli session error for {} ({}): {}", METHOD_NAME, target.getNodeId(), target.getEnmUserName(),
+                    e.getMessage());
+            result = false;
+        }
+        final long promptNanos = HeadlessNodeCliVerifier.getPromptNanos();
+        if (!result || promptNanos == 0) {
+            window.failed.incrementAndGet();
+            return;
+        }
+        window.completed.incrementAndGet();
+        window.timeToPrompt.record(promptNanos - plannedStart);
+        if (logEnabled) {
+            pendingSessions.add(new PendingSession(target, promptNanos, window));
+        }
+    }
+
+    private synchronized void checkLog(final boolean last) {
+        final List<String> logFromHosts;
+        try {
+            logFromHosts = NodeCliLogTail.getInstance().read();
+        } catch (final RuntimeException e) {
+            LOGGER.warn("{} - Cannot read NodeCli LOG: {}", METHOD_NAME, e.getMessage());
+            return;
+        }
+        final long now = System.nanoTime();
+        final String remoteDateTime = logFromHosts.get(0);
+        final LogTimestampDecoder decoder = new LogTimestampDecoder();
+        final long logTimestamp = decoder.find(remoteDateTime, 0, remoteDateTime.length()) ? decoder.getValue() : -1L;
+        if (!logStarted) {
+            // LOG timestamps have seconds resolution: records of the starting second are included
+            logStartTimestamp = logTimestamp < 0 ? logTimestamp : logTimestamp - 1;
+            logStarted = true;
+        }
+        final NodeCliLogIndex logIndex = NodeCliLogIndex.append(LOG_INDEX_PREFIX + testCaseId, logTimestamp,
+                NodeCliLogMerger.merged(logFromHosts.subList(1, logFromHosts.size())), LOG_SUCCESS_PATTERN);
+        final long timeoutNanos = TimeUnit.SECONDS.toNanos(logTimeoutSeconds);
+        final Iterator<PendingSession> iterator = pendingSessions.iterator();
+        while (iterator.hasNext()) {
+            final PendingSession session = iterator.next();
+            final String key = session.target.getIpAddress() + "|" + session.target.getCliUserName();
+            final int matched = matchedLogRecords.getOrDefault(key, 0);
+            if (logIndex.countAfter(session.target.getIpAddress(), session.target.getCliUserName(), logStartTimestamp) > matched) {
+                matchedLogRecords.put(key, matched + 1);
+                session.window.logDelay.record(now - session.promptNanos);
+                iterator.remove();
+            } else if (last || now - session.promptNanos > timeoutNanos) {
+                session.window.logMissing.incrementAndGet();
+                iterator.remove();
+            }
+        }
+    }
+
+    private void writeReports(final Window total) {
+        final Path directory = Paths.get(getProperty("report.dir", "target/load-metrics"));
+        final String reportName = "load-" + testCaseId.trim().replaceAll("[^A-Za-z0-9_.-]+", "_");
+        final StringBuilder json = new StringBuilder("[\n");
+        final StringBuilder csv = new StringBuilder(CSV_HEADER).append('\n');
+        final Map<Integer, Window> sortedWindows = new TreeMap<>(windows);
+        for (final Map.Entry<Integer, Window> window : sortedWindows.entrySet()) {
+            total.add(window.getValue());
+        }
+        sortedWindows.put(Integer.MAX_VALUE, total);
+        for (final Map.Entry<Integer, Window> window : sortedWindows.entrySet()) {
+            final String windowStart = window.getKey() == Integer.MAX_VALUE ? ALL : String.valueOf(window.getKey() * windowSeconds);
+            final String[] values = window.getValue().getValues();
+            json.append(json.length() > 2 ? ",\n" : "").append(String.format("  {\"windowStartSec\": \"%s\", \"offered\": %s, \"completed\": %s, "
+                    + "\"failed\": %s, \"dropped\": %s, \"errorRate\": %s, \"ttpP50Ms\": %s, \"ttpP95Ms\": %s, \"ttpP99Ms\": %s, "
+                    + "\"ttpMaxMs\": %s, \"logFound\": %s, \"logMissing\": %s, \"logP50Ms\": %s, \"logP95Ms\": %s, \"logP99Ms\": %s, "
+                    + "\"logMaxMs\": %s}", windowStart, values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7],
+                    values[8], values[9], values[10], values[11], values[12], values[13], values[14]));
+            csv.append(windowStart).append(',').append(String.join(",", values)).append('\n');
+        }
+        json.append("\n]\n");
+        try {
+            Files.createDirectories(directory);
+            Files.write(directory.resolve(reportName + ".json"), json.toString().getBytes(StandardCharsets.UTF_8));
+            Files.write(directory.resolve(reportName + ".csv"), csv.toString().getBytes(StandardCharsets.UTF_8));
+            LOGGER.info("{} - Load report ({} windows) written in {}", METHOD_NAME, windows.size(), directory.resolve(reportName));
+        } catch (final IOException e) {
+            LOGGER.warn("{} - Unable to write load report in {}: {}", METHOD_NAME, directory, e.getMessage());
+        }
+    }
+
+    private static String getProperty(final String name, final String defaultValue) {
+        return DataHandler.getConfiguration().getProperty(PROPERTY_PREFIX + name, defaultValue, String.class);
+    }
+
+    private static String millis(final double micros) {
+        return String.format(Locale.ROOT, "%.3f", micros / MICROS_PER_MILLI);
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: Target      <i>[public (Class)]</i>
+     * <b>Description</b>: Node and user of the Node Cli sessions.
+     * </pre>
+     */
+    public static final class Target {
+        private final String nodeId;
+        private final String nodeType;
+        private final String ipAddress;
+        private final String enmUserName;
+        private final String enmPassword;
+        private final String cliUserName;
+
+        /**
+         * <pre>
+         * <b>Name</b>: Target      <i>[public]</i>
+         * <b>Description</b>: Constructor.
+         * </pre>
+         *
+         * @param nodeId Network element ID
+         * @param nodeType Node Type
+         * @param ipAddress node IP address (NodeCli LOG check)
+         * @param enmUserName ENM user name
+         * @param enmPassword ENM user password
+         * @param cliUserName expected user in Node Cli
+         */
+        public Target(final String nodeId, final String nodeType, final String ipAddress, final String enmUserName, final String enmPassword,
+                final String cliUserName) {
+            this.nodeId = nodeId;
+            this.nodeType = nodeType;
+            this.ipAddress = ipAddress;
+            this.enmUserName = enmUserName;
+            this.enmPassword = enmPassword;
+            this.cliUserName = cliUserName;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public String getNodeId() {
+            return nodeId;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public String getNodeType() {
+            return nodeType;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public String getIpAddress() {
+            return ipAddress;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public String getEnmUserName() {
+            return enmUserName;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public String getEnmPassword() {
+            return enmPassword;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public String getCliUserName() {
+            return cliUserName;
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: Result      <i>[public (Class)]</i>
+     * <b>Description</b>: Totals of the load.
+     * </pre>
+     */
+    public static final class Result {
+        private final Window total;
+
+        private Result(final Window total) {
+            this.total = total;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public long getOffered() {
+            return total.offered.get();
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public long getCompleted() {
+            return total.completed.get();
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public long getLogMissing() {
+            return total.logMissing.get();
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public double getErrorRate() {
+            return total.getErrorRate();
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public long getTimeToPromptP95Micros() {
+            return total.timeToPrompt.getPercentile(P95);
+        }
+    }
+
+    /**
+     * Counters and latencies of a time window.
+     */
+    private static final class Window {
+        private final AtomicLong offered = new AtomicLong();
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicLong logMissing = new AtomicLong();
+        private final LatencyHistogram timeToPrompt = new LatencyHistogram();
+        private final LatencyHistogram logDelay = new LatencyHistogram();
+
+        private void add(final Window other) {
+            offered.addAndGet(other.offered.get());
+            completed.addAndGet(other.completed.get());
+            failed.addAndGet(other.failed.get());
+            dropped.addAndGet(other.dropped.get());
+            logMissing.addAndGet(other.logMissing.get());
+            timeToPrompt.add(other.timeToPrompt);
+            logDelay.add(other.logDelay);
+        }
+
+        private double getErrorRate() {
+            return offered.get() == 0 ? 0.0 : (double) (failed.get() + dropped.get()) / offered.get();
+        }
+
+        private String[] getValues() {
+            return new String[] {String.valueOf(offered.get()), String.valueOf(completed.get()), String.valueOf(failed.get()),
+                String.valueOf(dropped.get()), String.format(Locale.ROOT, "%.4f", getErrorRate()), millis(timeToPrompt.getPercentile(P50)),
+                millis(timeToPrompt.getPercentile(P95)), millis(timeToPrompt.getPercentile(P99)), millis(timeToPrompt.getMaxMicros()),
+                String.valueOf(logDelay.getCount()), String.valueOf(logMissing.get()), millis(logDelay.getPercentile(P50)),
+                millis(logDelay.getPercentile(P95)), millis(logDelay.getPercentile(P99)), millis(logDelay.getMaxMicros())};
+        }
+    }
+
+    /**
+     * Session with prompt reached, waiting for the record in NodeCli LOG.
+     */
+    private static final class PendingSession {
+        private final Target target;
+        private final long promptNanos;
+        private final Window window;
+
+        private PendingSession(final Target target, final long promptNanos, final Window window) {
+            this.target = target;
+            this.promptNanos = promptNanos;
+            this.window = window;
+        }
+    }
+}
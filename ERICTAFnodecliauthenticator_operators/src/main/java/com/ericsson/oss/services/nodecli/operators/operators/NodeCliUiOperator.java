@@ -23,7 +23,6 @@ import static com.ericsson.cifwk.taf.ui.UiToolkit.pause;
 import static com.ericsson.oss.services.nodecli.operators.utility.BasicUtility.takeLocalScreenshot;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 import org.openqa.selenium.Keys;
@@ -34,6 +33,8 @@ import com.ericsson.cifwk.taf.annotations.Operator;
 import com.ericsson.cifwk.taf.data.DataHandler;
 import com.ericsson.cifwk.taf.ui.BrowserTab;
 import com.ericsson.cifwk.taf.ui.core.UiComponent;
+import com.ericsson.oss.services.nodecli.operators.utility.CallerMethod;
+import com.ericsson.oss.services.nodecli.operators.utility.ParallelCliBarrier;
 import com.ericsson.oss.services.nodecli.operators.views.ActionBarViewModel;
 import com.ericsson.oss.testware.enmbase.data.NodeType;
 
@@ -47,16 +48,40 @@ import com.ericsson.oss.testware.enmbase.data.NodeType;
 @Operator
 public class NodeCliUiOperator {
     private static final Logger LOGGER = LoggerFactory.getLogger(NodeCliUiOperator.class);
-    private static final int BROWSER_TIMEOUT_SEC = 10;
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(NodeCliUiOperator.class);
+    private static final int BROWSER_TIMEOUT_SEC = DataHandler.getConfiguration().getProperty("nodecli.parallel.timeout", 10, Integer.class);
+    private static final String DEFAULT_BARRIER_KEY = "nodeCliParallel";
+    private static final String READY_BARRIER_SUFFIX = "|ready";
+    private static final String DONE_BARRIER_SUFFIX = "|done";
     private static final String NEWLINE = "\n";
-    private static int numberOfParallelCLIs;
     private static final int NODECLI_LOGIN_RETRY_COUNT = DataHandler.getConfiguration().getProperty("nodecli.timeout.retry", 5, Integer.class);
-
-    private int actCliNumber;
+    private static final int NODECLI_PROMPT_TIMEOUT_SEC = DataHandler.getConfiguration().getProperty("nodecli.prompt.timeout",
+            NODECLI_LOGIN_RETRY_COUNT * 11, Integer.class);
+    private static final int NODECLI_PROMPT_POLL_MILLIS = DataHandler.getConfiguration().getProperty("nodecli.prompt.poll.interval", 500,
+            Integer.class);
+    private static final String XTERM_FULL_BUFFER = "buffer";
+    // Returns the first line with the source ('buffer' or 'rows') followed by terminal lines.
+    private static final String XTERM_BUFFER_SCRIPT = "var shell = document.querySelector('.elTerminal-terminal');"
+            + "var term = window.term || (shell && (shell.terminal || shell.xterm || shell._xterm));"
+            + "var lines = [];"
+            + "var buffer = term && term.buffer ? (term.buffer.active || term.buffer) : null;"
+            + "if (buffer && typeof buffer.getLine === 'function') {"
+            + "  for (var i = 0; i < buffer.length; i++) {"
+            + "    var line = buffer.getLine(i); lines.push(line ? line.translateToString(true) : '');"
+            + "  }"
+            + "  return 'buffer\\n' + lines.join('\\n');"
+            + "}"
+            + "var rows = document.querySelectorAll('.xterm-rows > div');"
+            + "for (var j = 0; j < rows.length; j++) { lines.push(rows[j].textContent); }"
+            + "return 'rows\\n' + lines.join('\\n');";
+
+    private String cliBarrierKey;
+    private int cliBarrierParties;
 
     private UiComponent shellUIcomp;
     private UiComponent textArea;
     private ActionBarViewModel nodeViewModel;
+    private BrowserTab browserTab;
 
     /**
      * <pre>
@@ -75,6 +100,7 @@ public class NodeCliUiOperator {
             this.shellUIcomp = nodeViewModel.getShell();
             this.textArea = nodeViewModel.getTextArea();
         }
+        this.browserTab = currentBrowserTab;
         takeLocalScreenshot(currentBrowserTab, "Get Cli shell for Node");
         return this.shellUIcomp;
     }
@@ -93,19 +119,18 @@ public class NodeCliUiOperator {
      * @return boolean result for login to None Cli (expected Prompt).
      */
     public boolean loginToCliShell(final String nodeId, final String nodeType, final BrowserTab currentBrowserTab) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
         currentBrowserTab.waitUntilComponentIsDisplayed(getCliShell(currentBrowserTab), SECONDS.toMillis(20));
         takeLocalScreenshot(currentBrowserTab, String.format("Login to Cli Shell for %s(%s) node", nodeId, nodeType));
 
         final String nodePrompt = String.format(getPromptNodeType(nodeType), nodeId);
-        final List<String> cliTextContent = getCliLines();
-        final String lastRow = cliTextContent.get(cliTextContent.size() - 1).replace(NEWLINE, "");
+        final List<String> cliTextContent = waitForCliOutput(nodePrompt);
+        final String lastRow = cliTextContent.isEmpty() ? "" : cliTextContent.get(cliTextContent.size() - 1).replace(NEWLINE, "");
         final boolean contains = lastRow.indexOf(nodePrompt) != -1;
         takeLocalScreenshot(currentBrowserTab, String.format("Check if NodeCli promt is '%s'", nodePrompt));
 
         LOGGER.debug("{} - Check Node Cli prompt for (1) {}[{}] node:\n\tBrowser TAB title --> {}\n\t"
                 + "Expected Prompt --> {}\n\tReceived Prompt --> {}\n\tResult --> {}",
-                methodName, nodeId, nodeType, currentBrowserTab.getTitle(), nodePrompt, lastRow, contains);
+                METHOD_NAME, nodeId, nodeType, currentBrowserTab.getTitle(), nodePrompt, lastRow, contains);
         return contains;
     }
 
@@ -130,23 +155,38 @@ public class NodeCliUiOperator {
      * @return - boolean result for login to None Cli (expected Prompt).
      */
     public boolean loginAndCheckNodeCliShell(final String nodeId, final String nodeType, final String userName, final BrowserTab currentBrowserTab) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
+        return loginAndCheckNodeCliShell(nodeId, nodeType, userName, currentBrowserTab, new CliSessionTimeline());
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: loginAndCheckNodeCliShell      <i>[public]</i>
+     * <b>Description</b>: This method checks the Node Cli shell as
+     * {@link #loginAndCheckNodeCliShell(String, String, String, BrowserTab)}, marking
+     * in the session timeline the phases reached in the terminal (terminal attached,
+     * connection opening, credentials sent and prompt reached).
+     * </pre>
+     *
+     * @param nodeId Network element ID string
+     * @param nodeType Node Type String
+     * @param userName Expected USER to see in CLI shell output (warn message if not present)
+     * @param currentBrowserTab Current Browser Tab selected.
+     * @param timeline session timeline (launch and tab phases already marked by the caller)
+     * @return - boolean result for login to None Cli (expected Prompt).
+     */
+    public boolean loginAndCheckNodeCliShell(final String nodeId, final String nodeType, final String userName, final BrowserTab currentBrowserTab,
+            final CliSessionTimeline timeline) {
         boolean checkResult = false;
-        int retryCount = NODECLI_LOGIN_RETRY_COUNT;
         LOGGER.debug("{} - Input parameters:\n\tNode Type -> '{}'\n\tNetwork Element ID --> '{}'\n\tUser Name --> '{}'"
                 + "\n\tBrowser TAB title --> {} \n\t[{}]",
-                methodName, nodeType, nodeId, userName, currentBrowserTab.getTitle(), currentBrowserTab.getCurrentUrl());
+                METHOD_NAME, nodeType, nodeId, userName, currentBrowserTab.getTitle(), currentBrowserTab.getCurrentUrl());
         takeLocalScreenshot(currentBrowserTab, String.format("Get NodeCli shell for '%s'[%s] node", nodeId, nodeType));
         currentBrowserTab.waitUntilComponentIsDisplayed(getCliShell(currentBrowserTab), SECONDS.toMillis(20));
+        timeline.mark(CliSessionTimeline.Phase.TERMINAL_ATTACHED);
         final String nodePrompt = String.format(getPromptNodeType(nodeType), nodeId);
 
-        List<String> cliTextContent = new ArrayList<>(0);
-        do {
-            cliTextContent = getCliLines();
-            retryCount--;
-            pause(SECONDS.toMillis(5));
-        }
-        while (cliTextContent.size() == 0 && retryCount > 0);
+        final List<String> cliTextContent = waitForCliOutput(nodePrompt, timeline);
+        LOGGER.debug("{} - Node Cli session for {}[{}] node --> {}", METHOD_NAME, nodeId, nodeType, timeline);
         takeLocalScreenshot(currentBrowserTab, String.format("Check NodeCli Text size -->  '%s'", cliTextContent.size()));
 
         // Check if there is some lines in Node Cli Output
@@ -155,23 +195,23 @@ public class NodeCliUiOperator {
             final boolean checkUserResult = lastRow.indexOf(userName) != -1;
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("{} - Check Node Cli for (2) {}[{}] node:\n\tBrowser TAB title --> {}\n\t"
-                                + "Expected User --> '{}'\n\tReceived lines --> {}\n\tResult --> {}", methodName, nodeId, nodeType,
+                                + "Expected User --> '{}'\n\tReceived lines --> {}\n\tResult --> {}", METHOD_NAME, nodeId, nodeType,
                         currentBrowserTab.getTitle(), userName, String.join("[CR]", cliTextContent), checkUserResult);
             }
             if (!checkUserResult) {
                 LOGGER.warn("{} - Check Node Cli for {}[{}] node and {} user:\n\t =====>>> No user in CLI output !\n\t"
-                        + "NB. Username is not available with NetSim !!", methodName, nodeId, nodeType, userName);
+                        + "NB. Username is not available with NetSim !!", METHOD_NAME, nodeId, nodeType, userName);
             }
 
             // Check for Prompt
             checkResult = lastRow.indexOf(nodePrompt) != -1;
             LOGGER.debug("{} - Check Node Cli prompt for (3) {}[{}] node:\n\tBrowser TAB title --> {}\n\t"
-                            + "Expected Prompt --> {}\n\tReceived Prompt --> {}\n\tResult --> {}", methodName, nodeId, nodeType,
+                            + "Expected Prompt --> {}\n\tReceived Prompt --> {}\n\tResult --> {}", METHOD_NAME, nodeId, nodeType,
                     currentBrowserTab.getTitle(),
                     nodePrompt, lastRow, checkResult);
         } else {
             LOGGER.debug("{} - Check Node Cli prompt for (4) {}[{}] node:\n\tBrowser TAB title --> {}\n\t"
-                            + "Node Cli Output line count --> {}\n\tResult --> {}", methodName, nodeId, nodeType,
+                            + "Node Cli Output line count --> {}\n\tResult --> {}", METHOD_NAME, nodeId, nodeType,
                     currentBrowserTab.getTitle(),
                     nodePrompt, cliTextContent.size(), checkResult);
             checkResult = false;
@@ -190,14 +230,13 @@ public class NodeCliUiOperator {
      * @return Exit operation result (false if not connected)
      */
     public boolean exitFromCliShell(final boolean isConnected, final String nodeId, final String nodeType) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
         if (isConnected) {
-            LOGGER.trace("{} - Exit from Node CLI shell: Node --> {}[{}]", methodName, nodeId, nodeType);
+            LOGGER.trace("{} - Exit from Node CLI shell: Node --> {}[{}]", METHOD_NAME, nodeId, nodeType);
             shellUIcomp.sendKeys(Pattern.EXIT);
             shellUIcomp.sendKeys(Keys.ENTER);
             return true;
         }
-        LOGGER.warn("{} - Node CLI is NOT connected: Node --> {}[{}]", methodName, nodeId, nodeType);
+        LOGGER.warn("{} - Node CLI is NOT connected: Node --> {}[{}]", METHOD_NAME, nodeId, nodeType);
         return false;
     }
 
@@ -216,15 +255,18 @@ public class NodeCliUiOperator {
     public boolean loginToCliShellWithWrongPwd(final String nodeId, final String nodeType, final BrowserTab currentBrowserTab) {
         currentBrowserTab.waitUntilComponentIsDisplayed(getCliShell(currentBrowserTab), SECONDS.toMillis(20));
         final String nodePrompt = String.format(getPromptNodeType(nodeType), nodeId);
-        boolean loginShellResult = false;
-        if (validatePatternInWholeCli(Pattern.TELNET_CONNECTION)) {
-            loginShellResult = validatePatternInWholeCli(Pattern.ALL_CONNECTION_FAILED);
-        } else if (validatePatternInWholeCli(Pattern.SSH_CONNECTION)) {
-            loginShellResult = validatePatternInWholeCli(Pattern.SSH_AUTHENTICATION_FAILURE)
-                    || !validatePatternInWholeCli(nodePrompt);
+        final CliOutcomeClassifier.Result outcome = CliOutcomeClassifier.classify(waitForCliOutput(nodePrompt), nodePrompt);
+        final boolean loginShellResult;
+        if (outcome.has(CliOutcomeClassifier.Outcome.TELNET_OPENED)) {
+            loginShellResult = outcome.has(CliOutcomeClassifier.Outcome.ALL_CONNECTION_FAILED);
+        } else if (outcome.has(CliOutcomeClassifier.Outcome.SSH_OPENED)) {
+            loginShellResult = outcome.has(CliOutcomeClassifier.Outcome.SSH_AUTHENTICATION_FAILURE)
+                    || !outcome.has(CliOutcomeClassifier.Outcome.PROMPT_REACHED);
         } else {
-            loginShellResult = validatePatternInWholeCli(Pattern.ALL_CONNECTION_FAILED);
+            loginShellResult = outcome.has(CliOutcomeClassifier.Outcome.ALL_CONNECTION_FAILED);
         }
+        LOGGER.debug("{} - Node Cli connection outcome for {}[{}] node --> {} (Result: {})", METHOD_NAME, nodeId, nodeType, outcome,
+                loginShellResult);
         return loginShellResult;
     }
 
@@ -242,11 +284,29 @@ public class NodeCliUiOperator {
      * @return Operation result
      */
     public boolean loginToCLIShell(final String nodeId, final String nodeType, final BrowserTab currentBrowserTab, final String cliUserName) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
+        return loginToCLIShell(nodeId, nodeType, currentBrowserTab, cliUserName, new CliSessionTimeline());
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: loginToCLIShell      <i>[public]</i>
+     * <b>Description</b>: This method performs the opening of the node shell CLI,
+     * marking the reached phases in the session timeline.
+     * </pre>
+     *
+     * @param nodeId Network element ID string
+     * @param nodeType Node Type String
+     * @param currentBrowserTab Current Browser Tab selected.
+     * @param cliUserName used to check ClI user you've logged in.
+     * @param timeline session timeline
+     * @return Operation result
+     */
+    public boolean loginToCLIShell(final String nodeId, final String nodeType, final BrowserTab currentBrowserTab, final String cliUserName,
+            final CliSessionTimeline timeline) {
         LOGGER.trace("{} - Login to Node Cli Shell for Node: {}[{}] (browser tab title: {} [{}])",
-                methodName, nodeId, nodeType, currentBrowserTab.getTitle(), currentBrowserTab.getCurrentUrl());
+                METHOD_NAME, nodeId, nodeType, currentBrowserTab.getTitle(), currentBrowserTab.getCurrentUrl());
         takeLocalScreenshot(currentBrowserTab, String.format("Before login to Node CLI shell for %s(%s) node", nodeId, nodeType));
-        final boolean isConenect = loginAndCheckNodeCliShell(nodeId, nodeType, cliUserName, currentBrowserTab);
+        final boolean isConenect = loginAndCheckNodeCliShell(nodeId, nodeType, cliUserName, currentBrowserTab, timeline);
         takeLocalScreenshot(currentBrowserTab, String.format("Logged in --> Node CLI shell for %s(%s) node",
                 isConenect ? "" : "Not", nodeId, nodeType));
         return isConenect;
@@ -266,8 +326,7 @@ public class NodeCliUiOperator {
      * @return closing result
      */
     public boolean exitFromOpenedCliShell(final boolean isCliOpen, final String nodeId, final String nodeType, final BrowserTab currentBrowserTab) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        LOGGER.info("{} - Login to Node CLI is {} (Node: {} [{}])", methodName, isCliOpen ? "DONE" : "FAILED", nodeId, nodeType);
+        LOGGER.info("{} - Login to Node CLI is {} (Node: {} [{}])", METHOD_NAME, isCliOpen ? "DONE" : "FAILED", nodeId, nodeType);
         final boolean exitShellTesult = exitFromCliShell(isCliOpen, nodeId, nodeType);
         takeLocalScreenshot(currentBrowserTab, String.format("Logged out --> Node CLI shell for %s(%s) node", nodeId, nodeType));
         return exitShellTesult;
@@ -283,31 +342,48 @@ public class NodeCliUiOperator {
      * @param wait4Browsers Number of Browser to be open,
      */
     public void wait4CLIsToBeReady(final int wait4Browsers) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        actCliNumber = ++numberOfParallelCLIs;
-        LOGGER.trace("{} - Node Cli UI Object Number -----> {}/{}}", methodName, actCliNumber, numberOfParallelCLIs);
-        int time = BROWSER_TIMEOUT_SEC;
-        while (numberOfParallelCLIs != wait4Browsers && time-- > 0) {
-            pause(SECONDS.toMillis(1));
-        }
+        wait4CLIsToBeReady(DEFAULT_BARRIER_KEY, wait4Browsers);
     }
 
     /**
      * <pre>
      * <b>Name</b>: wait4CLIsToBeReady      <i>[public]</i>
+     * <b>Description</b>: This method waits (up to timeout) for all the node shell CLI
+     * instances of the selected scenario to be ready for opening.
+     * </pre>
+     *
+     * @param barrierKey Scenario key (i.e. Test Case ID)
+     * @param wait4Browsers Number of Browser to be open,
+     * @return true if all the expected CLI instances are ready
+     */
+    public boolean wait4CLIsToBeReady(final String barrierKey, final int wait4Browsers) {
+        cliBarrierKey = barrierKey;
+        cliBarrierParties = wait4Browsers;
+        final ParallelCliBarrier cliBarrier = ParallelCliBarrier.getBarrier(barrierKey + READY_BARRIER_SUFFIX, wait4Browsers);
+        final boolean allReady = cliBarrier.arriveAndAwait(SECONDS.toMillis(BROWSER_TIMEOUT_SEC));
+        LOGGER.trace("{} - Node Cli UI Objects ready -----> {}\n\t{}", METHOD_NAME, allReady, cliBarrier.getMetrics());
+        return allReady;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: wait4CLIsToBeDone      <i>[public]</i>
      * <b>Description</b>: This method checks the number of node shell CLI instances
      * that have been closed.
      * </pre>
      *
+     * @return true if all the expected CLI instances are closed
      */
-    public void wait4CLIsToBeDone() {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        long time = BROWSER_TIMEOUT_SEC;
-        LOGGER.trace("{} - Node Cli UI Object Number -----> {}/{}}", methodName, actCliNumber, numberOfParallelCLIs);
-        numberOfParallelCLIs--;
-        while (numberOfParallelCLIs != 0 && time-- > 0) {
-            pause(1000L);
+    public boolean wait4CLIsToBeDone() {
+        if (cliBarrierKey == null) {
+            LOGGER.warn("{} - No Node Cli UI Objects waiting to be closed", METHOD_NAME);
+            return true;
         }
+        final ParallelCliBarrier cliBarrier = ParallelCliBarrier.getBarrier(cliBarrierKey + DONE_BARRIER_SUFFIX, cliBarrierParties);
+        final boolean allDone = cliBarrier.arriveAndAwait(SECONDS.toMillis(BROWSER_TIMEOUT_SEC));
+        LOGGER.debug("{} - Node Cli UI Objects closed -----> {}\n\t{}", METHOD_NAME, allDone, cliBarrier.getMetrics());
+        cliBarrierKey = null;
+        return allDone;
     }
 
     // ************************************************************************
@@ -316,53 +392,138 @@ public class NodeCliUiOperator {
 
     /**
      * <pre>
-     * <b>Name</b>: validatePatternInWholeCLI      <i>[private]</i>
-     * <b>Description</b>: .
+     * <b>Name</b>: waitForCliOutput      <i>[private]</i>
+     * <b>Description</b>:  This method reads the Node Cli shell content every
+     * 'nodecli.prompt.poll.interval' milliseconds and returns as soon as the last line
+     * contains the expected prompt or a connection failure message is found
+     * ({@link CliOutcomeClassifier}). If 'nodecli.prompt.timeout' seconds expire, the last read content
+     * is returned: this is the case of an SSH authentication failure not followed by the
+     * Telnet fallback.
      * </pre>
      *
-     * @param pattern Pattern to compare for NodeCli.
-     * @return - Compare Result
+     * @param nodePrompt expected prompt (null if unknown)
+     * @return Node Cli output lines
      */
-    private boolean validatePatternInWholeCli(final String pattern) {
-        // Get all Node Cli Output
-        final List<String> lines = Arrays.asList(getCliLines().get(0).split("\\r?\\n"));
+    private List<String> waitForCliOutput(final String nodePrompt) {
+        return waitForCliOutput(nodePrompt, null);
+    }
 
-        for (final String singleLine: lines) {
-            if (singleLine.replace(NEWLINE, "").matches(pattern)) {
-                return true;
-            }
+    /**
+     * <pre>
+     * <b>Name</b>: waitForCliOutput      <i>[private]</i>
+     * <b>Description</b>:  This method waits for the Node Cli output as
+     * {@link #waitForCliOutput(String)}; at each read the phases found in the terminal
+     * are marked in the session timeline (if present).
+     * </pre>
+     *
+     * @param nodePrompt expected prompt (null if unknown)
+     * @param timeline session timeline (null if not tracked)
+     * @return Node Cli output lines
+     */
+    private List<String> waitForCliOutput(final String nodePrompt, final CliSessionTimeline timeline) {
+        final long startTime = System.currentTimeMillis();
+        final long deadline = startTime + SECONDS.toMillis(NODECLI_PROMPT_TIMEOUT_SEC);
+        List<String> cliTextContent = readCliLines();
+        while (!isCliOutputComplete(cliTextContent, nodePrompt, timeline) && System.currentTimeMillis() < deadline) {
+            pause(NODECLI_PROMPT_POLL_MILLIS);
+            cliTextContent = readCliLines();
         }
-        LOGGER.debug("Pattern NOT found: Expected --> {}", pattern);
-        LOGGER.trace("Node Cli Console output: \n{}", lines);
-        return false;
+        LOGGER.debug("{} - Node Cli output read after {} ms ({} lines, expected prompt '{}')",
+                METHOD_NAME, System.currentTimeMillis() - startTime, cliTextContent.size(), nodePrompt);
+        return cliTextContent;
+    }
+
+    private static boolean isCliOutputComplete(final List<String> cliTextContent, final String nodePrompt, final CliSessionTimeline timeline) {
+        if (cliTextContent.isEmpty()) {
+            return false;
+        }
+        final long readNanos = System.nanoTime();
+        final CliOutcomeClassifier.Result outcome = CliOutcomeClassifier.classify(cliTextContent, nodePrompt);
+        if (timeline != null) {
+            timeline.update(cliTextContent, outcome, readNanos);
+        }
+        return outcome.isCompleted();
     }
 
     /**
      * <pre>
-     * <b>Name</b>: getCliLines      <i>[private]</i>
-     * <b>Description</b>:  This method is used to return the contents of the Node Cli
-     * shell, verifying the existence of the shell itself and the text displayed
-     * in it.
+     * <b>Name</b>: readCliLines      <i>[private]</i>
+     * <b>Description</b>:  This method returns the contents currently displayed in the
+     * Node Cli shell (no wait).
      * </pre>
      *
      * @return Node Cli output lines
      */
-    private List<String> getCliLines() {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
+    private List<String> readCliLines() {
+        return readCliSnapshot().getLines();
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: readCliSnapshot      <i>[private]</i>
+     * <b>Description</b>:  This method reads the whole Node Cli terminal (scrollback
+     * included) with a single JavaScript execution. If the terminal buffer can't be
+     * read in this way, the visible rows are read one by one.
+     * </pre>
+     *
+     * @return Node Cli terminal snapshot
+     */
+    private CliSnapshot readCliSnapshot() {
         if (this.textArea == null) {
-            LOGGER.error("{} - There is NO 'shellUIcomp'!", methodName);
-            return new ArrayList<>(0);
+            LOGGER.error("{} - There is NO 'shellUIcomp'!", METHOD_NAME);
+            return new CliSnapshot(new ArrayList<String>(0), System.currentTimeMillis(), false);
         }
 
+        CliSnapshot snapshot = readCliBuffer();
+        if (snapshot == null) {
+            snapshot = readCliRows();
+        }
+
+        // Debug purpose: prind Node Cli Text
+        if (LOGGER.isTraceEnabled()) {
+            final StringBuilder nodeCliContent = new StringBuilder();
+            for (final String row : snapshot.getLines()) {
+                nodeCliContent.append(String.format("---| %s", row)).append(NEWLINE);
+            }
+            LOGGER.trace("{} - Node Cli Output ({}) ---\n{}", METHOD_NAME, snapshot, nodeCliContent);
+        }
+        return snapshot;
+    }
+
+    private CliSnapshot readCliBuffer() {
+        if (this.browserTab == null) {
+            return null;
+        }
+        final Object result;
+        try {
+            result = browserTab.evaluate(XTERM_BUFFER_SCRIPT);
+        } catch (final RuntimeException e) {
+            LOGGER.debug("{} - Unable to read Node Cli buffer with JavaScript: {}", METHOD_NAME, e.getMessage());
+            return null;
+        }
+        final long readTime = System.currentTimeMillis();
+        if (!(result instanceof String)) {
+            return null;
+        }
+        final String[] bufferRows = ((String) result).split(NEWLINE, -1);
+        final List<String> vmAndCliText = new ArrayList<>();
+        for (int index = 1; index < bufferRows.length; index++) {
+            final String val = bufferRows[index].replace('\u00a0', ' ').trim();
+            if (!val.isEmpty()) {
+                vmAndCliText.add(val);
+            }
+        }
+        return new CliSnapshot(vmAndCliText, readTime, XTERM_FULL_BUFFER.equals(bufferRows[0]));
+    }
+
+    private CliSnapshot readCliRows() {
         // Check Children object presence
         final List<UiComponent> uicDivs = textArea.getChildren();
         if (uicDivs == null) {
-            LOGGER.error("{} - There is NO 'div' TAG!", methodName);
-            return new ArrayList<>(0);
+            LOGGER.error("{} - There is NO 'div' TAG!", METHOD_NAME);
+            return new CliSnapshot(new ArrayList<String>(0), System.currentTimeMillis(), false);
         }
 
-        // Wait for shell message (about 6 seconds)
-        pause(SECONDS.toMillis(6));
         final List<String> vmAndCliText = new ArrayList<>();
         for (final UiComponent child : uicDivs) {
             final String val = child.getText().trim();
@@ -370,16 +531,7 @@ public class NodeCliUiOperator {
                 vmAndCliText.add(val);
             }
         }
-
-        // Debug purpose: prind Node Cli Text
-        if (LOGGER.isTraceEnabled()) {
-            final StringBuilder nodeCliContent = new StringBuilder();
-            for (final String row : vmAndCliText) {
-                nodeCliContent.append(String.format("---| %s", row)).append(NEWLINE);
-            }
-            LOGGER.trace("{} - Node Cli Output ---\n{}", methodName, nodeCliContent);
-        }
-        return vmAndCliText;
+        return new CliSnapshot(vmAndCliText, System.currentTimeMillis(), false);
     }
 
     /**
@@ -390,7 +542,7 @@ public class NodeCliUiOperator {
      * the node CLI for each of them..
      * </pre>
      */
-    private String getPromptNodeType(final String selectedNodeType) {
+    static String getPromptNodeType(final String selectedNodeType) {
         LOGGER.trace("Get Node Type for Prompt: {} --> {}", selectedNodeType, NodeType.getType(selectedNodeType));
         switch (NodeType.getType(selectedNodeType)) {
             case EPG:
@@ -425,13 +577,7 @@ public class NodeCliUiOperator {
      * </pre>
      */
     static final class Pattern {
-        static final String CONNCLOSED = "(.*Connection closed.*)|(.*Connection refused.*)";
-        static final String ALL_CONNECTION_FAILED = "(.*All supported CLI connection attempts failed.*)|(.*Error: Login failed.*)";
-        static final String SSH_AUTHENTICATION_FAILURE = ".*SSH authentication failure.*";
-        static final String TELNET_CONNECTION = ".*Opening Telnet connection.*";
-        static final String SSH_CONNECTION = ".*Opening SSH connection.*";
-        static final String SESSION_ALREADY_EXISTS = "(.*An open session already exists.*)|(.*Only one session allowed.*)";
-        private static final String EXIT = "exit";
+        static final String EXIT = "exit";
 
         private Pattern() {
         }
@@ -0,0 +1,240 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.operators;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+import javax.websocket.ClientEndpointConfig;
+import javax.websocket.CloseReason;
+import javax.websocket.DeploymentException;
+import javax.websocket.Endpoint;
+import javax.websocket.EndpointConfig;
+import javax.websocket.MessageHandler;
+import javax.websocket.Session;
+
+import org.glassfish.tyrus.client.ClientManager;
+import org.glassfish.tyrus.client.ClientProperties;
+import org.glassfish.tyrus.client.SslEngineConfigurator;
+
+/**
+ * <pre>
+ * <b>Name</b>: NodeCliWebSocketClient      <i>[public (Class)]</i>
+ * <b>Description</b>: This class reads the Node Cli terminal stream without a browser
+ *   through a WebSocket session (Tyrus client): text/binary messages are returned as
+ *   strings in arrival order and close is notified as end of stream.
+ *   Server certificate is verified with the JVM trust store, unless all certificates
+ *   are explicitly trusted by the caller (ENM test deployments with self-signed
+ *   certificates, see 'nodecli.headless.ws.trustAll' property).
+ * </pre>
+ */
+public final class NodeCliWebSocketClient implements Closeable {
+    // End of stream marker (compared by reference).
+    private static final String END_OF_STREAM = new String("<end of stream>");
+
+    private final BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+    private volatile Session session;
+    private volatile boolean closed;
+
+    private NodeCliWebSocketClient() {
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: connect            <i>[public]</i>
+     * <b>Description</b>: This method opens the WebSocket session.
+     * </pre>
+     *
+     * @param uri WebSocket URI (ws:// or wss://)
+     * @param headers additional handshake headers (i.e. Cookie)
+     * @param timeoutMillis connection (handshake) timeout (ms)
+     * @param trustAllCertificates true to accept any server certificate (wss only)
+     * @return connected client
+     * @throws IOException if connection or handshake fails
+     */
+    public static NodeCliWebSocketClient connect(final URI uri, final Map<String, String> headers, final int timeoutMillis,
+            final boolean trustAllCertificates) throws IOException {
+        final NodeCliWebSocketClient client = new NodeCliWebSocketClient();
+        final ClientEndpointConfig config = ClientEndpointConfig.Builder.create().configurator(new ClientEndpointConfig.Configurator() {
+            @Override
+            public void beforeRequest(final Map<String, List<String>> requestHeaders) {
+                for (final Map.Entry<String, String> header : headers.entrySet()) {
+                    requestHeaders.put(header.getKey(), Collections.singletonList(header.getValue()));
+                }
+            }
+        }).build();
+        final ClientManager clientManager = ClientManager.createClient();
+        clientManager.getProperties().put(ClientProperties.SHARED_CONTAINER, true);
+        clientManager.getProperties().put(ClientProperties.HANDSHAKE_TIMEOUT, timeoutMillis);
+        if ("wss".equalsIgnoreCase(uri.getScheme())) {
+            clientManager.getProperties().put(ClientProperties.SSL_ENGINE_CONFIGURATOR, createSslEngineConfigurator(trustAllCertificates));
+        }
+        try {
+            client.session = clientManager.connectToServer(client.new Listener(), config, uri);
+        } catch (final DeploymentException e) {
+            throw new IOException(String.format("WebSocket connection to %s failed: %s", uri, e.getMessage()), e);
+        }
+        return client;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: sendText            <i>[public]</i>
+     * <b>Description</b>: This method sends a text message. If the server closes the
+     *   session as soon as it receives the message (i.e. 'exit'), Tyrus can reject the
+     *   idle timeout restart done after the write: the message has been sent, so this
+     *   is not an error.
+     * </pre>
+     *
+     * @param text message to send
+     * @throws IOException on write error
+     */
+    public void sendText(final String text) throws IOException {
+        try {
+            session.getBasicRemote().sendText(text);
+        } catch (final RejectedExecutionException e) {
+            if (session.isOpen()) {
+                throw new IOException("WebSocket send failed: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: readMessage            <i>[public]</i>
+     * <b>Description</b>: This method waits for the next text/binary message.
+     * </pre>
+     *
+     * @param timeoutMillis maximum wait time (ms)
+     * @return message content, "" on timeout, null if connection is closed
+     */
+    public String readMessage(final long timeoutMillis) {
+        final String message;
+        try {
+            message = messages.poll(Math.max(0L, timeoutMillis), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        if (message == null) {
+            return "";
+        }
+        if (message == END_OF_STREAM) {
+            messages.offer(END_OF_STREAM);
+            return null;
+        }
+        return message;
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public boolean isClosed() {
+        return closed && messages.peek() == END_OF_STREAM;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (session != null && session.isOpen()) {
+            session.close();
+        }
+    }
+
+    private static SslEngineConfigurator createSslEngineConfigurator(final boolean trustAllCertificates) throws IOException {
+        try {
+            if (!trustAllCertificates) {
+                return new SslEngineConfigurator(SSLContext.getDefault(), true, false, false);
+            }
+            final SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, new TrustManager[] {new TrustAllManager()}, new SecureRandom());
+            final SslEngineConfigurator sslEngineConfigurator = new SslEngineConfigurator(sslContext, true, false, false);
+            sslEngineConfigurator.setHostVerificationEnabled(false);
+            return sslEngineConfigurator;
+        } catch (final GeneralSecurityException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * WebSocket endpoint: received messages are queued for {@link #readMessage(long)}.
+     */
+    private final class Listener extends Endpoint {
+        @Override
+        public void onOpen(final Session openedSession, final EndpointConfig config) {
+            // Anonymous classes: Tyrus gets the message type from generic declaration.
+            openedSession.addMessageHandler(new MessageHandler.Whole<String>() {
+                @Override
+                public void onMessage(final String message) {
+                    messages.offer(message);
+                }
+            });
+            openedSession.addMessageHandler(new MessageHandler.Whole<ByteBuffer>() {
+                @Override
+                public void onMessage(final ByteBuffer message) {
+                    messages.offer(StandardCharsets.UTF_8.decode(message).toString());
+                }
+            });
+        }
+
+        @Override
+        public void onClose(final Session closedSession, final CloseReason closeReason) {
+            closed = true;
+            messages.offer(END_OF_STREAM);
+        }
+
+        @Override
+        public void onError(final Session failedSession, final Throwable error) {
+            closed = true;
+            messages.offer(END_OF_STREAM);
+        }
+    }
+
+    /**
+     * Trust manager accepting all certificates (explicit opt-in only).
+     */
+    private static final class TrustAllManager implements X509TrustManager {
+        @Override
+        public void checkClientTrusted(final X509Certificate[] chain, final String authType) {
+            // Opt-in for test deployments: all certificates accepted
+        }
+
+        @Override
+        public void checkServerTrusted(final X509Certificate[] chain, final String authType) {
+            // Opt-in for test deployments: all certificates accepted
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
@@ -23,6 +23,8 @@ import org.slf4j.LoggerFactory;
 import com.ericsson.cifwk.taf.annotations.Operator;
 import com.ericsson.cifwk.taf.data.DataHandler;
 import com.ericsson.cifwk.taf.tools.http.HttpTool;
+import com.ericsson.oss.services.nodecli.operators.utility.CallerMethod;
+import com.ericsson.oss.services.nodecli.operators.utility.EnmCommandStandIn;
 import com.ericsson.oss.testware.enm.cli.EnmCliResponse;
 import com.ericsson.oss.testware.enmbase.data.NetworkNode;
 import com.ericsson.oss.testware.nodeintegration.exceptions.NodeIntegrationOperatorException;
@@ -42,6 +44,7 @@ public class NodeIntegrationOperatorNodeCli extends NodeIntegrationOperatorBase
             Integer.class);
 
     private static final Logger LOGGER = LoggerFactory.getLogger(NodeIntegrationOperatorNodeCli.class);
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(NodeIntegrationOperatorNodeCli.class);
 
     /**
      * <pre>
@@ -58,11 +61,10 @@ public class NodeIntegrationOperatorNodeCli extends NodeIntegrationOperatorBase
      * @throws NodeIntegrationOperatorException Exception for NodeIntegrator
      */
     public void fmWaitForSyncToComplete(final NetworkNode node, final HttpTool httpTool) throws NodeIntegrationOperatorException {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
         final int numRetries = NODECLI_REPEAT_COUNT;
         final int interval = NODECLI_WAIT_FOR_REPEAT_COUNT;
         LOGGER.debug("{} - Wait foer Sync:\n\tNode Name --> {} [{}]\n\tWait Time interval --> {}\n\tWait Repeat Count --> {}",
-                methodName, node.getNetworkElementId(), node.getNodeType(), interval, numRetries);
+                METHOD_NAME, node.getNetworkElementId(), node.getNodeType(), interval, numRetries);
         waitForSyncToComplete(node, numRetries, interval, httpTool);
     }
 
@@ -100,8 +102,10 @@ public class NodeIntegrationOperatorNodeCli extends NodeIntegrationOperatorBase
      * @return EnmCliResponse for selected command
      */
     public EnmCliResponse executeRestCall(final String command, final HttpTool httpTool) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        LOGGER.debug("{} - Executing Rest Command:\n\tCommand --> {} ", methodName, command);
-        return super.executeRestCall(command, httpTool);
+        LOGGER.debug("{} - Executing Rest Command:\n\tCommand --> {} ", METHOD_NAME, command);
+        if (EnmCommandStandIn.isEnabled()) {
+            return StandInRestImpl.getInstance().sendCommand(command);
+        }
+        return JournalRestImpl.execute(command, () -> super.executeRestCall(command, httpTool));
     }
 }
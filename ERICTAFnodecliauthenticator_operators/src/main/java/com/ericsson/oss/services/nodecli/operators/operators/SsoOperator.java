@@ -27,6 +27,8 @@ import org.slf4j.LoggerFactory;
 
 import com.ericsson.cifwk.taf.datasource.DataRecord;
 import com.ericsson.oss.services.nodecli.operators.factory.SsoFactory;
+import com.ericsson.oss.services.nodecli.operators.utility.CallerMethod;
+import com.ericsson.oss.services.nodecli.operators.utility.EnmCommandStandIn;
 import com.ericsson.oss.services.nodecli.operators.utility.SsoOperation;
 import com.ericsson.oss.testware.enm.cli.EnmCliResponse;
 import com.ericsson.oss.testware.nodesecurity.operators.RestImpl;
@@ -42,6 +44,7 @@ import com.ericsson.oss.testware.nodesecurity.utils.SecurityUtil;
 
 public class SsoOperator extends RestImpl {
     private static final Logger LOGGER = LoggerFactory.getLogger(SsoOperator.class);
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(SsoOperator.class);
 
     @Inject
     private SsoFactory ssoFactory;
@@ -61,19 +64,22 @@ public class SsoOperator extends RestImpl {
      * @return Command Response
      */
     public EnmCliResponse executeSsoCommand(final DataRecord value, final SsoOperation ssoOperation) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
         if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("{} - Executing SSO Operation '{}' with DataRecord\n\t{}", methodName, ssoOperation, value);
+            LOGGER.debug("{} - Executing SSO Operation '{}' with DataRecord\n\t{}", METHOD_NAME, ssoOperation, value);
         }
 
         final String fileName = value.getFieldValue(FILE_NAME);
         final String nodeName = value.getFieldValue(NETWORK_ELEMENT_ID);
         final String commandString = ssoFactory.prepareSsoCommand(value, ssoOperation);
-        LOGGER.trace("{} - SSO command to send: [{}] to the node: [{}]", methodName, commandString, nodeName);
+        LOGGER.trace("{} - SSO command to send: [{}] to the node: [{}]", METHOD_NAME, commandString, nodeName);
+        if (EnmCommandStandIn.isEnabled()) {
+            return StandInRestImpl.getInstance().sendCommand(commandString);
+        }
         if (fileName == null) {
-            return sendSecurityCommand(commandString, null, null);
+            return JournalRestImpl.execute(commandString, () -> sendSecurityCommand(commandString, null, null));
         } else {
-            return sendSecurityCommand(commandString, credentialFactory.getTargetFileCmd(value), SecurityUtil.createByteArray(nodeName));
+            return JournalRestImpl.execute(commandString,
+                    () -> sendSecurityCommand(commandString, credentialFactory.getTargetFileCmd(value), SecurityUtil.createByteArray(nodeName)));
         }
     }
 }
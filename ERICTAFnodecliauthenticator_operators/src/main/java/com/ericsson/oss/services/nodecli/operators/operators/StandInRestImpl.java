@@ -0,0 +1,118 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.operators;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.inject.Provider;
+
+import com.ericsson.oss.services.nodecli.operators.utility.EnmCommandJournal;
+import com.ericsson.oss.services.nodecli.operators.utility.EnmCommandStandIn;
+import com.ericsson.oss.services.scriptengine.spi.dtos.AbstractDto;
+import com.ericsson.oss.services.scriptengine.spi.dtos.LineDto;
+import com.ericsson.oss.services.scriptengine.spi.dtos.ResponseDto;
+import com.ericsson.oss.services.scriptengine.spi.dtos.RowCell;
+import com.ericsson.oss.services.scriptengine.spi.dtos.RowDto;
+import com.ericsson.oss.testware.enm.cli.EnmCliResponse;
+import com.ericsson.oss.testware.nodesecurity.operators.RestImpl;
+
+/**
+ * <pre>
+ * <b>Name</b>: StandInRestImpl      <i>[public class]</i>
+ * <b>Description</b>: This class replaces {@link RestImpl} when the ENM stand-in is
+ *   enabled (property 'enm.standin.enabled'): commands are executed by
+ *   {@link EnmCommandStandIn} in the JVM and its output is returned as ENM CLI
+ *   response. Test Steps get the command executor with {@link #select(Provider)}.
+ * </pre>
+ */
+public class StandInRestImpl extends RestImpl {
+    private static final StandInRestImpl INSTANCE = new StandInRestImpl();
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public static StandInRestImpl getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: select            <i>[public]</i>
+     * <b>Description</b>: This method returns the ENM stand-in, if enabled, otherwise
+     *   the injected command executor (wrapped by {@link JournalRestImpl} when the
+     *   ENM journal is active).
+     * </pre>
+     *
+     * @param provider provider of the injected command executor
+     * @return command executor to use
+     */
+    public static RestImpl select(final Provider<? extends RestImpl> provider) {
+        if (EnmCommandStandIn.isEnabled()) {
+            return INSTANCE;
+        }
+        switch (EnmCommandJournal.getMode()) {
+            case RECORD:
+                return new JournalRestImpl(provider.get());
+            case REPLAY:
+                return new JournalRestImpl(null);
+            default:
+                return provider.get();
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: select            <i>[public]</i>
+     * <b>Description</b>: This method returns the ENM stand-in, if enabled, otherwise
+     *   the injected command executor (wrapped by {@link JournalRestImpl} when the
+     *   ENM journal is active).
+     * </pre>
+     *
+     * @param restImpl injected command executor
+     * @return command executor to use
+     */
+    public static RestImpl select(final RestImpl restImpl) {
+        return select(() -> restImpl);
+    }
+
+    @Override
+    public EnmCliResponse sendCommand(final String command) {
+        return toResponse(EnmCommandStandIn.getInstance().execute(command));
+    }
+
+    @Override
+    public EnmCliResponse sendCommandWithFile(final String command, final String fileName, final byte[] fileContents) {
+        return toResponse(EnmCommandStandIn.getInstance().execute(command));
+    }
+
+    private static EnmCliResponse toResponse(final EnmCommandStandIn.Reply reply) {
+        final List<AbstractDto> dtos = new ArrayList<>();
+        for (final List<String> row : reply.getTable()) {
+            final List<RowCell> cells = new ArrayList<>(row.size());
+            for (final String value : row) {
+                cells.add(new RowCell(value == null ? "" : value));
+            }
+            dtos.add(new RowDto(cells));
+        }
+        for (final String line : reply.getLines()) {
+            dtos.add(new LineDto(line));
+        }
+        dtos.add(reply.isSuccess() ? JournalRestImpl.toSummaryDto(0, reply.getMessage(), null)
+                : JournalRestImpl.toSummaryDto(reply.getErrorCode(), null, reply.getMessage()));
+        return new EnmCliResponse(new ResponseDto(dtos));
+    }
+}
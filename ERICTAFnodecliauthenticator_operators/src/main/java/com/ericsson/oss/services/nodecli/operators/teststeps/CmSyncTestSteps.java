@@ -14,22 +14,16 @@
 
 package com.ericsson.oss.services.nodecli.operators.teststeps;
 
-import static org.hamcrest.Matchers.equalTo;
-import static org.hamcrest.core.Is.is;
-
 import static com.ericsson.oss.testware.enmbase.data.CommonDataSources.ADDED_NODES;
 
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import javax.inject.Inject;
 import javax.inject.Provider;
 
 import org.assertj.core.api.Assertions;
-import org.awaitility.Awaitility;
-import org.awaitility.core.ConditionTimeoutException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,12 +32,18 @@ import com.ericsson.cifwk.taf.annotations.Input;
 import com.ericsson.cifwk.taf.annotations.OptionalValue;
 import com.ericsson.cifwk.taf.annotations.TestStep;
 import com.ericsson.cifwk.taf.data.DataHandler;
+import com.ericsson.cifwk.taf.tools.http.HttpTool;
 import com.ericsson.oss.services.nodecli.operators.operators.NodeIntegrationOperatorNodeCli;
+import com.ericsson.oss.services.nodecli.operators.utility.CallerMethod;
+import com.ericsson.oss.services.nodecli.operators.utility.CmSyncStatusPoller;
+import com.ericsson.oss.services.nodecli.operators.utility.StepContext;
 import com.ericsson.oss.testware.enm.cli.EnmCliResponse;
 import com.ericsson.oss.testware.enmbase.data.NetworkNode;
 import com.ericsson.oss.testware.nodeintegration.operators.impl.NodeSupervisionOperator;
 import com.ericsson.oss.testware.nodeintegration.teststeps.NodeIntegrationTestSteps;
 import com.ericsson.oss.testware.security.authentication.tool.TafToolProvider;
+import com.google.common.base.Joiner;
+import com.google.common.collect.Maps;
 
 /**
  * This class contains specific CliCommand test steps where an enhanced syntax verification is needed.
@@ -53,6 +53,7 @@ import com.ericsson.oss.testware.security.authentication.tool.TafToolProvider;
  */
 public class CmSyncTestSteps extends NodeIntegrationTestSteps {
     private static final Logger LOGGER = LoggerFactory.getLogger(CmSyncTestSteps.class);
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(CmSyncTestSteps.class);
     private static final Integer NODESYNC_AWAIT_ATMOST_SEC = DataHandler.getConfiguration().getProperty("nodeCliSync.await.atmost", 60,
             Integer.class);
     private static final Integer NODECLISYNC_AWAIT_INTERVAL_SEC = DataHandler.getConfiguration().getProperty("nodeCliSync.await.interval", 5,
@@ -86,7 +87,7 @@ public class CmSyncTestSteps extends NodeIntegrationTestSteps {
     public void getCmSyncRecoursive(@Input(ADDED_NODES) final NetworkNode node,
             @Input(Param.CM_SYNCSTATUS_PARAMETER) @OptionalValue(Param.CM_SYNC_SYNCHRONIZED) final String expectedStatus,
             @Input(Param.CM_SYNCSTATUS_TIMEOUT_PARAMETER) @OptionalValue("") final String syncTimeoutValueString) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
+        final String methodName = StepContext.current().getStepName();
         Assertions.assertThat(node).as("Expected 'NetworkNode' parameter is NULL").isNotNull();
         final int delayToCheck = context.getVUser() * NODESYNC_AWAIT_DELAY_SEC;
         final int pollInterval = NODECLISYNC_AWAIT_INTERVAL_SEC;
@@ -96,14 +97,14 @@ public class CmSyncTestSteps extends NodeIntegrationTestSteps {
                 + "\n\tStart Polling Delay --> {} sec\n\tPoll interval --> {} sec\n\tTimeout --> {} sec",
                 methodName, TestId.CM_SYNC_GET, node.getNetworkElementId(), node.getNodeType(), expectedStatus, delayToCheck, pollInterval, timeout);
         final NodeIntegrationOperatorNodeCli nodeIntegrationOperatorNodeCliLoc = nodeIntegrationOperator.get();
-        final String nodeSyncStatus;
+        final HttpTool httpTool = tafToolProvider.getHttpTool();
 
-        try {
-            Awaitility.with().pollDelay(delayToCheck, TimeUnit.SECONDS).pollInterval(pollInterval, TimeUnit.SECONDS).atMost(timeout, TimeUnit.SECONDS)
-                    .await().until(getSyncStatusCallable(nodeIntegrationOperatorNodeCliLoc, node, expectedStatus), is(equalTo(true)));
-        } catch (final ConditionTimeoutException exception) {
+        // Status is read by the poller shared among vUsers (one multi-node query for each poll interval).
+        String nodeSyncStatus = CmSyncStatusPoller.getInstance().awaitStatus(node.getNetworkElementId(), expectedStatus,
+                TimeUnit.SECONDS.toMillis(delayToCheck), TimeUnit.SECONDS.toMillis(pollInterval), TimeUnit.SECONDS.toMillis(timeout),
+                nodeList -> getSyncStatus(nodeList, nodeIntegrationOperatorNodeCliLoc, httpTool));
+        if (!expectedStatus.equalsIgnoreCase(nodeSyncStatus)) {
             LOGGER.warn("{} - Reached Timeout for Sync Check", methodName);
-        } finally {
             nodeSyncStatus = getSyncStatus(node, nodeIntegrationOperatorNodeCliLoc);
         }
 
@@ -117,8 +118,7 @@ public class CmSyncTestSteps extends NodeIntegrationTestSteps {
     }
 
     private String getSyncStatus(final NetworkNode node, final NodeIntegrationOperatorNodeCli nodeIntegrationOperatorNodeCliLoc) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        LOGGER.debug("{} - Check Node Sync Status:\n\tNode --> {}\n\tOperator --> {}", methodName, node.getNetworkElementId(),
+        LOGGER.debug("{} - Check Node Sync Status:\n\tNode --> {}\n\tOperator --> {}", METHOD_NAME, node.getNetworkElementId(),
                 nodeIntegrationOperatorNodeCliLoc);
 
         final String command = String.format(Command.CM_SYNC_GET_COMMAND, node.getNetworkElementId());
@@ -131,19 +131,25 @@ public class CmSyncTestSteps extends NodeIntegrationTestSteps {
             syncStatus = datarecord.get(Param.CM_SYNCSTATUS_FIELD);
         }
         LOGGER.debug("{} - Check Node Sync Result:\n\tNode --> {}[{}]\n\tSync Status --> {}",
-                methodName, node.getNetworkElementId(), node.getNodeType(), syncStatus);
+                METHOD_NAME, node.getNetworkElementId(), node.getNodeType(), syncStatus);
         return syncStatus;
     }
 
-    private Callable<Boolean> getSyncStatusCallable(final NodeIntegrationOperatorNodeCli nodeIntegrationOperatorNodeCliLoc, final NetworkNode node,
-            final String expectedStatus) {
-        return new Callable<Boolean>() {
-            @Override
-            public Boolean call() {
-                final String syncStatus = getSyncStatus(node, nodeIntegrationOperatorNodeCliLoc);
-                return expectedStatus.equalsIgnoreCase(syncStatus);
+    private Map<String, String> getSyncStatus(final List<String> nodeList, final NodeIntegrationOperatorNodeCli nodeIntegrationOperatorNodeCliLoc,
+            final HttpTool httpTool) {
+        final String command = String.format(Command.CM_SYNC_GET_COMMAND, Joiner.on(Command.CM_SYNC_NODE_SEPARATOR).join(nodeList));
+        LOGGER.debug("{} - Check Sync Status for {} nodes:\n\tCommand --> {}", METHOD_NAME, nodeList.size(), command);
+        final EnmCliResponse enmCliResponse = nodeIntegrationOperatorNodeCliLoc.executeRestCall(command, httpTool);
+
+        final Map<String, String> syncStatusPerNode = Maps.newHashMap();
+        for (final Map<String, String> datarecord : enmCliResponse.getAllAtributesPerObjectSingleTableView()) {
+            final String nodeName = nodeList.size() == 1 ? nodeList.get(0) : datarecord.get(Param.CM_NODEID_FIELD);
+            if (nodeName != null && datarecord.get(Param.CM_SYNCSTATUS_FIELD) != null) {
+                syncStatusPerNode.put(nodeName.trim(), datarecord.get(Param.CM_SYNCSTATUS_FIELD));
             }
-        };
+        }
+        LOGGER.trace("{} - Check Sync Status Result --> {}", METHOD_NAME, syncStatusPerNode);
+        return syncStatusPerNode;
     }
 
     // ************************************************************************
@@ -180,6 +186,8 @@ public class CmSyncTestSteps extends NodeIntegrationTestSteps {
         @SuppressWarnings("checkstyle:JavadocVariable")
         public static final String CM_SYNCSTATUS_FIELD = "syncStatus";
         @SuppressWarnings("checkstyle:JavadocVariable")
+        public static final String CM_NODEID_FIELD = "NodeId";
+        @SuppressWarnings("checkstyle:JavadocVariable")
         public static final String CM_SYNCSTATUS_PARAMETER = "syncStatusParameter";
         @SuppressWarnings("checkstyle:JavadocVariable")
         public static final String CM_SYNCSTATUS_TIMEOUT_PARAMETER = "syncStatusTimeoutParameter";
@@ -204,6 +212,8 @@ public class CmSyncTestSteps extends NodeIntegrationTestSteps {
     public static final class Command {
         @SuppressWarnings("checkstyle:JavadocVariable")
         public static final String CM_SYNC_GET_COMMAND = "cmedit get %s CmFunction.syncStatus --table";
+        @SuppressWarnings("checkstyle:JavadocVariable")
+        public static final String CM_SYNC_NODE_SEPARATOR = ";";
 
         private Command() {
         }
@@ -22,6 +22,7 @@ import static com.ericsson.oss.testware.scenario.ScenarioUtilities.getPasswordVa
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Inject;
 import javax.inject.Provider;
 
@@ -29,15 +30,22 @@ import org.assertj.core.api.Assertions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.ericsson.cifwk.taf.TafTestContext;
 import com.ericsson.cifwk.taf.annotations.Input;
 import com.ericsson.cifwk.taf.annotations.TestStep;
 import com.ericsson.cifwk.taf.data.DataHandler;
 import com.ericsson.cifwk.taf.datasource.DataRecord;
 import com.ericsson.cifwk.taf.datasource.DataRecordImpl;
+import com.ericsson.oss.services.nodecli.operators.operators.StandInRestImpl;
+import com.ericsson.oss.services.nodecli.operators.utility.CallerMethod;
+import com.ericsson.oss.services.nodecli.operators.utility.ExponentialBackoff;
+import com.ericsson.oss.services.nodecli.operators.utility.StepContext;
 import com.ericsson.oss.services.nodecli.operators.utility.UserCredentialType;
 import com.ericsson.oss.testware.enm.cli.EnmCliResponse;
 import com.ericsson.oss.testware.nodesecurity.operators.RestImpl;
 import com.ericsson.oss.testware.nodesecurity.utils.SecurityUtil;
+import com.google.common.base.Joiner;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 
 /**
@@ -49,11 +57,27 @@ import com.google.common.collect.Maps;
  */
 public class CredentialMngTestSteps extends BaseTestStep {
     private static final Logger LOGGER = LoggerFactory.getLogger(CredentialMngTestSteps.class);
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(CredentialMngTestSteps.class);
 
     private static final Integer CRED_ITERATION = DataHandler.getConfiguration().getProperty("credentials.issue.iteration", 10, Integer.class);
 
     private static final Integer CRED_TIMER = DataHandler.getConfiguration().getProperty("credentials.issue.timer", 2000, Integer.class);
 
+    private static final Integer CRED_PROPAGATION_INITIAL_DELAY = DataHandler.getConfiguration()
+            .getProperty("credentials.propagation.initial.delay", 200, Integer.class);
+
+    private static final Integer CRED_PROPAGATION_TIMEOUT = DataHandler.getConfiguration()
+            .getProperty("credentials.propagation.timeout", (CRED_ITERATION + 1) * CRED_TIMER, Integer.class);
+
+    private static final Integer CRED_BATCH_SIZE = DataHandler.getConfiguration().getProperty("credentials.batch.size", 50, Integer.class);
+
+    private static final String SECADM_TYPE = "secadm";
+    private static final String CMEDIT_TYPE = "cmedit";
+
+    // Per node rows obtained with batch commands: each entry is consumed by the first getGenericCredential call,
+    // entries not consumed are removed at the end of the flow that uses them (see clearPrefetchedCredentials).
+    private static final Map<String, List<Map<String, String>>> PREFETCHED_CREDENTIALS = new ConcurrentHashMap<>();
+
     private static final String SUCCESS_UPDATE_CREDENTIAL_MESSAGE = "\n\n Credentials %s successfully updated - node %s\n\n";
     private static final String FAIL_UPDATE_CREDENTIAL_MESSAGE = "\n\n Credentials %s update FAILED - node %s\n%s\n\n";
     @Inject
@@ -92,6 +116,47 @@ public class CredentialMngTestSteps extends BaseTestStep {
         return getGenericCredential(node, true, "applicationusername", "applicationuserpassword");
     }
 
+    /**
+     * <pre>
+     * <b>Name</b>: credentialsBatchPrefetch            <i>[public]</i>
+     * <b>Description</b>: This Test Step is used to retrieve, with a reduced number of
+     * commands, the credentials of all the nodes contained in the selected DataSource.
+     * Nodes are grouped in chunks of 'credentials.batch.size' elements and both 'secadm' and
+     * 'cmedit' outputs are split per node: subsequent {@link StepIds#CRED_GET} and
+     * {@link StepIds#NODE_CRED_GET} steps use these values instead of sending a new command.
+     * </pre>
+     *
+     * @param dataSourceName name of the Context DataSource containing the nodes to prefetch
+     */
+    @TestStep(id = StepIds.CRED_BATCH_PREFETCH)
+    public void credentialsBatchPrefetch(@Input(Param.PREFETCH_DATASOURCE) final String dataSourceName) {
+        final String methodName = StepContext.current().getStepName();
+        final List<String> nodeList = Lists.newArrayList();
+        for (final DataRecord node : TafTestContext.getContext().dataSource(dataSourceName)) {
+            final Object networkElementId = node.getFieldValue(NETWORKELEMENTID);
+            if (networkElementId != null && !nodeList.contains(networkElementId.toString())) {
+                nodeList.add(networkElementId.toString());
+            }
+        }
+        final int batchSize = CRED_BATCH_SIZE > 0 ? CRED_BATCH_SIZE : 1;
+        clearPrefetchedCredentials();
+        LOGGER.debug("{} - Prefetch of credentials for {} nodes (DataSource '{}', chunk size {})",
+                methodName, nodeList.size(), dataSourceName, batchSize);
+
+        int prefetchedCount = 0;
+        for (final List<String> nodeChunk : Lists.partition(nodeList, batchSize)) {
+            prefetchedCount += prefetchChunk(SECADM_TYPE, nodeChunk,
+                    String.format(Command.SECADM_GET, Joiner.on(Command.SECADM_NODE_SEPARATOR).join(nodeChunk)));
+            final List<String> fdnList = Lists.newArrayList();
+            for (final String nodeName : nodeChunk) {
+                fdnList.add(String.format(Command.NETWORKELEMENTSECURITY_FDN, nodeName));
+            }
+            prefetchedCount += prefetchChunk(CMEDIT_TYPE, nodeChunk,
+                    String.format(Command.CMEDIT_GET_MULTI, Joiner.on(Command.CMEDIT_FDN_SEPARATOR).join(fdnList)));
+        }
+        LOGGER.info("{} - Prefetched {} credential tables for {} nodes", methodName, prefetchedCount, nodeList.size());
+    }
+
     /**
      * <pre>
      * <b>Name</b>: credentialsGet            <i>[public]</i>
@@ -105,7 +170,7 @@ public class CredentialMngTestSteps extends BaseTestStep {
      */
     @TestStep(id = StepIds.CRED_UPDATE)
     public void credentialsUpdate(@Input(ADDED_NODES) final DataRecord node, @Input(Param.USER_TYPE) final UserCredentialType userType) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
+        final String methodName = StepContext.current().getStepName();
         SecurityUtil.checkDataSource(node, ADDED_NODES);
         final String networkElementId = node.getFieldValue(NETWORKELEMENTID);
         final String networkElementType = node.getFieldValue(NETWORKELEMENTTYPE);
@@ -115,23 +180,29 @@ public class CredentialMngTestSteps extends BaseTestStep {
 
         // Get fields from DataRecord to be use for Credential Update
         final String expectedMessage = (String) node.getFieldValue(EXPECTED_MESSAGE);
+        final List<String> targetedFields = Lists.newArrayList(userType.getUserNameField(), userType.getUserPasswordField());
+        final Map<String, String> requestedAttributes = Maps.newHashMap();
+        for (final String field : targetedFields) {
+            final Object requestedValue = node.getFieldValue(field);
+            requestedAttributes.put(field.toLowerCase(), requestedValue == null ? null : requestedValue.toString());
+        }
         EnmCliResponse responseDtoAfter = null;
 
-        // Get previous Security info for Node
-        final EnmCliResponse responseDtoBefore = commandGetSecurityInfo(node);
         SecurityUtil.checkResponseDto(commandCredentialsUpdate(node), expectedMessage);
-        int iteration = CRED_ITERATION;
         boolean responseOk = expectedMessage != null;
 
-        // Wait until Get Seurity info changes
-        while (!responseOk && (iteration >= 0)) {
-            SecurityUtil.delay(CRED_TIMER);
+        // Wait until targeted Security info attributes are propagated
+        final ExponentialBackoff backoff = new ExponentialBackoff(CRED_PROPAGATION_INITIAL_DELAY, CRED_TIMER, CRED_PROPAGATION_TIMEOUT);
+        int attempt = 0;
+        while (!responseOk && backoff.sleep()) {
             responseDtoAfter = commandGetSecurityInfo(node);
-            responseOk = !responseDtoBefore.equals(responseDtoAfter);
-            iteration--;
+            responseOk = isCredentialPropagated(requestedAttributes, getTargetedAttributes(responseDtoAfter, targetedFields));
+            attempt++;
         }
+        LOGGER.debug("{} - Credential propagation for node {}: {} after {} checks", methodName, networkElementId,
+                responseOk ? "completed" : "NOT completed", attempt);
 
-        final String responseDtoString = (responseDtoAfter != null) ? responseDtoAfter.toString() : responseDtoBefore.toString();
+        final String responseDtoString = (responseDtoAfter != null) ? responseDtoAfter.toString() : "No Security info read";
 
         // Check response
         Assertions.assertThat(responseOk)
@@ -154,7 +225,7 @@ public class CredentialMngTestSteps extends BaseTestStep {
      */
     @TestStep(id = StepIds.CRED_UPDATE_LDAP)
     public void credentialsUpdateLdap(@Input(ADDED_NODES) final DataRecord node, @Input(Param.LDAP) final String ldapStatus) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
+        final String methodName = StepContext.current().getStepName();
         SecurityUtil.checkDataSource(node, ADDED_NODES);
         final String networkElementId = node.getFieldValue(NETWORKELEMENTID);
         final String networkElementType = node.getFieldValue(NETWORKELEMENTTYPE);
@@ -183,7 +254,7 @@ public class CredentialMngTestSteps extends BaseTestStep {
      */
     @TestStep(id = StepIds.DELETE_NODECLI_USER)
     public void deleteNodeCliInfo(@Input(ADDED_NODES) final DataRecord node) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
+        final String methodName = StepContext.current().getStepName();
         SecurityUtil.checkDataSource(node, ADDED_NODES);
         final String networkElementId = node.getFieldValue(NETWORKELEMENTID);
         final String networkElementType = node.getFieldValue(NETWORKELEMENTTYPE);
@@ -222,10 +293,9 @@ public class CredentialMngTestSteps extends BaseTestStep {
      * @return Get command Result (EnmCliResponse).
      */
     public EnmCliResponse commandCredentialsGet(final String nodeName) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        final RestImpl restImpl = provider.get();
+        final RestImpl restImpl = StandInRestImpl.select(provider);
         final String command = String.format(Command.SECADM_GET, nodeName);
-        LOGGER.trace("{} - Sending REST command (1):\n\t --> <{}>", methodName, command);
+        LOGGER.trace("{} - Sending REST command (1):\n\t --> <{}>", METHOD_NAME, command);
         return restImpl.sendCommand(command);
     }
 
@@ -240,10 +310,10 @@ public class CredentialMngTestSteps extends BaseTestStep {
      * @return Get command Result (EnmCliResponse).
      */
     public EnmCliResponse commandCredentialsDelete(final String nodeName) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        final RestImpl restImpl = provider.get();
+        final RestImpl restImpl = StandInRestImpl.select(provider);
         final String command = String.format(Command.CMEDIT_DELETE_SECURITY_FUNCTION, nodeName);
-        LOGGER.trace("{} - Sending REST command (2):\n\t --> <{}>", methodName, command);
+        invalidatePrefetchedCredentials(nodeName);
+        LOGGER.trace("{} - Sending REST command (2):\n\t --> <{}>", METHOD_NAME, command);
         return restImpl.sendCommand(command);
     }
 
@@ -258,10 +328,10 @@ public class CredentialMngTestSteps extends BaseTestStep {
      * @return Get command Result (EnmCliResponse).
      */
     public EnmCliResponse commandCredentialsCreate(final DataRecord node) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        final RestImpl restImpl = provider.get();
+        final RestImpl restImpl = StandInRestImpl.select(provider);
         final String command = prepareSecurityCommand(Command.SECADM_CREATE_SECURITY, false, node, null);
-        LOGGER.trace("{} - Sending REST command (3):\n\t --> <{}>", methodName, command);
+        invalidatePrefetchedCredentials((String) node.getFieldValue(NETWORKELEMENTID));
+        LOGGER.trace("{} - Sending REST command (3):\n\t --> <{}>", METHOD_NAME, command);
         return restImpl.sendCommand(command);
     }
 
@@ -276,11 +346,11 @@ public class CredentialMngTestSteps extends BaseTestStep {
      * @return - EnmCliResponse command result (EnmCliResponse).
      */
     public EnmCliResponse commandCredentialsUpdate(final DataRecord node) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        final RestImpl restImpl = provider.get();
+        final RestImpl restImpl = StandInRestImpl.select(provider);
         final DataRecord configuredData = getGenericCredential(node, false, "user name", "user password");
         final String command = prepareSecurityCommand(Command.SECADM_UPDATE_GENERIC, false, node, configuredData);
-        LOGGER.trace("{} - Sending REST command (4):\n\t --> <{}>", methodName, command);
+        invalidatePrefetchedCredentials((String) node.getFieldValue(NETWORKELEMENTID));
+        LOGGER.trace("{} - Sending REST command (4):\n\t --> <{}>", METHOD_NAME, command);
         return restImpl.sendCommand(command);
     }
 
@@ -292,12 +362,12 @@ public class CredentialMngTestSteps extends BaseTestStep {
      * @return EnmCliResponse command result
      */
     public EnmCliResponse commandCredentialsUpdateLdap(final DataRecord node, final String ldapStatus) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        final RestImpl restImpl = provider.get();
+        final RestImpl restImpl = StandInRestImpl.select(provider);
         final DataRecord configuredData = getGenericCredential(node, false, "user name", "user password");
         final String command = prepareSecurityCommand(Command.SECADM_UPDATE_GENERIC,
                 CredentialMngTestSteps.Param.ENABLE.equalsIgnoreCase(ldapStatus) ? true : false, node, configuredData);
-        LOGGER.trace("{} - Sending REST command (4b):\n\t --> <{}>", methodName, command);
+        invalidatePrefetchedCredentials((String) node.getFieldValue(NETWORKELEMENTID));
+        LOGGER.trace("{} - Sending REST command (4b):\n\t --> <{}>", METHOD_NAME, command);
         return restImpl.sendCommand(command);
     }
 
@@ -312,11 +382,10 @@ public class CredentialMngTestSteps extends BaseTestStep {
      * @return Security Info Response (EnmCliResponse).
      */
     private EnmCliResponse commandGetSecurityInfo(final DataRecord value) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-        final RestImpl restImpl = provider.get();
+        final RestImpl restImpl = StandInRestImpl.select(provider);
         final String nodeName = value.getFieldValue(NETWORKELEMENTID);
         final String command = String.format(CMEDIT_GET, nodeName);
-        LOGGER.trace("{} - Sending REST command (5):\n\t --> <{}>", methodName, command);
+        LOGGER.trace("{} - Sending REST command (5):\n\t --> <{}>", METHOD_NAME, command);
         return restImpl.sendCommand(command);
     }
 
@@ -335,7 +404,6 @@ public class CredentialMngTestSteps extends BaseTestStep {
      */
     private String prepareSecurityCommand(final String genericCommandToPrepare, final boolean ldapEnabled,
             final DataRecord nodeData, final DataRecord configuredNodeData) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
 
         // Check if exist root User: if exist check if it's different from previous one
         String rootUserData = "";
@@ -343,7 +411,7 @@ public class CredentialMngTestSteps extends BaseTestStep {
         String rootUserPassword = getSelectedField(ROOT_USER.getUserPasswordField(), nodeData, configuredNodeData);
         if (!rootUsername.isEmpty()) {
             rootUserData = String.format(Command.SECADM_ROOTUSER,rootUsername, rootUserPassword);
-            LOGGER.trace("{} - Setting of 'Root User' data\n\t --> {}", methodName, rootUserData);
+            LOGGER.trace("{} - Setting of 'Root User' data\n\t --> {}", METHOD_NAME, rootUserData);
         }
 
         // Check if exist secure User: if exist check if it's different from previous one
@@ -352,7 +420,7 @@ public class CredentialMngTestSteps extends BaseTestStep {
         String secureUserPassword = getSelectedField(UserCredentialType.SECURE_USER.getUserPasswordField(), nodeData, configuredNodeData);
         if (!secureUsername.isEmpty()) {
             secureUserData = String.format(Command.SECADM_SECUREUSER,secureUsername, secureUserPassword);
-            LOGGER.trace("{} - Setting of 'Secure User' data\n\t --> {}", methodName, secureUserData);
+            LOGGER.trace("{} - Setting of 'Secure User' data\n\t --> {}", METHOD_NAME, secureUserData);
         }
 
         // Check if exist normal User: if exist check if it's different from previous one
@@ -361,13 +429,13 @@ public class CredentialMngTestSteps extends BaseTestStep {
         String normalUserPassword = getSelectedField(NORMAL_USER.getUserPasswordField(), nodeData, configuredNodeData);
         if (!normalUsername.isEmpty()) {
             normalUserData = String.format(Command.SECADM_NORMALUSER,normalUsername, normalUserPassword);
-            LOGGER.trace("{} - Setting of 'Normal User' data\n\t --> {}", methodName, normalUserData);
+            LOGGER.trace("{} - Setting of 'Normal User' data\n\t --> {}", METHOD_NAME, normalUserData);
         }
 
         // Set LDAP configuration
         final String ldapConfData = String.format(Command.SECADM_LDAPUSER,
                 ldapEnabled ? CredentialMngTestSteps.Param.ENABLE : CredentialMngTestSteps.Param.DISABLE);
-        LOGGER.trace("{} - Setting 'LDAP conf' Data\n\t --> {}", methodName, ldapConfData);
+        LOGGER.trace("{} - Setting 'LDAP conf' Data\n\t --> {}", METHOD_NAME, ldapConfData);
 
         // Check if exist normal User: if exist check if it's different from previous one
         String nodecliUserData = "";
@@ -375,7 +443,7 @@ public class CredentialMngTestSteps extends BaseTestStep {
         String nodeCliUserPassword = getSelectedField(NODECLI_USER.getUserPasswordField(), nodeData, configuredNodeData);
         if (!nodeCliUsername.isEmpty()) {
             nodecliUserData = String.format(Command.SECADM_NODECLIUSER,nodeCliUsername, nodeCliUserPassword);
-            LOGGER.trace("{} - Setting of 'Normal User' data\n\t --> {}", methodName, nodecliUserData);
+            LOGGER.trace("{} - Setting of 'Normal User' data\n\t --> {}", METHOD_NAME, nodecliUserData);
         }
 
         return String.format(genericCommandToPrepare,
@@ -403,28 +471,33 @@ public class CredentialMngTestSteps extends BaseTestStep {
 
     private DataRecord getGenericCredential(final DataRecord node, final boolean getFromCmEdit, final String fieldNameToGet,
             final String fieldPasswordToGet) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
 
         // Execute selected command to get Security Infos and Check response
         final String networkElementId = node.getFieldValue(NETWORKELEMENTID);
         final String networkElementType = node.getFieldValue(NETWORKELEMENTTYPE);
-        final EnmCliResponse response = getFromCmEdit ? commandGetSecurityInfo(node) : commandCredentialsGet(networkElementId);
-        final String commandType = getFromCmEdit ? "cmedit" : "secadm";
-        LOGGER.debug("{} - Get Credential info for node {} [{}] ({} command):\n\tCommand Response Status --> {}\n\t{}",
-                methodName, networkElementId, networkElementType, commandType, response.isCommandSuccessful(), response);
-        Assertions.assertThat(response.isCommandSuccessful())
-                .as(String.format("Credentials get failure: %s [%s]", networkElementId, networkElementType))
-                .isTrue();
+        final String commandType = getFromCmEdit ? CMEDIT_TYPE : SECADM_TYPE;
+        List<Map<String, String>> retValue = PREFETCHED_CREDENTIALS.remove(getPrefetchKey(commandType, networkElementId));
+        if (retValue != null) {
+            LOGGER.debug("{} - Get Credential info for node {} [{}] ({} command): using prefetched values\n\t{}",
+                    METHOD_NAME, networkElementId, networkElementType, commandType, retValue);
+        } else {
+            final EnmCliResponse response = getFromCmEdit ? commandGetSecurityInfo(node) : commandCredentialsGet(networkElementId);
+            LOGGER.debug("{} - Get Credential info for node {} [{}] ({} command):\n\tCommand Response Status --> {}\n\t{}",
+                    METHOD_NAME, networkElementId, networkElementType, commandType, response.isCommandSuccessful(), response);
+            Assertions.assertThat(response.isCommandSuccessful())
+                    .as(String.format("Credentials get failure: %s [%s]", networkElementId, networkElementType))
+                    .isTrue();
+            retValue = response.getAllAtributesPerObjectSingleTableView();
+        }
 
         // Prepare Data to set info in DataRecord
         final Map<String, Object> data = Maps.newHashMap(node.getAllFields());
-        final List<Map<String, String>> retValue = response.getAllAtributesPerObjectSingleTableView();
         final StringBuilder loggerMessage = new StringBuilder();
         LOGGER.trace("{} - Get Credential infos for node {} [{}] Using '{}' --> {} users (end with -> '{}'/'{}')",
-                methodName, networkElementId, networkElementType, commandType,
+                METHOD_NAME, networkElementId, networkElementType, commandType,
                 retValue.size(), fieldNameToGet, fieldPasswordToGet);
         loggerMessage.append(String.format("%s - List of configured User/Password for node %s[%s]",
-                methodName, networkElementId, networkElementType));
+                METHOD_NAME, networkElementId, networkElementType));
         int elementCount = 0;
         for (final Map<String, String> mapElement : retValue) {
             for (final Map.Entry<String, String> mapEntry : mapElement.entrySet()) {
@@ -452,10 +525,152 @@ public class CredentialMngTestSteps extends BaseTestStep {
         }
         final DataRecord newNode = new DataRecordImpl(data);
         LOGGER.trace(loggerMessage.toString());
-        LOGGER.debug("{} - Added User Parameters to dataRecord ({} elements):\n\t--> {}", methodName, elementCount, newNode);
+        LOGGER.debug("{} - Added User Parameters to dataRecord ({} elements):\n\t--> {}", METHOD_NAME, elementCount, newNode);
         return newNode;
     }
 
+    /**
+     * <pre>
+     * <b>Name</b>: getTargetedAttributes            <i>[private]</i>
+     * <b>Description</b>: This method extracts from a 'cmedit' NetworkElementSecurity
+     * response only the selected attributes (keys in lower case).
+     * </pre>
+     *
+     * @param response 'cmedit get' response
+     * @param targetedFields attributes to extract
+     * @return map with selected attributes (null if the command failed)
+     */
+    private static Map<String, String> getTargetedAttributes(final EnmCliResponse response, final List<String> targetedFields) {
+        if (response == null || !response.isCommandSuccessful()) {
+            return null;
+        }
+        final Map<String, String> attributes = Maps.newHashMap();
+        for (final Map<String, String> row : response.getAllAtributesPerObjectSingleTableView()) {
+            for (final Map.Entry<String, String> column : row.entrySet()) {
+                for (final String field : targetedFields) {
+                    if (field != null && column.getKey().trim().equalsIgnoreCase(field)) {
+                        attributes.put(field.toLowerCase(), column.getValue());
+                    }
+                }
+            }
+        }
+        return attributes;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: isCredentialPropagated            <i>[private]</i>
+     * <b>Description</b>: This method checks if the credential update is visible: each
+     * targeted attribute must be equal to the requested value. Attributes not requested
+     * (empty or 'Not Configured'), not present in NetworkElementSecurity (i.e. ENM user
+     * fields) or masked (password shown as '*') can't be checked and are skipped.
+     * </pre>
+     *
+     * @param requested requested values of targeted attributes (keys in lower case)
+     * @param after targeted attributes read after update (null if not read)
+     * @return true if update has been propagated
+     */
+    private static boolean isCredentialPropagated(final Map<String, String> requested, final Map<String, String> after) {
+        if (after == null) {
+            return false;
+        }
+        for (final Map.Entry<String, String> requestedAttribute : requested.entrySet()) {
+            final String requestedValue = requestedAttribute.getValue();
+            final String actualValue = after.get(requestedAttribute.getKey());
+            if (requestedValue == null || requestedValue.isEmpty() || "Not Configured".equalsIgnoreCase(requestedValue)
+                    || actualValue == null || isMasked(actualValue)) {
+                continue;
+            }
+            if (!requestedValue.equals(actualValue.trim())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isMasked(final String value) {
+        final String trimmedValue = value.trim();
+        return !trimmedValue.isEmpty() && trimmedValue.replace("*", "").isEmpty();
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: prefetchChunk            <i>[private]</i>
+     * <b>Description</b>: This method execute a multi-node credential command and
+     * stores the returned rows for each node of the chunk. If the command fails or
+     * the table doesn't contain a node column, nothing is stored and the single-node
+     * command is used later.
+     * </pre>
+     *
+     * @param commandType type of command (secadm/cmedit)
+     * @param nodeChunk nodes included in the command
+     * @param command multi-node command to execute
+     * @return number of nodes with prefetched values
+     */
+    private int prefetchChunk(final String commandType, final List<String> nodeChunk, final String command) {
+        LOGGER.trace("{} - Sending REST command (6):\n\t --> <{}>", METHOD_NAME, command);
+        final EnmCliResponse response = StandInRestImpl.select(provider).sendCommand(command);
+        if (response == null || !response.isCommandSuccessful()) {
+            LOGGER.warn("{} - Batch '{}' command failed for nodes {}: single node commands will be used.\n\t{}",
+                    METHOD_NAME, commandType, nodeChunk, response);
+            return 0;
+        }
+
+        final Map<String, List<Map<String, String>>> rowsPerNode = Maps.newHashMap();
+        for (final Map<String, String> row : response.getAllAtributesPerObjectSingleTableView()) {
+            final String nodeName = getNodeNameFromRow(row);
+            if (nodeName == null || !nodeChunk.contains(nodeName)) {
+                LOGGER.warn("{} - Unable to associate '{}' row to a node of the chunk: single node commands will be used.\n\t{}",
+                        METHOD_NAME, commandType, row);
+                return 0;
+            }
+            if (!rowsPerNode.containsKey(nodeName)) {
+                rowsPerNode.put(nodeName, Lists.<Map<String, String>>newArrayList());
+            }
+            rowsPerNode.get(nodeName).add(row);
+        }
+        for (final Map.Entry<String, List<Map<String, String>>> nodeRows : rowsPerNode.entrySet()) {
+            PREFETCHED_CREDENTIALS.put(getPrefetchKey(commandType, nodeRows.getKey()), nodeRows.getValue());
+        }
+        LOGGER.debug("{} - Batch '{}' command: stored rows for {}/{} nodes", METHOD_NAME, commandType, rowsPerNode.size(),
+                nodeChunk.size());
+        return rowsPerNode.size();
+    }
+
+    private static String getNodeNameFromRow(final Map<String, String> row) {
+        for (final Map.Entry<String, String> column : row.entrySet()) {
+            final String columnName = column.getKey().replace(" ", "").toLowerCase();
+            if (Param.NODE_COLUMNS.contains(columnName)) {
+                return column.getValue() == null ? null : column.getValue().trim();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: clearPrefetchedCredentials            <i>[public]</i>
+     * <b>Description</b>: This method removes the prefetched credentials not used (see
+     * {@link StepIds#CRED_BATCH_PREFETCH}): it should be called at the end of the flow
+     * that uses them.
+     * </pre>
+     */
+    public static void clearPrefetchedCredentials() {
+        if (!PREFETCHED_CREDENTIALS.isEmpty()) {
+            LOGGER.debug("{} - {} prefetched credential tables not used: removed", METHOD_NAME, PREFETCHED_CREDENTIALS.size());
+            PREFETCHED_CREDENTIALS.clear();
+        }
+    }
+
+    private static String getPrefetchKey(final String commandType, final String networkElementId) {
+        return commandType + ":" + networkElementId;
+    }
+
+    private static void invalidatePrefetchedCredentials(final String networkElementId) {
+        PREFETCHED_CREDENTIALS.remove(getPrefetchKey(SECADM_TYPE, networkElementId));
+        PREFETCHED_CREDENTIALS.remove(getPrefetchKey(CMEDIT_TYPE, networkElementId));
+    }
+
     // ************************************************************************
     // * Inner Classes to defin TestId, Parameters and local Commands.
     // ************************************************************************
@@ -478,6 +693,8 @@ public class CredentialMngTestSteps extends BaseTestStep {
         public static final String NODE_CRED_GET = "nodeCredentialGet";
         @SuppressWarnings("checkstyle:JavadocVariable")
         public static final String DELETE_NODECLI_USER = "DeleteNodeCliUser";
+        @SuppressWarnings("checkstyle:JavadocVariable")
+        public static final String CRED_BATCH_PREFETCH = "credentialsBatchPrefetch";
 
         private StepIds() {
         }
@@ -512,6 +729,12 @@ public class CredentialMngTestSteps extends BaseTestStep {
         @SuppressWarnings("checkstyle:JavadocVariable")
         public static final String DISABLE = "disable";
 
+        @SuppressWarnings("checkstyle:JavadocVariable")
+        public static final String PREFETCH_DATASOURCE = "prefetchDataSource";
+
+        // Column names (lower case, without spaces) used to identify the node in multi-node tables.
+        static final List<String> NODE_COLUMNS = Lists.newArrayList("nodename", "nodeid", "networkelementid");
+
         private Param() {
         }
     }
@@ -526,6 +749,10 @@ public class CredentialMngTestSteps extends BaseTestStep {
     public static final class Command {
         static final String SECADM_GET = "secadm credentials get --plaintext show --nodelist %s";
         static final String CMEDIT_GET = "cmedit get NetworkElement=%s,SecurityFunction=1,NetworkElementSecurity=1 --table";
+        static final String CMEDIT_GET_MULTI = "cmedit get %s --table";
+        static final String NETWORKELEMENTSECURITY_FDN = "NetworkElement=%s,SecurityFunction=1,NetworkElementSecurity=1";
+        static final String SECADM_NODE_SEPARATOR = ",";
+        static final String CMEDIT_FDN_SEPARATOR = ";";
         static final String CMEDIT_DELETE_SECURITY_FUNCTION = "cmedit delete NetworkElement=%s,SecurityFunction=1,NetworkElementSecurity=1";
 
         // Generic Update/Create Command Formatter.
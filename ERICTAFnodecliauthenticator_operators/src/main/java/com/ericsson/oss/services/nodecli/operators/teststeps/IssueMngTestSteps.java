@@ -26,6 +26,8 @@ import org.slf4j.LoggerFactory;
 import com.ericsson.cifwk.taf.annotations.Input;
 import com.ericsson.cifwk.taf.annotations.TestStep;
 import com.ericsson.cifwk.taf.datasource.DataRecord;
+import com.ericsson.oss.services.nodecli.operators.operators.StandInRestImpl;
+import com.ericsson.oss.services.nodecli.operators.utility.StepContext;
 import com.ericsson.oss.testware.enm.cli.EnmCliResponse;
 import com.ericsson.oss.testware.nodesecurity.operators.RestImpl;
 import com.ericsson.oss.testware.nodesecurity.operators.factory.CertificateIssueFactory;
@@ -65,7 +67,7 @@ public class IssueMngTestSteps extends CertificateIssueTestSteps {
     @TestStep(id = StepIds.CERTIFICATE_ISSUE_BASE)
     public DataRecord certificateIssueBase(@Input(ADDED_NODES) final DataRecord node,
             @Input(DataSource.CERT_ISSUE_REISSUE_DATASOURCE) final DataRecord value) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
+        final String methodName = StepContext.current().getStepName();
         LOGGER.trace("{} - Method Input DataSources:\n\tNode --> {}\n\tCert Issue --> {}", methodName, node, value);
         SecurityUtil.checkDataSource(value, ADDED_NODES);
         final DataRecord newNode = TestStepUtil.mergeMap(node, value);
@@ -83,7 +85,7 @@ public class IssueMngTestSteps extends CertificateIssueTestSteps {
             final byte[] fileContents = xmlContentAfter.getBytes();
             final String targetFile = nodeName + filename;
             final String commandString = issueFactory.createIssue(newNode);
-            final RestImpl restImpl = provider.get();
+            final RestImpl restImpl = StandInRestImpl.select(provider);
             LOGGER.trace("{} - Send Command Information:\n\tCommand -> {}\n\tTarget File -> {}\n\tFile Content -> {}",
                     methodName, commandString, targetFile, fileContents);
             final EnmCliResponse response = restImpl.sendCommandWithFile(commandString, targetFile, fileContents);
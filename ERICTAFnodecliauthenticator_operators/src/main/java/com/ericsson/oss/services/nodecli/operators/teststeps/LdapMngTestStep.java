@@ -33,7 +33,9 @@ import com.ericsson.cifwk.taf.annotations.TestStep;
 import com.ericsson.cifwk.taf.datasource.DataRecord;
 import com.ericsson.cifwk.taf.datasource.DataRecordImpl;
 import com.ericsson.oss.services.nodecli.operators.factory.LdapFactory;
+import com.ericsson.oss.services.nodecli.operators.operators.StandInRestImpl;
 import com.ericsson.oss.services.nodecli.operators.utility.DataSourceName;
+import com.ericsson.oss.services.nodecli.operators.utility.StepContext;
 import com.ericsson.oss.services.scriptengine.spi.dtos.summary.SummaryDto;
 import com.ericsson.oss.testware.enm.cli.EnmCliResponse;
 import com.ericsson.oss.testware.nodesecurity.operators.RestImpl;
@@ -77,12 +79,12 @@ public class LdapMngTestStep extends BaseTestStep {
     @TestStep(id = StepIds.LDAP_GET)
     public DataRecord ldapGet(@Input(ADDED_NODES) final DataRecord node) {
         // TODO - insert here LDAP check for PCC/PCG nodes...
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
+        final String methodName = StepContext.current().getStepName();
         final String nodeName = node.getFieldValue(NETWORKELEMENTID);
         final String command = String.format(Command.LDAP_GET_COMMAND, nodeName);
         LOGGER.debug("{} - Executing Command:\n\tNetwork Element Id --> {} [{}]\n\tCommand --> {}",
                 methodName, nodeName, node.getFieldValue(NETWORKELEMENTTYPE), command);
-        final EnmCliResponse enmCliResponse = restImpl.get().sendCommand(command);
+        final EnmCliResponse enmCliResponse = StandInRestImpl.select(restImpl).sendCommand(command);
         LOGGER.trace("{} - Command Response: [{}]\n\t--> {}", methodName, enmCliResponse.isCommandSuccessful(), enmCliResponse);
         String ldapFdn = "";
         if (enmCliResponse.isCommandSuccessful()) {
@@ -122,7 +124,7 @@ public class LdapMngTestStep extends BaseTestStep {
      */
     @TestStep(id = StepIds.LDAP_GET_ADMINISTRATIVESTATE)
     public DataRecord ldapGetAdministrativeState(@Input(ADDED_NODES) final DataRecord node) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
+        final String methodName = StepContext.current().getStepName();
         final String nodeName = node.getFieldValue(NETWORKELEMENTID);
         final String commandToUse = Command.AUTHENTICATION_GET_COMMAND;
         // TODO - PCC/PCG nodes: find suitable command to get LDAP capability
@@ -132,7 +134,7 @@ public class LdapMngTestStep extends BaseTestStep {
         final String command = String.format(commandToUse, nodeName);
         LOGGER.debug("{} - Get Ldap Authentication Status: \n\tNetwork Elemet ID --> {}\n\tCommand to execute --> {}",
                 methodName, nodeName, command);
-        final EnmCliResponse enmCliResponse = restImpl.get().sendCommand(command);
+        final EnmCliResponse enmCliResponse = StandInRestImpl.select(restImpl).sendCommand(command);
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace("{} - Get Command response {}", methodName, enmCliResponse);
         }
@@ -172,12 +174,12 @@ public class LdapMngTestStep extends BaseTestStep {
      */
     @TestStep(id = StepIds.LDAP_SET_ADMINISTRATIVESTATE)
     public void ldapSetAdministrativeState(@Input(ADDED_NODES) final DataRecord node, @Input(Param.VALUE) final String value) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
+        final String methodName = StepContext.current().getStepName();
         final String ldapFDN = node.getFieldValue(Param.AUTHENTICATIONFDN);
         LOGGER.debug("{} - Executing command:\n\tLDAP fdn -->  {}\n\tParam value {}", methodName, ldapFDN, value);
         // TODO - PCC/PCG nodes: find suitable command to enable LDAP capability
         final String command = String.format(Command.AUTHENTICATION_SET__COMMAND, ldapFDN, value);
-        final EnmCliResponse enmCliResponse = restImpl.get().sendCommand(command);
+        final EnmCliResponse enmCliResponse = StandInRestImpl.select(restImpl).sendCommand(command);
         if (LOGGER.isTraceEnabled()) {
             final SummaryDto commandResult = enmCliResponse.getSummaryDto();
             final Boolean isNotNull = commandResult != null;
@@ -208,7 +210,7 @@ public class LdapMngTestStep extends BaseTestStep {
     @TestStep(id = StepIds.LDAP_SET_PROFILEFILTER)
     public void ldapSetprofileFilter(@Input(ADDED_NODES) final DataRecord node,
             @Input(Param.PROFILE_FILTER) @OptionalValue final String filterValue) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
+        final String methodName = StepContext.current().getStepName();
         final String fdnAuthentication = node.getFieldValue(Param.AUTHENTICATIONFDN);
         final String fdnLdap = node.getFieldValue(Param.LDAP_FDN);
         LOGGER.debug("{} - Setting Profile filter:\n\tNode Authentication Field --> {}\n\tLdap FDN --> {}", methodName, fdnAuthentication, fdnLdap);
@@ -216,7 +218,7 @@ public class LdapMngTestStep extends BaseTestStep {
             final String profileFilter = filterValue == null ? Param.DEFAULT_FILTER_VALUE : filterValue;
             final String command = String.format(Command.LDAP_SET__COMMAND, fdnLdap, profileFilter);
             LOGGER.trace("{} - Executing Command: {}", methodName, command);
-            final EnmCliResponse enmCliResponse = restImpl.get().sendCommand(command);
+            final EnmCliResponse enmCliResponse = StandInRestImpl.select(restImpl).sendCommand(command);
             if (LOGGER.isTraceEnabled()) {
                 final SummaryDto commandResult = enmCliResponse.getSummaryDto();
                 int errorCode = -1;
@@ -257,7 +259,7 @@ public class LdapMngTestStep extends BaseTestStep {
     @TestStep(id = StepIds.LDAP_BASE)
     public DataRecord ldapsBase(@Input(ADDED_NODES) final DataRecord node,
             @Input(LdapMngTestStep.DataSource.LDAP_DATASOURCE) final DataRecord value) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
+        final String methodName = StepContext.current().getStepName();
         final DataRecord newNode = TestStepUtil.mergeMap(node, value);
         final String xmlOutputPattern = "\n\t\t|";
         final String nodeName = newNode.getFieldValue(NETWORK_ELEMENT_ID);
@@ -288,7 +290,7 @@ public class LdapMngTestStep extends BaseTestStep {
                 LOGGER.trace("{} - Execute command with file:\n\tCommand --> {},\n\tTarget File -->{}\n\tFile Content -->\n\t\t|{}\n", methodName,
                         commandString, targetFile, Arrays.toString(fileContents).replaceAll(NEWLINE, xmlOutputPattern));
             }
-            final EnmCliResponse response = restImpl.get().sendCommandWithFile(commandString, targetFile, fileContents);
+            final EnmCliResponse response = StandInRestImpl.select(restImpl).sendCommandWithFile(commandString, targetFile, fileContents);
             LOGGER.trace("{} - Command Result:\n\tCommand success --> {}\n\tCommand Message --> {}\n\tRAW response --> {}",
                     methodName, response.isCommandSuccessful(), response.getSummaryDto().getStatusMessage(), response);
             SecurityUtil.checkResponseDto(response, (String) newNode.getFieldValue(EXPECTED_MESSAGE));
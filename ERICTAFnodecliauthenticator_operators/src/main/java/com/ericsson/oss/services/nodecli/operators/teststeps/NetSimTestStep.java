@@ -30,6 +30,7 @@ import com.ericsson.cifwk.taf.datasource.DataRecord;
 import com.ericsson.cifwk.taf.tools.cli.TafCliToolShell;
 import com.ericsson.de.tools.cli.CliCommandResult;
 import com.ericsson.oss.services.nodecli.operators.utility.BasicUtility;
+import com.ericsson.oss.services.nodecli.operators.utility.StepContext;
 import com.ericsson.oss.testware.enmbase.data.NetworkNode;
 import com.ericsson.oss.testware.hostconfigurator.HostConfigurator;
 import com.ericsson.oss.testware.network.teststeps.NetworkElementTestSteps;
@@ -71,7 +72,7 @@ public class NetSimTestStep extends BasicUtility {
     @TestStep(id = NetSimTestStep.StepIds.TEST_STEP_NETSIM_NODE_OPERATION)
     public void netSimNodeOperation(@Input(NODES_TO_ADD) final DataRecord netsim,
             @Input(Param.NETSIM_NODE_COMMAND) final String command, @Input(Param.NETSIM_COMMAND_EXPECTED_RESULT) final String expected) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
+        final String methodName = StepContext.current().getStepName();
         final Host netSimHost = HostConfigurator.getHost(netsim.getFieldValue(NETSIM_INFO_FIELD_NETSIMHOST));
         final String simulation = netsim.getFieldValue(NETSIM_INFO_FIELD_SIMULNAME);
         final String networkElementId = netsim.getFieldValue(Param.NODE_FIELD_NE_ID);
@@ -108,7 +109,7 @@ public class NetSimTestStep extends BasicUtility {
      */
     @TestStep(id =  NetSimTestStep.StepIds.TEST_STEP_NETSIM_NODE_START)
     public void startNode(@Input(NODES_TO_ADD) final NetworkNode node) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
+        final String methodName = StepContext.current().getStepName();
         final String operationType = FORCE_NODE_CREATION ? "NETSIM" : node.getFieldValue("nodeOperatorType");
         final String networkElementId = node.getNetworkElementId();
         LOGGER.trace("{} - Input Parameter:\n\tNode Name --> {}\n\tNode Operator Type --> {} (Flag -> {}, OperationType -> {}) {}",
@@ -25,12 +25,8 @@ import static com.ericsson.oss.testware.enmbase.data.CommonDataSources.AVAILABLE
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
 import java.util.List;
-import java.util.function.Predicate;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 import org.assertj.core.api.Assertions;
 import org.slf4j.Logger;
@@ -40,6 +36,14 @@ import com.ericsson.cifwk.taf.annotations.Input;
 import com.ericsson.cifwk.taf.annotations.TestStep;
 import com.ericsson.cifwk.taf.data.DataHandler;
 import com.ericsson.cifwk.taf.data.User;
+import com.ericsson.oss.services.nodecli.operators.utility.CallerMethod;
+import com.ericsson.oss.services.nodecli.operators.utility.LogTimestampDecoder;
+import com.ericsson.oss.services.nodecli.operators.utility.NodeCliLogFilter;
+import com.ericsson.oss.services.nodecli.operators.utility.NodeCliLogIndex;
+import com.ericsson.oss.services.nodecli.operators.utility.NodeCliLogMerger;
+import com.ericsson.oss.services.nodecli.operators.utility.NodeCliLogScanner;
+import com.ericsson.oss.services.nodecli.operators.utility.NodeCliLogTail;
+import com.ericsson.oss.services.nodecli.operators.utility.StepContext;
 import com.ericsson.oss.services.nodecli.operators.utility.UserCredentialType;
 import com.ericsson.oss.testware.enmbase.data.NetworkNode;
 
@@ -51,11 +55,15 @@ import com.ericsson.oss.testware.enmbase.data.NetworkNode;
  */
 public class NodeCliLogTestStep {
     private static final Logger LOGGER = LoggerFactory.getLogger(NodeCliLogTestStep.class);
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(NodeCliLogTestStep.class);
     private static final int NODECLI_LOG_TIME_INTERVAL_MINUTES = DataHandler.getConfiguration().getProperty("log.nodecli.timeinterval.minutes", 30,
             Integer.class);
     private static final String NODECLI_LOG_SUCCESS_PATTERN_ACCESS = DataHandler.getConfiguration().getProperty("log.nodecli.accessPattern.success",
             "Session opened successfully", String.class);
-    private static final Pattern DATETIMEPATTERN = Pattern.compile("\\d{4}-\\d{2}-\\d{2}\\s+\\d{2}:\\d{2}:\\d{2}");
+    private static final boolean INCREMENTAL_LOG_READ = DataHandler.getConfiguration().getProperty("log.nodecli.tail.enabled", false,
+            Boolean.class);
+    private static final int NODECLI_LOG_EXCERPT_LINES = DataHandler.getConfiguration().getProperty("log.nodecli.excerpt.lines", 50,
+            Integer.class);
     private static final DateTimeFormatter DATETIMEFORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     private static final String DISABLE_PATTERN = "disable";
@@ -80,78 +88,98 @@ public class NodeCliLogTestStep {
      * @param user
      *         user DataRecord with User for selected node.
      * @param logFromHosts
-     *         List of Strings with records from Logs.
+     *         List of Strings with remote Date/Time (first item) and LOGs (following items: LOG of each NodeCli host).
      */
     @TestStep(id = StepIds.CHECK_NODECLI_LOGGED_USER)
     public void checkNodeCliLoggedUser(@Input(TEST_CASE_ID) final String testCaseId, @Input(ADDED_NODES) final NetworkNode node,
             @Input(AVAILABLE_USERS) final User user, @Input(Param.LOG_FROM_NODECLI_PARAM) final List<String> logFromHosts) {
-
-        // TODO - Verificare se il LOG malformato dipende dal Log Collector oppure dalla testware
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
+        final String methodName = StepContext.current().getStepName();
         LOGGER.info("{} - Checking NodeCli Logged User:\n\tTest Case --> {}\n\tNode Selected --> {} <{}> [{}]\n\tENM User --> {}",
                 methodName, testCaseId, node.getNetworkElementId(), node.getIpAddress(), node.getNodeType(), user.getUsername());
-
-        // Getting Expected UserName
-        final String expectedUser = getExpectedNodeCliUser(testCaseId, user, node);
-        LOGGER.debug("{} - Expected UserName for '{}' is --> {}", methodName, testCaseId, expectedUser);
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace("{} - Print List Content: \n{}\n{}\n{}\n", methodName, new String(new char[80]).replace('\0', '-'),
                     String.join("\n\n", logFromHosts), new String(new char[80]).replace('\0', '-'));
         }
 
-        // First Record Should be Remote Date7Time Value, last record should Be LOGs: get test interval for LOG record extraction
-        final String remoteDateTimeString = logFromHosts.get(0);
-        final Matcher matcher = DATETIMEPATTERN.matcher(remoteDateTimeString);
-        LocalDateTime remoteDateObject = null;
-        LocalDateTime rewindDateObject = null;
-        if (matcher.find()) {
-            final String dateTimeValue = matcher.group();
-            remoteDateObject = LocalDateTime.parse(dateTimeValue, DATETIMEFORMATTER);
-            rewindDateObject = LocalDateTime.parse(dateTimeValue, DATETIMEFORMATTER).minusMinutes(NODECLI_LOG_TIME_INTERVAL_MINUTES);
-        }
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace("{} - Logger filtering Information: \n\tRemote Date And Time --> {}\n\tLog interval Time --> {} minutes"
-                            + "\n\tStart LOG at --> {}\n\tStop LOG at ---> {}\n\t- IP address --> '{}'\n\t- User name --> '{}'\n\t- Success Pattern"
-                            + " --> '{}' ",
-                    methodName, remoteDateTimeString, NODECLI_LOG_TIME_INTERVAL_MINUTES, DATETIMEFORMATTER.format(rewindDateObject),
-                    DATETIMEFORMATTER.format(remoteDateObject), node.getIpAddress(), expectedUser, NODECLI_LOG_SUCCESS_PATTERN_ACCESS);
-        }
+        // First Record Should be Remote Date/Time Value, following records should Be LOGs of the hosts (merged by time while they
+        // are scanned): the LOG has been read for this node only, so the scan stops at the first valid record (no index).
+        final String expectedUser = getExpectedNodeCliUser(testCaseId, user, node);
+        LOGGER.debug("{} - Expected UserName for '{}' is --> {}", methodName, testCaseId, expectedUser);
+        final long remoteTimestamp = NodeCliLogIndex.decodeTimestamp(logFromHosts.get(0));
+        final NodeCliLogScanner logScanner = new NodeCliLogScanner(NodeCliLogMerger.merged(logFromHosts.subList(1, logFromHosts.size())),
+                NODECLI_LOG_EXCERPT_LINES);
+        final String validRecord = logScanner.findFirst(getRewindTimestamp(remoteTimestamp), node.getIpAddress(), expectedUser,
+                NODECLI_LOG_SUCCESS_PATTERN_ACCESS);
+        assertLoggedUser(node, expectedUser, validRecord, remoteTimestamp, logScanner.getScannedLines(), validRecord != null ? 1 : 0,
+                logScanner.getExcerpt());
+    }
 
-        final List<String> originalLogList = Arrays.asList(logFromHosts.get(logFromHosts.size() - 1).split("\\R"));
-
-        // Filter List with values: ipAddress, expectedUser and 'Session opened successfully'
-        final Pattern dateTimePredicate = Pattern.compile("\\d{4}-\\d{2}-\\d{2}\\s+\\d{2}:\\d{2}:\\d{2},\\d{3}");
-        final Predicate<String> nodeIpAddressPredicate = s -> s.contains(node.getIpAddress());
-        final Predicate<String> expectedUserPredicate = s -> s.contains(expectedUser);
-        final Predicate<String> successPredicate = s -> s.contains(NODECLI_LOG_SUCCESS_PATTERN_ACCESS);
-        final List<String> validRecords = originalLogList.stream()
-                .filter(dateTimePredicate.asPredicate().and(nodeIpAddressPredicate).and(expectedUserPredicate).and(successPredicate)).sorted()
-                .filter(isAfterDateTime(rewindDateObject))
-                .collect(Collectors.toList());
-
-        LOGGER.trace("{} - Size of Log List: {} --> {} --> {}", methodName, logFromHosts.size(), originalLogList.size(),
-                validRecords.size());
-
-        if (validRecords.size() > 0) {
-            if (LOGGER.isInfoEnabled()) {
-                LOGGER.info("{} - Record(s) Found [{}/{}]\n\tLog Records from ---> <{}> to --> <{}>\n\tIpAddress --> {} ({} [{}])"
-                                + "\n\tExpected User --> {}\n\t| {}", methodName, originalLogList.size(), validRecords.size(),
-                        DATETIMEFORMATTER.format(rewindDateObject), DATETIMEFORMATTER.format(remoteDateObject), node.getIpAddress(),
-                        node.getNetworkElementId(), node.getNodeType(), expectedUser, String.join("\n\t| ", validRecords));
-            }
-        } else {
-            final String nodeIpAddress = node.getIpAddress();
-            final String nodeName = node.getNetworkElementId();
-            final String nodeType = node.getNodeType();
-            final String logRecords = String.join("\n\t| ", originalLogList);
-            LOGGER.error("{} -- Logged User ({}) Not Found in {} ({} [{}]) connection\n  Log Records:\n\t| {}",
-                    methodName, expectedUser, nodeIpAddress, nodeName, nodeType, logRecords);
-        }
-        // No Record found with Expected Values
-        Assertions.assertThat(validRecords.size())
-                .as(String.format("No LOG record found with User --> %s, IP address --> %s and  Result --> %s, after this Date/Time %s",
-                        expectedUser, node.getIpAddress(), "Session opened successfully", DATETIMEFORMATTER.format(rewindDateObject)))
-                .isGreaterThan(0);
+    /**
+     * <pre>
+     * <b>Test Step Name</b>: {@link StepIds#CHECK_NODECLI_LOGGED_USER_SNAPSHOT}
+     * <b>Name</b>: checkNodeCliLoggedUserSnapshot      <i>[public]</i>
+     * <b>Description</b>: This Test Step is used to compare the <i>UserName</i> expected for
+     *   the specific <u>TestCase</u> with the one used to access the NodeCli by reading
+     *   the LOG snapshot of the scenario ({@link NodeCliLogIndex}): the LOG of the NodeCli
+     *   hosts is read only if the record is not found in the current snapshot, and a
+     *   single read is shared by all the vUsers waiting for it.
+     *   With 'log.nodecli.tail.enabled' property the LOG is read incrementally (only the
+     *   records appended since the previous read are indexed), otherwise the records of
+     *   the time interval are read ('log.nodecli.timeinterval.minutes').
+     * In case of test failure (the two usernames are different) then the
+     *   TestStep provides for the 'print' (LOG) of the last lines of the nodecli
+     *   host LOG (merged Mode).
+     * </pre>
+     *
+     * @param testCaseId
+     *         testCaseId Lable of selected Test Case: inside it there is status of LDAP/SSO.
+     * @param node
+     *         node DataRecord with selected Node.
+     * @param user
+     *         user DataRecord with User for selected node.
+     */
+    @TestStep(id = StepIds.CHECK_NODECLI_LOGGED_USER_SNAPSHOT)
+    public void checkNodeCliLoggedUserSnapshot(@Input(TEST_CASE_ID) final String testCaseId, @Input(ADDED_NODES) final NetworkNode node,
+            @Input(AVAILABLE_USERS) final User user) {
+        final String methodName = StepContext.current().getStepName();
+        LOGGER.info("{} - Checking NodeCli Logged User:\n\tTest Case --> {}\n\tNode Selected --> {} <{}> [{}]\n\tENM User --> {}",
+                methodName, testCaseId, node.getNetworkElementId(), node.getIpAddress(), node.getNodeType(), user.getUsername());
+        final long checkNanos = System.nanoTime();
+        checkLoggedUser(testCaseId, node, user, NodeCliLogIndex.getSnapshot(testCaseId),
+                () -> NodeCliLogIndex.load(testCaseId, checkNanos, NodeCliLogTestStep::readLog, INCREMENTAL_LOG_READ,
+                        NODECLI_LOG_SUCCESS_PATTERN_ACCESS));
+    }
+
+    /**
+     * <pre>
+     * <b>Test Step Name</b>: {@link StepIds#GET_NODECLI_LOG_FILTERED}
+     * <b>Name</b>: getNodeCliLogFiltered      <i>[public]</i>
+     * <b>Description</b>: This Test Step reads from the NodeCli hosts only the LOG records
+     *   needed by {@link StepIds#CHECK_NODECLI_LOGGED_USER}: the filter (IP address,
+     *   expected user, success pattern and time interval) is executed on the hosts.
+     *   First item of the result is remote Date/Time, following items are the records
+     *   found on each host.
+     * </pre>
+     *
+     * @param testCaseId
+     *         testCaseId Lable of selected Test Case: inside it there is status of LDAP/SSO.
+     * @param node
+     *         node DataRecord with selected Node.
+     * @param user
+     *         user DataRecord with User for selected node.
+     *
+     * @return List of Strings with remote Date/Time and LOG records
+     */
+    @TestStep(id = StepIds.GET_NODECLI_LOG_FILTERED)
+    public List<String> getNodeCliLogFiltered(@Input(TEST_CASE_ID) final String testCaseId, @Input(ADDED_NODES) final NetworkNode node,
+            @Input(AVAILABLE_USERS) final User user) {
+        final String methodName = StepContext.current().getStepName();
+        final String expectedUser = getExpectedNodeCliUser(testCaseId, user, node);
+        final List<String> logFromHosts = NodeCliLogFilter.read(NODECLI_LOG_SUCCESS_PATTERN_ACCESS, node.getIpAddress(), expectedUser,
+                NODECLI_LOG_TIME_INTERVAL_MINUTES);
+        LOGGER.debug("{} - NodeCli LOG read at {} for {} <{}>: {} chars", methodName, logFromHosts.get(0), expectedUser, node.getIpAddress(),
+                getLogLength(logFromHosts));
+        return logFromHosts;
     }
 
     // ***********************************************************************
@@ -180,33 +208,32 @@ public class NodeCliLogTestStep {
      */
     // TODO - implement Double Role Management (With Property) to implement Machine state for Ueer Selection
     protected static String getExpectedNodeCliUser(final String testCaseId, final User user, final NetworkNode node) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
         final String normalizedTestId = normalizedTestCaseId(testCaseId);
         LOGGER.debug("{} - Getting Node Cli User from:\n\tTest Case Id --> {}\n\tNormalized TestCase --> '{}'",
-                methodName, testCaseId, normalizedTestId);
+                METHOD_NAME, testCaseId, normalizedTestId);
         String userName = "";
         switch (normalizedTestId) {
             case "ldapdisablessodisable":                                  // This mean LDAP Disable SSO Disable
-                LOGGER.trace("{} - Case 'ldapdisablessodisable'", methodName);
+                LOGGER.trace("{} - Case 'ldapdisablessodisable'", METHOD_NAME);
                 // TODO - Implement State Machine for UserName Selection (USERSELECTION_OLDIMPLEMENTATION)
                 userName = getNodeSecureUserName(node);
                 break;
             case "ldapdisablessoenable":                                   // This mean LDAP Disable SSO Enable
-                LOGGER.trace("{} - Case 'ldapdisablessoenable'", methodName);
+                LOGGER.trace("{} - Case 'ldapdisablessoenable'", METHOD_NAME);
                 userName = user.getUsername();
                 break;
             case "ldapenablessodisable":                                   // This mean LDAP Enable SSO Disable
-                LOGGER.trace("{} - Case 'ldapenablessodisable'", methodName);
+                LOGGER.trace("{} - Case 'ldapenablessodisable'", METHOD_NAME);
                 userName = getLdapUserName(node);
                 break;
             case "ldapenablessoenable":                                    // This mean LDAP Enable SSO Enable
-                LOGGER.trace("{} - Case 'ldapenablessoenable'", methodName);
+                LOGGER.trace("{} - Case 'ldapenablessoenable'", METHOD_NAME);
                 userName = user.getUsername();
                 break;
             default:
                 break;
         }
-        LOGGER.trace("{} - Expected UserName --> {}\n\t", methodName, userName);
+        LOGGER.trace("{} - Expected UserName --> {}\n\t", METHOD_NAME, userName);
         return userName;
     }
 
@@ -235,10 +262,9 @@ public class NodeCliLogTestStep {
     // TODO - Fix this piece of code to meet new requrement:
     //  https://confluence-oss.seli.wh.rnd.internal.ericsson.com/display/ENMRASecurity/RA+Security+Requirements+Details?src=breadcrumbs-parent
     private static String getNodeSecureUserName(final NetworkNode node) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace("{} - Get Node User Names:\n\t{} --> {}\n\t{} --> {}\n\t{} --> {}\n\t{} --> {}\n\t{} --> {}\n\t{} --> {}",
-                    methodName,
+                    METHOD_NAME,
                     UserCredentialType.ENM_USER.name(), node.getFieldValue(UserCredentialType.ENM_USER.getUserNameField()),
                     UserCredentialType.ROOT_USER.name(), node.getFieldValue(UserCredentialType.ROOT_USER.getUserNameField()),
                     UserCredentialType.SECURE_USER.name(), node.getFieldValue(UserCredentialType.SECURE_USER.getUserNameField()),
@@ -257,20 +283,86 @@ public class NodeCliLogTestStep {
         return node.getFieldValue(UserCredentialType.LDAP_USER.getUserNameField());
     }
 
-    private static Predicate<String> isAfterDateTime(final LocalDateTime fromDateTime) {
-        return new Predicate<String>() {
-            @Override
-            public boolean test(final String logRecordItem) {
-                LOGGER.trace("Check Instance: {} --> {} ", fromDateTime, logRecordItem);
-                final Matcher matcher = DATETIMEPATTERN.matcher(logRecordItem);
-                if (matcher.find()) {
-                    final String dateTimeValue = matcher.group();
-                    final LocalDateTime recordDateTimeValue = LocalDateTime.parse(dateTimeValue, DATETIMEFORMATTER);
-                    return recordDateTimeValue.isAfter(fromDateTime);
-                }
-                return false;
-            }
-        };
+    private static void checkLoggedUser(final String testCaseId, final NetworkNode node, final User user, final NodeCliLogIndex snapshot,
+            final Supplier<NodeCliLogIndex> snapshotLoader) {
+
+        // Getting Expected UserName
+        final String expectedUser = getExpectedNodeCliUser(testCaseId, user, node);
+        LOGGER.debug("{} - Expected UserName for '{}' is --> {}", METHOD_NAME, testCaseId, expectedUser);
+
+        // Search first record with values: ipAddress, expectedUser and 'Session opened successfully' (after rewind time).
+        // Current LOG snapshot is used first, a newer one is loaded only if the record is not found.
+        NodeCliLogIndex logIndex = snapshot;
+        String validRecord = logIndex != null ? logIndex.findAfter(node.getIpAddress(), expectedUser,
+                getRewindTimestamp(logIndex.getRemoteTimestamp())) : null;
+        if (validRecord == null) {
+            logIndex = snapshotLoader.get();
+            validRecord = logIndex.findAfter(node.getIpAddress(), expectedUser, getRewindTimestamp(logIndex.getRemoteTimestamp()));
+        }
+        assertLoggedUser(node, expectedUser, validRecord, logIndex.getRemoteTimestamp(), logIndex.getScannedLines(), logIndex.getRecordCount(),
+                logIndex.getExcerpt());
+    }
+
+    private static void assertLoggedUser(final NetworkNode node, final String expectedUser, final String validRecord,
+            final long remoteTimestamp, final int scannedLines, final int recordCount, final List<String> excerpt) {
+        final LocalDateTime remoteDateObject = remoteTimestamp < 0 ? null : LogTimestampDecoder.toLocalDateTime(remoteTimestamp);
+        final LocalDateTime rewindDateObject = remoteDateObject == null ? null : remoteDateObject.minusMinutes(NODECLI_LOG_TIME_INTERVAL_MINUTES);
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("{} - Logger filtering Information: \n\tLog interval Time --> {} minutes"
+                            + "\n\tStart LOG at --> {}\n\tStop LOG at ---> {}\n\t- IP address --> '{}'\n\t- User name --> '{}'\n\t- Success Pattern"
+                            + " --> '{}' ",
+                    METHOD_NAME, NODECLI_LOG_TIME_INTERVAL_MINUTES, formatDateTime(rewindDateObject), formatDateTime(remoteDateObject),
+                    node.getIpAddress(), expectedUser, NODECLI_LOG_SUCCESS_PATTERN_ACCESS);
+        }
+        LOGGER.trace("{} - Size of Log: {} --> {} --> {}", METHOD_NAME, scannedLines, recordCount,
+                validRecord != null ? 1 : 0);
+
+        if (validRecord != null) {
+            LOGGER.info("{} - Record Found [{}/{}]\n\tLog Records from ---> <{}> to --> <{}>\n\tIpAddress --> {} ({} [{}])"
+                            + "\n\tExpected User --> {}\n\t| {}", METHOD_NAME, scannedLines, recordCount,
+                    formatDateTime(rewindDateObject), formatDateTime(remoteDateObject), node.getIpAddress(),
+                    node.getNetworkElementId(), node.getNodeType(), expectedUser, validRecord);
+        } else {
+            final String nodeIpAddress = node.getIpAddress();
+            final String nodeName = node.getNetworkElementId();
+            final String nodeType = node.getNodeType();
+            final String logRecords = String.join("\n\t| ", excerpt);
+            LOGGER.error("{} -- Logged User ({}) Not Found in {} ({} [{}]) connection\n  Last {} of {} Log Records:\n\t| {}",
+                    METHOD_NAME, expectedUser, nodeIpAddress, nodeName, nodeType, excerpt.size(), scannedLines,
+                    logRecords);
+        }
+        // No Record found with Expected Values
+        Assertions.assertThat(validRecord)
+                .as(String.format("No LOG record found with User --> %s, IP address --> %s and  Result --> %s, after this Date/Time %s",
+                        expectedUser, node.getIpAddress(), NODECLI_LOG_SUCCESS_PATTERN_ACCESS, formatDateTime(rewindDateObject)))
+                .isNotNull();
+    }
+
+    private static long getRewindTimestamp(final long remoteTimestamp) {
+        if (remoteTimestamp < 0) {
+            return -1L;
+        }
+        return LogTimestampDecoder.encode(LogTimestampDecoder.toLocalDateTime(remoteTimestamp)
+                .minusMinutes(NODECLI_LOG_TIME_INTERVAL_MINUTES));
+    }
+
+    private static List<String> readLog() {
+        final List<String> logFromHosts = INCREMENTAL_LOG_READ ? NodeCliLogTail.getInstance().read()
+                : NodeCliLogTail.readWindow(NODECLI_LOG_TIME_INTERVAL_MINUTES);
+        LOGGER.debug("{} - NodeCli LOG read at {}: {} chars", METHOD_NAME, logFromHosts.get(0), getLogLength(logFromHosts));
+        return logFromHosts;
+    }
+
+    private static long getLogLength(final List<String> logFromHosts) {
+        long length = 0;
+        for (int index = 1; index < logFromHosts.size(); index++) {
+            length += logFromHosts.get(index).length();
+        }
+        return length;
+    }
+
+    private static String formatDateTime(final LocalDateTime dateTime) {
+        return dateTime != null ? DATETIMEFORMATTER.format(dateTime) : "--";
     }
 
     // ************************************************************************
@@ -287,6 +379,10 @@ public class NodeCliLogTestStep {
     public static final class StepIds {
         @SuppressWarnings("checkstyle:JavadocVariable")
         public static final String CHECK_NODECLI_LOGGED_USER = "Check User in NodeCli Log";
+        @SuppressWarnings("checkstyle:JavadocVariable")
+        public static final String CHECK_NODECLI_LOGGED_USER_SNAPSHOT = "Check User in NodeCli Log Snapshot";
+        @SuppressWarnings("checkstyle:JavadocVariable")
+        public static final String GET_NODECLI_LOG_FILTERED = "Get NodeCli Log Filtered";
 
         private StepIds() {
         }
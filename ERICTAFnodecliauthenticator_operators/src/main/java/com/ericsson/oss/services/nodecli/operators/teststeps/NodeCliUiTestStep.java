@@ -18,6 +18,7 @@
 package com.ericsson.oss.services.nodecli.operators.teststeps;
 
 import static com.ericsson.cifwk.taf.scenario.api.DataDrivenTestScenarioBuilder.TEST_CASE_ID;
+import static com.ericsson.oss.services.nodecli.operators.operators.BrowserSessionPool.BROWSER_POOL_ENABLED;
 import static com.ericsson.oss.services.nodecli.operators.teststeps.NodeCliUiTestStep.StepIds.ASSERT_LAUNCH_NODECLI_PRESENT;
 import static com.ericsson.oss.services.nodecli.operators.teststeps.NodeCliUiTestStep.StepIds.INIT_BROWSER_AND_LOGIN;
 import static com.ericsson.oss.services.nodecli.operators.teststeps.NodeCliUiTestStep.StepIds.LAUNCH_AND_VERIFY_CLI_PARALLEL;
@@ -27,6 +28,8 @@ import static com.ericsson.oss.services.nodecli.operators.utility.BasicUtility.t
 import static com.ericsson.oss.testware.enmbase.data.CommonDataSources.ADDED_NODES;
 import static com.ericsson.oss.testware.enmbase.data.CommonDataSources.AVAILABLE_USERS;
 
+import java.util.Locale;
+
 import javax.inject.Inject;
 import javax.inject.Provider;
 
@@ -36,15 +39,25 @@ import org.slf4j.LoggerFactory;
 
 import com.ericsson.cifwk.taf.TafTestContext;
 import com.ericsson.cifwk.taf.annotations.Input;
+import com.ericsson.cifwk.taf.annotations.OptionalValue;
 import com.ericsson.cifwk.taf.annotations.TestStep;
+import com.ericsson.cifwk.taf.data.DataHandler;
 import com.ericsson.cifwk.taf.data.User;
 import com.ericsson.cifwk.taf.ui.Browser;
 import com.ericsson.cifwk.taf.ui.BrowserSetup;
 import com.ericsson.cifwk.taf.ui.BrowserTab;
+import com.ericsson.cifwk.taf.ui.BrowserType;
+import com.ericsson.cifwk.taf.ui.UI;
 import com.ericsson.cifwk.taf.ui.core.GenericPredicate;
 import com.ericsson.cifwk.taf.ui.core.UiComponent;
 import com.ericsson.cifwk.taf.ui.core.WaitTimedOutException;
+import com.ericsson.oss.services.nodecli.operators.operators.BrowserSessionPool;
+import com.ericsson.oss.services.nodecli.operators.operators.CliSessionTimeline;
+import com.ericsson.oss.services.nodecli.operators.operators.HeadlessNodeCliVerifier;
+import com.ericsson.oss.services.nodecli.operators.operators.NodeCliLoadGenerator;
 import com.ericsson.oss.services.nodecli.operators.operators.NodeCliUiOperator;
+import com.ericsson.oss.services.nodecli.operators.utility.CallerMethod;
+import com.ericsson.oss.services.nodecli.operators.utility.StepContext;
 import com.ericsson.oss.testware.enmbase.data.ENMUser;
 import com.ericsson.oss.testware.enmbase.data.NetworkNode;
 import com.ericsson.oss.testware.hostconfigurator.HostConfigurator;
@@ -71,8 +84,16 @@ public class NodeCliUiTestStep extends BaseTestStep {
     public static final String NETWORKEXPLORERURL = "/#networkexplorer";
     @SuppressWarnings("checkstyle:JavadocVariable")
     public static final String HTTPSURL = "https://";
+    @SuppressWarnings("checkstyle:JavadocVariable")
+    public static final String LOGOUTURL = "/logout";
+    @SuppressWarnings("checkstyle:JavadocVariable")
+    public static final String LOGINURL = "/login";
+    @SuppressWarnings("checkstyle:JavadocVariable")
+    public static final String NODECLI_DIRECT_URL_FORMAT = DataHandler.getConfiguration().getProperty("nodecli.direct.url.format",
+            NODECLI_APPID + "?nodes=%s", String.class);
     static final String CMEDIT_GET_NOTABLE = "cmedit get NetworkElement=%s,SecurityFunction=1,NetworkElementSecurity=1";
     private static final Logger LOGGER = LoggerFactory.getLogger(NodeCliUiTestStep.class);
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(NodeCliUiTestStep.class);
     @Inject
     private Provider<LoginLogoutUiOperator> loginLogoutUiOperator;
     @Inject
@@ -80,6 +101,8 @@ public class NodeCliUiTestStep extends BaseTestStep {
     @Inject
     private Provider<NodeCliUiOperator> nodeCliUiOperator;
     @Inject
+    private Provider<HeadlessNodeCliVerifier> headlessNodeCliVerifier;
+    @Inject
     private TafToolProvider tafToolProvider;
     @Inject
     private BrowserDataHolder browserDataHolder;
@@ -97,21 +120,28 @@ public class NodeCliUiTestStep extends BaseTestStep {
      */
     @TestStep(id = INIT_BROWSER_AND_LOGIN)
     public void initBrowserAndLogin(@Input(AVAILABLE_USERS) final ENMUser user) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
+        final String methodName = StepContext.current().getStepName();
         LOGGER.info("{} - Init Browser and open ENM with User '{}')", methodName, user.getUsername());
-        Browser browser = null;
-        try {
-            browser = loginLogoutUiOperator.get().login(tafToolProvider.getBrowser(), user.getUsername(), user.getPassword(), NETWORKEXPLORERURL);
-            LOGGER.trace("{} - Browser opened with Login Operation");
-        } catch (final Exception | Error  e) {
-            LOGGER.error("{} - Exception caught");
-            Assertions.assertThat(false).as(String.format("Exception/Error during Init of Browser (vUser ID --> %d, UserName --> %s):"
-                    + "%nMessage -> %s%nStack Trace -->%n%s",
-                    TafTestContext.getContext().getVUser(), user.getUsername(), e.getMessage(), e.getStackTrace())).isTrue();
+        Browser browser = BROWSER_POOL_ENABLED ? leasePooledBrowser(user) : null;
+        if (browser == null) {
+            try {
+                // Browser of vUser context can be a pooled browser already given back: with pool a new browser is opened.
+                final Browser newBrowser = BROWSER_POOL_ENABLED ? UI.newBrowser(BrowserType.DEFAULT) : tafToolProvider.getBrowser();
+                browser = loginLogoutUiOperator.get().login(newBrowser, user.getUsername(), user.getPassword(), NETWORKEXPLORERURL);
+                LOGGER.trace("{} - Browser opened with Login Operation");
+            } catch (final Exception | Error  e) {
+                LOGGER.error("{} - Exception caught");
+                Assertions.assertThat(false).as(String.format("Exception/Error during Init of Browser (vUser ID --> %d, UserName --> %s):"
+                        + "%nMessage -> %s%nStack Trace -->%n%s",
+                        TafTestContext.getContext().getVUser(), user.getUsername(), e.getMessage(), e.getStackTrace())).isTrue();
+            }
+            LOGGER.trace("{} - No exception: check browser consistency");
+            Assertions.assertThat(browser).as(String.format("Cannot Open Browser (vUser ID --> %d, UserName --> %s) [Browser not set --> 'null']",
+                    TafTestContext.getContext().getVUser(), user.getUsername())).isNotNull();
+            if (BROWSER_POOL_ENABLED) {
+                BrowserSessionPool.getInstance().register(user.getUsername(), browser, browser.getCurrentWindow());
+            }
         }
-        LOGGER.trace("{} - No exception: check browser consistency");
-        Assertions.assertThat(browser).as(String.format("Cannot Open Browser (vUser ID --> %d, UserName --> %s) [Browser not set --> 'null']",
-                TafTestContext.getContext().getVUser(), user.getUsername())).isNotNull();
 
         // Configure Browser, compose expected URL and get Login URL
         LOGGER.trace("{} - Normal Operation");
@@ -138,7 +168,7 @@ public class NodeCliUiTestStep extends BaseTestStep {
      */
     @TestStep(id = ASSERT_LAUNCH_NODECLI_PRESENT)
     public void assertLaunchNodeCliButtonIsPresent() {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
+        final String methodName = StepContext.current().getStepName();
         final BrowserTab browserTab = tafToolProvider.getCurrentBrowserTab();
         final ActionBarViewModel actionBarViewModel = browserTab.getView(ActionBarViewModel.class);
         boolean actionButtonDisplayed = false;
@@ -168,9 +198,9 @@ public class NodeCliUiTestStep extends BaseTestStep {
      */
     @TestStep(id = SEARCH_FOR_NODE_VUSERS)
     public void searchForNodeVUser(@Input(ADDED_NODES) final NetworkNode node) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
+        final String methodName = StepContext.current().getStepName();
         final String nodeId = node.getNetworkElementId();
-        final Browser browser = tafToolProvider.getBrowser();
+        final Browser browser = getContextBrowser();
         final ResultsViewModel resultsViewModel = browser.getCurrentWindow().getView(ResultsViewModel.class);
         LOGGER.info("{} - Search in Network Explorer Network with NodeId ==> {}", methodName, nodeId);
         networkExplorerOperator.get()
@@ -185,6 +215,9 @@ public class NodeCliUiTestStep extends BaseTestStep {
      * <b>Name</b>: launchCliShellAndVerifyWithVUsers      <i>[public]</i>
      * <b>Description</b>: This Test step has the purpose of launching the Node Cli on
      * the selected node and verifying the correct connection to the node itself.
+     *  The phases of the session (launch, new tab, terminal, connection, credentials
+     * and prompt) are recorded in run metrics and the time-to-prompt is added to the
+     * Test Case values (see {@link StepIds#CHECK_TIME_TO_PROMPT_SLO}).
      * </pre>
      *
      * @param vUsers
@@ -195,46 +228,59 @@ public class NodeCliUiTestStep extends BaseTestStep {
      *         used to check Clu user you've logged.
      * @param testCaseId
      *         Executing Test Case.
+     * @param directLaunch
+     *         true to open Node Cli application directly (without Network Explorer 'Launch Node CLI' action).
+     * @return timeline of the Node Cli session phases (from launch to prompt).
      */
     @TestStep(id = LAUNCH_AND_VERIFY_CLI_PARALLEL)
-    public void launchCliShellAndVerifyWithVUsers(@Input(Param.VUSER_PARAM) final int vUsers, @Input(ADDED_NODES) final NetworkNode node,
-            @Input(AVAILABLE_USERS) final User enmUser, @Input(TEST_CASE_ID) final String testCaseId) {
+    public CliSessionTimeline launchCliShellAndVerifyWithVUsers(@Input(Param.VUSER_PARAM) final int vUsers, @Input(ADDED_NODES) final NetworkNode node,
+            @Input(AVAILABLE_USERS) final User enmUser, @Input(TEST_CASE_ID) final String testCaseId,
+            @Input(Param.DIRECT_LAUNCH_PARAM) @OptionalValue("false") final boolean directLaunch) {
         final String notValidIp = "0.0.0.0";
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
         final String nodeId = node.getNetworkElementId();
         final String nodeType = node.getNodeType();
         final int vUserId = TafTestContext.getContext().getVUser();
         final String expectedUserName = NodeCliLogTestStep.getExpectedNodeCliUser(testCaseId, enmUser, node);
         LOGGER.info("{} - Executing '{}' test step:\n\tNetwork Element ID --> {}\n\tNode Type --> {}\n\tExecutng Test Case --> {}"
-                + "\n\tExpected User Name --> {}\n\tVirtual User ID --> {}",
-                methodName, LAUNCH_AND_VERIFY_CLI_PARALLEL, nodeId, nodeType, testCaseId, expectedUserName, vUserId);
+                + "\n\tExpected User Name --> {}\n\tVirtual User ID --> {}\n\tDirect Launch --> {}",
+                METHOD_NAME, LAUNCH_AND_VERIFY_CLI_PARALLEL, nodeId, nodeType, testCaseId, expectedUserName, vUserId, directLaunch);
 
         // Get Browser and Tab
-        final Browser browser = tafToolProvider.getBrowser();
+        final Browser browser = getContextBrowser();
         final BrowserTab browserTab = browser.getCurrentWindow();
-        final ActionBarViewModel actionBarViewModel = browserTab.getView(ActionBarViewModel.class);
         takeLocalScreenshot(browserTab, String.format("Select Browser Tab for %s(%s) node [User Id --> %s]", nodeId, nodeType, vUserId));
 
         // Get Node Cli Operator
         final NodeCliUiOperator cliUiOperator = nodeCliUiOperator.get();
-        cliUiOperator.wait4CLIsToBeReady(vUsers);
-
-        // Execution of Click on "Launch Node CLI" to open Node Cli
-        actionBarViewModel.getActionButtonWithoutIconByName(NODE_CLI_ACTION).click();
-        browser.switchWindow(switchToNodeCliBrowserWindow());
-        final BrowserTab cliBrowserTab = browser.getCurrentWindow();
-        if (LOGGER.isTraceEnabled()) {
-            final StringBuilder listOfBrowserTab = new StringBuilder();
-            for (final BrowserTab singleBrowserTab : browser.getAllOpenTabs()) {
-                listOfBrowserTab.append(System.lineSeparator()).append("\t-> Title: ");
-                listOfBrowserTab.append(singleBrowserTab.getTitle());
-                listOfBrowserTab.append(System.lineSeparator()).append("\t-> Window Descriptor: ");
-                listOfBrowserTab.append(singleBrowserTab.getWindowDescriptor());
-                listOfBrowserTab.append(System.lineSeparator()).append("\t-> Current URL: ");
-                listOfBrowserTab.append(singleBrowserTab.getCurrentUrl());
+        cliUiOperator.wait4CLIsToBeReady(testCaseId, vUsers);
+
+        final CliSessionTimeline timeline = new CliSessionTimeline();
+        final BrowserTab cliBrowserTab;
+        if (directLaunch) {
+            // Open Node Cli application for selected node in a new Tab
+            timeline.mark(CliSessionTimeline.Phase.LAUNCH_CLICKED);
+            cliBrowserTab = openNodeCliBrowserTab(browser, nodeId);
+            timeline.mark(CliSessionTimeline.Phase.TAB_DETECTED);
+        } else {
+            // Execution of Click on "Launch Node CLI" to open Node Cli
+            timeline.mark(CliSessionTimeline.Phase.LAUNCH_CLICKED);
+            browserTab.getView(ActionBarViewModel.class).getActionButtonWithoutIconByName(NODE_CLI_ACTION).click();
+            browser.switchWindow(switchToNodeCliBrowserWindow());
+            timeline.mark(CliSessionTimeline.Phase.TAB_DETECTED);
+            cliBrowserTab = browser.getCurrentWindow();
+            if (LOGGER.isTraceEnabled()) {
+                final StringBuilder listOfBrowserTab = new StringBuilder();
+                for (final BrowserTab singleBrowserTab : browser.getAllOpenTabs()) {
+                    listOfBrowserTab.append(System.lineSeparator()).append("\t-> Title: ");
+                    listOfBrowserTab.append(singleBrowserTab.getTitle());
+                    listOfBrowserTab.append(System.lineSeparator()).append("\t-> Window Descriptor: ");
+                    listOfBrowserTab.append(singleBrowserTab.getWindowDescriptor());
+                    listOfBrowserTab.append(System.lineSeparator()).append("\t-> Current URL: ");
+                    listOfBrowserTab.append(singleBrowserTab.getCurrentUrl());
+                }
+                LOGGER.trace("{} - Browser Open tab ({}): {}",
+                        METHOD_NAME, browser.getAmountOfOpenTabs(), listOfBrowserTab);
             }
-            LOGGER.trace("{} - Browser Open tab ({}): {}",
-                    methodName, browser.getAmountOfOpenTabs(), listOfBrowserTab);
         }
         takeLocalScreenshot(browserTab, String.format("Wait for Node Cli Window for %s(%s) node [User Id --> %s]", nodeId, nodeType, vUserId));
 
@@ -242,17 +288,139 @@ public class NodeCliUiTestStep extends BaseTestStep {
         assertWithScreenShot(browserTab, String.format("Node Cli Shell not opened (Browser ID --> %s)", browser.hashCode()), shellWindow != null);
 
         // Check Node Cli status and close it
-        final boolean openCliResult = cliUiOperator.loginToCLIShell(nodeId, nodeType, cliBrowserTab, expectedUserName);
-        LOGGER.debug("{} - Login to Node CLI for node {} [{}] was --> {}",
-                methodName, nodeId, nodeType, openCliResult ? "SUCCESS" : "FAILED");
+        final boolean openCliResult = cliUiOperator.loginToCLIShell(nodeId, nodeType, cliBrowserTab, expectedUserName, timeline);
+        timeline.record(testCaseId, nodeType, vUserId);
+        LOGGER.debug("{} - Login to Node CLI for node {} [{}] was --> {} ({})",
+                METHOD_NAME, nodeId, nodeType, openCliResult ? "SUCCESS" : "FAILED", timeline);
         final boolean closeCliResult = cliUiOperator.exitFromOpenedCliShell(openCliResult, nodeId, nodeType, cliBrowserTab);
         cliUiOperator.wait4CLIsToBeDone();
         LOGGER.debug("{} - Closing Node CLI for node {} [{}] was --> {}",
-                methodName, nodeId, nodeType, closeCliResult ? "SUCCESS" : "FAILED");
+                METHOD_NAME, nodeId, nodeType, closeCliResult ? "SUCCESS" : "FAILED");
         assertWithScreenShot(browserTab, String.format("Node CLI for this browser was NOT opened  (Browser ID --> %s)",
                 browser.hashCode()), openCliResult);
         assertWithScreenShot(browserTab, String.format("Node CLI for this browser was not closed (Browser ID --> %s)",
                 browser.hashCode()), closeCliResult);
+        return timeline;
+    }
+
+    /**
+     * <pre>
+     * <b>Test Step Name</b>: {@link StepIds#VERIFY_CLI_HEADLESS}
+     * <b>Name</b>: verifyCliHeadless      <i>[public]</i>
+     * <b>Description</b>: This Test step verifies the connection to the node through
+     * Node Cli without browser (ENM REST login and Node Cli WebSocket session).
+     * </pre>
+     *
+     * @param node
+     *         {@link NetworkNode } represents a node specified in a row in input csv file
+     * @param enmUser
+     *         ENM user used for login and to check Cli user you've logged.
+     * @param testCaseId
+     *         Executing Test Case.
+     */
+    @TestStep(id = StepIds.VERIFY_CLI_HEADLESS)
+    public void verifyCliHeadless(@Input(ADDED_NODES) final NetworkNode node, @Input(AVAILABLE_USERS) final User enmUser,
+            @Input(TEST_CASE_ID) final String testCaseId) {
+        final String methodName = StepContext.current().getStepName();
+        final String nodeId = node.getNetworkElementId();
+        final String nodeType = node.getNodeType();
+        final String expectedUserName = NodeCliLogTestStep.getExpectedNodeCliUser(testCaseId, enmUser, node);
+        LOGGER.info("{} - Executing '{}' test step:\n\tNetwork Element ID --> {}\n\tNode Type --> {}\n\tExecutng Test Case --> {}"
+                + "\n\tExpected User Name --> {}\n\tVirtual User ID --> {}",
+                methodName, StepIds.VERIFY_CLI_HEADLESS, nodeId, nodeType, testCaseId, expectedUserName, TafTestContext.getContext().getVUser());
+        final boolean openCliResult = headlessNodeCliVerifier.get().loginAndCheckNodeCli(nodeId, nodeType, enmUser.getUsername(),
+                enmUser.getPassword(), expectedUserName);
+        LOGGER.debug("{} - Headless login to Node CLI for node {} [{}] was --> {}",
+                methodName, nodeId, nodeType, openCliResult ? "SUCCESS" : "FAILED");
+        Assertions.assertThat(openCliResult).as(String.format("Node CLI was NOT opened for %s(%s) node (User --> %s)",
+                nodeId, nodeType, enmUser.getUsername())).isTrue();
+    }
+
+    /**
+     * <pre>
+     * <b>Test Step Name</b>: {@link StepIds#REGISTER_LOAD_TARGET}
+     * <b>Name</b>: registerLoadTarget      <i>[public]</i>
+     * <b>Description</b>: This Test step adds node and user to the open loop load of
+     * the Test Case (see {@link NodeCliLoadGenerator}), instead of checking Node Cli.
+     * </pre>
+     *
+     * @param node
+     *         {@link NetworkNode } represents a node specified in a row in input csv file
+     * @param enmUser
+     *         ENM user used for login and to check Cli user you've logged.
+     * @param testCaseId
+     *         Executing Test Case.
+     */
+    @TestStep(id = StepIds.REGISTER_LOAD_TARGET)
+    public void registerLoadTarget(@Input(ADDED_NODES) final NetworkNode node, @Input(AVAILABLE_USERS) final User enmUser,
+            @Input(TEST_CASE_ID) final String testCaseId) {
+        final String methodName = StepContext.current().getStepName();
+        final String expectedUserName = NodeCliLogTestStep.getExpectedNodeCliUser(testCaseId, enmUser, node);
+        LOGGER.debug("{} - Load target for '{}': {} [{}] with user {} (expected user --> {})", methodName, testCaseId, node.getNetworkElementId(),
+                node.getNodeType(), enmUser.getUsername(), expectedUserName);
+        NodeCliLoadGenerator.register(testCaseId, new NodeCliLoadGenerator.Target(node.getNetworkElementId(), node.getNodeType(),
+                node.getIpAddress(), enmUser.getUsername(), enmUser.getPassword(), expectedUserName));
+    }
+
+    /**
+     * <pre>
+     * <b>Test Step Name</b>: {@link StepIds#RUN_OPEN_LOOP_LOAD}
+     * <b>Name</b>: runOpenLoopLoad      <i>[public]</i>
+     * <b>Description</b>: This Test step executes the open loop load of Node Cli sessions
+     * with the nodes and users registered for the Test Case: the maximum error rate
+     * ('nodecli.load.maxErrorRate' property, default 0) is checked and each session that
+     * reached the prompt must have its record in NodeCli LOG.
+     * </pre>
+     *
+     * @param testCaseId
+     *         Test Case of the registered nodes and users.
+     */
+    @TestStep(id = StepIds.RUN_OPEN_LOOP_LOAD)
+    public void runOpenLoopLoad(@Input(Param.LOAD_TEST_CASE_PARAM) final String testCaseId) {
+        final String methodName = StepContext.current().getStepName();
+        final double maxErrorRate = DataHandler.getConfiguration().getProperty("nodecli.load.maxErrorRate", 0.0, Double.class);
+        final NodeCliLoadGenerator.Result result = new NodeCliLoadGenerator(testCaseId, headlessNodeCliVerifier.get()).run();
+        LOGGER.info("{} - Open loop load for '{}': {} sessions offered, {} completed, error rate {}, time-to-prompt p95 {} ms, LOG missing {}",
+                methodName, testCaseId, result.getOffered(), result.getCompleted(), result.getErrorRate(), result.getTimeToPromptP95Micros() / 1000,
+                result.getLogMissing());
+        Assertions.assertThat(result.getErrorRate()).as(String.format("Node CLI error rate for '%s' is greater than %s", testCaseId,
+                maxErrorRate)).isLessThanOrEqualTo(maxErrorRate);
+        Assertions.assertThat(result.getLogMissing()).as(String.format("Node CLI sessions of '%s' without record in NodeCli LOG", testCaseId))
+                .isZero();
+    }
+
+    /**
+     * <pre>
+     * <b>Test Step Name</b>: {@link StepIds#CHECK_TIME_TO_PROMPT_SLO}
+     * <b>Name</b>: checkTimeToPromptSlo      <i>[public]</i>
+     * <b>Description</b>: This Test step checks the 95th percentile of the time-to-prompt
+     * of all the Node Cli sessions of the Test Case against 'nodecli.prompt.slo.p95'
+     * property (milliseconds, 0 to disable): it must be executed once, when all the
+     * sessions are completed. The check is skipped when less than
+     * 'nodecli.prompt.slo.minSamples' sessions (default 20) reached the prompt.
+     * </pre>
+     *
+     * @param testCaseId
+     *         Test Case of the Node Cli sessions.
+     */
+    @TestStep(id = StepIds.CHECK_TIME_TO_PROMPT_SLO)
+    public void checkTimeToPromptSlo(@Input(Param.SLO_TEST_CASE_PARAM) final String testCaseId) {
+        final String methodName = StepContext.current().getStepName();
+        final long sloMillis = DataHandler.getConfiguration().getProperty("nodecli.prompt.slo.p95", 0L, Long.class);
+        final long minSamples = DataHandler.getConfiguration().getProperty("nodecli.prompt.slo.minSamples", 20L, Long.class);
+        final long samples = CliSessionTimeline.getTimeToPromptCount(testCaseId);
+        if (sloMillis <= 0) {
+            return;
+        }
+        if (samples < minSamples) {
+            LOGGER.warn("{} - Time-to-prompt SLO for '{}' not checked: {} sessions (minimum {})", methodName, testCaseId, samples, minSamples);
+            return;
+        }
+        final long p95Millis = CliSessionTimeline.getTimeToPromptP95Micros(testCaseId) / 1000;
+        LOGGER.info("{} - Time-to-prompt p95 for '{}' --> {} ms ({} sessions, SLO {} ms)", methodName, testCaseId, p95Millis, samples,
+                sloMillis);
+        Assertions.assertThat(p95Millis).as(String.format("Node CLI time-to-prompt p95 for '%s' (%d sessions) is greater than %d ms",
+                testCaseId, samples, sloMillis)).isLessThanOrEqualTo(sloMillis);
     }
 
     /**
@@ -264,20 +432,153 @@ public class NodeCliUiTestStep extends BaseTestStep {
      */
     @TestStep(id = StepIds.CLOSE_BROWSER)
     public void closeBrowser() {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
+        final String methodName = StepContext.current().getStepName();
         final Browser browser = tafToolProvider.getBrowser();
+        if (BROWSER_POOL_ENABLED && !BrowserSessionPool.getInstance().isUsable(browser)) {
+            LOGGER.info("{} - Browser (ID --> {}) already given back to the session pool", methodName, browser.hashCode());
+            return;
+        }
         LOGGER.info("{} - Closing Browser (ID --> {})", methodName, browser.hashCode());
+        BrowserSessionPool.getInstance().discard(browser);
         loginLogoutUiOperator.get().close(browser);
         LOGGER.trace("{} - Checking if Browser is closed --: {}", methodName, browser.isClosed());
         Assertions.assertThat(browser.isClosed()).as(String.format("Browser Closing Error (ID --> %d)", browser.hashCode())).isTrue();
     }
 
+    /**
+     * <pre>
+     * <b>Test Step Name</b>: {@link com.ericsson.oss.services.nodecli.operators.teststeps.NodeCliUiTestStep.StepIds#RELEASE_BROWSER}
+     * <b>Name</b>: releaseBrowser      <i>[public]</i>
+     * <b>Description</b>: This TestStep should be use to give back the Browser to the
+     * session pool (Node Cli tabs are closed and ENM application is reloaded).
+     * The Browser is closed if it is not managed by the pool.
+     * </pre>
+     */
+    @TestStep(id = StepIds.RELEASE_BROWSER)
+    public void releaseBrowser() {
+        final String methodName = StepContext.current().getStepName();
+        final Browser browser = tafToolProvider.getBrowser();
+        if (!BrowserSessionPool.getInstance().isUsable(browser)) {
+            LOGGER.info("{} - Browser (ID --> {}) already given back to the session pool", methodName, browser.hashCode());
+            return;
+        }
+        final BrowserSessionPool.Session session = BrowserSessionPool.getInstance().getLeasedSession(browser);
+        if (session == null) {
+            closeBrowser();
+            return;
+        }
+        LOGGER.info("{} - Releasing Browser (ID --> {}) of user '{}'", methodName, browser.hashCode(), session.getUserName());
+        try {
+            final BrowserTab mainTab = session.getMainTab();
+            for (final BrowserTab singleBrowserTab : browser.getAllOpenTabs()) {
+                if (!singleBrowserTab.getWindowDescriptor().equals(mainTab.getWindowDescriptor())) {
+                    singleBrowserTab.close();
+                }
+            }
+            browser.switchWindow(mainTab);
+            mainTab.open(HTTPSURL.concat(HostConfigurator.getApache().getIp()).concat(NETWORKEXPLORERURL));
+            BrowserSessionPool.getInstance().giveBack(browser, this::closePooledBrowser);
+        } catch (final Exception e) {
+            LOGGER.warn("{} - Browser (ID --> {}) cannot be reused: {}", methodName, browser.hashCode(), e.getMessage());
+            BrowserSessionPool.getInstance().discard(browser);
+            closeBrowser();
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Test Step Name</b>: {@link com.ericsson.oss.services.nodecli.operators.teststeps.NodeCliUiTestStep.StepIds#CLOSE_POOLED_BROWSERS}
+     * <b>Name</b>: closePooledBrowsers      <i>[public]</i>
+     * <b>Description</b>: This TestStep should be use to Close all the Browsers
+     * stored in the session pool.
+     * </pre>
+     */
+    @TestStep(id = StepIds.CLOSE_POOLED_BROWSERS)
+    public void closePooledBrowsers() {
+        final String methodName = StepContext.current().getStepName();
+        final int closedBrowsers = BrowserSessionPool.getInstance().closeAll(this::closePooledBrowser);
+        LOGGER.info("{} - Closed {} pooled Browsers", methodName, closedBrowsers);
+    }
+
     // ************************************************************************
     // * Additional Methods to execute functions
     // ************************************************************************
 
-    private BrowserTab switchToNodeCliBrowserWindow() {
+    private Browser leasePooledBrowser(final ENMUser user) {
+        final BrowserSessionPool.Session session = BrowserSessionPool.getInstance().lease(user.getUsername(), this::isBrowserHealthy,
+                this::closePooledBrowser);
+        if (session == null) {
+            return null;
+        }
+        Browser browser = session.getBrowser();
+        if (!session.getUserName().equals(user.getUsername())) {
+            // Browser logged with another user: force logout and login again.
+            LOGGER.debug("{} - Re-login of pooled Browser (ID --> {}): '{}' --> '{}'", METHOD_NAME, browser.hashCode(),
+                    session.getUserName(), user.getUsername());
+            try {
+                session.getMainTab().open(HTTPSURL.concat(HostConfigurator.getApache().getIp()).concat(LOGOUTURL));
+                browser = loginLogoutUiOperator.get().login(browser, user.getUsername(), user.getPassword(), NETWORKEXPLORERURL);
+                session.setUserName(user.getUsername());
+            } catch (final Exception | Error e) {
+                LOGGER.warn("{} - Re-login of pooled Browser (ID --> {}) failed: {}", METHOD_NAME, session.getBrowser().hashCode(),
+                        e.getMessage());
+                BrowserSessionPool.getInstance().discard(session.getBrowser());
+                closePooledBrowser(session.getBrowser());
+                return null;
+            }
+        }
+        return browser;
+    }
+
+    /**
+     * Pooled browser is healthy if its ENM session is still authenticated: Network Explorer
+     * is reloaded and an expired session is redirected to the login page.
+     */
+    private boolean isBrowserHealthy(final Browser browser) {
+        try {
+            if (browser.isClosed()) {
+                return false;
+            }
+            final String networkExplorerUrl = HTTPSURL.concat(HostConfigurator.getApache().getIp()).concat(NETWORKEXPLORERURL);
+            final BrowserTab mainTab = browser.getCurrentWindow();
+            mainTab.open(networkExplorerUrl);
+            final String currentUrl = mainTab.getCurrentUrl();
+            LOGGER.trace("Browser (ID --> {}) health check: {} --> {}", browser.hashCode(), networkExplorerUrl, currentUrl);
+            return networkExplorerUrl.equalsIgnoreCase(currentUrl) && !currentUrl.toLowerCase(Locale.ROOT).contains(LOGINURL);
+        } catch (final Exception e) {
+            LOGGER.trace("Browser (ID --> {}) health check failed: {}", browser.hashCode(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Browser of the vUser context: a pooled browser given back to the pool (and maybe
+     * leased by another vUser) cannot be used anymore.
+     */
+    private Browser getContextBrowser() {
         final Browser browser = tafToolProvider.getBrowser();
+        Assertions.assertThat(!BROWSER_POOL_ENABLED || BrowserSessionPool.getInstance().isUsable(browser)).as(String.format(
+                "Browser (ID --> %d) was given back to the session pool (vUser ID --> %d)", browser.hashCode(),
+                TafTestContext.getContext().getVUser())).isTrue();
+        return browser;
+    }
+
+    private void closePooledBrowser(final Browser browser) {
+        if (!browser.isClosed()) {
+            loginLogoutUiOperator.get().close(browser);
+        }
+    }
+
+    private BrowserTab openNodeCliBrowserTab(final Browser browser, final String nodeId) {
+        final String nodeCliUrl = HTTPSURL.concat(HostConfigurator.getApache().getIp()).concat(String.format(NODECLI_DIRECT_URL_FORMAT, nodeId));
+        LOGGER.debug("Open Node CLI for {} --> {}", nodeId, nodeCliUrl);
+        final BrowserTab cliTab = browser.open(nodeCliUrl);
+        browser.switchWindow(cliTab);
+        return cliTab;
+    }
+
+    private BrowserTab switchToNodeCliBrowserWindow() {
+        final Browser browser = getContextBrowser();
         browser.getCurrentWindow().waitUntil(new GenericPredicate() {
             @Override
             public boolean apply() {
@@ -323,6 +624,18 @@ public class NodeCliUiTestStep extends BaseTestStep {
         public static final String LAUNCH_AND_VERIFY_CLI_PARALLEL = "Launch and verify CLI parallel";
         @SuppressWarnings("checkstyle:JavadocVariable")
         public static final String CLOSE_BROWSER = "Close the browser";
+        @SuppressWarnings("checkstyle:JavadocVariable")
+        public static final String RELEASE_BROWSER = "Release the browser";
+        @SuppressWarnings("checkstyle:JavadocVariable")
+        public static final String CLOSE_POOLED_BROWSERS = "Close pooled browsers";
+        @SuppressWarnings("checkstyle:JavadocVariable")
+        public static final String VERIFY_CLI_HEADLESS = "Verify CLI headless";
+        @SuppressWarnings("checkstyle:JavadocVariable")
+        public static final String REGISTER_LOAD_TARGET = "Register open loop load target";
+        @SuppressWarnings("checkstyle:JavadocVariable")
+        public static final String RUN_OPEN_LOOP_LOAD = "Run open loop load";
+        @SuppressWarnings("checkstyle:JavadocVariable")
+        public static final String CHECK_TIME_TO_PROMPT_SLO = "Check time-to-prompt SLO";
 
         private StepIds() {}
     }
@@ -343,6 +656,12 @@ public class NodeCliUiTestStep extends BaseTestStep {
         public static final String NODECLI_LOG_PARAM = "NodeCliLog";
         @SuppressWarnings("checkstyle:JavadocVariable")
         public static final String NODECLI_USER_PARAM = "NodeCliUser";
+        @SuppressWarnings("checkstyle:JavadocVariable")
+        public static final String DIRECT_LAUNCH_PARAM = "directLaunch";
+        @SuppressWarnings("checkstyle:JavadocVariable")
+        public static final String LOAD_TEST_CASE_PARAM = "loadTestCase";
+        @SuppressWarnings("checkstyle:JavadocVariable")
+        public static final String SLO_TEST_CASE_PARAM = "sloTestCase";
 
         private Param() {}
     }
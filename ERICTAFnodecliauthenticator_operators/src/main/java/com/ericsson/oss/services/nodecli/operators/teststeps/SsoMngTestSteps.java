@@ -34,6 +34,7 @@ import com.ericsson.cifwk.taf.annotations.TestStep;
 import com.ericsson.cifwk.taf.datasource.DataRecord;
 import com.ericsson.oss.services.nodecli.operators.operators.SsoOperator;
 import com.ericsson.oss.services.nodecli.operators.utility.SsoOperation;
+import com.ericsson.oss.services.nodecli.operators.utility.StepContext;
 import com.ericsson.oss.testware.enm.cli.EnmCliResponse;
 import com.ericsson.oss.testware.nodesecurity.utils.SecurityUtil;
 
@@ -70,7 +71,7 @@ public class SsoMngTestSteps extends BaseTestStep {
     @TestStep(id = SSO_SET_VERIFY)
     public void setVerifySso(@Input(ADDED_NODES) final DataRecord value, @Input(Parameter.SSO_SET_VERIFY) final String ssoValue,
             @Input(Parameter.SSO_SET_EXP_MSG) @OptionalValue() final String expectedMessage) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
+        final String methodName = StepContext.current().getStepName();
         SecurityUtil.checkDataSource(value, ADDED_NODES);
         EnmCliResponse response = null;
 
@@ -118,7 +119,7 @@ public class SsoMngTestSteps extends BaseTestStep {
     @TestStep(id = SSO_GET)
     public EnmCliResponse getSso(@Input(ADDED_NODES) final DataRecord value,
             @Input(Parameter.SSO_SET_EXP_MSG) @OptionalValue() final String expectedMessage) {
-        final String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
+        final String methodName = StepContext.current().getStepName();
         SecurityUtil.checkDataSource(value, ADDED_NODES);
 
         // Get SSO status and compare with expected one
@@ -0,0 +1,78 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+/**
+ * <pre>
+ * <b>Name</b>: CallerMethod      <i>[public (Class)]</i>
+ * <b>Description</b>: This class provides the name of the running method of a class to
+ *   the LOG messages ('{} - ...' prefix) without hard-coded names: the name is resolved
+ *   from the stack only when the message is formatted (i.e. not at all when the LOG
+ *   level is disabled), as the innermost method of the owner class (nested classes
+ *   included, lambdas reported with the name of the enclosing method).
+ *   Test Steps take the name from {@link StepContext} instead.
+ *   NB. The name is resolved where it is used: pass {@link #toString()} to other
+ *   methods, not the object.
+ * </pre>
+ */
+public final class CallerMethod {
+    private static final String LAMBDA_PREFIX = "lambda$";
+    private static final String UNKNOWN = "?";
+
+    private final String ownerName;
+    private final String nestedPrefix;
+
+    private CallerMethod(final Class<?> owner) {
+        ownerName = owner.getName();
+        nestedPrefix = ownerName + "$";
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: of            <i>[public]</i>
+     * <b>Description</b>: This method creates the method name provider of a class (to be
+     *   stored in a constant of the class).
+     * </pre>
+     *
+     * @param owner class whose methods use the name
+     * @return method name provider
+     */
+    public static CallerMethod of(final Class<?> owner) {
+        return new CallerMethod(owner);
+    }
+
+    @Override
+    public String toString() {
+        for (final StackTraceElement element : new Throwable().getStackTrace()) {
+            final String className = element.getClassName();
+            if (className.equals(ownerName) || className.startsWith(nestedPrefix)) {
+                return getName(element.getMethodName());
+            }
+        }
+        return UNKNOWN;
+    }
+
+    // Lambda bodies are compiled as 'lambda$<enclosing method>$<index>'
+    static String getName(final String methodName) {
+        if (!methodName.startsWith(LAMBDA_PREFIX)) {
+            return methodName;
+        }
+        final int end = methodName.indexOf('$', LAMBDA_PREFIX.length());
+        return end < 0 ? methodName : methodName.substring(LAMBDA_PREFIX.length(), end);
+    }
+}
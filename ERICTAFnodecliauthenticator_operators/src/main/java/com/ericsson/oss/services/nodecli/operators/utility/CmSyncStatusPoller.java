@@ -0,0 +1,218 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ericsson.cifwk.taf.data.DataHandler;
+import com.google.common.collect.Lists;
+
+/**
+ * <pre>
+ * <b>Name</b>: CmSyncStatusPoller      <i>[public (Class)]</i>
+ * <b>Description</b>: This class shares the CM sync status polling among all the vUsers:
+ *   each vUser subscribes a node with the expected status and waits on a future, while
+ *   a single query for all the subscribed nodes is sent at each poll interval.
+ *   The query is executed by one of the waiting vUsers (the first one that finds the
+ *   poll due), using its own REST session: no background thread is needed.
+ * </pre>
+ */
+public final class CmSyncStatusPoller {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CmSyncStatusPoller.class);
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(CmSyncStatusPoller.class);
+    private static final Integer POLL_BATCH_SIZE = DataHandler.getConfiguration().getProperty("nodeCliSync.poll.batch.size", 100, Integer.class);
+    private static final long MIN_WAIT_MILLIS = 50L;
+    private static final CmSyncStatusPoller INSTANCE = new CmSyncStatusPoller();
+
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final ReentrantLock pollLock = new ReentrantLock();
+    private volatile long nextPollMillis;
+
+    private CmSyncStatusPoller() {
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: getInstance            <i>[public]</i>
+     * <b>Description</b>: This method returns the poller shared by the whole run.
+     * </pre>
+     *
+     * @return shared poller
+     */
+    public static CmSyncStatusPoller getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: awaitStatus            <i>[public]</i>
+     * <b>Description</b>: This method waits until the selected node reaches the expected
+     *   status or the timeout expires.
+     * </pre>
+     *
+     * @param nodeName Network Element Id of the node
+     * @param expectedStatus expected sync status
+     * @param initialDelayMillis delay before the first check (ms)
+     * @param pollIntervalMillis interval between two queries (ms)
+     * @param timeoutMillis maximum wait time (ms)
+     * @param statusQuery function executing the query for a list of nodes and returning the status per node
+     * @return last read status ("" if never read)
+     */
+    public String awaitStatus(final String nodeName, final String expectedStatus, final long initialDelayMillis, final long pollIntervalMillis,
+            final long timeoutMillis, final Function<List<String>, Map<String, String>> statusQuery) {
+        final long deadline = System.currentTimeMillis() + timeoutMillis;
+        final Subscription subscription = subscribe(nodeName, expectedStatus);
+        try {
+            pause(Math.min(initialDelayMillis, timeoutMillis));
+            while (!subscription.future.isDone() && System.currentTimeMillis() < deadline) {
+                pollIfDue(pollIntervalMillis, statusQuery);
+                final long now = System.currentTimeMillis();
+                final long wait = Math.min(deadline - now, Math.max(MIN_WAIT_MILLIS, nextPollMillis - now));
+                try {
+                    subscription.future.get(Math.max(1L, wait), TimeUnit.MILLISECONDS);
+                } catch (final TimeoutException e) {
+                    LOGGER.trace("{} - Node {}: '{}' status not reached yet", METHOD_NAME, nodeName, expectedStatus);
+                } catch (final ExecutionException e) {
+                    LOGGER.warn("{} - Node {}: sync status wait failed", METHOD_NAME, nodeName, e);
+                    break;
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        } finally {
+            unsubscribe(nodeName, expectedStatus, subscription);
+        }
+        return subscription.lastStatus;
+    }
+
+    private Subscription subscribe(final String nodeName, final String expectedStatus) {
+        final String key = getKey(nodeName, expectedStatus);
+        while (true) {
+            final Subscription subscription = subscriptions.computeIfAbsent(key, k -> new Subscription(nodeName, expectedStatus));
+            synchronized (subscription) {
+                if (!subscription.removed && !subscription.future.isDone()) {
+                    subscription.waiters++;
+                    return subscription;
+                }
+                // Already completed (or released) subscription: a new one is needed to read a fresh status.
+                subscription.removed = true;
+                subscriptions.remove(key, subscription);
+            }
+        }
+    }
+
+    private void unsubscribe(final String nodeName, final String expectedStatus, final Subscription subscription) {
+        synchronized (subscription) {
+            subscription.waiters--;
+            if (subscription.waiters <= 0) {
+                subscription.removed = true;
+                subscriptions.remove(getKey(nodeName, expectedStatus), subscription);
+            }
+        }
+    }
+
+    private void pollIfDue(final long pollIntervalMillis, final Function<List<String>, Map<String, String>> statusQuery) {
+        if (System.currentTimeMillis() < nextPollMillis || !pollLock.tryLock()) {
+            return;
+        }
+        try {
+            if (System.currentTimeMillis() >= nextPollMillis) {
+                poll(statusQuery);
+                nextPollMillis = System.currentTimeMillis() + pollIntervalMillis;
+            }
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    private void poll(final Function<List<String>, Map<String, String>> statusQuery) {
+        final List<String> nodeList = Lists.newArrayList();
+        for (final Subscription subscription : subscriptions.values()) {
+            if (!subscription.future.isDone() && !nodeList.contains(subscription.nodeName)) {
+                nodeList.add(subscription.nodeName);
+            }
+        }
+        if (nodeList.isEmpty()) {
+            return;
+        }
+        LOGGER.debug("{} - Sync status query for {} nodes", METHOD_NAME, nodeList.size());
+        for (final List<String> nodeChunk : Lists.partition(nodeList, POLL_BATCH_SIZE > 0 ? POLL_BATCH_SIZE : 1)) {
+            final Map<String, String> statusPerNode;
+            try {
+                statusPerNode = statusQuery.apply(nodeChunk);
+            } catch (final RuntimeException e) {
+                LOGGER.warn("{} - Sync status query failed for nodes {}", METHOD_NAME, nodeChunk, e);
+                continue;
+            }
+            for (final Subscription subscription : subscriptions.values()) {
+                final String status = statusPerNode.get(subscription.nodeName);
+                if (status == null) {
+                    continue;
+                }
+                subscription.lastStatus = status;
+                if (subscription.expectedStatus.equalsIgnoreCase(status)) {
+                    subscription.future.complete(status);
+                }
+            }
+        }
+    }
+
+    private static void pause(final long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String getKey(final String nodeName, final String expectedStatus) {
+        return nodeName + "|" + expectedStatus.toUpperCase();
+    }
+
+    /**
+     * Waiting request for a node/status couple.
+     */
+    private static final class Subscription {
+        private final String nodeName;
+        private final String expectedStatus;
+        private final CompletableFuture<String> future = new CompletableFuture<>();
+        private volatile String lastStatus = "";
+        private int waiters;
+        private boolean removed;
+
+        private Subscription(final String nodeName, final String expectedStatus) {
+            this.nodeName = nodeName;
+            this.expectedStatus = expectedStatus;
+        }
+    }
+}
@@ -0,0 +1,417 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ericsson.cifwk.taf.data.DataHandler;
+
+/**
+ * <pre>
+ * <b>Name</b>: EnmCommandJournal      <i>[public (Class)]</i>
+ * <b>Description</b>: This class records ENM CLI commands, their response and the
+ *   observed latency in an on-disk journal (gzip compressed) and serves them back
+ *   in following runs, so that testware changes can be compared offline with the
+ *   same response sequence.
+ *     enm.journal.mode = off | record | replay
+ *     enm.journal.file = journal file (default target/enm-journal/enm-commands.journal)
+ *     enm.journal.replay.speed = latency divider in replay: 1 recorded speed,
+ *                                greater than 1 accelerated, 0 no latency
+ *   In replay the responses of the same command are returned in recorded order;
+ *   the last one is repeated when the recorded ones are finished (polling).
+ *   The values of the credential options ('--*password') are masked in the journal:
+ *   commands are matched in replay with the same masking.
+ * </pre>
+ */
+public final class EnmCommandJournal {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EnmCommandJournal.class);
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(EnmCommandJournal.class);
+    private static final String PROPERTY_PREFIX = "enm.journal.";
+    private static final int MAGIC = 0x454E4D4A;
+    private static final int VERSION = 2;
+    private static final Pattern CREDENTIAL_OPTION = Pattern.compile("(--[\\w-]*password(?:\\s+|=))(\"[^\"]*\"|'[^']*'|\\S+)",
+            Pattern.CASE_INSENSITIVE);
+    private static final String MASKED_VALUE = "$1********";
+    private static final EnmCommandJournal INSTANCE = new EnmCommandJournal();
+
+    private final AtomicLong recordedCount = new AtomicLong();
+    private final AtomicLong replayedCount = new AtomicLong();
+    private final AtomicLong missedCount = new AtomicLong();
+    private DataOutputStream output;
+    private Map<String, Deque<Entry>> recorded;
+
+    /**
+     * Journal mode.
+     */
+    public enum Mode {
+        OFF, RECORD, REPLAY
+    }
+
+    private EnmCommandJournal() {
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public static EnmCommandJournal getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: getMode            <i>[public]</i>
+     * <b>Description</b>: This method returns the journal mode (property 'enm.journal.mode').
+     * </pre>
+     *
+     * @return journal mode
+     */
+    public static Mode getMode() {
+        final String mode = DataHandler.getConfiguration().getProperty(PROPERTY_PREFIX + "mode", "off", String.class);
+        return Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: record            <i>[public]</i>
+     * <b>Description</b>: This method appends command (credential values masked),
+     *   response and latency to the journal.
+     * </pre>
+     *
+     * @param entry executed command
+     */
+    public synchronized void record(final Entry entry) {
+        final Path file = getFile();
+        try {
+            if (output == null) {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+                output = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(file))));
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                LOGGER.info("{} - Recording ENM commands in {}", METHOD_NAME, file);
+            }
+            write(output, entry);
+            recordedCount.incrementAndGet();
+        } catch (final IOException e) {
+            LOGGER.warn("{} - Unable to record command [{}] in {}: {}", METHOD_NAME, maskCredentials(entry.getCommand()), file,
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: replay            <i>[public]</i>
+     * <b>Description</b>: This method returns the next recorded response of the
+     *   command (after the recorded latency divided by replay speed).
+     * </pre>
+     *
+     * @param command ENM CLI command
+     * @return recorded command (null if the command is not in journal)
+     */
+    public Entry replay(final String command) {
+        final String maskedCommand = maskCredentials(command);
+        final Deque<Entry> entries = getRecorded().get(maskedCommand);
+        if (entries == null) {
+            missedCount.incrementAndGet();
+            LOGGER.warn("{} - Command [{}] not found in journal", METHOD_NAME, maskedCommand);
+            return null;
+        }
+        final Entry entry;
+        synchronized (entries) {
+            entry = entries.size() > 1 ? entries.poll() : entries.peek();
+        }
+        replayedCount.incrementAndGet();
+        final double speed = DataHandler.getConfiguration().getProperty(PROPERTY_PREFIX + "replay.speed", 1.0, Double.class);
+        if (speed > 0 && entry.getLatencyNanos() > 0) {
+            LockSupport.parkNanos((long) (entry.getLatencyNanos() / speed));
+        }
+        return entry;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: close            <i>[public]</i>
+     * <b>Description</b>: This method completes the journal file (record mode) and
+     *   releases the loaded responses (replay mode).
+     * </pre>
+     */
+    public synchronized void close() {
+        if (output != null) {
+            try {
+                output.close();
+                LOGGER.info("{} - {} ENM commands recorded in {}", METHOD_NAME, recordedCount.get(), getFile());
+            } catch (final IOException e) {
+                LOGGER.warn("{} - Unable to close journal {}: {}", METHOD_NAME, getFile(), e.getMessage());
+            }
+            output = null;
+        }
+        recorded = null;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: maskCredentials            <i>[public]</i>
+     * <b>Description</b>: This method replaces the values of the credential options
+     *   ('--*password') of the command.
+     * </pre>
+     *
+     * @param command ENM CLI command
+     * @return command with masked credentials
+     */
+    public static String maskCredentials(final String command) {
+        return command == null ? null : CREDENTIAL_OPTION.matcher(command).replaceAll(MASKED_VALUE);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ENM journal (%s): recorded=%d, replayed=%d, missed=%d", getMode(), recordedCount.get(), replayedCount.get(),
+                missedCount.get());
+    }
+
+    private static Path getFile() {
+        return Paths.get(DataHandler.getConfiguration().getProperty(PROPERTY_PREFIX + "file", "target/enm-journal/enm-commands.journal",
+                String.class));
+    }
+
+    private synchronized Map<String, Deque<Entry>> getRecorded() {
+        if (recorded == null) {
+            recorded = load(getFile());
+        }
+        return recorded;
+    }
+
+    private static Map<String, Deque<Entry>> load(final Path file) {
+        final Map<String, Deque<Entry>> entries = new HashMap<>();
+        int count = 0;
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                LOGGER.warn("{} - {} is not a valid ENM journal", METHOD_NAME, file);
+                return entries;
+            }
+            while (true) {
+                final Entry entry = read(input);
+                entries.computeIfAbsent(entry.getCommand(), command -> new ArrayDeque<>()).add(entry);
+                count++;
+            }
+        } catch (final EOFException e) {
+            LOGGER.debug("{} - End of journal {}", METHOD_NAME, file);
+        } catch (final IOException e) {
+            LOGGER.warn("{} - Unable to read journal {}: {}", METHOD_NAME, file, e.getMessage());
+        }
+        LOGGER.info("{} - {} ENM commands ({} distinct) loaded from {}", METHOD_NAME, count, entries.size(), file);
+        return entries;
+    }
+
+    private static void write(final DataOutputStream output, final Entry entry) throws IOException {
+        writeString(output, maskCredentials(entry.getCommand()));
+        output.writeLong(entry.getLatencyNanos());
+        output.writeInt(entry.getElements().size());
+        for (final Element element : entry.getElements()) {
+            output.writeBoolean(element.isRow());
+            output.writeInt(element.getValues().size());
+            for (final String value : element.getValues()) {
+                writeString(output, value);
+            }
+        }
+        final Summary summary = entry.getSummary();
+        output.writeBoolean(summary != null);
+        if (summary != null) {
+            output.writeInt(summary.getErrorCode());
+            writeString(output, summary.getStatusMessage());
+            writeString(output, summary.getErrorMessage());
+        }
+    }
+
+    private static Entry read(final DataInputStream input) throws IOException {
+        final Entry entry = new Entry(readString(input), input.readLong());
+        final int elements = input.readInt();
+        for (int index = 0; index < elements; index++) {
+            final boolean row = input.readBoolean();
+            final int size = input.readInt();
+            final List<String> values = new ArrayList<>(size);
+            for (int value = 0; value < size; value++) {
+                values.add(readString(input));
+            }
+            entry.getElements().add(new Element(row, values));
+        }
+        if (input.readBoolean()) {
+            entry.setSummary(new Summary(input.readInt(), readString(input), readString(input)));
+        }
+        return entry;
+    }
+
+    private static void writeString(final DataOutputStream output, final String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+        } else {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+    }
+
+    private static String readString(final DataInputStream input) throws IOException {
+        final int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: Entry      <i>[public (Class)]</i>
+     * <b>Description</b>: Command with its latency and response elements (lines
+     *   and table rows, in response order).
+     * </pre>
+     */
+    public static final class Entry {
+        private final String command;
+        private final long latencyNanos;
+        private final List<Element> elements = new ArrayList<>();
+        private Summary summary;
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public Entry(final String command, final long latencyNanos) {
+            this.command = command;
+            this.latencyNanos = latencyNanos;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public String getCommand() {
+            return command;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public long getLatencyNanos() {
+            return latencyNanos;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public List<Element> getElements() {
+            return elements;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public Summary getSummary() {
+            return summary;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public Entry setSummary(final Summary summary) {
+            this.summary = summary;
+            return this;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public Entry addLine(final String line) {
+            elements.add(new Element(false, Collections.singletonList(line)));
+            return this;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public Entry addRow(final List<String> cells) {
+            elements.add(new Element(true, cells));
+            return this;
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: Element      <i>[public (Class)]</i>
+     * <b>Description</b>: Response line (one value) or table row (cell values).
+     * </pre>
+     */
+    public static final class Element {
+        private final boolean row;
+        private final List<String> values;
+
+        private Element(final boolean row, final List<String> values) {
+            this.row = row;
+            this.values = values;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public boolean isRow() {
+            return row;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public List<String> getValues() {
+            return values;
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: Summary      <i>[public (Class)]</i>
+     * <b>Description</b>: Response summary (error code 0 for successful command).
+     * </pre>
+     */
+    public static final class Summary {
+        private final int errorCode;
+        private final String statusMessage;
+        private final String errorMessage;
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public Summary(final int errorCode, final String statusMessage, final String errorMessage) {
+            this.errorCode = errorCode;
+            this.statusMessage = statusMessage;
+            this.errorMessage = errorMessage;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public int getErrorCode() {
+            return errorCode;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public String getStatusMessage() {
+            return statusMessage;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+    }
+}
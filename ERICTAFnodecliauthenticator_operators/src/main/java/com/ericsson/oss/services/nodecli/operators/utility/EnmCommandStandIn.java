@@ -0,0 +1,662 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import static com.ericsson.oss.testware.nodesecurity.utils.JobIdUtils.COMMNAND_ID_COLUMN_NAME;
+import static com.ericsson.oss.testware.nodesecurity.utils.JobIdUtils.JOB_STATUS_COLUMN_NAME;
+import static com.ericsson.oss.testware.nodesecurity.utils.JobIdUtils.JOB_STATUS_COMPLETED;
+import static com.ericsson.oss.testware.nodesecurity.utils.JobIdUtils.WORKFLOW_DETAILS_COLUMN_NAME;
+import static com.ericsson.oss.testware.nodesecurity.utils.JobIdUtils.WORKFLOW_STATUS_COLUMN_NAME;
+import static com.ericsson.oss.testware.nodesecurity.utils.JobIdUtils.WORKFLOW_STATUS_SUCCESS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ericsson.cifwk.taf.data.DataHandler;
+
+/**
+ * <pre>
+ * <b>Name</b>: EnmCommandStandIn      <i>[public (Class)]</i>
+ * <b>Description</b>: This class simulates the ENM command service for offline
+ *   (load) execution of the testware: it keeps the state of each node
+ *   (NetworkElementSecurity credentials, LdapAuthenticationMethod administrative
+ *   state, Ldap profile filter, SSO, CmFunction sync status, secadm jobs) and
+ *   answers the 'secadm'/'cmedit' commands used by the Test Steps with the same
+ *   output layout of ENM (attribute lines or table).
+ *   Nodes are created with default values when they are used the first time.
+ *   Response latency (per command family) and failures can be configured:
+ *     enm.standin.latency[.secadm|.cmedit] = none | constant:MS | uniform:MIN,MAX
+ *                                            | exponential:MEAN | lognormal:MEDIAN,P99
+ *     enm.standin.failure.rate[.secadm|.cmedit] = probability of error response (0-1)
+ *     enm.standin.failure.nodes = nodes that always fail
+ *     enm.standin.job.duration = time (ms) before a secadm job is completed
+ *     enm.standin.seed = seed of latency/failure generator
+ * </pre>
+ */
+public final class EnmCommandStandIn {
+    @SuppressWarnings("checkstyle:JavadocVariable")
+    public static final String ERROR_PREFIX = "Error ";
+    private static final Logger LOGGER = LoggerFactory.getLogger(EnmCommandStandIn.class);
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(EnmCommandStandIn.class);
+    private static final String PROPERTY_PREFIX = "enm.standin.";
+    private static final String SECADM = "secadm";
+    private static final String CMEDIT = "cmedit";
+    private static final String FDN = "FDN : ";
+    private static final String INSTANCES = "%d instance(s)";
+    private static final String NODE_NAME = "Node Name";
+    private static final String NODE_ID = "NodeId";
+    private static final String JOB_ID = "Job Id";
+    private static final String NODELIST_OPTION = "--nodelist";
+    private static final String SYNCHRONIZED = "SYNCHRONIZED";
+    private static final String LDAP_AUTHENTICATION_FDN = "ManagedElement=%s,SystemFunctions=1,SecM=1,UserManagement=1,LdapAuthenticationMethod=1";
+    private static final List<String> CREDENTIAL_ATTRIBUTES = Arrays.asList("rootUserName", "rootUserPassword", "secureUserName",
+            "secureUserPassword", "normalUserName", "normalUserPassword", "nodeCliUserName", "nodeCliUserPassword", "ldapApplicationUserName",
+            "ldapApplicationUserPassword");
+    private static final double P99_SIGMAS = 2.3263;
+    private static final EnmCommandStandIn INSTANCE = new EnmCommandStandIn();
+
+    private final Map<String, NodeState> nodes = new ConcurrentHashMap<>();
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final Random random = new Random(DataHandler.getConfiguration().getProperty(PROPERTY_PREFIX + "seed", 1L, Long.class));
+    private final Map<String, Latency> latencies = new ConcurrentHashMap<>();
+    private final AtomicLong commandCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong simulatedNanos = new AtomicLong();
+
+    private EnmCommandStandIn() {
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public static EnmCommandStandIn getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: isEnabled            <i>[public]</i>
+     * <b>Description</b>: This method checks if ENM commands must be sent to the
+     *   stand-in instead of ENM (property 'enm.standin.enabled').
+     * </pre>
+     *
+     * @return true if enabled
+     */
+    public static boolean isEnabled() {
+        return DataHandler.getConfiguration().getProperty(PROPERTY_PREFIX + "enabled", false, Boolean.class);
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: execute            <i>[public]</i>
+     * <b>Description</b>: This method executes the command (after the simulated latency).
+     * </pre>
+     *
+     * @param command ENM CLI command
+     * @return command output
+     */
+    public Reply execute(final String command) {
+        final String[] tokens = command.trim().split("\\s+");
+        final String family = tokens[0].toLowerCase(Locale.ROOT);
+        commandCount.incrementAndGet();
+        final long delay = getLatency(family).next(random);
+        if (delay > 0) {
+            simulatedNanos.addAndGet(delay);
+            LockSupport.parkNanos(delay);
+        }
+        final Reply reply;
+        if (isFailureInjected(family, command)) {
+            failureCount.incrementAndGet();
+            reply = Reply.error(9999, "Command failed (injected failure)");
+        } else if (SECADM.equals(family) && tokens.length > 2) {
+            reply = executeSecadm(tokens);
+        } else if (CMEDIT.equals(family) && tokens.length > 2) {
+            reply = executeCmedit(tokens);
+        } else {
+            reply = null;
+        }
+        final Reply result = reply != null ? reply : Reply.error(1001, "Command syntax error (not supported by ENM stand-in)");
+        LOGGER.trace("{} - <{}> ({} ms) --> {}", METHOD_NAME, command, TimeUnit.NANOSECONDS.toMillis(delay), result);
+        return result;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: reset            <i>[public]</i>
+     * <b>Description</b>: This method removes nodes, jobs and statistics (latency and
+     *   failure configuration is read again).
+     * </pre>
+     */
+    public void reset() {
+        nodes.clear();
+        jobs.clear();
+        latencies.clear();
+        commandCount.set(0);
+        failureCount.set(0);
+        simulatedNanos.set(0);
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: setSyncStatus            <i>[public]</i>
+     * <b>Description</b>: This method sets the CM sync status of the node (i.e. to
+     *   simulate a node that is synchronizing).
+     * </pre>
+     *
+     * @param nodeName node name
+     * @param syncStatus sync status
+     */
+    public void setSyncStatus(final String nodeName, final String syncStatus) {
+        getNode(nodeName).syncStatus = syncStatus;
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public long getCommandCount() {
+        return commandCount.get();
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public long getSimulatedLatencyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(simulatedNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ENM stand-in: %d nodes, %d jobs, %d commands (%d failed), simulated latency %d ms", nodes.size(), jobs.size(),
+                getCommandCount(), getFailureCount(), getSimulatedLatencyMillis());
+    }
+
+    // ************************************************************************
+    // * secadm commands
+    // ************************************************************************
+
+    private Reply executeSecadm(final String[] tokens) {
+        final String area = tokens[1].toLowerCase(Locale.ROOT);
+        final String action = tokens[2].toLowerCase(Locale.ROOT);
+        if ("credentials".equals(area) && "get".equals(action)) {
+            return credentialsGet(getOption(tokens, NODELIST_OPTION));
+        }
+        if ("credentials".equals(area) && ("update".equals(action) || "create".equals(action))) {
+            return credentialsSet(tokens, "create".equals(action));
+        }
+        if ("sso".equals(area) && tokens.length > 3) {
+            return sso(action, tokens[3]);
+        }
+        if ("job".equals(area) && "get".equals(action)) {
+            return jobGet(getOption(tokens, "-j"));
+        }
+        if ("ldap".equals(area) && "configure".equals(action) || "certificate".equals(area) && "issue".equals(action)) {
+            return startJob(String.join(" ", tokens));
+        }
+        return null;
+    }
+
+    private Reply credentialsGet(final String nodeList) {
+        if (nodeList == null) {
+            return null;
+        }
+        final List<String> header = new ArrayList<>();
+        header.add(NODE_NAME);
+        for (int index = 0; index < CREDENTIAL_ATTRIBUTES.size(); index++) {
+            header.add(toColumnName(CREDENTIAL_ATTRIBUTES.get(index)));
+        }
+        final List<List<String>> rows = new ArrayList<>();
+        for (final String nodeName : nodeList.split(",")) {
+            final NodeState node = getNode(nodeName);
+            synchronized (node) {
+                if (!node.securityFunction) {
+                    return Reply.error(10004, "The NetworkElementSecurity MO does not exist for the associated NetworkElement MO: " + nodeName);
+                }
+                final List<String> row = new ArrayList<>();
+                row.add(nodeName);
+                for (final String attribute : CREDENTIAL_ATTRIBUTES) {
+                    row.add(attribute + ":" + node.credentials.get(attribute));
+                }
+                rows.add(row);
+            }
+        }
+        return Reply.table(header, rows);
+    }
+
+    private Reply credentialsSet(final String[] tokens, final boolean create) {
+        final String nodeList = getOption(tokens, NODELIST_OPTION);
+        if (nodeList == null) {
+            return null;
+        }
+        for (final String nodeName : nodeList.split(",")) {
+            final NodeState node = getNode(nodeName);
+            synchronized (node) {
+                node.securityFunction = true;
+                for (int index = 3; index < tokens.length - 1; index++) {
+                    final String attribute = toAttribute(tokens[index]);
+                    if (attribute != null) {
+                        node.credentials.put(attribute, tokens[++index]);
+                    }
+                }
+            }
+        }
+        return Reply.lines(create ? "All credentials were created successfully" : "All credentials updated successfully");
+    }
+
+    private Reply sso(final String action, final String nodeName) {
+        final NodeState node = getNode(nodeName);
+        switch (action) {
+            case "enable":
+            case "disable":
+                node.ssoEnabled = "enable".equals(action);
+                return Reply.lines(String.format("SSO %sd successfully for node %s", action, nodeName));
+            case "get":
+                return Reply.table(Arrays.asList(NODE_NAME, "SSO Status"),
+                        Collections.singletonList(Arrays.asList(nodeName, node.ssoEnabled ? "ENABLED" : "DISABLED")));
+            default:
+                return null;
+        }
+    }
+
+    private Reply startJob(final String command) {
+        final String jobId = UUID.randomUUID().toString();
+        jobs.put(jobId, new Job(command, System.currentTimeMillis() + DataHandler.getConfiguration()
+                .getProperty(PROPERTY_PREFIX + "job.duration", 0L, Long.class)));
+        return Reply.lines(String.format("Successfully started a job for %s. Perform 'secadm job get -j %s' to get progress info.",
+                command.split("\\s+", 4)[1] + " " + command.split("\\s+", 4)[2], jobId));
+    }
+
+    private Reply jobGet(final String jobList) {
+        if (jobList == null) {
+            return null;
+        }
+        final List<List<String>> rows = new ArrayList<>();
+        for (final String jobId : jobList.split(",")) {
+            final Job job = jobs.get(jobId);
+            if (job == null) {
+                return Reply.error(10026, "Invalid job identifier: " + jobId);
+            }
+            final boolean completed = System.currentTimeMillis() >= job.completionTime;
+            rows.add(Arrays.asList(jobId, completed ? JOB_STATUS_COMPLETED : "RUNNING", completed ? WORKFLOW_STATUS_SUCCESS : "PENDING",
+                    completed ? "Job completed" : "", job.command));
+        }
+        return Reply.table(Arrays.asList(JOB_ID, JOB_STATUS_COLUMN_NAME, WORKFLOW_STATUS_COLUMN_NAME, WORKFLOW_DETAILS_COLUMN_NAME,
+                COMMNAND_ID_COLUMN_NAME), rows);
+    }
+
+    // ************************************************************************
+    // * cmedit commands
+    // ************************************************************************
+
+    private Reply executeCmedit(final String[] tokens) {
+        final String action = tokens[1].toLowerCase(Locale.ROOT);
+        final String scope = tokens[2];
+        final String target = tokens.length > 3 && !tokens[3].startsWith("--") ? tokens[3] : "";
+        switch (action) {
+            case "get":
+                if (target.isEmpty() && scope.contains("NetworkElementSecurity")) {
+                    return networkElementSecurityGet(scope);
+                }
+                if ("CmFunction.syncStatus".equalsIgnoreCase(target)) {
+                    return syncStatusGet(scope);
+                }
+                return ldapGet(scope, target);
+            case "set":
+                return ldapSet(scope, target);
+            case "delete":
+                return networkElementSecurityDelete(scope);
+            default:
+                return null;
+        }
+    }
+
+    private Reply networkElementSecurityGet(final String fdnList) {
+        final List<String> header = new ArrayList<>();
+        header.add(NODE_ID);
+        header.add("NetworkElementSecurityId");
+        header.addAll(CREDENTIAL_ATTRIBUTES);
+        final List<List<String>> rows = new ArrayList<>();
+        for (final String fdn : fdnList.split(";")) {
+            final NodeState node = getNode(getNodeName(fdn));
+            synchronized (node) {
+                if (node.securityFunction) {
+                    final List<String> row = new ArrayList<>();
+                    row.add(node.name);
+                    row.add("1");
+                    for (final String attribute : CREDENTIAL_ATTRIBUTES) {
+                        row.add(node.credentials.get(attribute));
+                    }
+                    rows.add(row);
+                }
+            }
+        }
+        return Reply.table(header, rows);
+    }
+
+    private Reply networkElementSecurityDelete(final String fdn) {
+        final NodeState node = getNode(getNodeName(fdn));
+        synchronized (node) {
+            final int deleted = node.securityFunction ? 1 : 0;
+            node.securityFunction = false;
+            return Reply.lines(String.format(INSTANCES + " deleted", deleted));
+        }
+    }
+
+    private Reply syncStatusGet(final String nodeList) {
+        final List<List<String>> rows = new ArrayList<>();
+        for (final String nodeName : nodeList.split(";")) {
+            rows.add(Arrays.asList(nodeName, "1", getNode(nodeName).syncStatus));
+        }
+        return Reply.table(Arrays.asList(NODE_ID, "CmFunctionId", "syncStatus"), rows);
+    }
+
+    private Reply ldapGet(final String scope, final String moType) {
+        final NodeState node = getNode(getNodeName(scope));
+        final String authenticationFdn = String.format(LDAP_AUTHENTICATION_FDN, node.name);
+        switch (moType) {
+            case "LdapAuthenticationMethod":
+                return Reply.lines(FDN + authenticationFdn, "administrativeState : " + node.administrativeState, "",
+                        String.format(INSTANCES, 1));
+            case "Ldap":
+                return Reply.lines(FDN + authenticationFdn + ",Ldap=1", "profileFilter : " + node.profileFilter, "",
+                        String.format(INSTANCES, 1));
+            case "simple-authenticated":
+                return Reply.lines(FDN + "ManagedElement=" + node.name + ",system=1,authentication=1,ldap=1,security=1,simple-authenticated=1",
+                        "", String.format(INSTANCES, 1));
+            default:
+                return null;
+        }
+    }
+
+    private Reply ldapSet(final String fdn, final String assignment) {
+        final int separator = assignment.indexOf('=');
+        if (separator < 0) {
+            return null;
+        }
+        final NodeState node = getNode(getNodeName(fdn));
+        final String value = assignment.substring(separator + 1);
+        switch (assignment.substring(0, separator)) {
+            case "administrativeState":
+                node.administrativeState = value;
+                break;
+            case "profileFilter":
+                node.profileFilter = value;
+                break;
+            default:
+                return null;
+        }
+        return Reply.lines(String.format(INSTANCES + " updated", 1));
+    }
+
+    // ************************************************************************
+    // * Utilities
+    // ************************************************************************
+
+    private NodeState getNode(final String nodeName) {
+        return nodes.computeIfAbsent(nodeName.trim(), NodeState::new);
+    }
+
+    private boolean isFailureInjected(final String family, final String command) {
+        final String failingNodes = getProperty("failure.nodes", "");
+        if (!failingNodes.isEmpty()) {
+            for (final String nodeName : failingNodes.split(",")) {
+                if (!nodeName.trim().isEmpty() && command.contains(nodeName.trim())) {
+                    return true;
+                }
+            }
+        }
+        final double rate = Double.parseDouble(getProperty("failure.rate." + family, getProperty("failure.rate", "0")));
+        return rate > 0 && random.nextDouble() < rate;
+    }
+
+    private Latency getLatency(final String family) {
+        return latencies.computeIfAbsent(family, key -> Latency.parse(getProperty("latency." + key, getProperty("latency", "none"))));
+    }
+
+    private static String getProperty(final String name, final String defaultValue) {
+        return DataHandler.getConfiguration().getProperty(PROPERTY_PREFIX + name, defaultValue, String.class);
+    }
+
+    private static String getOption(final String[] tokens, final String option) {
+        for (int index = 0; index < tokens.length - 1; index++) {
+            if (option.equalsIgnoreCase(tokens[index])) {
+                return tokens[index + 1];
+            }
+        }
+        return null;
+    }
+
+    private static String getNodeName(final String fdn) {
+        for (final String rdn : fdn.split(",")) {
+            final int separator = rdn.indexOf('=');
+            if (separator < 0) {
+                return rdn;
+            }
+            final String type = rdn.substring(0, separator);
+            if ("NetworkElement".equals(type) || "ManagedElement".equals(type) || "MeContext".equals(type)) {
+                return rdn.substring(separator + 1);
+            }
+        }
+        return fdn;
+    }
+
+    private static String toAttribute(final String option) {
+        final String name = option.startsWith("--") ? option.substring(2).toLowerCase(Locale.ROOT) : "";
+        for (final String attribute : CREDENTIAL_ATTRIBUTES) {
+            if (attribute.toLowerCase(Locale.ROOT).equals(name)) {
+                return attribute;
+            }
+        }
+        return null;
+    }
+
+    private static String toColumnName(final String attribute) {
+        final StringBuilder columnName = new StringBuilder();
+        for (final char current : attribute.toCharArray()) {
+            if (Character.isUpperCase(current)) {
+                columnName.append(' ');
+            }
+            columnName.append(columnName.length() == 0 ? Character.toUpperCase(current) : current);
+        }
+        return columnName.toString().replace("Cli", "CLI");
+    }
+
+    /**
+     * <pre>
+     * <b>Class Name</b>: Reply
+     * <b>Description</b>: Output of a command: lines (i.e. 'FDN : ...' and
+     *   'attribute : value') or table (header and rows), with the summary of the
+     *   response (error code and status/error message).
+     * </pre>
+     */
+    public static final class Reply {
+        private final boolean success;
+        private final List<String> lines;
+        private final List<List<String>> table;
+        private final int errorCode;
+        private final String message;
+
+        private Reply(final boolean success, final List<String> lines, final List<List<String>> table, final int errorCode,
+                final String message) {
+            this.success = success;
+            this.lines = lines;
+            this.table = table;
+            this.errorCode = errorCode;
+            this.message = message;
+        }
+
+        private static Reply lines(final String... lines) {
+            return new Reply(true, Arrays.asList(lines), Collections.<List<String>>emptyList(), 0, lines[lines.length - 1]);
+        }
+
+        private static Reply table(final List<String> header, final List<List<String>> rows) {
+            final List<List<String>> table = new ArrayList<>(rows.size() + 1);
+            table.add(header);
+            table.addAll(rows);
+            final String instances = String.format(INSTANCES, rows.size());
+            return new Reply(true, Arrays.asList("", instances), table, 0, instances);
+        }
+
+        private static Reply error(final int code, final String message) {
+            return new Reply(false, Collections.singletonList(ERROR_PREFIX + code + " : " + message), Collections.<List<String>>emptyList(),
+                    code, message);
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public boolean isSuccess() {
+            return success;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public int getErrorCode() {
+            return errorCode;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public String getMessage() {
+            return message;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public List<String> getLines() {
+            return lines;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public List<List<String>> getTable() {
+            return table;
+        }
+
+        @Override
+        public String toString() {
+            return (table.isEmpty() ? "" : table + " ") + lines;
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Class Name</b>: NodeState
+     * <b>Description</b>: ENM data of a node.
+     * </pre>
+     */
+    private static final class NodeState {
+        private final String name;
+        private final Map<String, String> credentials = new LinkedHashMap<>();
+        private boolean securityFunction = true;
+        private volatile String administrativeState = "LOCKED";
+        private volatile String profileFilter = "ERICSSON_FILTER";
+        private volatile boolean ssoEnabled;
+        private volatile String syncStatus = SYNCHRONIZED;
+
+        private NodeState(final String name) {
+            this.name = name;
+            final String defaultUser = getProperty("default.user", "netsim");
+            for (final String attribute : CREDENTIAL_ATTRIBUTES) {
+                credentials.put(attribute, attribute.startsWith("root") ? "root" : defaultUser);
+            }
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Class Name</b>: Job
+     * <b>Description</b>: secadm job (completed after configured time).
+     * </pre>
+     */
+    private static final class Job {
+        private final String command;
+        private final long completionTime;
+
+        private Job(final String command, final long completionTime) {
+            this.command = command;
+            this.completionTime = completionTime;
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Class Name</b>: Latency
+     * <b>Description</b>: Latency distribution of the responses (nanoseconds).
+     * </pre>
+     */
+    private static final class Latency {
+        private final String type;
+        private final double first;
+        private final double second;
+
+        private Latency(final String type, final double first, final double second) {
+            this.type = type;
+            this.first = first;
+            this.second = second;
+        }
+
+        private static Latency parse(final String definition) {
+            final String[] parts = definition.trim().toLowerCase(Locale.ROOT).split("[:,]");
+            final double first = parts.length > 1 ? Double.parseDouble(parts[1].trim()) : 0;
+            final double second = parts.length > 2 ? Double.parseDouble(parts[2].trim()) : first;
+            switch (parts[0]) {
+                case "constant":
+                case "uniform":
+                case "exponential":
+                    return new Latency(parts[0], first, second);
+                case "lognormal":
+                    // MEDIAN,P99 --> mu = ln(MEDIAN), sigma = ln(P99/MEDIAN)/z(0.99)
+                    return new Latency(parts[0], Math.log(Math.max(first, 1e-3)), Math.log(Math.max(second / Math.max(first, 1e-3), 1.0))
+                            / P99_SIGMAS);
+                case "none":
+                    return new Latency("none", 0, 0);
+                default:
+                    throw new IllegalArgumentException("Unsupported ENM stand-in latency: " + definition);
+            }
+        }
+
+        private long next(final Random random) {
+            final double millis;
+            switch (type) {
+                case "constant":
+                    millis = first;
+                    break;
+                case "uniform":
+                    millis = first + random.nextDouble() * (second - first);
+                    break;
+                case "exponential":
+                    millis = -first * Math.log(1.0 - random.nextDouble());
+                    break;
+                case "lognormal":
+                    millis = Math.exp(first + second * random.nextGaussian());
+                    break;
+                default:
+                    millis = 0;
+                    break;
+            }
+            return (long) (millis * TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+}
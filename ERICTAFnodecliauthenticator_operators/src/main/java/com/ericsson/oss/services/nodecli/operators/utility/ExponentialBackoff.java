@@ -0,0 +1,106 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <pre>
+ * <b>Name</b>: ExponentialBackoff      <i>[public (Class)]</i>
+ * <b>Description</b>: This class computes the wait intervals for a polling loop:
+ *   each interval doubles the previous one (up to a maximum value) with a random
+ *   jitter, and the loop is bounded by a deadline.
+ *   An instance is not thread safe and must be used by a single polling loop.
+ * </pre>
+ */
+public class ExponentialBackoff {
+    private final long maxDelayMillis;
+    private final long deadlineMillis;
+    private long currentDelayMillis;
+
+    /**
+     * <pre>
+     * <b>Name</b>: ExponentialBackoff            <i>[public]</i>
+     * <b>Description</b>: Constructor: the deadline starts from the instant of creation.
+     * </pre>
+     *
+     * @param initialDelayMillis first wait interval (ms)
+     * @param maxDelayMillis maximum wait interval (ms)
+     * @param timeoutMillis maximum time allowed for the whole polling loop (ms)
+     */
+    public ExponentialBackoff(final long initialDelayMillis, final long maxDelayMillis, final long timeoutMillis) {
+        this.currentDelayMillis = Math.max(1L, initialDelayMillis);
+        this.maxDelayMillis = Math.max(this.currentDelayMillis, maxDelayMillis);
+        this.deadlineMillis = System.currentTimeMillis() + Math.max(0L, timeoutMillis);
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: isExpired            <i>[public]</i>
+     * <b>Description</b>: This method checks if the deadline has been reached.
+     * </pre>
+     *
+     * @return true if deadline is reached
+     */
+    public boolean isExpired() {
+        return System.currentTimeMillis() >= deadlineMillis;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: nextDelay            <i>[public]</i>
+     * <b>Description</b>: This method returns the next wait interval: a random value
+     *   between half and the whole current interval, never exceeding the remaining time
+     *   before the deadline. The current interval is then doubled.
+     * </pre>
+     *
+     * @return wait interval (ms), 0 if deadline is reached
+     */
+    public long nextDelay() {
+        final long remaining = deadlineMillis - System.currentTimeMillis();
+        if (remaining <= 0) {
+            return 0L;
+        }
+        final long halfDelay = currentDelayMillis / 2;
+        final long delay = halfDelay + ThreadLocalRandom.current().nextLong(currentDelayMillis - halfDelay + 1);
+        currentDelayMillis = Math.min(maxDelayMillis, currentDelayMillis * 2);
+        return Math.min(delay, remaining);
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: sleep            <i>[public]</i>
+     * <b>Description</b>: This method waits for the next interval.
+     * </pre>
+     *
+     * @return false if deadline is reached (no wait done)
+     */
+    public boolean sleep() {
+        final long delay = nextDelay();
+        if (delay <= 0) {
+            return false;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import static com.ericsson.oss.testware.nodesecurity.utils.JobIdUtils.COMMNAND_ID_COLUMN_NAME;
+import static com.ericsson.oss.testware.nodesecurity.utils.JobIdUtils.JOB_STATUS_COLUMN_NAME;
+import static com.ericsson.oss.testware.nodesecurity.utils.JobIdUtils.JOB_STATUS_COMPLETED;
+import static com.ericsson.oss.testware.nodesecurity.utils.JobIdUtils.WORKFLOW_DETAILS_COLUMN_NAME;
+import static com.ericsson.oss.testware.nodesecurity.utils.JobIdUtils.WORKFLOW_STATUS_COLUMN_NAME;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ericsson.oss.testware.enm.cli.EnmCliResponse;
+import com.ericsson.oss.testware.nodesecurity.utils.JobIdUtils;
+import com.google.common.base.Joiner;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * <pre>
+ * <b>Name</b>: JobStatusTracker      <i>[public (Class)]</i>
+ * <b>Description</b>: This class is the Job registry shared by all the vUsers.
+ *   Each Test Step registers its Job and waits on a future, while a single
+ *   'secadm job get' command for all the pending Jobs is sent at each poll interval.
+ *   As for {@link CmSyncStatusPoller}, the command is executed by one of the waiting
+ *   vUsers (with its own REST session) and each Job has its own deadline.
+ * </pre>
+ */
+public final class JobStatusTracker {
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobStatusTracker.class);
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(JobStatusTracker.class);
+    private static final Pattern JOB_ID_PATTERN = Pattern.compile("(?:-j|--joblist)\\s+(\\S+)");
+    private static final String JOB_GET_COMMAND = "secadm job get -j %s";
+    private static final String JOB_ID_COLUMN_NAME = "Job Id";
+    private static final long MIN_WAIT_MILLIS = 50L;
+    private static final JobStatusTracker INSTANCE = new JobStatusTracker();
+
+    private final Map<String, TrackedJob> jobs = new ConcurrentHashMap<>();
+    private final ReentrantLock pollLock = new ReentrantLock();
+    private volatile long nextPollMillis;
+
+    private JobStatusTracker() {
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: getInstance            <i>[public]</i>
+     * <b>Description</b>: This method returns the registry shared by the whole run.
+     * </pre>
+     *
+     * @return shared registry
+     */
+    public static JobStatusTracker getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: awaitJob            <i>[public]</i>
+     * <b>Description</b>: This method registers a Job and waits until it is completed
+     *   or its deadline is reached.
+     * </pre>
+     *
+     * @param jobKey unique key of the Job (Job Network Element Id)
+     * @param jobIdCommand 'secadm job get' command for the single Job
+     * @param pollIntervalMillis interval between two queries (ms)
+     * @param timeoutMillis deadline of the Job (ms)
+     * @param commandExecutor function sending a command to ENM
+     * @return last read Job status (never null)
+     */
+    public JobState awaitJob(final String jobKey, final String jobIdCommand, final long pollIntervalMillis, final long timeoutMillis,
+            final Function<String, EnmCliResponse> commandExecutor) {
+        final TrackedJob trackedJob = new TrackedJob(jobKey, jobIdCommand, System.currentTimeMillis() + timeoutMillis);
+        final TrackedJob previousJob = jobs.put(jobKey, trackedJob);
+        if (previousJob != null) {
+            LOGGER.warn("{} - Job '{}' was already monitored: previous monitor replaced", METHOD_NAME, jobKey);
+            previousJob.future.complete(previousJob.lastState);
+        }
+        try {
+            pause(Math.min(pollIntervalMillis, timeoutMillis));
+            while (!trackedJob.future.isDone() && System.currentTimeMillis() < trackedJob.deadlineMillis) {
+                pollIfDue(pollIntervalMillis, commandExecutor);
+                final long now = System.currentTimeMillis();
+                final long wait = Math.min(trackedJob.deadlineMillis - now, Math.max(MIN_WAIT_MILLIS, nextPollMillis - now));
+                try {
+                    trackedJob.future.get(Math.max(1L, wait), TimeUnit.MILLISECONDS);
+                } catch (final TimeoutException e) {
+                    LOGGER.trace("{} - Job '{}' still running --> {}", METHOD_NAME, jobKey, trackedJob.lastState);
+                } catch (final ExecutionException e) {
+                    LOGGER.warn("{} - Job '{}' monitor failed", METHOD_NAME, jobKey, e);
+                    break;
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        } finally {
+            jobs.remove(jobKey, trackedJob);
+        }
+        if (!trackedJob.future.isDone()) {
+            LOGGER.warn("{} - Job '{}' deadline reached after {} checks", METHOD_NAME, jobKey, trackedJob.checkCount);
+        }
+        return trackedJob.lastState;
+    }
+
+    private void pollIfDue(final long pollIntervalMillis, final Function<String, EnmCliResponse> commandExecutor) {
+        if (System.currentTimeMillis() < nextPollMillis || !pollLock.tryLock()) {
+            return;
+        }
+        try {
+            if (System.currentTimeMillis() >= nextPollMillis) {
+                poll(commandExecutor);
+                nextPollMillis = System.currentTimeMillis() + pollIntervalMillis;
+            }
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    private void poll(final Function<String, EnmCliResponse> commandExecutor) {
+        final Map<String, TrackedJob> pendingJobs = Maps.newLinkedHashMap();
+        final List<TrackedJob> singleJobs = Lists.newArrayList();
+        for (final TrackedJob trackedJob : jobs.values()) {
+            if (trackedJob.future.isDone()) {
+                continue;
+            }
+            if (trackedJob.jobId == null) {
+                singleJobs.add(trackedJob);
+            } else {
+                pendingJobs.put(trackedJob.jobId, trackedJob);
+            }
+        }
+
+        if (pendingJobs.size() == 1) {
+            singleJobs.addAll(pendingJobs.values());
+        } else if (pendingJobs.size() > 1) {
+            final String command = String.format(JOB_GET_COMMAND, Joiner.on(",").join(pendingJobs.keySet()));
+            LOGGER.debug("{} - Job status query for {} jobs:\n\t --> <{}>", METHOD_NAME, pendingJobs.size(), command);
+            try {
+                final EnmCliResponse response = commandExecutor.apply(command);
+                final Map<String, JobState> statePerJob = getStatePerJob(response);
+                for (final TrackedJob trackedJob : pendingJobs.values()) {
+                    final JobState jobState = statePerJob.get(trackedJob.jobId);
+                    if (jobState == null) {
+                        singleJobs.add(trackedJob);
+                    } else {
+                        update(trackedJob, jobState);
+                    }
+                }
+            } catch (final RuntimeException e) {
+                LOGGER.warn("{} - Job status query failed: single job commands will be used", METHOD_NAME, e);
+                singleJobs.addAll(pendingJobs.values());
+            }
+        }
+
+        // Jobs whose state can't be read from multi-job table are checked with their own command.
+        for (final TrackedJob trackedJob : singleJobs) {
+            try {
+                final EnmCliResponse response = commandExecutor.apply(trackedJob.jobIdCommand);
+                update(trackedJob, new JobState(JobIdUtils.findStatus(response, JOB_STATUS_COLUMN_NAME),
+                        JobIdUtils.findStatus(response, WORKFLOW_STATUS_COLUMN_NAME),
+                        JobIdUtils.findStatus(response, WORKFLOW_DETAILS_COLUMN_NAME),
+                        JobIdUtils.findStatus(response, COMMNAND_ID_COLUMN_NAME)));
+            } catch (final RuntimeException e) {
+                LOGGER.warn("{} - Job '{}' status query failed", METHOD_NAME, trackedJob.jobKey, e);
+            }
+        }
+    }
+
+    private static Map<String, JobState> getStatePerJob(final EnmCliResponse response) {
+        final Map<String, JobState> statePerJob = Maps.newHashMap();
+        if (response == null || !response.isCommandSuccessful()) {
+            return statePerJob;
+        }
+        for (final Map<String, String> row : response.getAllAtributesPerObjectSingleTableView()) {
+            final String jobId = row.get(JOB_ID_COLUMN_NAME);
+            if (jobId == null || jobId.trim().isEmpty()) {
+                continue;
+            }
+            final JobState rowState = new JobState(row.get(JOB_STATUS_COLUMN_NAME), row.get(WORKFLOW_STATUS_COLUMN_NAME),
+                    row.get(WORKFLOW_DETAILS_COLUMN_NAME), row.get(COMMNAND_ID_COLUMN_NAME));
+            // A Job can have more workflow rows: keep the first one with a workflow status.
+            final JobState previousState = statePerJob.get(jobId.trim());
+            if (previousState == null || previousState.getWorkflowStatus() == null) {
+                statePerJob.put(jobId.trim(), rowState);
+            }
+        }
+        return statePerJob;
+    }
+
+    private static void update(final TrackedJob trackedJob, final JobState jobState) {
+        trackedJob.lastState = jobState;
+        trackedJob.checkCount++;
+        if (JOB_STATUS_COMPLETED.equals(jobState.getJobStatus())) {
+            trackedJob.future.complete(jobState);
+        }
+    }
+
+    private static String getJobId(final String jobIdCommand) {
+        final Matcher matcher = JOB_ID_PATTERN.matcher(jobIdCommand);
+        return matcher.find() && !matcher.group(1).contains(",") ? matcher.group(1) : null;
+    }
+
+    private static void pause(final long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Class Name</b>: JobState
+     * <b>Description</b>: Status of a Job as read from 'secadm job get' command.
+     * </pre>
+     */
+    public static final class JobState {
+        private final String jobStatus;
+        private final String workflowStatus;
+        private final String workflowDetails;
+        private final String commandId;
+
+        JobState(final String jobStatus, final String workflowStatus, final String workflowDetails, final String commandId) {
+            this.jobStatus = jobStatus;
+            this.workflowStatus = workflowStatus;
+            this.workflowDetails = workflowDetails != null ? workflowDetails : "No Details available";
+            this.commandId = commandId;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public String getJobStatus() {
+            return jobStatus;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public String getWorkflowStatus() {
+            return workflowStatus;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public String getWorkflowDetails() {
+            return workflowDetails;
+        }
+
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        public String getCommandId() {
+            return commandId;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Job Status = %s - Workflow Status = %s - Workflow Details = %s - Command Id = %s",
+                    jobStatus, workflowStatus, workflowDetails, commandId);
+        }
+    }
+
+    /**
+     * Job registered in the tracker.
+     */
+    private static final class TrackedJob {
+        private final String jobKey;
+        private final String jobIdCommand;
+        private final String jobId;
+        private final long deadlineMillis;
+        private final CompletableFuture<JobState> future = new CompletableFuture<>();
+        private volatile JobState lastState = new JobState(null, null, null, null);
+        private volatile int checkCount;
+
+        private TrackedJob(final String jobKey, final String jobIdCommand, final long deadlineMillis) {
+            this.jobKey = jobKey;
+            this.jobIdCommand = jobIdCommand;
+            this.jobId = getJobId(jobIdCommand);
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
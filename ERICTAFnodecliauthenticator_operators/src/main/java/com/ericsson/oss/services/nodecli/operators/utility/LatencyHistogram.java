@@ -0,0 +1,145 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <pre>
+ * <b>Name</b>: LatencyHistogram      <i>[public (Class)]</i>
+ * <b>Description</b>: This class records latencies (microseconds) in log-linear buckets
+ *   (HDR histogram layout): values lower than 128 have their own bucket, higher values
+ *   are grouped in 64 buckets for each power of 2 (relative error lower than 1.6%).
+ *   Recording is lock-free and can be done by several vUsers at the same time.
+ * </pre>
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT * (Long.SIZE - SUB_BUCKET_BITS + 1);
+    private static final double PERCENT = 100.0;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * <pre>
+     * <b>Name</b>: record            <i>[public]</i>
+     * <b>Description</b>: This method records a latency.
+     * </pre>
+     *
+     * @param nanos latency (nanoseconds)
+     */
+    public void record(final long nanos) {
+        final long micros = Math.max(0L, TimeUnit.NANOSECONDS.toMicros(nanos));
+        counts.incrementAndGet(bucketIndex(micros));
+        totalCount.incrementAndGet();
+        totalMicros.addAndGet(micros);
+        long max = maxMicros.get();
+        while (micros > max && !maxMicros.compareAndSet(max, micros)) {
+            max = maxMicros.get();
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: add            <i>[public]</i>
+     * <b>Description</b>: This method adds the values recorded by another histogram.
+     * </pre>
+     *
+     * @param other histogram to add
+     */
+    public void add(final LatencyHistogram other) {
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            final long count = other.counts.get(index);
+            if (count != 0) {
+                counts.addAndGet(index, count);
+            }
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        totalMicros.addAndGet(other.totalMicros.get());
+        long max = maxMicros.get();
+        final long otherMax = other.maxMicros.get();
+        while (otherMax > max && !maxMicros.compareAndSet(max, otherMax)) {
+            max = maxMicros.get();
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: getPercentile            <i>[public]</i>
+     * <b>Description</b>: This method returns the latency at selected percentile: highest
+     *   value of the bucket that contains the percentile, not greater than max value.
+     * </pre>
+     *
+     * @param percentile percentile (0-100)
+     * @return latency (microseconds), 0 if no value is recorded
+     */
+    public long getPercentile(final double percentile) {
+        final long total = totalCount.get();
+        if (total == 0) {
+            return 0L;
+        }
+        final long target = Math.max(1L, (long) Math.ceil(Math.min(percentile, PERCENT) / PERCENT * total));
+        long cumulative = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            cumulative += counts.get(index);
+            if (cumulative >= target) {
+                return Math.min(highestValue(index), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public double getMeanMicros() {
+        final long total = totalCount.get();
+        return total == 0 ? 0.0 : (double) totalMicros.get() / total;
+    }
+
+    static int bucketIndex(final long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS - 1;
+        return SUB_BUCKET_COUNT * shift + (int) (value >>> shift);
+    }
+
+    static long highestValue(final int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKET_COUNT - 1;
+        final long subBucket = index - (long) SUB_BUCKET_COUNT * shift;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
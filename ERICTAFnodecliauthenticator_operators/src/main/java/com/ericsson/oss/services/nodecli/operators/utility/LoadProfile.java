@@ -0,0 +1,150 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * <pre>
+ * <b>Name</b>: LoadProfile      <i>[public (Class)]</i>
+ * <b>Description</b>: This class defines the arrival rate (sessions per second) of
+ *   an open loop load as function of the elapsed time:
+ *     constant:RATE                    same rate for the whole run
+ *     ramp:FROM,TO,SECONDS             linear ramp-up from FROM to TO, then TO
+ *     step:SECONDS,RATE1,RATE2,...     each rate for SECONDS, last rate after
+ *     spike:BASE,PEAK,AT,SECONDS       BASE rate, PEAK rate from AT for SECONDS
+ *   Arrivals are evenly spaced ('uniform') or random with exponential
+ *   inter-arrival time ('poisson').
+ * </pre>
+ */
+public final class LoadProfile {
+    private static final double NO_RATE_STEP_SECONDS = 0.1;
+
+    private final String type;
+    private final double[] values;
+    private final boolean poisson;
+
+    private LoadProfile(final String type, final double[] values, final boolean poisson) {
+        this.type = type;
+        this.values = values;
+        this.poisson = poisson;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: parse            <i>[public]</i>
+     * <b>Description</b>: This method creates the profile from its definition.
+     * </pre>
+     *
+     * @param definition profile definition (i.e. 'ramp:0,5,60')
+     * @param arrival 'uniform' or 'poisson'
+     * @return load profile
+     */
+    public static LoadProfile parse(final String definition, final String arrival) {
+        final String[] parts = definition.trim().split(":", 2);
+        final String type = parts[0].trim().toLowerCase(Locale.ROOT);
+        final String[] items = parts.length > 1 ? parts[1].split(",") : new String[0];
+        final double[] values = new double[items.length];
+        for (int index = 0; index < items.length; index++) {
+            values[index] = Double.parseDouble(items[index].trim());
+        }
+        final boolean validValues;
+        switch (type) {
+            case "constant":
+                validValues = values.length == 1;
+                break;
+            case "ramp":
+                validValues = values.length == 3 && values[2] > 0;
+                break;
+            case "step":
+                validValues = values.length >= 2 && values[0] > 0;
+                break;
+            case "spike":
+                validValues = values.length == 4;
+                break;
+            default:
+                throw new IllegalArgumentException(String.format("Unknown load profile '%s'", definition));
+        }
+        if (!validValues) {
+            throw new IllegalArgumentException(String.format("Wrong values in load profile '%s'", definition));
+        }
+        return new LoadProfile(type, values, "poisson".equalsIgnoreCase(arrival.trim()));
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: getRate            <i>[public]</i>
+     * <b>Description</b>: This method returns the arrival rate at the selected time.
+     * </pre>
+     *
+     * @param elapsedSeconds time from the start of the load
+     * @return sessions per second
+     */
+    public double getRate(final double elapsedSeconds) {
+        switch (type) {
+            case "ramp":
+                if (elapsedSeconds >= values[2]) {
+                    return values[1];
+                }
+                return values[0] + (values[1] - values[0]) * elapsedSeconds / values[2];
+            case "step":
+                final int step = (int) Math.min(elapsedSeconds / values[0], values.length - 2);
+                return values[1 + step];
+            case "spike":
+                return elapsedSeconds >= values[2] && elapsedSeconds < values[2] + values[3] ? values[1] : values[0];
+            default:
+                return values[0];
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: nextArrival            <i>[public]</i>
+     * <b>Description</b>: This method returns the time of the arrival following the
+     *   selected one (the rate at the previous arrival time is used).
+     * </pre>
+     *
+     * @param elapsedSeconds time of the previous arrival
+     * @param limitSeconds end of the load (returned if there are no more arrivals)
+     * @param random random generator ('poisson' arrivals)
+     * @return time of next arrival (seconds from the start of the load)
+     */
+    public double nextArrival(final double elapsedSeconds, final double limitSeconds, final Random random) {
+        double time = elapsedSeconds;
+        double rate = getRate(time);
+        while (rate <= 0) {
+            time += NO_RATE_STEP_SECONDS;
+            if (time >= limitSeconds) {
+                return limitSeconds;
+            }
+            rate = getRate(time);
+        }
+        final double interval = poisson ? -Math.log(1.0 - random.nextDouble()) / rate : 1.0 / rate;
+        return time + interval;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder profile = new StringBuilder(type).append(':');
+        for (int index = 0; index < values.length; index++) {
+            profile.append(index > 0 ? "," : "").append(values[index]);
+        }
+        return profile.append(poisson ? " (poisson)" : " (uniform)").toString();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import java.time.LocalDateTime;
+
+/**
+ * <pre>
+ * <b>Name</b>: LogTimestampDecoder      <i>[public (Class)]</i>
+ * <b>Description</b>: This class decodes the LOG timestamps with fixed layout
+ *   'yyyy-MM-dd HH:mm:ss[,SSS]' directly from the characters of the LOG, without
+ *   creating Strings or Date objects.
+ *   Decoded value is a comparable number in the form yyyyMMddHHmmss.
+ *   The instance keeps the result of last search: it is not thread safe and
+ *   should be used by a single vUser.
+ * </pre>
+ */
+public final class LogTimestampDecoder {
+    private static final int DATE_LENGTH = 10;
+    private static final int TIME_LENGTH = 8;
+    private static final int MILLIS_LENGTH = 4;
+
+    private long value = -1L;
+    private int start = -1;
+    private int end = -1;
+    private boolean millis;
+
+    /**
+     * <pre>
+     * <b>Name</b>: find            <i>[public]</i>
+     * <b>Description</b>: This method searches the first timestamp in the selected
+     *   range of characters.
+     * </pre>
+     *
+     * @param text text to scan
+     * @param from first index (included)
+     * @param to last index (excluded)
+     * @return true if a timestamp is found (see {@link #getValue()}, {@link #getEnd()}, {@link #hasMillis()})
+     */
+    public boolean find(final CharSequence text, final int from, final int to) {
+        for (int index = from; index <= to - DATE_LENGTH - 1 - TIME_LENGTH; index++) {
+            if (text.charAt(index + 4) == '-' && isDigit(text.charAt(index)) && decodeAt(text, index, to)) {
+                return true;
+            }
+        }
+        value = -1L;
+        start = -1;
+        end = -1;
+        millis = false;
+        return false;
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public long getValue() {
+        return value;
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public int getStart() {
+        return start;
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public int getEnd() {
+        return end;
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public boolean hasMillis() {
+        return millis;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: encode            <i>[public]</i>
+     * <b>Description</b>: This method converts the date/time to the decoded value format.
+     * </pre>
+     *
+     * @param dateTime date/time to convert
+     * @return value in the form yyyyMMddHHmmss
+     */
+    public static long encode(final LocalDateTime dateTime) {
+        return toValue(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(), dateTime.getHour(), dateTime.getMinute(),
+                dateTime.getSecond());
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: toLocalDateTime            <i>[public]</i>
+     * <b>Description</b>: This method converts the decoded value to date/time.
+     * </pre>
+     *
+     * @param encodedValue value in the form yyyyMMddHHmmss
+     * @return date/time
+     */
+    public static LocalDateTime toLocalDateTime(final long encodedValue) {
+        return LocalDateTime.of((int) (encodedValue / 10000000000L), (int) (encodedValue / 100000000L % 100), (int) (encodedValue / 1000000L % 100),
+                (int) (encodedValue / 10000L % 100), (int) (encodedValue / 100L % 100), (int) (encodedValue % 100));
+    }
+
+    private boolean decodeAt(final CharSequence text, final int index, final int to) {
+        // Date: yyyy-MM-dd
+        if (text.charAt(index + 7) != '-' || !areDigits(text, index, 4) || !areDigits(text, index + 5, 2) || !areDigits(text, index + 8, 2)) {
+            return false;
+        }
+        // Separator: one or more white spaces
+        int timeIndex = index + DATE_LENGTH;
+        while (timeIndex < to && Character.isWhitespace(text.charAt(timeIndex))) {
+            timeIndex++;
+        }
+        if (timeIndex == index + DATE_LENGTH || timeIndex + TIME_LENGTH > to) {
+            return false;
+        }
+        // Time: HH:mm:ss
+        if (text.charAt(timeIndex + 2) != ':' || text.charAt(timeIndex + 5) != ':'
+                || !areDigits(text, timeIndex, 2) || !areDigits(text, timeIndex + 3, 2) || !areDigits(text, timeIndex + 6, 2)) {
+            return false;
+        }
+        value = toValue(number(text, index, 4), number(text, index + 5, 2), number(text, index + 8, 2),
+                number(text, timeIndex, 2), number(text, timeIndex + 3, 2), number(text, timeIndex + 6, 2));
+        start = index;
+        end = timeIndex + TIME_LENGTH;
+        millis = end + MILLIS_LENGTH <= to && text.charAt(end) == ',' && areDigits(text, end + 1, 3);
+        if (millis) {
+            end += MILLIS_LENGTH;
+        }
+        return true;
+    }
+
+    private static long toValue(final int year, final int month, final int day, final int hour, final int minute, final int second) {
+        return ((((year * 100L + month) * 100L + day) * 100L + hour) * 100L + minute) * 100L + second;
+    }
+
+    private static boolean areDigits(final CharSequence text, final int index, final int length) {
+        for (int position = index; position < index + length; position++) {
+            if (!isDigit(text.charAt(position))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int number(final CharSequence text, final int index, final int length) {
+        int result = 0;
+        for (int position = index; position < index + length; position++) {
+            result = result * 10 + text.charAt(position) - '0';
+        }
+        return result;
+    }
+
+    private static boolean isDigit(final char character) {
+        return character >= '0' && character <= '9';
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <pre>
+ * <b>Name</b>: NodeCliLogFilter      <i>[public (Class)]</i>
+ * <b>Description</b>: This class filters the NodeCli LOG directly on the hosts
+ *   (pushdown): only the records with success pattern, IP address and user, newer
+ *   than the time interval (evaluated with remote clock), are transferred.
+ *   The LOG files modified in the time interval are checked (rotated files included),
+ *   records found are sorted on each host (to be merged by time while they are
+ *   scanned, see {@link NodeCliLogMerger#merged(List)}).
+ *   In case of error on a host the LOG of the time interval is read with a one-off
+ *   read (see {@link NodeCliLogTail#readWindow(int)}: the cursors of the incremental
+ *   read are not changed) and the filter is applied locally by the caller.
+ * </pre>
+ */
+public final class NodeCliLogFilter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NodeCliLogFilter.class);
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(NodeCliLogFilter.class);
+    private static final String FILTER_COMMAND = "F='%s'; M=%d; "
+            + "echo \"" + NodeCliLogTail.DATE_HEADER + " $(date '+%%Y-%%m-%%d %%H:%%M:%%S')\"; "
+            + "FROM=$(date -d \"-$M min\" '+%%Y%%m%%d%%H%%M%%S'); "
+            + "find \"$(dirname \"$F\")\" -maxdepth 1 -type f -name \"$(basename \"$F\")*\" -mmin -$((M+1)) -print0 "
+            + "| xargs -0 -r grep -h -F -e %s | grep -F -e %s | grep -F -e %s "
+            + "| awk -v from=\"$FROM\" 'match($0, /" + NodeCliLogTail.TIMESTAMP_REGEX + "/) { t = substr($0, RSTART, RLENGTH); "
+            + "gsub(/[^0-9]/, \"\", t); if (t > from) print }' | sort -s -k1,2; exit 0";
+
+    private NodeCliLogFilter() {
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: read            <i>[public]</i>
+     * <b>Description</b>: This method reads from the configured hosts the NodeCli LOG
+     *   records that match all the selected values.
+     * </pre>
+     *
+     * @param successPattern value of the successful access records
+     * @param ipAddress node IP address
+     * @param userName user name
+     * @param intervalMinutes time interval (minutes before remote date/time)
+     * @return remote date/time (first item) and LOG records of each host (following items): LOG of the time interval if remote filter
+     *         fails
+     */
+    public static List<String> read(final String successPattern, final String ipAddress, final String userName, final int intervalMinutes) {
+        return read(NodeCliLogTail.getInstance(), successPattern, ipAddress, userName, intervalMinutes);
+    }
+
+    static List<String> read(final NodeCliLogTail logTail, final String successPattern, final String ipAddress, final String userName,
+            final int intervalMinutes) {
+        final String command = String.format(FILTER_COMMAND, logTail.getFileName().replace("'", "'\\''"), intervalMinutes,
+                quote(successPattern), quote(ipAddress), quote(userName));
+        final List<String> logFromHosts = new ArrayList<>();
+        logFromHosts.add("");
+        for (final String hostName : NodeCliLogTail.getHostNames()) {
+            final String output;
+            try {
+                output = logTail.execute(hostName.trim(), command);
+            } catch (final RuntimeException e) {
+                LOGGER.warn("{} - Remote filter failed on {} ({}): local filter will be used", METHOD_NAME, hostName.trim(),
+                        e.getMessage());
+                return logTail.readFileWindow(intervalMinutes);
+            }
+            final int headerEnd = output.indexOf('\n');
+            final String header = (headerEnd < 0 ? output : output.substring(0, headerEnd)).trim();
+            if (!header.startsWith(NodeCliLogTail.DATE_HEADER)) {
+                LOGGER.warn("{} - Unexpected output of remote filter on {}: {}", METHOD_NAME, hostName.trim(), header);
+                return logTail.readFileWindow(intervalMinutes);
+            }
+            final String hostDateTime = header.substring(NodeCliLogTail.DATE_HEADER.length()).trim();
+            if (hostDateTime.compareTo(logFromHosts.get(0)) > 0) {
+                logFromHosts.set(0, hostDateTime);
+            }
+            final String hostLog = headerEnd < 0 ? "" : output.substring(headerEnd + 1);
+            LOGGER.debug("{} - NodeCli LOG filtered on {} for <{}, {}, {}>: {} chars", METHOD_NAME, hostName.trim(), successPattern,
+                    ipAddress, userName, hostLog.length());
+            logFromHosts.add(hostLog);
+        }
+        return logFromHosts;
+    }
+
+    private static String quote(final String value) {
+        return "'" + value.replace("'", "'\\''") + "'";
+    }
+}
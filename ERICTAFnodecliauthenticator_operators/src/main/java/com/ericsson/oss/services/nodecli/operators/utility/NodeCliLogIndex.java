@@ -0,0 +1,500 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ericsson.cifwk.taf.data.DataHandler;
+
+/**
+ * <pre>
+ * <b>Name</b>: NodeCliLogIndex      <i>[public (Class)]</i>
+ * <b>Description</b>: This class contains the snapshot of the NodeCli LOG shared by
+ *   all the vUsers of a scenario: the LOG is read and scanned only once to extract
+ *   the 'session opened' records, and each record is parsed when the snapshot is
+ *   built: its IP addresses and words (user names) are the keys of the index, so a
+ *   check is a map lookup followed by a binary search on time.
+ *   The LOG is read again (by a single vUser) only when a record is not found in the
+ *   current snapshot: the new snapshot replaces the current one or, when only the
+ *   appended part of the LOG is read (see {@link NodeCliLogTail}), the new records
+ *   are added to a copy of it. The snapshot must be removed at the end of the scenario.
+ *   The LOG is scanned as a sequence of texts (i.e. the records of the host LOGs
+ *   merged by {@link NodeCliLogMerger}): the merged LOG is never built.
+ * </pre>
+ */
+public final class NodeCliLogIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NodeCliLogIndex.class);
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(NodeCliLogIndex.class);
+    private static final Map<String, NodeCliLogIndex> SNAPSHOTS = new ConcurrentHashMap<>();
+    private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+    private static final String KEY_SEPARATOR = "\u0000";
+    private static final int EXCERPT_LINES = DataHandler.getConfiguration().getProperty("log.nodecli.excerpt.lines", 50, Integer.class);
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[\\s,;'\"()\\[\\]{}<>=|]+");
+    private static final Pattern IPV4_ADDRESS = Pattern.compile("\\d{1,3}(?:\\.\\d{1,3}){3}");
+    private static final Pattern IPV4_JOINER = Pattern.compile(":");
+    private static final Pattern IPV6_ADDRESS = Pattern.compile("[0-9a-f]*(?::[0-9a-f]*){2,7}(?:\\.\\d{1,3}){0,3}");
+    private static final int IPV6_FULL_COLONS = 7;
+    private static final Entries NO_ENTRIES = new Entries(new long[0], new String[0]);
+
+    private final long remoteTimestamp;
+    private final long readNanos;
+    private final int recordCount;
+    private final int scannedLines;
+    private final List<String> excerpt;
+    private final Map<String, Entries> index;
+
+    private NodeCliLogIndex(final long remoteTimestamp, final long readNanos, final int recordCount, final int scannedLines,
+            final List<String> excerpt, final Map<String, Entries> index) {
+        this.remoteTimestamp = remoteTimestamp;
+        this.readNanos = readNanos;
+        this.recordCount = recordCount;
+        this.scannedLines = scannedLines;
+        this.excerpt = excerpt;
+        this.index = index;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: getSnapshot            <i>[public]</i>
+     * <b>Description</b>: This method returns the LOG snapshot of the selected scenario.
+     * </pre>
+     *
+     * @param scenarioKey scenario key (i.e. Test Case ID)
+     * @return LOG snapshot (null if not available)
+     */
+    public static NodeCliLogIndex getSnapshot(final String scenarioKey) {
+        return SNAPSHOTS.get(scenarioKey);
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: load            <i>[public]</i>
+     * <b>Description</b>: This method returns the scenario snapshot read after the
+     *   selected time: if the current snapshot is older, the LOG is read and indexed.
+     *   The LOG is read by one vUser at a time: the vUsers waiting for the same read
+     *   use the snapshot created by the first one.
+     * </pre>
+     *
+     * @param scenarioKey scenario key (i.e. Test Case ID)
+     * @param notBeforeNanos minimum read time of the snapshot ({@link System#nanoTime()})
+     * @param logReader LOG reader: remote date/time (first item) and LOG of each host (following items)
+     * @param incremental true if the reader returns only the LOG appended since its previous read
+     * @param recordPattern value contained in the records to index (i.e. 'Session opened successfully')
+     * @return scenario snapshot
+     */
+    public static NodeCliLogIndex load(final String scenarioKey, final long notBeforeNanos, final Supplier<List<String>> logReader,
+            final boolean incremental, final String recordPattern) {
+        synchronized (getLock(scenarioKey)) {
+            final NodeCliLogIndex current = SNAPSHOTS.get(scenarioKey);
+            if (current != null && current.readNanos - notBeforeNanos >= 0) {
+                return current;
+            }
+            final long readNanos = System.nanoTime();
+            final List<String> logFromHosts = logReader.get();
+            final NodeCliLogIndex snapshot = build(decodeTimestamp(logFromHosts.get(0)), readNanos,
+                    NodeCliLogMerger.merged(logFromHosts.subList(1, logFromHosts.size())), recordPattern);
+            return incremental ? add(scenarioKey, snapshot) : share(scenarioKey, snapshot);
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: append            <i>[public]</i>
+     * <b>Description</b>: This method adds the records of the selected LOG texts (LOG
+     *   appended since the previous read) to the scenario snapshot: the current
+     *   snapshot is not changed, the new one replaces it.
+     * </pre>
+     *
+     * @param scenarioKey scenario key (i.e. Test Case ID)
+     * @param remoteTimestamp LOG collection time in {@link LogTimestampDecoder} format
+     * @param logs appended LOG texts in time order (i.e. {@link NodeCliLogMerger#merged(List)})
+     * @param recordPattern value contained in the records to index (i.e. 'Session opened successfully')
+     * @return scenario snapshot with the new records
+     */
+    public static NodeCliLogIndex append(final String scenarioKey, final long remoteTimestamp, final Iterator<? extends CharSequence> logs,
+            final String recordPattern) {
+        synchronized (getLock(scenarioKey)) {
+            return add(scenarioKey, build(remoteTimestamp, System.nanoTime(), logs, recordPattern));
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: refresh            <i>[public]</i>
+     * <b>Description</b>: This method creates the snapshot from the selected LOG: it
+     *   becomes the scenario snapshot if it is newer than the current one.
+     * </pre>
+     *
+     * @param scenarioKey scenario key (i.e. Test Case ID)
+     * @param remoteTimestamp LOG collection time in {@link LogTimestampDecoder} format
+     * @param log LOG text
+     * @param recordPattern value contained in the records to index (i.e. 'Session opened successfully')
+     * @return snapshot created from the selected LOG
+     */
+    public static NodeCliLogIndex refresh(final String scenarioKey, final long remoteTimestamp, final CharSequence log, final String recordPattern) {
+        return refresh(scenarioKey, remoteTimestamp, Collections.singletonList(log).iterator(), recordPattern);
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: refresh            <i>[public]</i>
+     * <b>Description</b>: This method creates the snapshot from the selected LOG texts
+     *   (read only once): it becomes the scenario snapshot if it is newer than the
+     *   current one.
+     * </pre>
+     *
+     * @param scenarioKey scenario key (i.e. Test Case ID)
+     * @param remoteTimestamp LOG collection time in {@link LogTimestampDecoder} format
+     * @param logs LOG texts in time order (i.e. {@link NodeCliLogMerger#merged(List)})
+     * @param recordPattern value contained in the records to index (i.e. 'Session opened successfully')
+     * @return snapshot created from the selected LOG
+     */
+    public static NodeCliLogIndex refresh(final String scenarioKey, final long remoteTimestamp, final Iterator<? extends CharSequence> logs,
+            final String recordPattern) {
+        synchronized (getLock(scenarioKey)) {
+            return share(scenarioKey, build(remoteTimestamp, System.nanoTime(), logs, recordPattern));
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: build            <i>[public]</i>
+     * <b>Description</b>: This method creates an index of the selected LOG texts that
+     *   is not shared with the other vUsers (i.e. LOG filtered for a single node).
+     * </pre>
+     *
+     * @param remoteTimestamp LOG collection time in {@link LogTimestampDecoder} format
+     * @param logs LOG texts in time order (i.e. {@link NodeCliLogMerger#merged(List)})
+     * @param recordPattern value contained in the records to index (i.e. 'Session opened successfully')
+     * @return index of the selected LOG
+     */
+    public static NodeCliLogIndex build(final long remoteTimestamp, final Iterator<? extends CharSequence> logs, final String recordPattern) {
+        return build(remoteTimestamp, System.nanoTime(), logs, recordPattern);
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: remove            <i>[public]</i>
+     * <b>Description</b>: This method removes the LOG snapshot of the selected scenario.
+     * </pre>
+     *
+     * @param scenarioKey scenario key (i.e. Test Case ID)
+     */
+    public static void remove(final String scenarioKey) {
+        SNAPSHOTS.remove(scenarioKey);
+        LOCKS.remove(scenarioKey);
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: decodeTimestamp            <i>[public]</i>
+     * <b>Description</b>: This method decodes the remote date/time returned by the
+     *   LOG readers.
+     * </pre>
+     *
+     * @param remoteDateTime remote date/time ('yyyy-MM-dd HH:mm:ss')
+     * @return remote date/time in {@link LogTimestampDecoder} format (-1 if not valid)
+     */
+    public static long decodeTimestamp(final String remoteDateTime) {
+        final LogTimestampDecoder decoder = new LogTimestampDecoder();
+        return decoder.find(remoteDateTime, 0, remoteDateTime.length()) ? decoder.getValue() : -1L;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: findAfter            <i>[public]</i>
+     * <b>Description</b>: This method returns the first record of the selected IP
+     *   address and user with time after the selected one.
+     * </pre>
+     *
+     * @param ipAddress node IP address
+     * @param userName user name
+     * @param fromTimestamp lower bound (excluded) in {@link LogTimestampDecoder} format (-1 for no bound)
+     * @return first matching record (null if not found)
+     */
+    public String findAfter(final String ipAddress, final String userName, final long fromTimestamp) {
+        final Entries entries = getEntries(ipAddress, userName);
+        final int first = entries.firstAfter(fromTimestamp);
+        return first < entries.records.length ? entries.records[first] : null;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: countAfter            <i>[public]</i>
+     * <b>Description</b>: This method returns the number of records of the selected IP
+     *   address and user with time after the selected one.
+     * </pre>
+     *
+     * @param ipAddress node IP address
+     * @param userName user name
+     * @param fromTimestamp lower bound (excluded) in {@link LogTimestampDecoder} format (-1 for no bound)
+     * @return number of matching records
+     */
+    public int countAfter(final String ipAddress, final String userName, final long fromTimestamp) {
+        final Entries entries = getEntries(ipAddress, userName);
+        return entries.records.length - entries.firstAfter(fromTimestamp);
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public long getRemoteTimestamp() {
+        return remoteTimestamp;
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public int getScannedLines() {
+        return scannedLines;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: getExcerpt            <i>[public]</i>
+     * <b>Description</b>: This method returns the last lines of the scanned LOG
+     *   ('log.nodecli.excerpt.lines' property), to be used as diagnostic information.
+     * </pre>
+     *
+     * @return last lines of the LOG
+     */
+    public List<String> getExcerpt() {
+        return excerpt;
+    }
+
+    private static NodeCliLogIndex build(final long remoteTimestamp, final long readNanos, final Iterator<? extends CharSequence> logs,
+            final String recordPattern) {
+        final Map<String, List<LogRecord>> found = new HashMap<>();
+        final int[] recordCount = new int[1];
+        final NodeCliLogScanner logScanner = new NodeCliLogScanner(logs, EXCERPT_LINES);
+        logScanner.forEachRecord(recordPattern, (timestamp, record) -> {
+            recordCount[0]++;
+            final LogRecord logRecord = new LogRecord(timestamp, record);
+            for (final String key : getKeys(record)) {
+                found.computeIfAbsent(key, value -> new ArrayList<>()).add(logRecord);
+            }
+        });
+        final Map<String, Entries> index = new HashMap<>(found.size() * 4 / 3 + 1);
+        for (final Map.Entry<String, List<LogRecord>> entry : found.entrySet()) {
+            index.put(entry.getKey(), Entries.of(entry.getValue()));
+        }
+        return new NodeCliLogIndex(remoteTimestamp, readNanos, recordCount[0], logScanner.getScannedLines(), logScanner.getExcerpt(), index);
+    }
+
+    private static Object getLock(final String scenarioKey) {
+        return LOCKS.computeIfAbsent(scenarioKey, key -> new Object());
+    }
+
+    private static NodeCliLogIndex add(final String scenarioKey, final NodeCliLogIndex appended) {
+        final NodeCliLogIndex current = SNAPSHOTS.get(scenarioKey);
+        if (current == null) {
+            return share(scenarioKey, appended);
+        }
+        final Map<String, Entries> index = new HashMap<>(current.index);
+        for (final Map.Entry<String, Entries> entry : appended.index.entrySet()) {
+            index.merge(entry.getKey(), entry.getValue(), Entries::merge);
+        }
+        final List<String> excerpt = new ArrayList<>(current.excerpt);
+        excerpt.addAll(appended.excerpt);
+        final NodeCliLogIndex snapshot = new NodeCliLogIndex(Math.max(current.remoteTimestamp, appended.remoteTimestamp), appended.readNanos,
+                current.recordCount + appended.recordCount, current.scannedLines + appended.scannedLines,
+                new ArrayList<>(excerpt.subList(Math.max(0, excerpt.size() - EXCERPT_LINES), excerpt.size())), index);
+        SNAPSHOTS.put(scenarioKey, snapshot);
+        LOGGER.debug("{} - NodeCli LOG snapshot for '{}' at {}: {} records of {} lines added ({} records)", METHOD_NAME, scenarioKey,
+                snapshot.remoteTimestamp, appended.recordCount, appended.scannedLines, snapshot.recordCount);
+        return snapshot;
+    }
+
+    private static NodeCliLogIndex share(final String scenarioKey, final NodeCliLogIndex snapshot) {
+        final NodeCliLogIndex shared = SNAPSHOTS.merge(scenarioKey, snapshot,
+                (current, created) -> created.remoteTimestamp >= current.remoteTimestamp ? created : current);
+        LOGGER.debug("{} - NodeCli LOG snapshot for '{}' at {}: {} records of {} lines (shared --> {})", METHOD_NAME, scenarioKey,
+                snapshot.remoteTimestamp, snapshot.recordCount, snapshot.scannedLines, shared == snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Index keys of a record: each IP address of the record combined with each
+     * other word of the record (user name is one of them).
+     */
+    static Set<String> getKeys(final String record) {
+        final String[] tokens = TOKEN_SEPARATOR.split(record);
+        final Set<String> keys = new LinkedHashSet<>();
+        for (int ipIndex = 0; ipIndex < tokens.length; ipIndex++) {
+            final String ipAddress = toIpAddress(tokens[ipIndex]);
+            if (ipAddress == null) {
+                continue;
+            }
+            for (int index = 0; index < tokens.length; index++) {
+                final String word = trimWord(tokens[index]);
+                if (index != ipIndex && !word.isEmpty()) {
+                    keys.add(getKey(ipAddress, word));
+                }
+            }
+        }
+        return keys;
+    }
+
+    private static String toIpAddress(final String token) {
+        final String word = trimWord(token);
+        if (IPV4_ADDRESS.matcher(word).matches()) {
+            return word;
+        }
+        final String ipV6 = word.toLowerCase(Locale.ROOT);
+        if (IPV6_ADDRESS.matcher(ipV6).matches() && (ipV6.contains("::") || ipV6.chars().filter(character -> character == ':').count()
+                == IPV6_FULL_COLONS)) {
+            return ipV6;
+        }
+        // IPv4 address joined to other values by ':' (i.e. '10.0.0.1:22' or 'ip:10.0.0.1')
+        for (final String part : IPV4_JOINER.split(word)) {
+            if (IPV4_ADDRESS.matcher(part).matches()) {
+                return part;
+            }
+        }
+        return null;
+    }
+
+    private static String trimWord(final String token) {
+        final int length = token.length();
+        if (length > 1 && (token.charAt(length - 1) == '.' || token.charAt(length - 1) == ':') && token.charAt(length - 2) != ':') {
+            return token.substring(0, length - 1);
+        }
+        return token;
+    }
+
+    private static String getKey(final String ipAddress, final String word) {
+        return ipAddress + KEY_SEPARATOR + word;
+    }
+
+    private Entries getEntries(final String ipAddress, final String userName) {
+        final String normalizedIp = toIpAddress(ipAddress);
+        final Entries entries = index.get(getKey(normalizedIp == null ? ipAddress : normalizedIp, userName));
+        return entries == null ? NO_ENTRIES : entries;
+    }
+
+    /**
+     * <pre>
+     * <b>Class Name</b>: Entries
+     * <b>Description</b>: Records of an index key, sorted by time.
+     * </pre>
+     */
+    private static final class Entries {
+        private final long[] timestamps;
+        private final String[] records;
+
+        private Entries(final long[] timestamps, final String[] records) {
+            this.timestamps = timestamps;
+            this.records = records;
+        }
+
+        private static Entries of(final List<LogRecord> found) {
+            if (!isSorted(found)) {
+                found.sort(Comparator.comparingLong(LogRecord::getTimestamp));
+            }
+            final long[] timestamps = new long[found.size()];
+            final String[] records = new String[found.size()];
+            for (int position = 0; position < found.size(); position++) {
+                timestamps[position] = found.get(position).getTimestamp();
+                records[position] = found.get(position).getRecord();
+            }
+            return new Entries(timestamps, records);
+        }
+
+        private static boolean isSorted(final List<LogRecord> found) {
+            for (int position = 1; position < found.size(); position++) {
+                if (found.get(position).getTimestamp() < found.get(position - 1).getTimestamp()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static Entries merge(final Entries current, final Entries appended) {
+            final int size = current.records.length + appended.records.length;
+            final long[] timestamps = new long[size];
+            final String[] records = new String[size];
+            int first = 0;
+            int second = 0;
+            for (int position = 0; position < size; position++) {
+                if (second >= appended.records.length
+                        || first < current.records.length && current.timestamps[first] <= appended.timestamps[second]) {
+                    timestamps[position] = current.timestamps[first];
+                    records[position] = current.records[first++];
+                } else {
+                    timestamps[position] = appended.timestamps[second];
+                    records[position] = appended.records[second++];
+                }
+            }
+            return new Entries(timestamps, records);
+        }
+
+        private int firstAfter(final long fromTimestamp) {
+            int low = 0;
+            int high = timestamps.length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (timestamps[middle] <= fromTimestamp) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Class Name</b>: LogRecord
+     * <b>Description</b>: LOG record with its decoded timestamp.
+     * </pre>
+     */
+    private static final class LogRecord {
+        private final long timestamp;
+        private final String record;
+
+        private LogRecord(final long timestamp, final String record) {
+            this.timestamp = timestamp;
+            this.record = record;
+        }
+
+        private long getTimestamp() {
+            return timestamp;
+        }
+
+        private String getRecord() {
+            return record;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import java.nio.CharBuffer;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * <pre>
+ * <b>Name</b>: NodeCliLogMerger      <i>[public (Class)]</i>
+ * <b>Description</b>: This class merges the LOGs of several NodeCli hosts: each LOG is
+ *   already ordered by time, so the records are returned in time order with a k-way
+ *   merge (heap with the current record of each LOG) without sorting or copying the
+ *   whole LOGs. Records are read lazily and returned as views of the host LOG (no
+ *   copy of the text); a record is a line starting with timestamp followed by the
+ *   lines without timestamp (i.e. stack traces).
+ * </pre>
+ */
+public final class NodeCliLogMerger implements Iterator<CharSequence> {
+    private static final int MILLIS_LENGTH = 3;
+
+    private final PriorityQueue<Source> heap;
+
+    /**
+     * <pre>
+     * <b>Name</b>: NodeCliLogMerger            <i>[public]</i>
+     * <b>Description</b>: Constructor.
+     * </pre>
+     *
+     * @param logs LOG text of each host (lines ordered by time)
+     */
+    public NodeCliLogMerger(final List<? extends CharSequence> logs) {
+        heap = new PriorityQueue<>(Math.max(1, logs.size()), Comparator.comparingLong(Source::getTimestamp).thenComparingInt(Source::getSourceIndex));
+        for (int index = 0; index < logs.size(); index++) {
+            final Source source = new Source(logs.get(index), index);
+            if (source.advance()) {
+                heap.add(source);
+            }
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: merged            <i>[public]</i>
+     * <b>Description</b>: This method returns the records of the LOGs in time order
+     *   (the LOG itself if there is only one LOG).
+     * </pre>
+     *
+     * @param logs LOG text of each host (lines ordered by time)
+     * @return merged records
+     */
+    public static Iterator<? extends CharSequence> merged(final List<? extends CharSequence> logs) {
+        if (logs.size() == 1) {
+            return Collections.singletonList(logs.get(0)).iterator();
+        }
+        return new NodeCliLogMerger(logs);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !heap.isEmpty();
+    }
+
+    @Override
+    public CharSequence next() {
+        final Source source = heap.poll();
+        if (source == null) {
+            throw new NoSuchElementException();
+        }
+        final CharSequence record = source.getRecord();
+        if (source.advance()) {
+            heap.add(source);
+        }
+        return record;
+    }
+
+    /**
+     * <pre>
+     * <b>Class Name</b>: Source
+     * <b>Description</b>: Current record of a LOG.
+     * </pre>
+     */
+    private static final class Source {
+        private final CharSequence log;
+        private final int sourceIndex;
+        private final LogTimestampDecoder decoder = new LogTimestampDecoder();
+        private int position;
+        private int recordStart;
+        private int recordEnd;
+        private long timestamp = Long.MIN_VALUE;
+
+        private Source(final CharSequence log, final int sourceIndex) {
+            this.log = log;
+            this.sourceIndex = sourceIndex;
+        }
+
+        private boolean advance() {
+            position = skipLineTerminators(position);
+            if (position >= log.length()) {
+                return false;
+            }
+            recordStart = position;
+            recordEnd = lineEnd(position);
+            if (startsWithTimestamp(recordStart, recordEnd)) {
+                timestamp = decoder.getValue() * 1000L + millis();
+            }
+            position = skipLineTerminators(recordEnd);
+            while (position < log.length()) {
+                final int lineEnd = lineEnd(position);
+                if (startsWithTimestamp(position, lineEnd)) {
+                    break;
+                }
+                recordEnd = lineEnd;
+                position = skipLineTerminators(lineEnd);
+            }
+            return true;
+        }
+
+        private boolean startsWithTimestamp(final int lineStart, final int lineEnd) {
+            return decoder.find(log, lineStart, lineEnd) && decoder.getStart() == lineStart;
+        }
+
+        private int millis() {
+            if (!decoder.hasMillis()) {
+                return 0;
+            }
+            int result = 0;
+            for (int charIndex = decoder.getEnd() - MILLIS_LENGTH; charIndex < decoder.getEnd(); charIndex++) {
+                result = result * 10 + log.charAt(charIndex) - '0';
+            }
+            return result;
+        }
+
+        private int lineEnd(final int lineStart) {
+            int index = lineStart;
+            while (index < log.length() && !NodeCliLogScanner.isLineTerminator(log.charAt(index))) {
+                index++;
+            }
+            return index;
+        }
+
+        private int skipLineTerminators(final int from) {
+            int index = from;
+            while (index < log.length() && NodeCliLogScanner.isLineTerminator(log.charAt(index))) {
+                index++;
+            }
+            return index;
+        }
+
+        private CharSequence getRecord() {
+            return CharBuffer.wrap(log, recordStart, recordEnd);
+        }
+
+        private long getTimestamp() {
+            return timestamp;
+        }
+
+        private int getSourceIndex() {
+            return sourceIndex;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * <pre>
+ * <b>Name</b>: NodeCliLogScanner      <i>[public (Class)]</i>
+ * <b>Description</b>: This class scans the NodeCli LOG line by line directly on the
+ *   collected texts (no split, no copy of the lines): only the records that contain
+ *   the requested value are extracted.
+ *   The LOG is read in a single pass from a sequence of texts (i.e. the records
+ *   returned by {@link NodeCliLogMerger}), so the LOGs of several hosts are scanned
+ *   in time order without building the merged LOG; the last lines are kept as
+ *   diagnostic excerpt.
+ * </pre>
+ */
+public final class NodeCliLogScanner {
+    private final Iterator<? extends CharSequence> texts;
+    private final CharSequence[] excerptTexts;
+    private final int[] excerptStarts;
+    private final int[] excerptEnds;
+    private int excerptCount;
+    private final LogTimestampDecoder decoder = new LogTimestampDecoder();
+    private int scannedLines;
+
+    /**
+     * <pre>
+     * <b>Name</b>: NodeCliLogScanner            <i>[public]</i>
+     * <b>Description</b>: Constructor.
+     * </pre>
+     *
+     * @param log LOG text (lines separated by line terminators)
+     */
+    public NodeCliLogScanner(final CharSequence log) {
+        this(Collections.singletonList(log).iterator(), 0);
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: NodeCliLogScanner            <i>[public]</i>
+     * <b>Description</b>: Constructor.
+     * </pre>
+     *
+     * @param texts LOG texts in time order (each one made of whole lines)
+     * @param excerptLines number of last lines to keep as excerpt
+     */
+    public NodeCliLogScanner(final Iterator<? extends CharSequence> texts, final int excerptLines) {
+        this.texts = texts;
+        this.excerptTexts = new CharSequence[Math.max(0, excerptLines)];
+        this.excerptStarts = new int[excerptTexts.length];
+        this.excerptEnds = new int[excerptTexts.length];
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: forEachRecord            <i>[public]</i>
+     * <b>Description</b>: This method notifies all the LOG records, with timestamp
+     *   (milliseconds included), containing the selected value. The texts are
+     *   consumed: the method can be called only once.
+     * </pre>
+     *
+     * @param value value to find in the record
+     * @param consumer operation executed for each record found
+     */
+    public void forEachRecord(final String value, final RecordConsumer consumer) {
+        scannedLines = 0;
+        while (texts.hasNext()) {
+            final CharSequence log = texts.next();
+            final int length = log.length();
+            int lineStart = nextLineStart(log, 0);
+            while (lineStart < length) {
+                final int lineEnd = lineEnd(log, lineStart);
+                scannedLines++;
+                if (containsInRange(log, value, lineStart, lineEnd) && decoder.find(log, lineStart, lineEnd) && decoder.hasMillis()) {
+                    consumer.accept(decoder.getValue(), log.subSequence(lineStart, lineEnd).toString());
+                }
+                addExcerptLine(log, lineStart, lineEnd);
+                lineStart = nextLineStart(log, lineEnd);
+            }
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: findFirst            <i>[public]</i>
+     * <b>Description</b>: This method returns the first LOG record, with timestamp
+     *   (milliseconds included), containing all the selected values and with time after
+     *   the selected one: the scan stops at the first matching record. The texts are
+     *   consumed: the method can be called only once.
+     * </pre>
+     *
+     * @param fromTimestamp lower bound (excluded) in {@link LogTimestampDecoder} format (-1 for no bound)
+     * @param values values to find in the record
+     * @return first matching record (null if not found)
+     */
+    public String findFirst(final long fromTimestamp, final String... values) {
+        scannedLines = 0;
+        while (texts.hasNext()) {
+            final CharSequence log = texts.next();
+            final int length = log.length();
+            int lineStart = nextLineStart(log, 0);
+            while (lineStart < length) {
+                final int lineEnd = lineEnd(log, lineStart);
+                scannedLines++;
+                addExcerptLine(log, lineStart, lineEnd);
+                if (containsAll(log, lineStart, lineEnd, values) && decoder.find(log, lineStart, lineEnd) && decoder.hasMillis()
+                        && decoder.getValue() > fromTimestamp) {
+                    return log.subSequence(lineStart, lineEnd).toString();
+                }
+                lineStart = nextLineStart(log, lineEnd);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: getExcerpt            <i>[public]</i>
+     * <b>Description</b>: This method returns the last (not empty) lines of the
+     *   scanned LOG, to be used as diagnostic information.
+     * </pre>
+     *
+     * @return last lines of the LOG (in original order)
+     */
+    public List<String> getExcerpt() {
+        final List<String> lines = new ArrayList<>();
+        for (int count = Math.min(excerptCount, excerptTexts.length); count > 0; count--) {
+            final int slot = (excerptCount - count) % excerptTexts.length;
+            lines.add(excerptTexts[slot].subSequence(excerptStarts[slot], excerptEnds[slot]).toString());
+        }
+        return lines;
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public int getScannedLines() {
+        return scannedLines;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: containsInRange            <i>[public]</i>
+     * <b>Description</b>: This method checks if the value is contained in the selected
+     *   range of characters (without creating sub strings).
+     * </pre>
+     *
+     * @param text text to check
+     * @param value value to find
+     * @param from first index (included)
+     * @param to last index (excluded)
+     * @return true if value is found
+     */
+    public static boolean containsInRange(final CharSequence text, final String value, final int from, final int to) {
+        final int valueLength = value.length();
+        if (valueLength == 0) {
+            return true;
+        }
+        final char firstChar = value.charAt(0);
+        for (int index = from; index <= to - valueLength; index++) {
+            if (text.charAt(index) == firstChar) {
+                int matched = 1;
+                while (matched < valueLength && text.charAt(index + matched) == value.charAt(matched)) {
+                    matched++;
+                }
+                if (matched == valueLength) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsAll(final CharSequence log, final int lineStart, final int lineEnd, final String... values) {
+        for (final String value : values) {
+            if (!containsInRange(log, value, lineStart, lineEnd)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addExcerptLine(final CharSequence log, final int lineStart, final int lineEnd) {
+        if (excerptTexts.length == 0) {
+            return;
+        }
+        final int slot = excerptCount++ % excerptTexts.length;
+        excerptTexts[slot] = log;
+        excerptStarts[slot] = lineStart;
+        excerptEnds[slot] = lineEnd;
+    }
+
+    private static int lineEnd(final CharSequence log, final int lineStart) {
+        int index = lineStart;
+        while (index < log.length() && !isLineTerminator(log.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int nextLineStart(final CharSequence log, final int lineEnd) {
+        int index = lineEnd;
+        while (index < log.length() && isLineTerminator(log.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    static boolean isLineTerminator(final char character) {
+        return character == '\n' || character == '\r' || character == '\u000B' || character == '\f' || character == '\u0085'
+                || character == '\u2028' || character == '\u2029';
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: RecordConsumer      <i>[public interface]</i>
+     * <b>Description</b>: Operation executed for each LOG record found.
+     * </pre>
+     */
+    @FunctionalInterface
+    public interface RecordConsumer {
+        @SuppressWarnings("checkstyle:JavadocMethod")
+        void accept(long timestamp, String record);
+    }
+}
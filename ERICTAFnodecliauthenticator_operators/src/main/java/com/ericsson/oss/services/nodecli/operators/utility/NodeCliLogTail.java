@@ -0,0 +1,278 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ericsson.cifwk.taf.data.DataHandler;
+import com.ericsson.cifwk.taf.data.Host;
+import com.ericsson.cifwk.taf.tools.cli.TafCliToolShell;
+import com.ericsson.de.tools.cli.CliCommandResult;
+import com.ericsson.oss.testware.hostconfigurator.HostConfigurator;
+import com.ericsson.oss.testware.remoteexecution.operators.PibConnectorImpl;
+
+/**
+ * <pre>
+ * <b>Name</b>: NodeCliLogTail      <i>[public (Class)]</i>
+ * <b>Description</b>: This class reads the NodeCli LOG files incrementally: for each
+ *   host and file a cursor (inode and offset) is kept for the whole run, so each
+ *   read transfers and returns only the records appended since the previous one
+ *   (the LOG read is consumed by the caller: it should be indexed incrementally, see
+ *   {@link NodeCliLogIndex#append}). The first read starts from the first record of
+ *   the time interval ('log.nodecli.timeinterval.minutes' property), rotated files
+ *   included.
+ *   Rotation is detected by inode change (the remaining part of the rotated file
+ *   is read before the new file) and truncation by size smaller than offset; a
+ *   line not yet completed is kept and returned with the following read.
+ *   The LOGs of the hosts are returned separately, to be merged by time while they
+ *   are scanned (see {@link NodeCliLogMerger#merged(List)}).
+ * </pre>
+ */
+public final class NodeCliLogTail {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NodeCliLogTail.class);
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(NodeCliLogTail.class);
+    private static final String LOG_HOSTS = DataHandler.getConfiguration().getProperty("log.nodecli.hosts", "nodecli", String.class);
+    private static final String LOG_FILE = DataHandler.getConfiguration().getProperty("log.nodecli.file",
+            "/ericsson/3pp/jboss/standalone/log/server.log", String.class);
+    private static final int WINDOW_MINUTES = DataHandler.getConfiguration().getProperty("log.nodecli.timeinterval.minutes", 30, Integer.class);
+    private static final int COMMAND_TIMEOUT_SEC = DataHandler.getConfiguration().getProperty("log.nodecli.tail.timeout", 60, Integer.class);
+    private static final String CURSOR_HEADER = "CURSOR";
+    static final String DATE_HEADER = "DATE";
+    static final String TIMESTAMP_REGEX = "[0-9][0-9][0-9][0-9]-[0-9][0-9]-[0-9][0-9][ \\t]+[0-9][0-9]:[0-9][0-9]:[0-9][0-9]";
+    private static final String FROM_COMMAND = "FROM=$(date -d \"-$M min\" '+%%Y%%m%%d%%H%%M%%S'); ";
+    private static final String ROTATED_COMMAND = "find \"$(dirname \"$F\")\" -maxdepth 1 -type f -name \"$(basename \"$F\")?*\" ! -name '*.gz' "
+            + "-mmin -$((M+1)) -printf '%%T@ %%p\\n' | sort -n | cut -d' ' -f2- | while IFS= read -r R; do cat \"$R\"; [ -z \"$(tail -c 1 \"$R\")\" ] || echo; done";
+    private static final String WINDOW_FILTER = "LC_ALL=C awk -v from=\"$FROM\" 'match($0, /" + TIMESTAMP_REGEX + "/) { "
+            + "t = substr($0, RSTART, RLENGTH); gsub(/[^0-9]/, \"\", t); keep = t > from } keep'";
+    private static final String WINDOW_COMMAND = "F='%s'; M=%d; "
+            + "echo \"" + DATE_HEADER + " $(date '+%%Y-%%m-%%d %%H:%%M:%%S')\"; " + FROM_COMMAND
+            + "{ " + ROTATED_COMMAND + "; cat \"$F\"; } | " + WINDOW_FILTER + "; exit 0";
+    private static final String TAIL_COMMAND = "F='%s'; I=%d; O=%d; M=%d; D=$(dirname \"$F\"); "
+            + "set -- $(stat -L -c '%%i %%s' \"$F\"); NI=$1; NS=$2; "
+            + "echo \"" + CURSOR_HEADER + " $NI $NS $(date '+%%Y-%%m-%%d %%H:%%M:%%S')\"; "
+            + "if [ \"$I\" -le 0 ]; then " + FROM_COMMAND + ROTATED_COMMAND + " | " + WINDOW_FILTER + "; "
+            + "O=$(head -c \"$NS\" \"$F\" | LC_ALL=C awk -v from=\"$FROM\" 'match($0, /" + TIMESTAMP_REGEX + "/) { "
+            + "t = substr($0, RSTART, RLENGTH); gsub(/[^0-9]/, \"\", t); if (t > from) { found = 1; exit } } { p += length($0) + 1 } "
+            + "END { print p + 0 }'); "
+            + "elif [ \"$NI\" != \"$I\" ]; then "
+            + "R=$(find \"$D\" -maxdepth 1 -inum \"$I\" 2>/dev/null | head -n 1); "
+            + "if [ -n \"$R\" ]; then tail -c +$((O+1)) \"$R\"; [ -z \"$(tail -c 1 \"$R\")\" ] || echo; fi; O=0; "
+            + "elif [ \"$NS\" -lt \"$O\" ]; then O=0; fi; "
+            + "if [ \"$O\" -gt \"$NS\" ]; then O=$NS; fi; "
+            + "tail -c +$((O+1)) \"$F\" | head -c $((NS-O))";
+    private static final NodeCliLogTail INSTANCE = new NodeCliLogTail();
+
+    private final Map<String, Cursor> cursors = new ConcurrentHashMap<>();
+    private final String fileName;
+    private final BiFunction<String, String, String> executor;
+
+    private NodeCliLogTail() {
+        this(LOG_FILE, NodeCliLogTail::executeOnHost);
+    }
+
+    /**
+     * Constructor with the LOG file and the executor of the remote commands (host
+     * name, command --> output).
+     */
+    NodeCliLogTail(final String fileName, final BiFunction<String, String, String> executor) {
+        this.fileName = fileName;
+        this.executor = executor;
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public static NodeCliLogTail getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: read            <i>[public]</i>
+     * <b>Description</b>: This method reads the new part of the NodeCli LOG of all the
+     *   configured hosts ('log.nodecli.hosts' property): only the complete lines
+     *   appended since the previous read are returned.
+     * </pre>
+     *
+     * @return remote date/time (first item) and new LOG text of each host (following items)
+     */
+    public List<String> read() {
+        final List<String> logFromHosts = new ArrayList<>();
+        logFromHosts.add("");
+        for (final String hostName : getHostNames()) {
+            final Cursor cursor = cursors.computeIfAbsent(hostName.trim() + ":" + fileName, key -> new Cursor(hostName.trim(), fileName));
+            synchronized (cursor) {
+                final String appended = update(cursor);
+                if (cursor.remoteDateTime.compareTo(logFromHosts.get(0)) > 0) {
+                    logFromHosts.set(0, cursor.remoteDateTime);
+                }
+                logFromHosts.add(appended);
+            }
+        }
+        return logFromHosts;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: readWindow            <i>[public]</i>
+     * <b>Description</b>: This method reads the NodeCli LOG records of the selected
+     *   time interval (evaluated with remote clock) from all the configured hosts,
+     *   rotated files included. It is a one-off read: the cursors of the incremental
+     *   read are not used nor changed.
+     * </pre>
+     *
+     * @param intervalMinutes time interval (minutes before remote date/time)
+     * @return remote date/time (first item) and LOG text of each host (following items)
+     */
+    public static List<String> readWindow(final int intervalMinutes) {
+        return INSTANCE.readFileWindow(intervalMinutes);
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: reset            <i>[public]</i>
+     * <b>Description</b>: This method removes all the cursors (next read starts again
+     *   from the last part of the files).
+     * </pre>
+     */
+    public void reset() {
+        cursors.clear();
+    }
+
+    List<String> readFileWindow(final int intervalMinutes) {
+        final String command = String.format(WINDOW_COMMAND, fileName.replace("'", "'\\''"), intervalMinutes);
+        final List<String> logFromHosts = new ArrayList<>();
+        logFromHosts.add("");
+        for (final String hostName : getHostNames()) {
+            final String output;
+            try {
+                output = execute(hostName.trim(), command);
+            } catch (final RuntimeException e) {
+                LOGGER.warn("{} - Cannot read {} on {}: {}", METHOD_NAME, fileName, hostName.trim(), e.getMessage());
+                continue;
+            }
+            final int headerEnd = output.indexOf('\n');
+            final String header = (headerEnd < 0 ? output : output.substring(0, headerEnd)).trim();
+            if (!header.startsWith(DATE_HEADER)) {
+                LOGGER.warn("{} - Unexpected output reading {} on {}: {}", METHOD_NAME, fileName, hostName.trim(), header);
+                continue;
+            }
+            final String hostDateTime = header.substring(DATE_HEADER.length()).trim();
+            if (hostDateTime.compareTo(logFromHosts.get(0)) > 0) {
+                logFromHosts.set(0, hostDateTime);
+            }
+            final String hostLog = headerEnd < 0 ? "" : output.substring(headerEnd + 1);
+            LOGGER.debug("{} - NodeCli LOG of last {} minutes on {}: {} chars", METHOD_NAME, intervalMinutes, hostName.trim(),
+                    hostLog.length());
+            logFromHosts.add(hostLog);
+        }
+        return logFromHosts;
+    }
+
+    private String update(final Cursor cursor) {
+        final String output;
+        try {
+            output = execute(cursor.hostName, String.format(TAIL_COMMAND, cursor.fileName.replace("'", "'\\''"), cursor.inode, cursor.offset,
+                    WINDOW_MINUTES));
+        } catch (final RuntimeException e) {
+            LOGGER.warn("{} - Cannot read {} on {}: {}", METHOD_NAME, cursor.fileName, cursor.hostName, e.getMessage());
+            return "";
+        }
+        final int headerEnd = output.indexOf('\n');
+        final String header = (headerEnd < 0 ? output : output.substring(0, headerEnd)).trim();
+        final List<String> headerFields = Arrays.asList(header.split("\\s+", 4));
+        if (headerFields.size() < 4 || !CURSOR_HEADER.equals(headerFields.get(0))) {
+            LOGGER.warn("{} - Unexpected output reading {} on {}: {}", METHOD_NAME, cursor.fileName, cursor.hostName, header);
+            return "";
+        }
+        final long newInode = Long.parseLong(headerFields.get(1));
+        final long newSize = Long.parseLong(headerFields.get(2));
+        final String appended = headerEnd < 0 ? "" : output.substring(headerEnd + 1);
+        LOGGER.debug("{} - {} on {}: inode {} --> {}, offset {} --> {}, {} chars read", METHOD_NAME, cursor.fileName, cursor.hostName,
+                cursor.inode, newInode, cursor.offset, newSize, appended.length());
+        if (cursor.inode > 0 && newInode == cursor.inode && newSize < cursor.offset && cursor.pending.length() > 0) {
+            cursor.pending.append('\n');
+        }
+        cursor.inode = newInode;
+        cursor.offset = newSize;
+        cursor.remoteDateTime = headerFields.get(3);
+        final int lineEnd = appended.lastIndexOf('\n') + 1;
+        final String completed = cursor.pending.append(appended, 0, lineEnd).toString();
+        cursor.pending.setLength(0);
+        cursor.pending.append(appended, lineEnd, appended.length());
+        return completed;
+    }
+
+    static String[] getHostNames() {
+        return LOG_HOSTS.split(",");
+    }
+
+    String getFileName() {
+        return fileName;
+    }
+
+    String execute(final String hostName, final String command) {
+        return executor.apply(hostName, command);
+    }
+
+    private static String executeOnHost(final String hostName, final String command) {
+        final Host host = HostConfigurator.getHost(hostName);
+        if (host == null) {
+            throw new IllegalStateException("Host not found: " + hostName);
+        }
+        final TafCliToolShell cliToolShell = new PibConnectorImpl().getConnection();
+        try {
+            cliToolShell.hopper().hop(host);
+            final CliCommandResult result = cliToolShell.execute(command, COMMAND_TIMEOUT_SEC);
+            LOGGER.trace("{} - Command on {} --> Exit Code {}, {} chars", METHOD_NAME, hostName, result.getExitCode(),
+                    result.getOutput().length());
+            if (!result.isSuccess()) {
+                throw new IllegalStateException(String.format("Exit Code %d: %s", result.getExitCode(), result.getOutput()));
+            }
+            return result.getOutput();
+        } finally {
+            cliToolShell.close();
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Class Name</b>: Cursor
+     * <b>Description</b>: Read position of a LOG file on a host.
+     * </pre>
+     */
+    private static final class Cursor {
+        private final String hostName;
+        private final String fileName;
+        private final StringBuilder pending = new StringBuilder();
+        private long inode;
+        private long offset;
+        private String remoteDateTime = "";
+
+        private Cursor(final String hostName, final String fileName) {
+            this.hostName = hostName;
+            this.fileName = fileName;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <pre>
+ * <b>Name</b>: ParallelCliBarrier      <i>[public (Class)]</i>
+ * <b>Description</b>: This class synchronizes the vUsers that open the Node Cli in
+ *   parallel. Each barrier is used once (one {@link Phaser} phase): the expected vUsers
+ *   join the current barrier of the scenario key and, when all of them have joined,
+ *   the next vUsers of the same key get a new barrier. So a vUser that times out can't
+ *   shift the following synchronizations and a barrier in use is never replaced.
+ *   Different synchronization points (i.e. 'ready' and 'done') must use different keys.
+ *   Each barrier collects the number of arrivals, timeouts and waiting time.
+ * </pre>
+ */
+public final class ParallelCliBarrier {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelCliBarrier.class);
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(ParallelCliBarrier.class);
+    private static final Map<String, ParallelCliBarrier> BARRIERS = new ConcurrentHashMap<>();
+
+    private final String key;
+    private final Phaser phaser;
+    private final AtomicInteger joined = new AtomicInteger();
+    private final AtomicLong arrivals = new AtomicLong();
+    private final AtomicLong releases = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong totalWaitMillis = new AtomicLong();
+    private final AtomicLong maxWaitMillis = new AtomicLong();
+
+    private ParallelCliBarrier(final String key, final int parties) {
+        this.key = key;
+        this.phaser = new Phaser(parties);
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: getBarrier            <i>[public]</i>
+     * <b>Description</b>: This method joins the vUser to the current barrier of the
+     *   selected key and returns it: a new barrier is created if there is no barrier or
+     *   if all the expected vUsers have already joined the current one. A barrier that
+     *   nobody has joined yet is replaced when the number of parties changes.
+     * </pre>
+     *
+     * @param key synchronization key (i.e. Test Case ID and synchronization point)
+     * @param parties number of expected vUsers
+     * @return joined barrier
+     */
+    public static ParallelCliBarrier getBarrier(final String key, final int parties) {
+        final int expectedParties = Math.max(1, parties);
+        final ParallelCliBarrier[] joinedBarrier = new ParallelCliBarrier[1];
+        BARRIERS.compute(key, (barrierKey, barrier) -> {
+            ParallelCliBarrier current = barrier;
+            if (current == null || current.isFull() || current.joined.get() == 0 && current.getExpectedParties() != expectedParties) {
+                current = new ParallelCliBarrier(barrierKey, expectedParties);
+            } else if (current.getExpectedParties() != expectedParties) {
+                LOGGER.warn("getBarrier - Barrier '{}' in use with {} parties: {} parties requested", barrierKey,
+                        current.getExpectedParties(), expectedParties);
+            }
+            current.joined.incrementAndGet();
+            joinedBarrier[0] = current;
+            return current;
+        });
+        return joinedBarrier[0];
+    }
+
+    private boolean isFull() {
+        return joined.get() >= phaser.getRegisteredParties();
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: arriveAndAwait            <i>[public]</i>
+     * <b>Description</b>: This method registers the arrival of the vUser and waits for
+     *   the others until the timeout expires.
+     * </pre>
+     *
+     * @param timeoutMillis maximum wait time (ms)
+     * @return true if all the expected vUsers have arrived, false on timeout
+     */
+    public boolean arriveAndAwait(final long timeoutMillis) {
+        final long startTime = System.currentTimeMillis();
+        final int phase = phaser.arrive();
+        final long arrivalNumber = arrivals.incrementAndGet();
+        LOGGER.trace("{} - Barrier '{}' phase {}: arrival {} ({}/{})", METHOD_NAME, key, phase, arrivalNumber,
+                phaser.getArrivedParties(), phaser.getRegisteredParties());
+        boolean released = true;
+        try {
+            phaser.awaitAdvanceInterruptibly(phase, timeoutMillis, TimeUnit.MILLISECONDS);
+            releases.incrementAndGet();
+        } catch (final TimeoutException e) {
+            released = false;
+            timeouts.incrementAndGet();
+            LOGGER.warn("{} - Barrier '{}' phase {}: timeout after {} ms --> arrived {} of {} expected vUsers",
+                    METHOD_NAME, key, phase, timeoutMillis, phaser.getArrivedParties(), phaser.getRegisteredParties());
+        } catch (final InterruptedException e) {
+            released = false;
+            Thread.currentThread().interrupt();
+        }
+        final long waitTime = System.currentTimeMillis() - startTime;
+        totalWaitMillis.addAndGet(waitTime);
+        maxWaitMillis.accumulateAndGet(waitTime, Math::max);
+        return released;
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public int getExpectedParties() {
+        return phaser.getRegisteredParties();
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public int getArrivedParties() {
+        return phaser.getArrivedParties();
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: getMetrics            <i>[public]</i>
+     * <b>Description</b>: This method returns the barrier statistics.
+     * </pre>
+     *
+     * @return barrier statistics
+     */
+    public String getMetrics() {
+        final long arrivalCount = arrivals.get();
+        return String.format("Barrier '%s' [parties %d, phase %d]: arrivals %d, released %d, timeouts %d, avg wait %d ms, max wait %d ms",
+                key, phaser.getRegisteredParties(), phaser.getPhase(), arrivalCount, releases.get(), timeouts.get(),
+                arrivalCount == 0 ? 0 : totalWaitMillis.get() / arrivalCount, maxWaitMillis.get());
+    }
+
+    @Override
+    public String toString() {
+        return getMetrics();
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import org.slf4j.MDC;
+
+/**
+ * <pre>
+ * <b>Name</b>: StepContext      <i>[public (Class)]</i>
+ * <b>Description</b>: This class contains the information of the Test Step running on
+ *   current thread (vUser): Test Step name, vUser, Test Case ID, node, node type and
+ *   outcome (failed if the Test Step throws an exception: it is set by
+ *   {@link StepContextListener}, the exception handler of the scenario runner).
+ *   Values are set once when the Test Step starts (see {@link StepContextListener})
+ *   and they are also available in the logger MDC (keys 'step', 'vUser', 'testCase'
+ *   and 'node'), so they can be used by logging, assertions and metrics without
+ *   stack trace inspection.
+ * </pre>
+ */
+public final class StepContext {
+    @SuppressWarnings("checkstyle:JavadocVariable")
+    public static final String MDC_STEP = "step";
+    @SuppressWarnings("checkstyle:JavadocVariable")
+    public static final String MDC_VUSER = "vUser";
+    @SuppressWarnings("checkstyle:JavadocVariable")
+    public static final String MDC_TEST_CASE = "testCase";
+    @SuppressWarnings("checkstyle:JavadocVariable")
+    public static final String MDC_NODE = "node";
+    private static final ThreadLocal<StepContext> CURRENT = new ThreadLocal<>();
+    private static final StepContext EMPTY = new StepContext("", 0);
+
+    private final String stepName;
+    private final int vUser;
+    private final long startNanos = System.nanoTime();
+    private volatile long endNanos;
+    private String testCaseId = "";
+    private String nodeId = "";
+    private String nodeType = "";
+    private volatile boolean failed;
+
+    private StepContext(final String stepName, final int vUser) {
+        this.stepName = stepName;
+        this.vUser = vUser;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: enter            <i>[public]</i>
+     * <b>Description</b>: This method sets the Test Step running on current thread.
+     * </pre>
+     *
+     * @param stepName Test Step name
+     * @param vUser vUser number
+     * @return context of the Test Step
+     */
+    public static StepContext enter(final String stepName, final int vUser) {
+        final StepContext context = new StepContext(stepName, vUser);
+        CURRENT.set(context);
+        MDC.put(MDC_STEP, stepName);
+        MDC.put(MDC_VUSER, String.valueOf(vUser));
+        MDC.remove(MDC_TEST_CASE);
+        MDC.remove(MDC_NODE);
+        return context;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: exit            <i>[public]</i>
+     * <b>Description</b>: This method removes the Test Step information from current thread.
+     * </pre>
+     *
+     * @return context of the completed Test Step (empty context if not available)
+     */
+    public static StepContext exit() {
+        final StepContext context = current();
+        if (context != EMPTY) {
+            context.endNanos = System.nanoTime();
+        }
+        CURRENT.remove();
+        MDC.remove(MDC_STEP);
+        MDC.remove(MDC_VUSER);
+        MDC.remove(MDC_TEST_CASE);
+        MDC.remove(MDC_NODE);
+        return context;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: current            <i>[public]</i>
+     * <b>Description</b>: This method returns the Test Step running on current thread.
+     * </pre>
+     *
+     * @return context of the Test Step (empty context if no Test Step is running)
+     */
+    public static StepContext current() {
+        final StepContext context = CURRENT.get();
+        return context != null ? context : EMPTY;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: setTestCaseId            <i>[public]</i>
+     * <b>Description</b>: This method sets the Test Case ID of the running Test Step.
+     * </pre>
+     *
+     * @param testCaseId Test Case ID
+     */
+    public void setTestCaseId(final String testCaseId) {
+        if (this != EMPTY && testCaseId != null) {
+            this.testCaseId = testCaseId;
+            MDC.put(MDC_TEST_CASE, testCaseId);
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: setNodeId            <i>[public]</i>
+     * <b>Description</b>: This method sets the node used by the running Test Step.
+     * </pre>
+     *
+     * @param nodeId Network Element ID
+     */
+    public void setNodeId(final String nodeId) {
+        if (this != EMPTY && nodeId != null) {
+            this.nodeId = nodeId;
+            MDC.put(MDC_NODE, nodeId);
+        }
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: setNodeType            <i>[public]</i>
+     * <b>Description</b>: This method sets the type of the node used by the running Test Step.
+     * </pre>
+     *
+     * @param nodeType node type
+     */
+    public void setNodeType(final String nodeType) {
+        if (this != EMPTY && nodeType != null) {
+            this.nodeType = nodeType;
+        }
+    }
+
+    void setFailed() {
+        if (this != EMPTY) {
+            failed = true;
+        }
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public String getStepName() {
+        return stepName;
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public int getVUser() {
+        return vUser;
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public String getTestCaseId() {
+        return testCaseId;
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public String getNodeType() {
+        return nodeType;
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: getElapsedNanos            <i>[public]</i>
+     * <b>Description</b>: This method returns the duration of the Test Step.
+     * </pre>
+     *
+     * @return time from start to end of the Test Step (to current time if it is running)
+     */
+    public long getElapsedNanos() {
+        final long end = endNanos;
+        return (end != 0 ? end : System.nanoTime()) - startNanos;
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public boolean isEmpty() {
+        return this == EMPTY;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [vUser %d, Test Case '%s', Node '%s']", stepName, vUser, testCaseId, nodeId);
+    }
+}
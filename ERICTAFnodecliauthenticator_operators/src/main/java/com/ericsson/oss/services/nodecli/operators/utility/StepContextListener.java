@@ -0,0 +1,107 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import static com.ericsson.cifwk.taf.scenario.api.DataDrivenTestScenarioBuilder.TEST_CASE_ID;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.ericsson.cifwk.taf.TafTestContext;
+import com.ericsson.cifwk.taf.datasource.DataRecord;
+import com.ericsson.cifwk.taf.scenario.TestScenario;
+import com.ericsson.cifwk.taf.scenario.TestStepInvocation;
+import com.ericsson.cifwk.taf.scenario.api.ScenarioExceptionHandler;
+import com.ericsson.cifwk.taf.scenario.impl.AbstractScenarioListener;
+
+/**
+ * <pre>
+ * <b>Name</b>: StepContextListener      <i>[public (Class)]</i>
+ * <b>Description</b>: This scenario listener sets the {@link StepContext} of the vUser
+ *   when a Test Step starts (name, vUser, and Test Case ID and node taken from the
+ *   DataRecords passed to the Test Step) and removes it when the Test Step ends.
+ *   It is also the default exception handler of the scenario runner: the outcome of
+ *   the Test Step is derived from the exception thrown (failed assertion included),
+ *   then the exception is propagated as by default.
+ *   The duration of the completed Test Step is recorded in {@link StepMetrics} when
+ *   its outcome is known: on exception, when the vUser starts the next Test Step or
+ *   at the end of the scenario.
+ *   NB. Exceptions handled by the flow handler (i.e. {@link ScenarioExceptionHandler#LOGONLY})
+ *   do not reach this handler.
+ * </pre>
+ */
+public class StepContextListener extends AbstractScenarioListener implements ScenarioExceptionHandler {
+    private static final String NETWORK_ELEMENT_ID = "networkElementId";
+    private static final String NODE_TYPE = "nodeType";
+    private final boolean metricsEnabled = StepMetrics.isEnabled();
+    private final Map<Thread, StepContext> unrecorded = new ConcurrentHashMap<>();
+
+    @Override
+    public void onTestStepStarted(final TestStepInvocation invocation, final Object[] args) {
+        final StepContext context = StepContext.enter(invocation.getName(), TafTestContext.getContext().getVUser());
+        record(unrecorded.put(Thread.currentThread(), context));
+        if (args == null) {
+            return;
+        }
+        for (final Object arg : args) {
+            if (arg instanceof DataRecord) {
+                final DataRecord dataRecord = (DataRecord) arg;
+                final Object nodeId = dataRecord.getFieldValue(NETWORK_ELEMENT_ID);
+                if (nodeId instanceof String && context.getNodeId().isEmpty()) {
+                    context.setNodeId((String) nodeId);
+                }
+                final Object nodeType = dataRecord.getFieldValue(NODE_TYPE);
+                if (nodeType instanceof String && context.getNodeType().isEmpty()) {
+                    context.setNodeType((String) nodeType);
+                }
+                final Object testCaseId = dataRecord.getFieldValue(TEST_CASE_ID);
+                if (testCaseId instanceof String && context.getTestCaseId().isEmpty()) {
+                    context.setTestCaseId((String) testCaseId);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onTestStepFinished(final TestStepInvocation invocation) {
+        StepContext.exit();
+    }
+
+    @Override
+    public Outcome onException(final Throwable exception) {
+        final StepContext context = unrecorded.remove(Thread.currentThread());
+        if (context != null) {
+            context.setFailed();
+            record(context);
+        }
+        return ScenarioExceptionHandler.PROPAGATE.onException(exception);
+    }
+
+    @Override
+    public void onScenarioFinished(final TestScenario scenario) {
+        for (final Thread vUser : unrecorded.keySet()) {
+            record(unrecorded.remove(vUser));
+        }
+    }
+
+    private void record(final StepContext context) {
+        if (metricsEnabled && context != null) {
+            StepMetrics.getInstance().record(context);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ericsson.cifwk.taf.data.DataHandler;
+
+/**
+ * <pre>
+ * <b>Name</b>: StepMetrics      <i>[public (Class)]</i>
+ * <b>Description</b>: This class collects the duration of Test Steps (see
+ *   {@link StepContextListener}) in latency histograms, one for each Test Step,
+ *   node type, vUser and outcome. At the end of the run the report (p50, p95, p99,
+ *   max) is written in JSON and CSV format: a summary row for each Test Step
+ *   (all node types, vUsers and outcomes) is added.
+ * </pre>
+ */
+public final class StepMetrics {
+    @SuppressWarnings("checkstyle:JavadocVariable")
+    public static final String PASSED = "PASSED";
+    @SuppressWarnings("checkstyle:JavadocVariable")
+    public static final String FAILED = "FAILED";
+    private static final Logger LOGGER = LoggerFactory.getLogger(StepMetrics.class);
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(StepMetrics.class);
+    private static final StepMetrics INSTANCE = new StepMetrics();
+    private static final String ALL = "*";
+    private static final String SEPARATOR = "|";
+    private static final String REPORT_NAME = "step-metrics";
+    private static final String CSV_HEADER = "step,nodeType,vUser,outcome,count,meanMs,p50Ms,p95Ms,p99Ms,maxMs";
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final double P50 = 50.0;
+    private static final double P95 = 95.0;
+    private static final double P99 = 99.0;
+
+    private final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    private StepMetrics() {
+    }
+
+    @SuppressWarnings("checkstyle:JavadocMethod")
+    public static StepMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: isEnabled            <i>[public]</i>
+     * <b>Description</b>: This method checks if Test Step metrics are enabled
+     *   (property 'metrics.steps.enabled').
+     * </pre>
+     *
+     * @return true if enabled
+     */
+    public static boolean isEnabled() {
+        return DataHandler.getConfiguration().getProperty("metrics.steps.enabled", true, Boolean.class);
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: record            <i>[public]</i>
+     * <b>Description</b>: This method records the duration of the completed Test Step.
+     * </pre>
+     *
+     * @param context context of the completed Test Step
+     */
+    public void record(final StepContext context) {
+        if (context.isEmpty()) {
+            return;
+        }
+        record(context.getStepName(), context.getNodeType(), context.getVUser(), context.isFailed() ? FAILED : PASSED,
+                context.getElapsedNanos());
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: record            <i>[public]</i>
+     * <b>Description</b>: This method records a Test Step duration.
+     * </pre>
+     *
+     * @param stepName Test Step name
+     * @param nodeType node type (empty if not available)
+     * @param vUser vUser number
+     * @param outcome Test Step outcome
+     * @param nanos Test Step duration (nanoseconds)
+     */
+    public void record(final String stepName, final String nodeType, final int vUser, final String outcome, final long nanos) {
+        final String key = stepName + SEPARATOR + nodeType + SEPARATOR + vUser + SEPARATOR + outcome;
+        LatencyHistogram histogram = histograms.get(key);
+        if (histogram == null) {
+            final LatencyHistogram created = new LatencyHistogram();
+            histogram = histograms.putIfAbsent(key, created);
+            if (histogram == null) {
+                histogram = created;
+            }
+        }
+        histogram.record(nanos);
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: reset            <i>[public]</i>
+     * <b>Description</b>: This method removes all the recorded durations.
+     * </pre>
+     */
+    public void reset() {
+        histograms.clear();
+    }
+
+    /**
+     * <pre>
+     * <b>Name</b>: writeReports            <i>[public]</i>
+     * <b>Description</b>: This method writes the JSON and CSV reports in the selected
+     *   directory (property 'metrics.steps.report.dir').
+     * </pre>
+     *
+     * @return report files (empty if no Test Step is recorded or reports cannot be written)
+     */
+    public List<Path> writeReports() {
+        final List<Path> reports = new ArrayList<>();
+        final Map<String, LatencyHistogram> rows = getRows();
+        if (rows.isEmpty()) {
+            return reports;
+        }
+        final Path directory = Paths.get(DataHandler.getConfiguration().getProperty("metrics.steps.report.dir", "target/step-metrics",
+                String.class));
+        final StringBuilder json = new StringBuilder("[\n");
+        final StringBuilder csv = new StringBuilder(CSV_HEADER).append('\n');
+        for (final Map.Entry<String, LatencyHistogram> row : rows.entrySet()) {
+            final String[] key = row.getKey().split("\\" + SEPARATOR, -1);
+            final LatencyHistogram histogram = row.getValue();
+            final String[] values = {String.valueOf(histogram.getCount()), millis(histogram.getMeanMicros()),
+                millis(histogram.getPercentile(P50)), millis(histogram.getPercentile(P95)), millis(histogram.getPercentile(P99)),
+                millis(histogram.getMaxMicros())};
+            json.append(json.length() > 2 ? ",\n" : "").append(String.format(
+                    "  {\"step\": %s, \"nodeType\": %s, \"vUser\": %s, \"outcome\": %s, \"count\": %s, \"meanMs\": %s, "
+                            + "\"p50Ms\": %s, \"p95Ms\": %s, \"p99Ms\": %s, \"maxMs\": %s}",
+                    jsonString(key[0]), jsonString(key[1]), jsonString(key[2]), jsonString(key[3]), values[0], values[1], values[2],
+                    values[3], values[4], values[5]));
+            csv.append(csvString(key[0])).append(',').append(csvString(key[1])).append(',').append(key[2]).append(',').append(key[3])
+                    .append(',').append(String.join(",", values)).append('\n');
+        }
+        json.append("\n]\n");
+        try {
+            Files.createDirectories(directory);
+            reports.add(Files.write(directory.resolve(REPORT_NAME + ".json"), json.toString().getBytes(StandardCharsets.UTF_8)));
+            reports.add(Files.write(directory.resolve(REPORT_NAME + ".csv"), csv.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (final IOException e) {
+            LOGGER.warn("{} - Unable to write Test Step metrics in {}: {}", METHOD_NAME, directory, e.getMessage());
+        }
+        LOGGER.info("{} - Test Step metrics ({} rows) written in {}", METHOD_NAME, rows.size(), reports);
+        return reports;
+    }
+
+    /**
+     * Rows of the report ordered by Test Step: summary row (all values) first.
+     */
+    private Map<String, LatencyHistogram> getRows() {
+        final Map<String, LatencyHistogram> rows = new TreeMap<>();
+        for (final Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            final String stepName = entry.getKey().substring(0, entry.getKey().indexOf(SEPARATOR));
+            final String summaryKey = stepName + SEPARATOR + ALL + SEPARATOR + ALL + SEPARATOR + ALL;
+            LatencyHistogram summary = rows.get(summaryKey);
+            if (summary == null) {
+                summary = new LatencyHistogram();
+                rows.put(summaryKey, summary);
+            }
+            summary.add(entry.getValue());
+            rows.put(entry.getKey(), entry.getValue());
+        }
+        return rows;
+    }
+
+    private static String millis(final double micros) {
+        return String.format(Locale.ROOT, "%.3f", micros / MICROS_PER_MILLI);
+    }
+
+    private static String jsonString(final String value) {
+        final StringBuilder result = new StringBuilder("\"");
+        for (final char current : value.toCharArray()) {
+            if (current == '"' || current == '\\') {
+                result.append('\\').append(current);
+            } else if (current < ' ') {
+                result.append(String.format("\\u%04x", (int) current));
+            } else {
+                result.append(current);
+            }
+        }
+        return result.append('"').toString();
+    }
+
+    private static String csvString(final String value) {
+        return value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 ? value : "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
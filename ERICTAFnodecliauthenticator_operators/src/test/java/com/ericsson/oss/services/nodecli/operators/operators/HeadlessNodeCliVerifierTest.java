@@ -0,0 +1,132 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.glassfish.tyrus.server.Server;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Headless Node Cli verification (WebSocket client, terminal parsing and prompt
+ * detection) against the local {@link NodeCliStandInEndpoint}.
+ */
+public class HeadlessNodeCliVerifierTest {
+    private static final Map<String, String> HEADERS = Collections.singletonMap("Cookie", "iPlanetDirectoryPro=token");
+    private static Server server;
+    private static String baseUri;
+
+    @BeforeClass
+    public static void startServer() throws Exception {
+        final int port = NodeCliStandInEndpoint.getFreePort();
+        server = new Server("localhost", port, "/", null, NodeCliStandInEndpoint.class);
+        server.start();
+        baseUri = "ws://localhost:" + port + NodeCliStandInEndpoint.PATH + "?nodeName=";
+    }
+
+    @AfterClass
+    public static void stopServer() {
+        server.stop();
+    }
+
+    @Before
+    public void clearStandIn() {
+        NodeCliStandInEndpoint.RECEIVED_MESSAGES.clear();
+        NodeCliStandInEndpoint.RECEIVED_COOKIES.clear();
+    }
+
+    @Test
+    public void promptIsReachedAndSessionIsClosedWithExit() throws Exception {
+        final List<String> lines = HeadlessNodeCliVerifier.readCliSession(URI.create(baseUri + "EPG01"), HEADERS, "EPG01", "*EPG01>", false);
+
+        assertThat(lines).containsExactly("Welcome to Node CLI", "Opening SSH connection to EPG01...", "Last login: today from ENM", "*EPG01>");
+        assertThat(HeadlessNodeCliVerifier.getPromptNanos()).isGreaterThan(0L);
+        assertThat(NodeCliStandInEndpoint.RECEIVED_COOKIES).containsExactly("iPlanetDirectoryPro=token");
+        waitForMessages(1);
+        assertThat(NodeCliStandInEndpoint.RECEIVED_MESSAGES).containsExactly(NodeCliUiOperator.Pattern.EXIT + "\r");
+    }
+
+    @Test
+    public void failedConnectionEndsTheSessionWithoutPrompt() {
+        final List<String> lines = HeadlessNodeCliVerifier.readCliSession(URI.create(baseUri + "FAIL"), HEADERS, "FAIL", "*FAIL>", false);
+
+        assertThat(lines).endsWith("All supported CLI connection attempts failed");
+        assertThat(CliOutcomeClassifier.classify(lines, "*FAIL>").has(CliOutcomeClassifier.Outcome.ALL_CONNECTION_FAILED)).isTrue();
+        assertThat(HeadlessNodeCliVerifier.getPromptNanos()).isEqualTo(0L);
+        assertThat(NodeCliStandInEndpoint.RECEIVED_MESSAGES).isEmpty();
+    }
+
+    @Test
+    public void sshAuthenticationFailureWaitsForTelnetFallback() throws Exception {
+        final List<String> lines = HeadlessNodeCliVerifier.readCliSession(URI.create(baseUri + "FALLBACK"), HEADERS, "FALLBACK", "*FALLBACK>",
+                false);
+
+        assertThat(lines).containsExactly("Opening SSH connection to FALLBACK", "SSH authentication failure",
+                "Opening Telnet connection to FALLBACK", "*FALLBACK>");
+        assertThat(CliOutcomeClassifier.classify(lines.subList(0, 2), "*FALLBACK>").isCompleted()).isFalse();
+        assertThat(CliOutcomeClassifier.classify(lines, "*FALLBACK>").has(CliOutcomeClassifier.Outcome.SSH_AUTHENTICATION_FAILURE)).isFalse();
+        assertThat(HeadlessNodeCliVerifier.getPromptNanos()).isGreaterThan(0L);
+        waitForMessages(1);
+        assertThat(NodeCliStandInEndpoint.RECEIVED_MESSAGES).containsExactly(NodeCliUiOperator.Pattern.EXIT + "\r");
+    }
+
+    @Test
+    public void unreachableEndpointReturnsNoLines() {
+        final List<String> lines = HeadlessNodeCliVerifier.readCliSession(URI.create("ws://localhost:1/nodecli-websocket/?nodeName=X"), HEADERS,
+                "X", "*X>", false);
+
+        assertThat(lines).isEmpty();
+        assertThat(HeadlessNodeCliVerifier.getPromptNanos()).isEqualTo(0L);
+    }
+
+    @Test
+    public void largeTextAndBinaryMessagesAreReceivedUnchanged() throws Exception {
+        final String largeMessage = String.join("", Collections.nCopies(70000, "x"));
+        try (NodeCliWebSocketClient client = NodeCliWebSocketClient.connect(URI.create(baseUri + "ECHO"), HEADERS, 5000, false)) {
+            client.sendText(largeMessage);
+            assertThat(client.readMessage(5000)).isEqualTo(largeMessage);
+            client.sendText("bin:\u00e0\u00e8\u00ec");
+            assertThat(client.readMessage(5000)).isEqualTo("bin:\u00e0\u00e8\u00ec");
+            assertThat(client.readMessage(100)).isEmpty();
+        }
+    }
+
+    @Test
+    public void closeByServerIsEndOfStream() throws Exception {
+        try (NodeCliWebSocketClient client = NodeCliWebSocketClient.connect(URI.create(baseUri + "ECHO"), HEADERS, 5000, false)) {
+            client.sendText(NodeCliUiOperator.Pattern.EXIT);
+            assertThat(client.readMessage(5000)).isNull();
+            assertThat(client.isClosed()).isTrue();
+        }
+    }
+
+    private static void waitForMessages(final int count) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (NodeCliStandInEndpoint.RECEIVED_MESSAGES.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.operators;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.websocket.HandshakeResponse;
+import javax.websocket.OnMessage;
+import javax.websocket.OnOpen;
+import javax.websocket.Session;
+import javax.websocket.server.HandshakeRequest;
+import javax.websocket.server.ServerEndpoint;
+import javax.websocket.server.ServerEndpointConfig;
+
+/**
+ * Local stand-in of the Node Cli WebSocket endpoint ('nodeName' query parameter):
+ * <ul>
+ * <li>ECHO: each text message is sent back (as binary if it starts with 'bin:')</li>
+ * <li>FAIL: connection failure messages, then the session is closed</li>
+ * <li>FALLBACK: SSH authentication failure, then Telnet connection and prompt</li>
+ * <li>other nodes: banner with ANSI escapes, connection messages and the EPG prompt
+ * split in several messages; 'exit' closes the session</li>
+ * </ul>
+ */
+@ServerEndpoint(value = NodeCliStandInEndpoint.PATH, configurator = NodeCliStandInEndpoint.HeaderRecorder.class)
+public class NodeCliStandInEndpoint {
+    static final String PATH = "/nodecli-websocket/";
+    static final List<String> RECEIVED_MESSAGES = new CopyOnWriteArrayList<>();
+    static final List<String> RECEIVED_COOKIES = new CopyOnWriteArrayList<>();
+
+    @OnOpen
+    public void onOpen(final Session session) throws IOException {
+        final String nodeName = session.getRequestParameterMap().get("nodeName").get(0);
+        if ("ECHO".equals(nodeName)) {
+            return;
+        }
+        if ("FAIL".equals(nodeName)) {
+            session.getBasicRemote().sendText("Opening SSH connection to " + nodeName + "\r\n");
+            session.getBasicRemote().sendText("Connection refused\r\nOpening Telnet connection to " + nodeName + "\r\n");
+            session.getBasicRemote().sendText("All supported CLI connection attempts failed\r\n");
+            session.close();
+            return;
+        }
+        if ("FALLBACK".equals(nodeName)) {
+            session.getBasicRemote().sendText("Opening SSH connection to " + nodeName + "\r\n");
+            session.getBasicRemote().sendText("SSH authentication failure\r\n");
+            session.getBasicRemote().sendText("Opening Telnet connection to " + nodeName + "\r\n");
+            session.getBasicRemote().sendText("*" + nodeName + ">");
+            return;
+        }
+        session.getBasicRemote().sendText("\u001B[1;32mWelcome to Node CLI\u001B[0m\r\n");
+        session.getBasicRemote().sendText("Opening SSH connection to " + nodeName + "...\r\n");
+        session.getBasicRemote().sendBinary(ByteBuffer.wrap("Last login: today from ENM\r".getBytes(StandardCharsets.UTF_8)));
+        session.getBasicRemote().sendText("\n\u001B[?2004h*" + nodeName.substring(0, 2));
+        session.getBasicRemote().sendText(nodeName.substring(2) + ">");
+    }
+
+    @OnMessage
+    public void onMessage(final Session session, final String message) throws IOException {
+        RECEIVED_MESSAGES.add(message);
+        if (message.startsWith("bin:")) {
+            session.getBasicRemote().sendBinary(ByteBuffer.wrap(message.getBytes(StandardCharsets.UTF_8)));
+        } else if (message.startsWith(NodeCliUiOperator.Pattern.EXIT)) {
+            session.close();
+        } else {
+            session.getBasicRemote().sendText(message);
+        }
+    }
+
+    static int getFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * Records the Cookie header of the handshake.
+     */
+    public static class HeaderRecorder extends ServerEndpointConfig.Configurator {
+        @Override
+        public void modifyHandshake(final ServerEndpointConfig config, final HandshakeRequest request, final HandshakeResponse response) {
+            final List<String> cookies = request.getHeaders().get("Cookie");
+            if (cookies != null) {
+                RECEIVED_COOKIES.addAll(cookies);
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+/**
+ * Name of the running method resolved for the LOG messages.
+ */
+public class CallerMethodTest {
+    private static final CallerMethod METHOD_NAME = CallerMethod.of(CallerMethodTest.class);
+
+    @Test
+    public void nameOfRunningMethodIsResolved() {
+        assertThat(METHOD_NAME.toString()).isEqualTo("nameOfRunningMethodIsResolved");
+        assertThat(String.format("%s - message", METHOD_NAME)).isEqualTo("nameOfRunningMethodIsResolved - message");
+        assertThat(helper()).isEqualTo("helper");
+    }
+
+    @Test
+    public void lambdaIsReportedWithEnclosingMethod() {
+        final Supplier<String> name = () -> METHOD_NAME.toString();
+
+        assertThat(name.get()).isEqualTo("lambdaIsReportedWithEnclosingMethod");
+        assertThat(CallerMethod.getName("lambda$run$0")).isEqualTo("run");
+        assertThat(CallerMethod.getName("lambda$")).isEqualTo("lambda$");
+    }
+
+    @Test
+    public void nestedClassIsReportedAsOwner() {
+        assertThat(new Nested().name()).isEqualTo("name");
+        assertThat(CallerMethod.of(String.class).toString()).isEqualTo("?");
+    }
+
+    private static String helper() {
+        return METHOD_NAME.toString();
+    }
+
+    private static final class Nested {
+        private String name() {
+            return METHOD_NAME.toString();
+        }
+    }
+}
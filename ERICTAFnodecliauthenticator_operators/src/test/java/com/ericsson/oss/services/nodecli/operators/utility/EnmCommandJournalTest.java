@@ -0,0 +1,139 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Record and replay of ENM commands with the ENM journal.
+ */
+public class EnmCommandJournalTest {
+    private static final String JOB_STATUS = "secadm job get -j 1234";
+    private static final String CREDENTIALS_UPDATE = "secadm credentials update --secureusername netsim --secureuserpassword %s -n LTE01";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path journalFile;
+
+    @Before
+    public void setUp() {
+        journalFile = folder.getRoot().toPath().resolve("enm-commands.journal");
+        System.setProperty("enm.journal.file", journalFile.toString());
+        System.setProperty("enm.journal.replay.speed", "0");
+    }
+
+    @After
+    public void tearDown() {
+        EnmCommandJournal.getInstance().close();
+        System.clearProperty("enm.journal.mode");
+        System.clearProperty("enm.journal.file");
+        System.clearProperty("enm.journal.replay.speed");
+    }
+
+    @Test
+    public void recordedResponsesAreReplayedInOrder() {
+        final EnmCommandJournal journal = EnmCommandJournal.getInstance();
+        System.setProperty("enm.journal.mode", "record");
+        assertThat(EnmCommandJournal.getMode()).isEqualTo(EnmCommandJournal.Mode.RECORD);
+        journal.record(new EnmCommandJournal.Entry(JOB_STATUS, 1_000L).addRow(Arrays.asList("Job Id", "Status"))
+                .addRow(Arrays.asList("1234", "RUNNING")));
+        journal.record(new EnmCommandJournal.Entry(JOB_STATUS, 2_000L).addRow(Arrays.asList("Job Id", "Status"))
+                .addRow(Arrays.asList("1234", "COMPLETED")).setSummary(new EnmCommandJournal.Summary(0, "1 instance(s)", null)));
+        journal.record(new EnmCommandJournal.Entry("cmedit get LTE01 NetworkElement", 0L).addLine(null)
+                .setSummary(new EnmCommandJournal.Summary(1004, null, "Node not found")));
+        journal.close();
+
+        System.setProperty("enm.journal.mode", "replay");
+        final EnmCommandJournal.Entry running = journal.replay(JOB_STATUS);
+        assertThat(running.getLatencyNanos()).isEqualTo(1_000L);
+        assertThat(running.getElements()).hasSize(2);
+        assertThat(running.getElements().get(1).isRow()).isTrue();
+        assertThat(running.getElements().get(1).getValues()).containsExactly("1234", "RUNNING");
+        assertThat(running.getSummary()).isNull();
+
+        // Polling: last recorded response is repeated
+        for (int poll = 0; poll < 3; poll++) {
+            final EnmCommandJournal.Entry completed = journal.replay(JOB_STATUS);
+            assertThat(completed.getElements().get(1).getValues()).containsExactly("1234", "COMPLETED");
+            assertThat(completed.getSummary().getErrorCode()).isZero();
+            assertThat(completed.getSummary().getStatusMessage()).isEqualTo("1 instance(s)");
+        }
+
+        final EnmCommandJournal.Entry failed = journal.replay("cmedit get LTE01 NetworkElement");
+        assertThat(failed.getElements().get(0).isRow()).isFalse();
+        assertThat(failed.getElements().get(0).getValues()).containsExactly((String) null);
+        assertThat(failed.getSummary().getErrorCode()).isEqualTo(1004);
+        assertThat(failed.getSummary().getErrorMessage()).isEqualTo("Node not found");
+
+        assertThat(journal.replay("cmedit get LTE02 NetworkElement")).isNull();
+    }
+
+    @Test
+    public void credentialsAreMaskedInJournalAndMatchedInReplay() throws IOException {
+        final EnmCommandJournal journal = EnmCommandJournal.getInstance();
+        System.setProperty("enm.journal.mode", "record");
+        journal.record(new EnmCommandJournal.Entry(String.format(CREDENTIALS_UPDATE, "Secret01"), 0L).addLine("All credentials updated"));
+        journal.close();
+
+        assertThat(readJournal()).doesNotContain("Secret01").contains("--secureuserpassword ********");
+
+        System.setProperty("enm.journal.mode", "replay");
+        final EnmCommandJournal.Entry entry = journal.replay(String.format(CREDENTIALS_UPDATE, "Other02"));
+        assertThat(entry).isNotNull();
+        assertThat(entry.getCommand()).isEqualTo(String.format(CREDENTIALS_UPDATE, "********"));
+        assertThat(entry.getElements().get(0).getValues()).containsExactly("All credentials updated");
+    }
+
+    @Test
+    public void credentialOptionsAreMasked() {
+        assertThat(EnmCommandJournal.maskCredentials("secadm credentials create --rootusername root --rootuserpassword r00t "
+                + "--ldapApplicationUserPassword=\"a b\" --nodecliuserpassword 'x y' -n LTE01")).isEqualTo("secadm credentials create "
+                + "--rootusername root --rootuserpassword ******** --ldapApplicationUserPassword=******** --nodecliuserpassword ******** -n LTE01");
+        assertThat(EnmCommandJournal.maskCredentials("cmedit get LTE01 NetworkElementSecurity.(secureUserName)"))
+                .isEqualTo("cmedit get LTE01 NetworkElementSecurity.(secureUserName)");
+        assertThat(EnmCommandJournal.maskCredentials(null)).isNull();
+    }
+
+    private String readJournal() throws IOException {
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(journalFile))) {
+            final ByteArrayOutputStream content = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            int read;
+            while ((read = input.read(buffer)) > 0) {
+                content.write(buffer, 0, read);
+            }
+            return new String(content.toByteArray(), StandardCharsets.ISO_8859_1);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static com.ericsson.oss.testware.nodesecurity.utils.JobIdUtils.JOB_STATUS_COMPLETED;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * ENM stand-in: grammar and node state of the commands sent by the Test Steps
+ * (CredentialMngTestSteps, LdapMngTestStep, SsoFactory, LdapFactory, CmSyncTestSteps,
+ * JobStatusTracker).
+ */
+public class EnmCommandStandInTest {
+    private static final String NODE = "LTE01";
+    private static final String OTHER_NODE = "LTE02";
+    private static final String NETWORK_ELEMENT_SECURITY = "NetworkElement=%s,SecurityFunction=1,NetworkElementSecurity=1";
+    private static final String LDAP_AUTHENTICATION_FDN = "ManagedElement=%s,SystemFunctions=1,SecM=1,UserManagement=1,LdapAuthenticationMethod=1";
+
+    private final EnmCommandStandIn standIn = EnmCommandStandIn.getInstance();
+
+    @Before
+    public void setUp() {
+        standIn.reset();
+    }
+
+    @After
+    public void tearDown() {
+        standIn.reset();
+    }
+
+    @Test
+    public void credentialsUpdateIsReturnedByGet() {
+        // CredentialMngTestSteps.Command.SECADM_UPDATE_GENERIC with SECADM_SECUREUSER and SECADM_NODECLIUSER
+        final EnmCommandStandIn.Reply update = standIn.execute("secadm credentials update --secureusername secUser --secureuserpassword "
+                + "secPwd --nodecliusername cliUser --nodecliuserpassword cliPwd --ldapuser enable --nodelist " + NODE);
+        assertThat(update.isSuccess()).isTrue();
+        assertThat(update.getErrorCode()).isZero();
+        assertThat(update.getMessage()).isEqualTo("All credentials updated successfully");
+
+        // CredentialMngTestSteps.Command.SECADM_GET
+        final EnmCommandStandIn.Reply get = standIn.execute(String.format("secadm credentials get --plaintext show --nodelist %s,%s", NODE,
+                OTHER_NODE));
+        assertThat(get.isSuccess()).isTrue();
+        assertThat(get.getTable()).hasSize(3);
+        assertThat(get.getTable().get(0)).startsWith("Node Name", "Root User Name", "Root User Password", "Secure User Name");
+        assertThat(get.getTable().get(1)).startsWith(NODE, "rootUserName:root", "rootUserPassword:root", "secureUserName:secUser",
+                "secureUserPassword:secPwd").contains("nodeCliUserName:cliUser", "nodeCliUserPassword:cliPwd");
+        assertThat(get.getTable().get(2)).startsWith(OTHER_NODE).contains("secureUserName:netsim");
+        assertThat(get.getMessage()).isEqualTo("2 instance(s)");
+    }
+
+    @Test
+    public void networkElementSecurityIsDeletedAndCreated() {
+        // CredentialMngTestSteps.Command.CMEDIT_DELETE_SECURITY_FUNCTION
+        assertThat(standIn.execute("cmedit delete " + String.format(NETWORK_ELEMENT_SECURITY, NODE)).getLines())
+                .containsExactly("1 instance(s) deleted");
+        assertThat(standIn.execute("cmedit delete " + String.format(NETWORK_ELEMENT_SECURITY, NODE)).getLines())
+                .containsExactly("0 instance(s) deleted");
+
+        // CredentialMngTestSteps.Command.SECADM_GET on node without NetworkElementSecurity
+        final EnmCommandStandIn.Reply missing = standIn.execute("secadm credentials get --plaintext show --nodelist " + NODE);
+        assertThat(missing.isSuccess()).isFalse();
+        assertThat(missing.getErrorCode()).isEqualTo(10004);
+        assertThat(missing.getLines().get(0)).startsWith(EnmCommandStandIn.ERROR_PREFIX + "10004 : ");
+
+        // CredentialMngTestSteps.Command.CMEDIT_GET (no instance)
+        assertThat(standIn.execute(String.format("cmedit get " + NETWORK_ELEMENT_SECURITY + " --table", NODE)).getTable()).hasSize(1);
+
+        // CredentialMngTestSteps.Command.SECADM_CREATE_SECURITY with SECADM_ROOTUSER and SECADM_NORMALUSER
+        final EnmCommandStandIn.Reply create = standIn.execute("secadm credentials create --rootusername admin --rootuserpassword adminPwd "
+                + "--normalusername normal --normaluserpassword normalPwd --nodelist " + NODE);
+        assertThat(create.getLines()).containsExactly("All credentials were created successfully");
+
+        // CredentialMngTestSteps.Command.CMEDIT_GET and NodeCliUiTestStep.CMEDIT_GET_NOTABLE
+        for (final String command : Arrays.asList("cmedit get " + NETWORK_ELEMENT_SECURITY + " --table", "cmedit get "
+                + NETWORK_ELEMENT_SECURITY)) {
+            final List<List<String>> table = standIn.execute(String.format(command, NODE)).getTable();
+            assertThat(table).hasSize(2);
+            assertThat(table.get(0)).startsWith("NodeId", "NetworkElementSecurityId", "rootUserName", "rootUserPassword");
+            assertThat(table.get(1)).startsWith(NODE, "1", "admin", "adminPwd").contains("normal", "normalPwd");
+        }
+    }
+
+    @Test
+    public void networkElementSecurityOfSeveralNodes() {
+        // CredentialMngTestSteps.Command.CMEDIT_GET_MULTI (FDNs separated by CMEDIT_FDN_SEPARATOR)
+        final EnmCommandStandIn.Reply get = standIn.execute(String.format("cmedit get %s;%s --table",
+                String.format(NETWORK_ELEMENT_SECURITY, NODE), String.format(NETWORK_ELEMENT_SECURITY, OTHER_NODE)));
+        assertThat(get.getTable()).hasSize(3);
+        assertThat(get.getTable().get(1).get(0)).isEqualTo(NODE);
+        assertThat(get.getTable().get(2).get(0)).isEqualTo(OTHER_NODE);
+    }
+
+    @Test
+    public void ldapAdministrativeStateAndProfileFilter() {
+        // LdapMngTestStep.Command.AUTHENTICATION_GET_COMMAND / LDAP_GET_COMMAND / SIMPLEAUTHENTICATED_GET_COMMAND
+        assertThat(standIn.execute("cmedit get " + NODE + " LdapAuthenticationMethod").getLines())
+                .contains("FDN : " + String.format(LDAP_AUTHENTICATION_FDN, NODE), "administrativeState : LOCKED");
+        assertThat(standIn.execute("cmedit get " + NODE + " Ldap").getLines()).contains("profileFilter : ERICSSON_FILTER");
+        assertThat(standIn.execute("cmedit get " + NODE + " simple-authenticated").getLines()).contains("1 instance(s)");
+
+        // LdapMngTestStep.Command.AUTHENTICATION_SET__COMMAND / LDAP_SET__COMMAND (on LdapAuthenticationMethod and Ldap FDN)
+        final String authenticationFdn = String.format(LDAP_AUTHENTICATION_FDN, NODE);
+        assertThat(standIn.execute("cmedit set " + authenticationFdn + " administrativeState=UNLOCKED").getLines())
+                .containsExactly("1 instance(s) updated");
+        assertThat(standIn.execute("cmedit set " + authenticationFdn + ",Ldap=1 profileFilter=POSIX_FILTER").isSuccess()).isTrue();
+
+        assertThat(standIn.execute("cmedit get " + NODE + " LdapAuthenticationMethod").getLines()).contains("administrativeState : UNLOCKED");
+        assertThat(standIn.execute("cmedit get " + NODE + " Ldap").getLines()).contains("profileFilter : POSIX_FILTER");
+        assertThat(standIn.execute("cmedit get " + OTHER_NODE + " LdapAuthenticationMethod").getLines())
+                .contains("administrativeState : LOCKED");
+
+        assertThat(standIn.execute("cmedit set " + authenticationFdn + " userLabel=x").getErrorCode()).isEqualTo(1001);
+    }
+
+    @Test
+    public void ssoEnableDisableAndGet() {
+        // SsoFactory.Commands.SSO_ENABLE / SSO_DISABLE / SSO_GET
+        assertThat(standIn.execute("secadm sso get " + NODE).getTable().get(1)).containsExactly(NODE, "DISABLED");
+        assertThat(standIn.execute("secadm sso enable " + NODE).getLines()).containsExactly("SSO enabled successfully for node " + NODE);
+        assertThat(standIn.execute("secadm sso get " + NODE).getTable().get(1)).containsExactly(NODE, "ENABLED");
+        assertThat(standIn.execute("secadm sso get " + OTHER_NODE).getTable().get(1)).containsExactly(OTHER_NODE, "DISABLED");
+        assertThat(standIn.execute("secadm sso disable " + NODE).isSuccess()).isTrue();
+        assertThat(standIn.execute("secadm sso get " + NODE).getTable().get(1)).containsExactly(NODE, "DISABLED");
+    }
+
+    @Test
+    public void ldapConfigureJobIsCompleted() {
+        // LdapFactory.Command.LDAP_CONFIGURE_COMMAND and JobStatusTracker.JOB_GET_COMMAND
+        final EnmCommandStandIn.Reply configure = standIn.execute("secadm ldap configure -xf " + NODE + "ldapConfig.xml");
+        assertThat(configure.isSuccess()).isTrue();
+        final String line = configure.getLines().get(0);
+        assertThat(line).startsWith("Successfully started a job for ldap configure. Perform 'secadm job get -j ");
+        final String jobId = line.substring(line.indexOf("-j ") + 3, line.lastIndexOf('\''));
+
+        final EnmCommandStandIn.Reply job = standIn.execute("secadm job get -j " + jobId);
+        assertThat(job.getTable()).hasSize(2);
+        assertThat(job.getTable().get(1)).startsWith(jobId, JOB_STATUS_COMPLETED);
+
+        assertThat(standIn.execute("secadm job get -j unknown").getErrorCode()).isEqualTo(10026);
+    }
+
+    @Test
+    public void syncStatusOfSeveralNodes() {
+        // CmSyncTestSteps.Command.CM_SYNC_GET_COMMAND (nodes separated by CM_SYNC_NODE_SEPARATOR)
+        standIn.setSyncStatus(OTHER_NODE, "UNSYNCHRONIZED");
+        final EnmCommandStandIn.Reply get = standIn.execute(String.format("cmedit get %s;%s CmFunction.syncStatus --table", NODE, OTHER_NODE));
+        assertThat(get.getTable()).containsExactly(Arrays.asList("NodeId", "CmFunctionId", "syncStatus"), Arrays.asList(NODE, "1", "SYNCHRONIZED"),
+                Arrays.asList(OTHER_NODE, "1", "UNSYNCHRONIZED"));
+    }
+
+    @Test
+    public void unsupportedCommandIsSyntaxError() {
+        final EnmCommandStandIn.Reply reply = standIn.execute("alarm get " + NODE);
+        assertThat(reply.isSuccess()).isFalse();
+        assertThat(reply.getErrorCode()).isEqualTo(1001);
+        assertThat(reply.getLines()).containsExactly("Error 1001 : Command syntax error (not supported by ENM stand-in)");
+        assertThat(standIn.getCommandCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Latencies recorded in log-linear buckets.
+ */
+public class LatencyHistogramTest {
+    private static final double MAX_RELATIVE_ERROR = 1.0 / 64;
+
+    @Test
+    public void bucketContainsValueWithBoundedError() {
+        for (long value = 0; value < 10_000_000L; value = value < 1000 ? value + 1 : value + value / 997) {
+            final long highest = LatencyHistogram.highestValue(LatencyHistogram.bucketIndex(value));
+            assertThat(highest).as("value %d", value).isGreaterThanOrEqualTo(value);
+            assertThat((double) (highest - value) / Math.max(1L, value)).as("value %d", value).isLessThanOrEqualTo(MAX_RELATIVE_ERROR);
+        }
+        assertThat(LatencyHistogram.highestValue(LatencyHistogram.bucketIndex(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void bucketsAreContiguous() {
+        final int lastIndex = LatencyHistogram.bucketIndex(Long.MAX_VALUE);
+        for (int index = 0; index < lastIndex; index++) {
+            assertThat(LatencyHistogram.bucketIndex(LatencyHistogram.highestValue(index))).isEqualTo(index);
+            assertThat(LatencyHistogram.bucketIndex(LatencyHistogram.highestValue(index) + 1)).isEqualTo(index + 1);
+        }
+    }
+
+    @Test
+    public void percentilesAreReadFromBuckets() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 1000; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(1000);
+        assertThat(histogram.getMeanMicros()).isEqualTo(500_500.0);
+        assertThat(histogram.getMaxMicros()).isEqualTo(1_000_000L);
+        assertThat((double) histogram.getPercentile(50.0)).isCloseTo(500_000.0, within(500_000.0 * MAX_RELATIVE_ERROR));
+        assertThat((double) histogram.getPercentile(99.0)).isCloseTo(990_000.0, within(990_000.0 * MAX_RELATIVE_ERROR));
+        assertThat(histogram.getPercentile(100.0)).isEqualTo(1_000_000L);
+        assertThat(histogram.getPercentile(0.0)).isBetween(1000L, 1015L);
+    }
+
+    @Test
+    public void emptyHistogramReturnsZero() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        assertThat(histogram.getPercentile(50.0)).isZero();
+        assertThat(histogram.getMeanMicros()).isZero();
+        assertThat(histogram.getMaxMicros()).isZero();
+    }
+
+    @Test
+    public void negativeLatencyIsRecordedAsZero() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-1L);
+
+        assertThat(histogram.getCount()).isEqualTo(1);
+        assertThat(histogram.getPercentile(100.0)).isZero();
+    }
+
+    @Test
+    public void addedHistogramIsMerged() {
+        final LatencyHistogram first = new LatencyHistogram();
+        final LatencyHistogram second = new LatencyHistogram();
+        first.record(TimeUnit.MICROSECONDS.toNanos(100));
+        second.record(TimeUnit.MICROSECONDS.toNanos(300));
+        second.record(TimeUnit.MICROSECONDS.toNanos(200));
+
+        first.add(second);
+        assertThat(first.getCount()).isEqualTo(3);
+        assertThat(first.getMaxMicros()).isEqualTo(300);
+        assertThat(first.getMeanMicros()).isEqualTo(200.0);
+        assertThat(first.getPercentile(50.0)).isBetween(200L, 203L);
+        assertThat(second.getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void concurrentRecordsAreCounted() throws Exception {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> results = new ArrayList<>();
+            for (int vUser = 1; vUser <= 4; vUser++) {
+                final long micros = vUser * 1000L;
+                results.add(executor.submit(() -> {
+                    for (int index = 0; index < 10_000; index++) {
+                        histogram.record(TimeUnit.MICROSECONDS.toNanos(micros));
+                    }
+                }));
+            }
+            for (final Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(40_000);
+        assertThat(histogram.getMaxMicros()).isEqualTo(4000);
+        assertThat(histogram.getMeanMicros()).isEqualTo(2500.0);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Arrival rate and arrival times of the open loop load profiles.
+ */
+public class LoadProfileTest {
+    private static final double PRECISION = 1e-9;
+
+    @Test
+    public void constantRate() {
+        final LoadProfile profile = LoadProfile.parse("constant:2.5", "uniform");
+
+        assertThat(profile.getRate(0)).isEqualTo(2.5);
+        assertThat(profile.getRate(3600)).isEqualTo(2.5);
+    }
+
+    @Test
+    public void rampRate() {
+        final LoadProfile profile = LoadProfile.parse(" Ramp: 1, 5, 40 ", "uniform");
+
+        assertThat(profile.getRate(0)).isEqualTo(1.0);
+        assertThat(profile.getRate(10)).isCloseTo(2.0, within(PRECISION));
+        assertThat(profile.getRate(40)).isEqualTo(5.0);
+        assertThat(profile.getRate(100)).isEqualTo(5.0);
+    }
+
+    @Test
+    public void stepRate() {
+        final LoadProfile profile = LoadProfile.parse("step:30,1,2,4", "uniform");
+
+        assertThat(profile.getRate(0)).isEqualTo(1.0);
+        assertThat(profile.getRate(29.9)).isEqualTo(1.0);
+        assertThat(profile.getRate(30)).isEqualTo(2.0);
+        assertThat(profile.getRate(60)).isEqualTo(4.0);
+        assertThat(profile.getRate(1000)).isEqualTo(4.0);
+    }
+
+    @Test
+    public void spikeRate() {
+        final LoadProfile profile = LoadProfile.parse("spike:1,10,60,5", "uniform");
+
+        assertThat(profile.getRate(59.9)).isEqualTo(1.0);
+        assertThat(profile.getRate(60)).isEqualTo(10.0);
+        assertThat(profile.getRate(64.9)).isEqualTo(10.0);
+        assertThat(profile.getRate(65)).isEqualTo(1.0);
+    }
+
+    @Test
+    public void wrongDefinitionsAreRejected() {
+        for (final String definition : new String[] {"burst:1", "constant:1,2", "ramp:0,5,0", "step:0,1", "spike:1,10,60"}) {
+            assertThatThrownBy(() -> LoadProfile.parse(definition, "uniform")).as(definition).isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThatThrownBy(() -> LoadProfile.parse("constant:x", "uniform")).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    public void uniformArrivalsAreEvenlySpaced() {
+        final LoadProfile profile = LoadProfile.parse("constant:4", "uniform");
+
+        assertThat(profile.nextArrival(1.0, 10.0, new Random(1))).isCloseTo(1.25, within(PRECISION));
+    }
+
+    @Test
+    public void poissonArrivalsHaveTheProfileRate() {
+        final LoadProfile profile = LoadProfile.parse("constant:5", "poisson");
+        final Random random = new Random(42);
+        final int arrivals = 20000;
+        double time = 0;
+        for (int index = 0; index < arrivals; index++) {
+            final double next = profile.nextArrival(time, Double.MAX_VALUE, random);
+            assertThat(next).isGreaterThan(time);
+            time = next;
+        }
+        assertThat(arrivals / time).isCloseTo(5.0, within(0.2));
+    }
+
+    @Test
+    public void noRateWaitsForTheNextRateOrTheLimit() {
+        final LoadProfile spike = LoadProfile.parse("spike:0,2,10,5", "uniform");
+
+        assertThat(spike.nextArrival(0, 100, new Random(1))).isCloseTo(10.5, within(0.11));
+        assertThat(spike.nextArrival(15, 30, new Random(1))).isEqualTo(30.0);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.Test;
+
+/**
+ * Decoding of the LOG timestamps ('yyyy-MM-dd HH:mm:ss[,SSS]').
+ */
+public class LogTimestampDecoderTest {
+    private final LogTimestampDecoder decoder = new LogTimestampDecoder();
+
+    @Test
+    public void timestampWithMillisIsDecoded() {
+        final String line = "2024-03-07 09:05:59,123 INFO [NodeCli] user01 10.0.0.1";
+
+        assertThat(decoder.find(line, 0, line.length())).isTrue();
+        assertThat(decoder.getValue()).isEqualTo(20240307090559L);
+        assertThat(decoder.getStart()).isEqualTo(0);
+        assertThat(decoder.getEnd()).isEqualTo("2024-03-07 09:05:59,123".length());
+        assertThat(decoder.hasMillis()).isTrue();
+    }
+
+    @Test
+    public void timestampWithoutMillisIsDecoded() {
+        final String line = "host1: 2024-12-31  23:59:58 closed";
+
+        assertThat(decoder.find(line, 0, line.length())).isTrue();
+        assertThat(decoder.getValue()).isEqualTo(20241231235958L);
+        assertThat(decoder.getStart()).isEqualTo("host1: ".length());
+        assertThat(decoder.getEnd()).isEqualTo("host1: 2024-12-31  23:59:58".length());
+        assertThat(decoder.hasMillis()).isFalse();
+    }
+
+    @Test
+    public void searchIsLimitedToTheRange() {
+        final String text = "2024-01-01 00:00:01,000 first\n2024-01-01 00:00:02,000 second";
+        final int secondLine = text.indexOf('\n') + 1;
+
+        assertThat(decoder.find(text, secondLine, text.length())).isTrue();
+        assertThat(decoder.getValue()).isEqualTo(20240101000002L);
+        assertThat(decoder.find(text, 0, "2024-01-01 00:00:0".length())).isFalse();
+        assertThat(decoder.getValue()).isEqualTo(-1L);
+    }
+
+    @Test
+    public void wrongLayoutIsNotDecoded() {
+        for (final String line : new String[] {"2024-3-07 09:05:59 x", "2024-03-07T09:05:59 x", "2024-03-07 09-05-59 x", "at com.ericsson.Class",
+                ""}) {
+            assertThat(decoder.find(line, 0, line.length())).as(line).isFalse();
+        }
+    }
+
+    @Test
+    public void encodedValueIsConvertedBack() {
+        final LocalDateTime dateTime = LocalDateTime.of(2024, 2, 29, 13, 7, 5);
+
+        assertThat(LogTimestampDecoder.encode(dateTime)).isEqualTo(20240229130705L);
+        assertThat(LogTimestampDecoder.toLocalDateTime(LogTimestampDecoder.encode(dateTime))).isEqualTo(dateTime);
+    }
+}
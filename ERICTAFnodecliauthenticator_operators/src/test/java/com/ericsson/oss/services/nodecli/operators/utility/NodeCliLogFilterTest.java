@@ -0,0 +1,111 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Filter of the NodeCli LOG on the hosts (commands executed with the local shell).
+ */
+public class NodeCliLogFilterTest {
+    private static final String SUCCESS = "Session opened successfully";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path logFile;
+
+    @Before
+    public void setUp() {
+        Assume.assumeTrue(File.separatorChar == '/');
+        logFile = folder.getRoot().toPath().resolve("server.log");
+    }
+
+    @Test
+    public void onlyMatchingRecordsOfTimeIntervalAreRead() throws IOException {
+        final String rotated = record(-2, SUCCESS + " user=secUser ip=10.0.0.1 rotated");
+        final String current = record(-1, SUCCESS + " user=secUser ip=10.0.0.1 current");
+        write(logFile.resolveSibling("server.log.1"), record(-120, SUCCESS + " user=secUser ip=10.0.0.1 old") + rotated);
+        write(logFile, current + record(-1, "Session closed user=secUser ip=10.0.0.1") + record(-1, SUCCESS + " user=ldapUser ip=10.0.0.1")
+                + record(-1, SUCCESS + " user=secUser ip=10.0.0.2"));
+
+        final List<String> filtered = read(NodeCliLogTailTest::executeLocally, "secUser");
+        assertThat(filtered).hasSize(2);
+        assertThat(filtered.get(0)).matches("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}");
+        assertThat(filtered.get(1)).isEqualTo(rotated + current);
+    }
+
+    @Test
+    public void valuesAreQuoted() throws IOException {
+        final String quoted = record(-1, SUCCESS + " user=o'neil ip=10.0.0.1");
+        final String substitution = record(-1, SUCCESS + " user=$(id) ip=10.0.0.1");
+        write(logFile, quoted + substitution);
+
+        assertThat(read(NodeCliLogTailTest::executeLocally, "o'neil").get(1)).isEqualTo(quoted);
+        assertThat(read(NodeCliLogTailTest::executeLocally, "$(id)").get(1)).isEqualTo(substitution);
+    }
+
+    @Test
+    public void logOfTimeIntervalIsReadWhenFilterFails() throws IOException {
+        final String closed = record(-1, "Session closed user=secUser ip=10.0.0.1");
+        write(logFile, closed);
+
+        final List<String> failed = read((hostName, command) -> {
+            if (command.contains("grep")) {
+                throw new IllegalStateException("grep: command not found");
+            }
+            return NodeCliLogTailTest.executeLocally(hostName, command);
+        }, "secUser");
+        assertThat(failed).hasSize(2);
+        assertThat(failed.get(1)).isEqualTo(closed);
+
+        final List<String> unexpected = read((hostName, command) -> command.contains("grep") ? "Permission denied\n"
+                : NodeCliLogTailTest.executeLocally(hostName, command), "secUser");
+        assertThat(unexpected.get(1)).isEqualTo(closed);
+    }
+
+    private List<String> read(final BiFunction<String, String, String> executor, final String userName) {
+        return NodeCliLogFilter.read(new NodeCliLogTail(logFile.toString(), executor), SUCCESS, "10.0.0.1", userName, 30);
+    }
+
+    private static void write(final Path file, final String text) throws IOException {
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String record(final int minutes, final String text) {
+        return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss,SSS").format(new Date(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(minutes)))
+                + " INFO " + text + "\n";
+    }
+}
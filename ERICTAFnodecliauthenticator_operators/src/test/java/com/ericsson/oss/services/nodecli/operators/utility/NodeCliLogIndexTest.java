@@ -0,0 +1,162 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Index of the 'session opened' records of the NodeCli LOG.
+ */
+public class NodeCliLogIndexTest {
+    private static final String SCENARIO = "NodeCliLogIndexTest";
+    private static final String SUCCESS = "Session opened successfully";
+    private static final String LOG = "2024-01-01 10:00:00,000 INFO Session opened successfully user=secUser ip=10.0.0.1\n"
+            + "2024-01-01 10:00:01,000 INFO Session opened successfully for ldapUser on 10.0.0.2:22\n"
+            + "2024-01-01 10:00:02,000 INFO Session opened successfully [ip:10.0.0.3] (nodeCliUser)\n"
+            + "2024-01-01 10:00:03,000 INFO Session opened successfully for enmUser on 2001:db8::1.\n"
+            + "2024-01-01 10:00:04,000 ERROR Session closed user=secUser ip=10.0.0.1\n"
+            + "2024-01-01 10:00:05,000 INFO Session opened successfully user=secUser ip=10.0.0.10\n"
+            + "2024-01-01 10:00:06 INFO Session opened successfully user=noMillis ip=10.0.0.1\n";
+
+    @After
+    public void removeSnapshot() {
+        NodeCliLogIndex.remove(SCENARIO);
+    }
+
+    @Test
+    public void recordIsFoundByIpAddressAndUser() {
+        final NodeCliLogIndex logIndex = build(LOG);
+
+        assertThat(logIndex.findAfter("10.0.0.1", "secUser", -1L)).endsWith("user=secUser ip=10.0.0.1");
+        assertThat(logIndex.findAfter("10.0.0.10", "secUser", -1L)).endsWith("user=secUser ip=10.0.0.10");
+        assertThat(logIndex.findAfter("10.0.0.1", "ldapUser", -1L)).isNull();
+        assertThat(logIndex.getRecordCount()).isEqualTo(5);
+        assertThat(logIndex.getScannedLines()).isEqualTo(7);
+    }
+
+    @Test
+    public void ipV4AddressJoinedByColonIsIndexed() {
+        final NodeCliLogIndex logIndex = build(LOG);
+
+        assertThat(logIndex.findAfter("10.0.0.2", "ldapUser", -1L)).endsWith("on 10.0.0.2:22");
+        assertThat(logIndex.findAfter("10.0.0.3", "nodeCliUser", -1L)).endsWith("(nodeCliUser)");
+        assertThat(NodeCliLogIndex.getKeys("user=a 10.0.0.4:830 ip:10.0.0.5")).contains("10.0.0.4\u0000a", "10.0.0.5\u0000a");
+    }
+
+    @Test
+    public void ipV6AddressIsNormalized() {
+        final NodeCliLogIndex logIndex = build(LOG);
+
+        assertThat(logIndex.findAfter("2001:DB8::1", "enmUser", -1L)).endsWith("on 2001:db8::1.");
+    }
+
+    @Test
+    public void recordsBeforeTimeBoundAreSkipped() {
+        final String log = "2024-01-01 10:00:00,000 Session opened successfully user=secUser ip=10.0.0.1\n"
+                + "2024-01-01 10:30:00,000 Session opened successfully user=secUser ip=10.0.0.1 second\n";
+        final NodeCliLogIndex logIndex = build(log);
+
+        assertThat(logIndex.countAfter("10.0.0.1", "secUser", -1L)).isEqualTo(2);
+        assertThat(logIndex.findAfter("10.0.0.1", "secUser", 20240101100000L)).endsWith("second");
+        assertThat(logIndex.countAfter("10.0.0.1", "secUser", 20240101103000L)).isZero();
+    }
+
+    @Test
+    public void newerSnapshotReplacesSharedOne() {
+        final long older = NodeCliLogIndex.decodeTimestamp("2024-01-01 10:00:00");
+        final long newer = NodeCliLogIndex.decodeTimestamp("2024-01-01 11:00:00");
+        final NodeCliLogIndex first = NodeCliLogIndex.refresh(SCENARIO, newer, LOG, SUCCESS);
+        NodeCliLogIndex.refresh(SCENARIO, older, "", SUCCESS);
+
+        assertThat(NodeCliLogIndex.getSnapshot(SCENARIO)).isSameAs(first);
+
+        final NodeCliLogIndex second = NodeCliLogIndex.refresh(SCENARIO, newer, Collections.singletonList("").iterator(), SUCCESS);
+        assertThat(NodeCliLogIndex.getSnapshot(SCENARIO)).isSameAs(second);
+
+        NodeCliLogIndex.remove(SCENARIO);
+        assertThat(NodeCliLogIndex.getSnapshot(SCENARIO)).isNull();
+    }
+
+    @Test
+    public void snapshotIsLoadedOnceForConcurrentReaders() {
+        final int[] reads = new int[1];
+        final long notBefore = System.nanoTime();
+        final NodeCliLogIndex first = NodeCliLogIndex.load(SCENARIO, notBefore, () -> {
+            reads[0]++;
+            return Arrays.asList("2024-01-01 11:00:00", LOG);
+        }, false, SUCCESS);
+        final NodeCliLogIndex second = NodeCliLogIndex.load(SCENARIO, notBefore, () -> {
+            reads[0]++;
+            return Arrays.asList("2024-01-01 11:00:00", "");
+        }, false, SUCCESS);
+
+        assertThat(second).isSameAs(first);
+        assertThat(reads[0]).isEqualTo(1);
+        assertThat(first.getRemoteTimestamp()).isEqualTo(NodeCliLogIndex.decodeTimestamp("2024-01-01 11:00:00"));
+    }
+
+    @Test
+    public void appendedRecordsAreAddedToSnapshot() {
+        final long firstRead = NodeCliLogIndex.decodeTimestamp("2024-01-01 10:00:03");
+        final long secondRead = NodeCliLogIndex.decodeTimestamp("2024-01-01 10:00:07");
+        final String[] lines = LOG.split("(?<=\n)");
+        final NodeCliLogIndex first = NodeCliLogIndex.append(SCENARIO, firstRead, Arrays.asList(lines[0] + lines[1], lines[2]).iterator(), SUCCESS);
+        final NodeCliLogIndex second = NodeCliLogIndex.append(SCENARIO, secondRead,
+                Collections.singletonList(lines[3] + lines[4] + lines[5] + lines[6]).iterator(), SUCCESS);
+
+        assertThat(NodeCliLogIndex.getSnapshot(SCENARIO)).isSameAs(second);
+        assertThat(first.findAfter("10.0.0.10", "secUser", -1L)).isNull();
+        assertThat(first.getRecordCount()).isEqualTo(3);
+        assertThat(second.findAfter("10.0.0.1", "secUser", -1L)).endsWith("user=secUser ip=10.0.0.1");
+        assertThat(second.findAfter("10.0.0.10", "secUser", -1L)).endsWith("user=secUser ip=10.0.0.10");
+        assertThat(second.countAfter("2001:db8::1", "enmUser", -1L)).isEqualTo(1);
+        assertThat(second.getRecordCount()).isEqualTo(5);
+        assertThat(second.getScannedLines()).isEqualTo(7);
+        assertThat(second.getRemoteTimestamp()).isEqualTo(secondRead);
+        assertThat(second.getExcerpt()).hasSize(7);
+    }
+
+    @Test
+    public void appendedRecordsAreMergedInTimeOrder() {
+        NodeCliLogIndex.append(SCENARIO, NodeCliLogIndex.decodeTimestamp("2024-01-01 10:00:00"),
+                Collections.singletonList("2024-01-01 10:00:00,000 Session opened successfully user=secUser ip=10.0.0.1 first\n").iterator(),
+                SUCCESS);
+        final NodeCliLogIndex snapshot = NodeCliLogIndex.append(SCENARIO, NodeCliLogIndex.decodeTimestamp("2024-01-01 10:30:00"),
+                Collections.singletonList("2024-01-01 10:30:00,000 Session opened successfully user=secUser ip=10.0.0.1 second\n").iterator(),
+                SUCCESS);
+
+        assertThat(snapshot.countAfter("10.0.0.1", "secUser", -1L)).isEqualTo(2);
+        assertThat(snapshot.findAfter("10.0.0.1", "secUser", -1L)).endsWith("first");
+        assertThat(snapshot.findAfter("10.0.0.1", "secUser", 20240101100000L)).endsWith("second");
+    }
+
+    @Test
+    public void excerptContainsLastLines() {
+        assertThat(build(LOG).getExcerpt()).hasSize(7).last().asString().endsWith("user=noMillis ip=10.0.0.1");
+    }
+
+    private static NodeCliLogIndex build(final String log) {
+        return NodeCliLogIndex.build(NodeCliLogIndex.decodeTimestamp("2024-01-01 11:00:00"), Collections.singletonList(log).iterator(), SUCCESS);
+    }
+}
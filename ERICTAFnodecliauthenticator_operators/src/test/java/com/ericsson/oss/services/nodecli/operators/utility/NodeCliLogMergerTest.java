@@ -0,0 +1,94 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+/**
+ * k-way merge of the NodeCli host LOGs.
+ */
+public class NodeCliLogMergerTest {
+
+    @Test
+    public void recordsAreMergedInTimeOrder() {
+        final String host1 = "2024-01-01 10:00:00,100 h1-a\n2024-01-01 10:00:02,000 h1-b\n2024-01-01 10:00:03,500 h1-c\n";
+        final String host2 = "2024-01-01 10:00:00,050 h2-a\r\n2024-01-01 10:00:02,999 h2-b\r\n";
+        final String host3 = "2024-01-01 10:00:01 h3-a\n";
+
+        assertThat(toStrings(new NodeCliLogMerger(Arrays.asList(host1, host2, host3)))).containsExactly("2024-01-01 10:00:00,050 h2-a",
+                "2024-01-01 10:00:00,100 h1-a", "2024-01-01 10:00:01 h3-a", "2024-01-01 10:00:02,000 h1-b", "2024-01-01 10:00:02,999 h2-b",
+                "2024-01-01 10:00:03,500 h1-c");
+    }
+
+    @Test
+    public void linesWithoutTimestampBelongToThePreviousRecord() {
+        final String host1 = "2024-01-01 10:00:00,000 error\njava.lang.IllegalStateException\n\tat com.ericsson.Class\n2024-01-01 10:00:05,000 end";
+        final String host2 = "2024-01-01 10:00:01,000 other";
+
+        assertThat(toStrings(new NodeCliLogMerger(Arrays.asList(host1, host2)))).containsExactly(
+                "2024-01-01 10:00:00,000 error\njava.lang.IllegalStateException\n\tat com.ericsson.Class", "2024-01-01 10:00:01,000 other",
+                "2024-01-01 10:00:05,000 end");
+    }
+
+    @Test
+    public void sameTimestampKeepsHostOrder() {
+        final String line = "2024-01-01 10:00:00,000 ";
+
+        assertThat(toStrings(new NodeCliLogMerger(Arrays.asList(line + "h1", line + "h2", line + "h3")))).containsExactly(line + "h1", line + "h2",
+                line + "h3");
+    }
+
+    @Test
+    public void emptyLogsAreSkipped() {
+        final NodeCliLogMerger merger = new NodeCliLogMerger(Arrays.asList("", "\n\n", "2024-01-01 10:00:00,000 only"));
+
+        assertThat(toStrings(merger)).containsExactly("2024-01-01 10:00:00,000 only");
+        assertThat(new NodeCliLogMerger(Collections.<String>emptyList()).hasNext()).isFalse();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void nextAfterLastRecordFails() {
+        final NodeCliLogMerger merger = new NodeCliLogMerger(Collections.singletonList("2024-01-01 10:00:00,000 only"));
+        merger.next();
+        merger.next();
+    }
+
+    @Test
+    public void singleLogIsReturnedAsIs() {
+        final String log = "2024-01-01 10:00:00,000 a\n2024-01-01 10:00:01,000 b\n";
+
+        assertThat(toStrings(NodeCliLogMerger.merged(Collections.singletonList(log)))).containsExactly(log);
+    }
+
+    private static List<String> toStrings(final Iterator<? extends CharSequence> records) {
+        final List<String> result = new ArrayList<>();
+        while (records.hasNext()) {
+            result.add(records.next().toString());
+        }
+        return result;
+    }
+}
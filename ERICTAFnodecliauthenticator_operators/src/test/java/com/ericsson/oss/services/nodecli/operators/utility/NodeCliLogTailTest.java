@@ -0,0 +1,167 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Incremental read of the NodeCli LOG (commands executed with the local shell).
+ */
+public class NodeCliLogTailTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path logFile;
+    private NodeCliLogTail logTail;
+
+    @Before
+    public void setUp() {
+        Assume.assumeTrue(File.separatorChar == '/');
+        logFile = folder.getRoot().toPath().resolve("server.log");
+        logTail = new NodeCliLogTail(logFile.toString(), NodeCliLogTailTest::executeLocally);
+    }
+
+    @Test
+    public void firstReadStartsFromTimeIntervalThenOnlyAppendedLinesAreRead() throws IOException {
+        write(record(-120, "old"), record(-1, "first"));
+
+        final List<String> firstRead = logTail.read();
+        assertThat(firstRead).hasSize(2);
+        assertThat(firstRead.get(0)).matches("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}");
+        assertThat(firstRead.get(1)).contains("first").doesNotContain("old");
+
+        final String second = record(0, "second");
+        append(second);
+        assertThat(logTail.read().get(1)).isEqualTo(second);
+        assertThat(logTail.read().get(1)).isEmpty();
+    }
+
+    @Test
+    public void incompleteLineIsReturnedWhenCompleted() throws IOException {
+        write(record(-1, "first"));
+        logTail.read();
+
+        append("2024-01-01 10:00:00,000 INFO Session");
+        assertThat(logTail.read().get(1)).isEmpty();
+
+        append(" opened\n");
+        assertThat(logTail.read().get(1)).isEqualTo("2024-01-01 10:00:00,000 INFO Session opened\n");
+    }
+
+    @Test
+    public void truncatedFileIsReadFromStart() throws IOException {
+        write(record(-1, "first"), record(-1, "second"));
+        logTail.read();
+
+        final String newRecord = record(0, "new");
+        write(newRecord);
+        assertThat(logTail.read().get(1)).isEqualTo(newRecord);
+    }
+
+    @Test
+    public void rotatedFileRemainderIsReadBeforeNewFile() throws IOException {
+        write(record(-1, "first"));
+        logTail.read();
+
+        final String rotated = record(0, "rotated");
+        final String newRecord = record(0, "new");
+        append(rotated);
+        Files.move(logFile, logFile.resolveSibling("server.log.1"));
+        write(newRecord);
+        assertThat(logTail.read().get(1)).isEqualTo(rotated + newRecord);
+    }
+
+    @Test
+    public void windowReadDoesNotChangeCursor() throws IOException {
+        write(record(-120, "old"), record(-1, "first"));
+        logTail.read();
+        Files.move(logFile, logFile.resolveSibling("server.log.1"));
+        final String newRecord = record(0, "new");
+        write(newRecord);
+
+        final List<String> window = logTail.readFileWindow(30);
+        assertThat(window.get(1)).contains("first", "new").doesNotContain("old");
+        assertThat(logTail.read().get(1)).isEqualTo(newRecord);
+    }
+
+    @Test
+    public void failedCommandReturnsNoLog() {
+        final NodeCliLogTail failingTail = new NodeCliLogTail(logFile.toString(), (hostName, command) -> {
+            throw new IllegalStateException("Connection refused");
+        });
+
+        assertThat(failingTail.read()).containsExactly("", "");
+        assertThat(failingTail.readFileWindow(30)).containsExactly("");
+    }
+
+    private void write(final String... records) throws IOException {
+        Files.write(logFile, String.join("", records).getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
+
+    private void append(final String text) throws IOException {
+        Files.write(logFile, text.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    }
+
+    private static String record(final int minutes, final String text) {
+        final String timestamp = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss,SSS").format(new Date(System.currentTimeMillis()
+                + TimeUnit.MINUTES.toMillis(minutes)));
+        return timestamp.substring(0, 17) + "00,000 INFO Session opened successfully " + text + "\n";
+    }
+
+    static String executeLocally(final String hostName, final String command) {
+        try {
+            final Process process = new ProcessBuilder("sh", "-c", command).redirectErrorStream(true).start();
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try (InputStream input = process.getInputStream()) {
+                final byte[] buffer = new byte[8192];
+                for (int read = input.read(buffer); read >= 0; read = input.read(buffer)) {
+                    output.write(buffer, 0, read);
+                }
+            }
+            if (process.waitFor() != 0) {
+                throw new IllegalStateException("Exit Code " + process.exitValue() + ": " + output);
+            }
+            return new String(output.toByteArray(), StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ *
+ *    * ------------------------------------------------------------------------------
+ *     *******************************************************************************
+ *     * COPYRIGHT Ericsson 2024
+ *     *
+ *     * The copyright to the computer program(s) herein is the property of
+ *     * Ericsson Inc. The programs may be used and/or copied only with written
+ *     * permission from Ericsson Inc. or in accordance with the terms and
+ *     * conditions stipulated in the agreement/contract under which the
+ *     * program(s) have been supplied.
+ *     *******************************************************************************
+ *     *----------------------------------------------------------------------------
+ *
+ *
+ */
+
+package com.ericsson.oss.services.nodecli.operators.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test Step durations and their JSON/CSV report.
+ */
+public class StepMetricsTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        System.setProperty("metrics.steps.report.dir", folder.getRoot().toString());
+    }
+
+    @After
+    public void tearDown() {
+        StepMetrics.getInstance().reset();
+        StepContext.exit();
+        System.clearProperty("metrics.steps.report.dir");
+    }
+
+    @Test
+    public void noReportWithoutRecords() {
+        assertThat(StepMetrics.getInstance().writeReports()).isEmpty();
+    }
+
+    @Test
+    public void reportHasSummaryRowBeforeRowsOfStep() throws IOException {
+        final StepMetrics metrics = StepMetrics.getInstance();
+        metrics.record("openCli", "EPG", 1, StepMetrics.PASSED, TimeUnit.MILLISECONDS.toNanos(10));
+        metrics.record("openCli", "EPG", 1, StepMetrics.PASSED, TimeUnit.MILLISECONDS.toNanos(30));
+        metrics.record("openCli", "RadioNode", 2, StepMetrics.FAILED, TimeUnit.MILLISECONDS.toNanos(50));
+        metrics.record("closeCli", "EPG", 1, StepMetrics.PASSED, TimeUnit.MILLISECONDS.toNanos(1));
+
+        // Percentiles are the highest value of the bucket, not greater than max value
+        final List<Path> reports = metrics.writeReports();
+        assertThat(reports).extracting(report -> report.getFileName().toString()).containsExactly("step-metrics.json", "step-metrics.csv");
+        assertThat(Files.readAllLines(reports.get(1), StandardCharsets.UTF_8)).containsExactly(
+                "step,nodeType,vUser,outcome,count,meanMs,p50Ms,p95Ms,p99Ms,maxMs",
+                "closeCli,*,*,*,1,1.000,1.000,1.000,1.000,1.000",
+                "closeCli,EPG,1,PASSED,1,1.000,1.000,1.000,1.000,1.000",
+                "openCli,*,*,*,3,30.000,30.207,50.000,50.000,50.000",
+                "openCli,EPG,1,PASSED,2,20.000,10.111,30.000,30.000,30.000",
+                "openCli,RadioNode,2,FAILED,1,50.000,50.000,50.000,50.000,50.000");
+        final String json = new String(Files.readAllBytes(reports.get(0)), StandardCharsets.UTF_8);
+        assertThat(json).startsWith("[\n").endsWith("\n]\n")
+                .contains("{\"step\": \"openCli\", \"nodeType\": \"*\", \"vUser\": \"*\", \"outcome\": \"*\", \"count\": 3, \"meanMs\": 30.000, "
+                        + "\"p50Ms\": 30.207, \"p95Ms\": 50.000, \"p99Ms\": 50.000, \"maxMs\": 50.000}");
+    }
+
+    @Test
+    public void stepNameIsEscaped() throws IOException {
+        StepMetrics.getInstance().record("check \"user\", LDAP", "", 1, StepMetrics.PASSED, TimeUnit.MILLISECONDS.toNanos(2));
+
+        final List<Path> reports = StepMetrics.getInstance().writeReports();
+        assertThat(new String(Files.readAllBytes(reports.get(0)), StandardCharsets.UTF_8)).contains("\"step\": \"check \\\"user\\\", LDAP\"");
+        assertThat(Files.readAllLines(reports.get(1), StandardCharsets.UTF_8)).contains(
+                "\"check \"\"user\"\", LDAP\",,1,PASSED,1,2.000,2.000,2.000,2.000,2.000");
+    }
+
+    @Test
+    public void contextOfCompletedStepIsRecorded() throws IOException {
+        final StepContext context = StepContext.enter("openCli", 3);
+        context.setNodeType("EPG");
+        context.setFailed();
+        StepContext.exit();
+        StepMetrics.getInstance().record(context);
+        StepMetrics.getInstance().record(StepContext.current());
+
+        final List<Path> reports = StepMetrics.getInstance().writeReports();
+        assertThat(Files.readAllLines(reports.get(1), StandardCharsets.UTF_8)).hasSize(3).element(2).asString()
+                .startsWith("openCli,EPG,3,FAILED,1,");
+    }
+}